@@ -2,19 +2,40 @@ package dev.langchain4j.agent.tool.graalvm;
 
 import dev.langchain4j.agent.tool.P;
 import dev.langchain4j.agent.tool.Tool;
-import dev.langchain4j.code.CodeExecutionEngine;
 import dev.langchain4j.code.graalvm.GraalVmPythonExecutionEngine;
 
 /**
  * A tool that executes provided Python code using GraalVM Polyglot/Truffle.
  * Attention! It might be dangerous to execute the code, see {@link GraalVmPythonExecutionEngine} for more details.
+ * <p>
+ * The underlying {@link GraalVmPythonExecutionEngine} is created on the first execution.
+ * Close the tool to release it.
  */
-public class GraalVmPythonExecutionTool {
+public class GraalVmPythonExecutionTool implements AutoCloseable {
 
-    private final CodeExecutionEngine engine = new GraalVmPythonExecutionEngine();
+    private GraalVmPythonExecutionEngine engine;
+    private boolean closed;
 
     @Tool("MUST be used for accurate calculations: math, sorting, filtering, aggregating, string processing, etc")
     public String executePythonCode(@P("Python code to execute, result MUST be returned by the code") String code) {
-        return engine.execute(code);
+        return engine().execute(code);
+    }
+
+    private synchronized GraalVmPythonExecutionEngine engine() {
+        if (closed) {
+            throw new IllegalStateException("The tool is closed");
+        }
+        if (engine == null) {
+            engine = new GraalVmPythonExecutionEngine();
+        }
+        return engine;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (engine != null) {
+            engine.close();
+        }
     }
 }
@@ -0,0 +1,309 @@
+package dev.langchain4j.code.graalvm;
+
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.exception.TimeoutException;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.ResourceLimits;
+import org.graalvm.polyglot.SandboxPolicy;
+import org.graalvm.polyglot.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.graalvm.polyglot.HostAccess.UNTRUSTED;
+
+/**
+ * A pool of pre-initialized GraalVM {@link Context}s of a single language, all sharing the same {@link Engine},
+ * so that executions do not pay the language initialization and benefit from the code cache
+ * and the JIT compilation of the previous executions.
+ * <p>
+ * A context is used by a single execution at a time. Once the execution is complete,
+ * the global bindings added by the executed code are removed, and the context is returned to the pool.
+ * A context is closed instead when it was used {@code maxContextUses} times, when the execution failed
+ * for another reason than an error in the guest code (cancellation, timeout, exhausted resources, etc.),
+ * when one of the added bindings cannot be removed, or when {@code poolSize} contexts are already idle.
+ * <p>
+ * A spare context is initialized in the background when the pool is created and whenever an execution
+ * takes the last idle context, so that executions (even with {@code maxContextUses} 1) rarely wait
+ * for the initialization of a context. When no idle context is available, the execution initializes one itself.
+ * The number of concurrent executions is only limited when {@code maxConcurrentExecutions} is set.
+ */
+final class GraalVmContextPool implements AutoCloseable {
+
+    static final int DEFAULT_POOL_SIZE = 4;
+    static final int DEFAULT_MAX_CONTEXT_USES = 100;
+
+    private final String language;
+    private final SandboxPolicy sandboxPolicy;
+    private final Engine engine;
+    private final boolean ownsEngine;
+    private final int poolSize;
+    private final int maxContextUses;
+    private final Duration timeout;
+    private final ResourceLimits resourceLimits;
+    private final String maxHeapMemory;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledContext> idleContexts = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean warmingUp = new AtomicBoolean();
+    private volatile boolean closed;
+
+    GraalVmContextPool(String language,
+                       SandboxPolicy sandboxPolicy,
+                       Engine engine,
+                       int poolSize,
+                       Integer maxConcurrentExecutions,
+                       int maxContextUses,
+                       Duration timeout,
+                       Long statementLimit,
+                       String maxHeapMemory) {
+        this.language = ensureNotBlank(language, "language");
+        this.sandboxPolicy = ensureNotNull(sandboxPolicy, "sandboxPolicy");
+        this.ownsEngine = engine == null;
+        this.engine = engine != null ? engine : Engine.newBuilder(language)
+            .sandbox(sandboxPolicy)
+            .out(OutputStream.nullOutputStream())
+            .err(OutputStream.nullOutputStream())
+            .build();
+        this.poolSize = ensureGreaterThanZero(poolSize, "poolSize");
+        this.permits = maxConcurrentExecutions == null ? null
+            : new Semaphore(ensureGreaterThanZero(maxConcurrentExecutions, "maxConcurrentExecutions"));
+        this.maxContextUses = ensureGreaterThanZero(maxContextUses, "maxContextUses");
+        this.timeout = timeout;
+        this.resourceLimits = statementLimit == null ? null : ResourceLimits.newBuilder()
+            .statementLimit(statementLimit, null)
+            .build();
+        this.maxHeapMemory = maxHeapMemory;
+        warmUp();
+    }
+
+    /**
+     * Executes the given code in a pooled context,
+     * waiting for another execution to complete if {@code maxConcurrentExecutions} executions are in progress.
+     *
+     * @param code The code to execute.
+     * @return The result of the execution.
+     * @throws TimeoutException if the execution does not complete within the configured timeout.
+     */
+    String execute(String code) {
+        if (closed) {
+            throw new IllegalStateException("The execution engine is closed");
+        }
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LangChain4jException("Interrupted while waiting for a " + language + " context", e);
+            }
+        }
+        try {
+            PooledContext pooledContext = idleContexts.pollFirst();
+            if (idleContexts.isEmpty()) {
+                warmUp();
+            }
+            if (pooledContext == null) {
+                pooledContext = createContext();
+            }
+            return execute(pooledContext, code);
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private String execute(PooledContext pooledContext, String code) {
+        Context context = pooledContext.context;
+        ScheduledFuture<?> watchdog = timeout == null ? null
+            : Watchdog.EXECUTOR.schedule(() -> context.close(true), timeout.toNanos(), NANOSECONDS);
+        boolean reusable = false;
+        try {
+            Object result = context.eval(language, code).as(Object.class);
+            reusable = true;
+            return String.valueOf(result);
+        } catch (PolyglotException e) {
+            if (e.isCancelled() && watchdog != null && watchdog.isDone()) {
+                throw new TimeoutException("Code execution did not complete within " + timeout, e);
+            }
+            reusable = e.isGuestException() && !e.isCancelled() && !e.isExit() && !e.isResourceExhausted();
+            throw e;
+        } finally {
+            if (watchdog != null && !watchdog.cancel(false)) {
+                // the context was (or is being) cancelled
+                reusable = false;
+            }
+            release(pooledContext, reusable);
+        }
+    }
+
+    private void release(PooledContext pooledContext, boolean reusable) {
+        if (reusable && !closed && ++pooledContext.uses < maxContextUses && pooledContext.reset()) {
+            // the most recently used context is taken first, its code is the most likely to be compiled
+            idleContexts.offerFirst(pooledContext);
+            PooledContext evicted;
+            while (idleContexts.size() > poolSize && (evicted = idleContexts.pollLast()) != null) {
+                evicted.close();
+            }
+            closeIdleContextsIfClosed();
+        } else {
+            pooledContext.close();
+        }
+    }
+
+    /**
+     * Initializes a spare context in the background, unless one is already being initialized.
+     */
+    private void warmUp() {
+        if (closed || !warmingUp.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            WarmUp.EXECUTOR.execute(() -> {
+                try {
+                    if (closed) {
+                        return;
+                    }
+                    PooledContext pooledContext = createContext();
+                    if (idleContexts.size() < poolSize) {
+                        idleContexts.offerLast(pooledContext);
+                        closeIdleContextsIfClosed();
+                    } else {
+                        pooledContext.close();
+                    }
+                } catch (RuntimeException ignored) {
+                    // the next execution initializes its context itself, and reports the failure
+                } finally {
+                    warmingUp.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            warmingUp.set(false);
+        }
+    }
+
+    private void closeIdleContextsIfClosed() {
+        if (closed) {
+            PooledContext pooledContext;
+            while ((pooledContext = idleContexts.pollFirst()) != null) {
+                pooledContext.close();
+            }
+        }
+    }
+
+    private PooledContext createContext() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Context.Builder builder = Context.newBuilder(language)
+            .engine(engine)
+            .sandbox(sandboxPolicy)
+            .allowHostAccess(UNTRUSTED)
+            .out(output)
+            .err(output);
+        if (resourceLimits != null) {
+            builder.resourceLimits(resourceLimits);
+        }
+        if (maxHeapMemory != null) {
+            builder.option("sandbox.MaxHeapMemory", maxHeapMemory);
+        }
+        Context context = builder.build();
+        try {
+            context.initialize(language);
+            Set<String> initialBindings = new HashSet<>(context.getBindings(language).getMemberKeys());
+            return new PooledContext(context, output, initialBindings);
+        } catch (RuntimeException e) {
+            context.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeIdleContextsIfClosed();
+        if (ownsEngine) {
+            // contexts still executing are cancelled
+            engine.close(true);
+        }
+    }
+
+    private final class PooledContext {
+
+        private final Context context;
+        private final ByteArrayOutputStream output;
+        private final Set<String> initialBindings;
+        private int uses;
+
+        private PooledContext(Context context, ByteArrayOutputStream output, Set<String> initialBindings) {
+            this.context = context;
+            this.output = output;
+            this.initialBindings = initialBindings;
+        }
+
+        /**
+         * Removes the global bindings added since the context was initialized.
+         *
+         * @return {@code false} if the context cannot be reset and must not be reused
+         */
+        private boolean reset() {
+            try {
+                output.reset();
+                if (resourceLimits != null) {
+                    context.resetLimits();
+                }
+                Value bindings = context.getBindings(language);
+                for (String key : new ArrayList<>(bindings.getMemberKeys())) {
+                    if (!initialBindings.contains(key) && !bindings.removeMember(key)) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        private void close() {
+            try {
+                context.close(true);
+            } catch (RuntimeException ignored) {
+                // already closed or cancelled
+            }
+        }
+    }
+
+    private static final class WarmUp {
+
+        private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "langchain4j-graalvm-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class Watchdog {
+
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "langchain4j-graalvm-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -1,34 +1,148 @@
 package dev.langchain4j.code.graalvm;
 
 import dev.langchain4j.code.CodeExecutionEngine;
-import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.SandboxPolicy;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
+import java.time.Duration;
 
-import static org.graalvm.polyglot.HostAccess.UNTRUSTED;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static org.graalvm.polyglot.SandboxPolicy.TRUSTED;
 
 /**
  * {@link CodeExecutionEngine} that uses GraalVM Polyglot/Truffle to execute provided Python code.
  * Attention! It might be dangerous to execute the code, see {@link SandboxPolicy#TRUSTED}
  * and {@link HostAccess#UNTRUSTED} for more details.
+ * <p>
+ * The code is executed in pooled contexts sharing the same {@link Engine}, so that executions benefit
+ * from the code cache and the JIT compilation of the previous ones, and do not pay the (significant)
+ * Python context initialization: a spare context is initialized in the background, and contexts are reused
+ * by default. Only the global variables defined by the executed code are removed before reusing a context,
+ * while imported modules, patched builtins and other interpreter state are visible to the next executions:
+ * set {@link Builder#maxContextUses(Integer)} to 1 to execute each code in a fresh context.
+ * Close the engine to release the contexts.
  */
-public class GraalVmPythonExecutionEngine implements CodeExecutionEngine {
+public class GraalVmPythonExecutionEngine implements CodeExecutionEngine, AutoCloseable {
+
+    private static final String LANGUAGE = "python";
+
+    private final GraalVmContextPool contextPool;
+
+    public GraalVmPythonExecutionEngine() {
+        this(builder());
+    }
+
+    public GraalVmPythonExecutionEngine(Builder builder) {
+        this.contextPool = new GraalVmContextPool(
+            LANGUAGE,
+            TRUSTED,
+            builder.engine,
+            getOrDefault(builder.poolSize, GraalVmContextPool.DEFAULT_POOL_SIZE),
+            builder.maxConcurrentExecutions,
+            getOrDefault(builder.maxContextUses, GraalVmContextPool.DEFAULT_MAX_CONTEXT_USES),
+            builder.timeout,
+            builder.statementLimit,
+            builder.maxHeapMemory
+        );
+    }
 
     @Override
     public String execute(String code) {
-        OutputStream outputStream = new ByteArrayOutputStream();
-        try (Context context = Context.newBuilder("python")
-            .sandbox(TRUSTED)
-            .allowHostAccess(UNTRUSTED)
-            .out(outputStream)
-            .err(outputStream)
-            .build()) {
-            Object result = context.eval("python", code).as(Object.class);
-            return String.valueOf(result);
+        return contextPool.execute(code);
+    }
+
+    @Override
+    public void close() {
+        contextPool.close();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Engine engine;
+        private Integer poolSize;
+        private Integer maxConcurrentExecutions;
+        private Integer maxContextUses;
+        private Duration timeout;
+        private Long statementLimit;
+        private String maxHeapMemory;
+
+        /**
+         * @param engine The {@link Engine} shared by the contexts. It must support Python
+         *               and use the {@link SandboxPolicy#TRUSTED} sandbox policy.
+         *               It is not closed when this execution engine is closed.
+         *               Default: a new engine, owned by this execution engine.
+         */
+        public Builder engine(Engine engine) {
+            this.engine = engine;
+            return this;
+        }
+
+        /**
+         * @param poolSize The maximum number of idle contexts kept for the next executions. Default: 4.
+         */
+        public Builder poolSize(Integer poolSize) {
+            this.poolSize = poolSize;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentExecutions The maximum number of concurrent executions,
+         *                                further executions wait for one of them to complete.
+         *                                Default: no limit.
+         */
+        public Builder maxConcurrentExecutions(Integer maxConcurrentExecutions) {
+            this.maxConcurrentExecutions = maxConcurrentExecutions;
+            return this;
+        }
+
+        /**
+         * @param maxContextUses The number of executions after which a context is discarded.
+         *                       When greater than 1, the global variables defined by an execution are removed
+         *                       before the context is reused, but other interpreter state (imported modules,
+         *                       modified builtins, {@code sys} attributes, etc.) is visible to the next executions,
+         *                       so set it to 1 unless the executed code is trusted.
+         *                       Default: 100.
+         */
+        public Builder maxContextUses(Integer maxContextUses) {
+            this.maxContextUses = maxContextUses;
+            return this;
+        }
+
+        /**
+         * @param timeout The maximum duration of an execution, after which it is cancelled
+         *                and a {@link dev.langchain4j.exception.TimeoutException} is thrown. Default: no timeout.
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * @param statementLimit The maximum number of statements an execution can run. Default: no limit.
+         * @see org.graalvm.polyglot.ResourceLimits.Builder#statementLimit(long, java.util.function.Predicate)
+         */
+        public Builder statementLimit(Long statementLimit) {
+            this.statementLimit = statementLimit;
+            return this;
+        }
+
+        /**
+         * @param maxHeapMemory The maximum heap memory an execution can retain, e.g. {@code "100MB"}.
+         *                      Only supported by Oracle GraalVM (the {@code sandbox.MaxHeapMemory} option).
+         *                      Default: no limit.
+         */
+        public Builder maxHeapMemory(String maxHeapMemory) {
+            this.maxHeapMemory = maxHeapMemory;
+            return this;
+        }
+
+        public GraalVmPythonExecutionEngine build() {
+            return new GraalVmPythonExecutionEngine(this);
         }
     }
 }
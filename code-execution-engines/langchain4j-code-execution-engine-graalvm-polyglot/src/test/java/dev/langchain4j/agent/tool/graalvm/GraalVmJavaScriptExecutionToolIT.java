@@ -30,18 +30,19 @@ class GraalVmJavaScriptExecutionToolIT {
     @Test
     void should_execute_tool() {
 
-        GraalVmJavaScriptExecutionTool tool = spy(new GraalVmJavaScriptExecutionTool());
+        try (GraalVmJavaScriptExecutionTool tool = spy(new GraalVmJavaScriptExecutionTool())) {
 
-        Assistant assistant = AiServices.builder(Assistant.class)
-                .chatModel(model)
-                .tools(tool)
-                .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
-                .build();
+            Assistant assistant = AiServices.builder(Assistant.class)
+                    .chatModel(model)
+                    .tools(tool)
+                    .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                    .build();
 
-        String answer = assistant.chat("What is the square root of 485906798473894056 in scientific notation?");
+            String answer = assistant.chat("What is the square root of 485906798473894056 in scientific notation?");
 
-        assertThat(answer).contains("6.97");
+            assertThat(answer).contains("6.97");
 
-        verify(tool).executeJavaScriptCode(contains("485906798473894056"));
+            verify(tool).executeJavaScriptCode(contains("485906798473894056"));
+        }
     }
 }
@@ -30,18 +30,19 @@ class GraalVmPythonExecutionToolIT {
     @Test
     void should_execute_tool() {
 
-        GraalVmPythonExecutionTool tool = spy(new GraalVmPythonExecutionTool());
+        try (GraalVmPythonExecutionTool tool = spy(new GraalVmPythonExecutionTool())) {
 
-        Assistant assistant = AiServices.builder(Assistant.class)
-                .chatModel(model)
-                .tools(tool)
-                .chatMemory(MessageWindowChatMemory.withMaxMessages(100))
-                .build();
+            Assistant assistant = AiServices.builder(Assistant.class)
+                    .chatModel(model)
+                    .tools(tool)
+                    .chatMemory(MessageWindowChatMemory.withMaxMessages(100))
+                    .build();
 
-        String answer = assistant.chat("What is the square root of 485906798473894056 in scientific notation?");
+            String answer = assistant.chat("What is the square root of 485906798473894056 in scientific notation?");
 
-        assertThat(answer).contains("6.97");
+            assertThat(answer).contains("6.97");
 
-        verify(tool).executePythonCode(contains("485906798473894056"));
+            verify(tool).executePythonCode(contains("485906798473894056"));
+        }
     }
 }
@@ -1,13 +1,22 @@
 package dev.langchain4j.code.graalvm;
 
-import dev.langchain4j.code.CodeExecutionEngine;
+import dev.langchain4j.exception.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class GraalVmJavaScriptExecutionEngineTest {
 
-    CodeExecutionEngine engine = new GraalVmJavaScriptExecutionEngine();
+    GraalVmJavaScriptExecutionEngine engine = new GraalVmJavaScriptExecutionEngine();
+
+    @AfterEach
+    void afterEach() {
+        engine.close();
+    }
 
     @Test
     void should_execute_code() {
@@ -25,4 +34,44 @@ class GraalVmJavaScriptExecutionEngineTest {
 
         assertThat(result).isEqualTo("55");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_execute_code_declaring_same_bindings_repeatedly() {
+
+        try (GraalVmJavaScriptExecutionEngine engine = GraalVmJavaScriptExecutionEngine.builder()
+            .poolSize(1)
+            .maxContextUses(10)
+            .build()) {
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(engine.execute("const x = 20; var y = 2; x + y")).isEqualTo("22");
+            }
+        }
+    }
+
+    @Test
+    void should_stop_execution_exceeding_statement_limit() {
+
+        try (GraalVmJavaScriptExecutionEngine engine = GraalVmJavaScriptExecutionEngine.builder()
+            .statementLimit(10_000L)
+            .build()) {
+
+            assertThatThrownBy(() -> engine.execute("while (true) {}"))
+                .hasMessageContaining("limit");
+
+            assertThat(engine.execute("1 + 1")).isEqualTo("2");
+        }
+    }
+
+    @Test
+    void should_cancel_execution_after_timeout() {
+
+        try (GraalVmJavaScriptExecutionEngine engine = GraalVmJavaScriptExecutionEngine.builder()
+            .timeout(Duration.ofMillis(500))
+            .build()) {
+
+            assertThatThrownBy(() -> engine.execute("while (true) {}"))
+                .isExactlyInstanceOf(TimeoutException.class);
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package dev.langchain4j.code.graalvm;
 
-import dev.langchain4j.code.CodeExecutionEngine;
+import dev.langchain4j.exception.TimeoutException;
+import org.graalvm.polyglot.PolyglotException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class GraalVmPythonExecutionEngineTest {
 
-    CodeExecutionEngine engine = new GraalVmPythonExecutionEngine();
+    GraalVmPythonExecutionEngine engine = new GraalVmPythonExecutionEngine();
+
+    @AfterEach
+    void afterEach() {
+        engine.close();
+    }
 
     @Test
     void should_execute_code() {
@@ -26,4 +36,60 @@ class GraalVmPythonExecutionEngineTest {
 
         assertThat(result).isEqualTo("55");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_not_leak_global_variables_between_executions() {
+
+        try (GraalVmPythonExecutionEngine engine = GraalVmPythonExecutionEngine.builder()
+            .poolSize(1)
+            .build()) {
+
+            assertThat(engine.execute("secret = 42\nsecret")).isEqualTo("42");
+
+            assertThatThrownBy(() -> engine.execute("secret"))
+                .isInstanceOf(PolyglotException.class)
+                .hasMessageContaining("secret");
+
+            assertThat(engine.execute("1 + 1")).isEqualTo("2");
+        }
+    }
+
+    @Test
+    void should_reuse_context_unless_disabled() {
+
+        try (GraalVmPythonExecutionEngine engine = GraalVmPythonExecutionEngine.builder()
+            .poolSize(1)
+            .build()) {
+
+            // interpreter state other than global variables is kept when a context is reused
+            engine.execute("import sys\nsys.reused = True\n1");
+
+            assertThat(engine.execute("import sys\nhasattr(sys, 'reused')")).isEqualTo("true");
+        }
+
+        try (GraalVmPythonExecutionEngine engine = GraalVmPythonExecutionEngine.builder()
+            .maxContextUses(1)
+            .build()) {
+
+            engine.execute("import sys\nsys.reused = True\n1");
+
+            assertThat(engine.execute("import sys\nhasattr(sys, 'reused')")).isEqualTo("false");
+        }
+    }
+
+    @Test
+    void should_cancel_execution_after_timeout() {
+
+        try (GraalVmPythonExecutionEngine engine = GraalVmPythonExecutionEngine.builder()
+            .poolSize(1)
+            .timeout(Duration.ofMillis(500))
+            .build()) {
+
+            assertThatThrownBy(() -> engine.execute("while True:\n    pass"))
+                .isExactlyInstanceOf(TimeoutException.class);
+
+            // the cancelled context is replaced
+            assertThat(engine.execute("1 + 1")).isEqualTo("2");
+        }
+    }
+}
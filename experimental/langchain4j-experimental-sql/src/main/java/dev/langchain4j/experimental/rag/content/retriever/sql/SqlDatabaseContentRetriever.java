@@ -21,12 +21,14 @@ import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -45,6 +47,16 @@ import static java.util.Collections.singletonList;
  * <br>
  * Optionally, {@link #sqlDialect}, {@link #databaseStructure}, {@link #promptTemplate}, and {@link #maxRetries} can be specified
  * to customize the behavior. See the javadoc of the constructor for more details.
+ * <br>
+ * When the database structure is generated from the {@link DataSource}, it is cached.
+ * It can be regenerated periodically (see {@link SqlDatabaseContentRetrieverBuilder#databaseStructureTtl(Duration)})
+ * or explicitly (see {@link #refreshDatabaseStructure()}).
+ * <br>
+ * The rows of the query result are streamed (see {@link SqlDatabaseContentRetrieverBuilder#fetchSize(Integer)})
+ * into the {@link Content}. The result is not limited by default:
+ * set {@link SqlDatabaseContentRetrieverBuilder#maxRows(Integer)}
+ * or {@link SqlDatabaseContentRetrieverBuilder#maxResultLength(Integer)} to truncate it,
+ * so that a query selecting a large table cannot exhaust the memory.
  * Most methods can be overridden to customize the behavior further.
  * <br>
  * The default prompt template is not highly optimized,
@@ -61,14 +73,24 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
                     "Do not output anything else aside from a valid SQL statement!"
     );
 
+    private static final int DEFAULT_FETCH_SIZE = 100;
+    private static final int DEFAULT_MAX_ROWS = Integer.MAX_VALUE;
+    private static final int DEFAULT_MAX_RESULT_LENGTH = Integer.MAX_VALUE;
+
     private final DataSource dataSource;
     private final String sqlDialect;
     private final String databaseStructure;
+    private final Duration databaseStructureTtl;
+    private volatile CachedDatabaseStructure cachedDatabaseStructure;
+    private final Object databaseStructureLock = new Object();
 
     private final PromptTemplate promptTemplate;
     private final ChatModel chatModel;
 
     private final int maxRetries;
+    private final int fetchSize;
+    private final int maxRows;
+    private final int maxResultLength;
 
     /**
      * Creates an instance of a {@code SqlDatabaseContentRetriever}.
@@ -101,18 +123,86 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
                                        PromptTemplate promptTemplate,
                                        ChatModel chatModel,
                                        Integer maxRetries) {
-        this.dataSource = ensureNotNull(dataSource, "dataSource");
-        this.sqlDialect = getOrDefault(sqlDialect, () -> getSqlDialect(dataSource));
-        this.databaseStructure = getOrDefault(databaseStructure, () -> generateDDL(dataSource));
-        this.promptTemplate = getOrDefault(promptTemplate, DEFAULT_PROMPT_TEMPLATE);
-        this.chatModel = ensureNotNull(chatModel, "chatModel");
-        this.maxRetries = getOrDefault(maxRetries, 0);
+        this(builder()
+                .dataSource(dataSource)
+                .sqlDialect(sqlDialect)
+                .databaseStructure(databaseStructure)
+                .promptTemplate(promptTemplate)
+                .chatModel(chatModel)
+                .maxRetries(maxRetries));
+    }
+
+    /**
+     * Creates an instance of a {@code SqlDatabaseContentRetriever} from a builder.
+     * See {@link #SqlDatabaseContentRetriever(DataSource, String, String, PromptTemplate, ChatModel, Integer)}
+     * and the methods of {@link SqlDatabaseContentRetrieverBuilder} for the meaning of each parameter.
+     */
+    @Experimental
+    protected SqlDatabaseContentRetriever(SqlDatabaseContentRetrieverBuilder builder) {
+        this.dataSource = ensureNotNull(builder.dataSource, "dataSource");
+        this.sqlDialect = getOrDefault(builder.sqlDialect, () -> getSqlDialect(dataSource));
+        this.databaseStructure = builder.databaseStructure;
+        this.databaseStructureTtl = builder.databaseStructureTtl;
+        if (databaseStructure == null) {
+            this.cachedDatabaseStructure = generateDatabaseStructure();
+        }
+        this.promptTemplate = getOrDefault(builder.promptTemplate, DEFAULT_PROMPT_TEMPLATE);
+        this.chatModel = ensureNotNull(builder.chatModel, "chatModel");
+        this.maxRetries = getOrDefault(builder.maxRetries, 0);
+        this.fetchSize = ensureGreaterThanZero(getOrDefault(builder.fetchSize, DEFAULT_FETCH_SIZE), "fetchSize");
+        this.maxRows = ensureGreaterThanZero(getOrDefault(builder.maxRows, DEFAULT_MAX_ROWS), "maxRows");
+        this.maxResultLength = ensureGreaterThanZero(
+                getOrDefault(builder.maxResultLength, DEFAULT_MAX_RESULT_LENGTH), "maxResultLength");
     }
 
     // TODO (for v2)
     // - provide a few rows of data for each table in the prompt
     // - option to select a list of tables to use/ignore
 
+    /**
+     * Returns the database structure provided to the LLM: either the one specified when creating this retriever,
+     * or the one generated from the {@link DataSource}, which is regenerated once the TTL has elapsed
+     * or after {@link #refreshDatabaseStructure()} was called.
+     */
+    protected String databaseStructure() {
+        if (databaseStructure != null) {
+            return databaseStructure;
+        }
+        CachedDatabaseStructure cached = cachedDatabaseStructure;
+        if (cached == null || cached.isExpired()) {
+            synchronized (databaseStructureLock) {
+                cached = cachedDatabaseStructure;
+                if (cached == null || cached.isExpired()) {
+                    cached = generateDatabaseStructure();
+                    cachedDatabaseStructure = cached;
+                }
+            }
+        }
+        return cached.value();
+    }
+
+    /**
+     * Invalidates the database structure generated from the {@link DataSource},
+     * so that it is regenerated the next time it is needed, e.g. after a schema migration.
+     * Has no effect when the database structure was specified when creating this retriever.
+     */
+    public void refreshDatabaseStructure() {
+        cachedDatabaseStructure = null;
+    }
+
+    private CachedDatabaseStructure generateDatabaseStructure() {
+        String ddl = generateDDL(dataSource);
+        Long expiresAtNanos = databaseStructureTtl == null ? null : System.nanoTime() + databaseStructureTtl.toNanos();
+        return new CachedDatabaseStructure(ddl, expiresAtNanos);
+    }
+
+    private record CachedDatabaseStructure(String value, Long expiresAtNanos) {
+
+        boolean isExpired() {
+            return expiresAtNanos != null && System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+
     public static String getSqlDialect(DataSource dataSource) {
         try (Connection connection = dataSource.getConnection()) {
             DatabaseMetaData metaData = connection.getMetaData();
@@ -264,6 +354,10 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
                 try (Connection connection = dataSource.getConnection();
                      Statement statement = connection.createStatement()) {
 
+                    // fetch one more row than returned, to know whether the result is truncated
+                    statement.setMaxRows(maxRows == Integer.MAX_VALUE ? 0 : maxRows + 1);
+                    statement.setFetchSize(fetchSize);
+
                     String result = execute(sqlQuery, statement);
                     Content content = format(result, sqlQuery);
                     return singletonList(content);
@@ -293,7 +387,7 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
     protected Prompt createSystemPrompt() {
         Map<String, Object> variables = new HashMap<>();
         variables.put("sqlDialect", sqlDialect);
-        variables.put("databaseStructure", databaseStructure);
+        variables.put("databaseStructure", databaseStructure());
         return promptTemplate.apply(variables);
     }
 
@@ -319,8 +413,12 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
         }
     }
 
+    /**
+     * Executes the SQL query and formats its result as CSV, streaming the rows.
+     * The result is truncated, with a note for the LLM, once it reaches the maximum number of rows or characters.
+     */
     protected String execute(String sqlQuery, Statement statement) throws SQLException {
-        List<String> resultRows = new ArrayList<>();
+        StringBuilder result = new StringBuilder();
 
         try (ResultSet resultSet = statement.executeQuery(sqlQuery)) {
             int columnCount = resultSet.getMetaData().getColumnCount();
@@ -330,25 +428,45 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
             for (int i = 1; i <= columnCount; i++) {
                 columnNames.add(resultSet.getMetaData().getColumnName(i));
             }
-            resultRows.add(String.join(",", columnNames));
+            result.append(String.join(",", columnNames));
 
             // rows
+            int rowCount = 0;
+            StringBuilder row = new StringBuilder();
             while (resultSet.next()) {
-                List<String> columnValues = new ArrayList<>();
-                for (int i = 1; i <= columnCount; i++) {
+                if (rowCount == maxRows) {
+                    appendTruncationNote(result, "the first " + maxRows + " rows are shown");
+                    break;
+                }
 
-                    String columnValue = resultSet.getObject(i) == null ? "" : resultSet.getObject(i).toString();
+                row.setLength(0);
+                for (int i = 1; i <= columnCount; i++) {
+                    Object value = resultSet.getObject(i);
+                    String columnValue = value == null ? "" : value.toString();
 
                     if (columnValue.contains(",")) {
                         columnValue = "\"" + columnValue + "\"";
                     }
-                    columnValues.add(columnValue);
+                    if (i > 1) {
+                        row.append(",");
+                    }
+                    row.append(columnValue);
+                }
+
+                if ((long) result.length() + 1 + row.length() > maxResultLength) {
+                    appendTruncationNote(result, "the first " + rowCount + " rows are shown");
+                    break;
                 }
-                resultRows.add(String.join(",", columnValues));
+                result.append("\n").append(row);
+                rowCount++;
             }
         }
 
-        return String.join("\n", resultRows);
+        return result.toString();
+    }
+
+    private static void appendTruncationNote(StringBuilder result, String details) {
+        result.append("\n... (result truncated: ").append(details).append(")");
     }
 
     private static Content format(String result, String sqlQuery) {
@@ -362,6 +480,10 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
         private PromptTemplate promptTemplate;
         private ChatModel chatModel;
         private Integer maxRetries;
+        private Duration databaseStructureTtl;
+        private Integer fetchSize;
+        private Integer maxRows;
+        private Integer maxResultLength;
 
         SqlDatabaseContentRetrieverBuilder() {
         }
@@ -396,12 +518,48 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
             return this;
         }
 
+        /**
+         * @param databaseStructureTtl How long the database structure generated from the {@code DataSource} is cached.
+         *                             Has no effect when the database structure is specified.
+         *                             Default: cached until {@link SqlDatabaseContentRetriever#refreshDatabaseStructure()} is called.
+         */
+        public SqlDatabaseContentRetrieverBuilder databaseStructureTtl(Duration databaseStructureTtl) {
+            this.databaseStructureTtl = databaseStructureTtl;
+            return this;
+        }
+
+        /**
+         * @param fetchSize The number of rows fetched from the database at once, see {@link Statement#setFetchSize(int)}.
+         *                  Note that some JDBC drivers (e.g. PostgreSQL) only stream the rows outside of auto-commit mode.
+         *                  Default: 100.
+         */
+        public SqlDatabaseContentRetrieverBuilder fetchSize(Integer fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * @param maxRows The maximum number of rows included in the result. Default: unlimited.
+         */
+        public SqlDatabaseContentRetrieverBuilder maxRows(Integer maxRows) {
+            this.maxRows = maxRows;
+            return this;
+        }
+
+        /**
+         * @param maxResultLength The maximum number of characters of the result (header and rows). Default: unlimited.
+         */
+        public SqlDatabaseContentRetrieverBuilder maxResultLength(Integer maxResultLength) {
+            this.maxResultLength = maxResultLength;
+            return this;
+        }
+
         public SqlDatabaseContentRetriever build() {
-            return new SqlDatabaseContentRetriever(this.dataSource, this.sqlDialect, this.databaseStructure, this.promptTemplate, this.chatModel, this.maxRetries);
+            return new SqlDatabaseContentRetriever(this);
         }
 
         public String toString() {
-            return "SqlDatabaseContentRetriever.SqlDatabaseContentRetrieverBuilder(dataSource=" + this.dataSource + ", sqlDialect=" + this.sqlDialect + ", databaseStructure=" + this.databaseStructure + ", promptTemplate=" + this.promptTemplate + ", chatModel=" + this.chatModel + ", maxRetries=" + this.maxRetries + ")";
+            return "SqlDatabaseContentRetriever.SqlDatabaseContentRetrieverBuilder(dataSource=" + this.dataSource + ", sqlDialect=" + this.sqlDialect + ", databaseStructure=" + this.databaseStructure + ", promptTemplate=" + this.promptTemplate + ", chatModel=" + this.chatModel + ", maxRetries=" + this.maxRetries + ", databaseStructureTtl=" + this.databaseStructureTtl + ", fetchSize=" + this.fetchSize + ", maxRows=" + this.maxRows + ", maxResultLength=" + this.maxResultLength + ")";
         }
     }
 }
@@ -0,0 +1,192 @@
+package dev.langchain4j.experimental.rag.content.retriever.sql;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.query.Query;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlDatabaseContentRetrieverTest {
+
+    DataSource dataSource;
+
+    @BeforeEach
+    void beforeEach() {
+        JdbcDataSource h2DataSource = new JdbcDataSource();
+        h2DataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource = h2DataSource;
+
+        execute("CREATE TABLE customers (customer_id INT PRIMARY KEY, name VARCHAR(50))");
+        execute("INSERT INTO customers SELECT x, 'Customer ' || x FROM SYSTEM_RANGE(1, 500)");
+    }
+
+    @Test
+    void should_truncate_result_to_max_rows() {
+
+        // given
+        SqlDatabaseContentRetriever retriever = SqlDatabaseContentRetriever.builder()
+                .dataSource(dataSource)
+                .chatModel(new FixedSqlChatModel("SELECT * FROM customers ORDER BY customer_id"))
+                .maxRows(10)
+                .build();
+
+        // when
+        List<Content> contents = retriever.retrieve(Query.from("List all customers"));
+
+        // then
+        String[] lines = contents.get(0).textSegment().text().split("\n");
+        assertThat(lines).hasSize(1 + 1 + 10 + 1); // query, header, rows, truncation note
+        assertThat(lines[1]).isEqualTo("CUSTOMER_ID,NAME");
+        assertThat(lines[2]).isEqualTo("1,Customer 1");
+        assertThat(lines[11]).isEqualTo("10,Customer 10");
+        assertThat(lines[12]).isEqualTo("... (result truncated: the first 10 rows are shown)");
+    }
+
+    @Test
+    void should_truncate_result_to_max_length() {
+
+        // given
+        SqlDatabaseContentRetriever retriever = SqlDatabaseContentRetriever.builder()
+                .dataSource(dataSource)
+                .chatModel(new FixedSqlChatModel("SELECT * FROM customers ORDER BY customer_id"))
+                .maxResultLength(200)
+                .build();
+
+        // when
+        String text = retriever.retrieve(Query.from("List all customers")).get(0).textSegment().text();
+
+        // then
+        String result = text.substring(text.indexOf('\n') + 1);
+        String rows = result.substring(0, result.lastIndexOf('\n'));
+        assertThat(rows.length()).isLessThanOrEqualTo(200);
+        assertThat(result).endsWith("rows are shown)");
+        assertThat(result).doesNotContain("Customer 500");
+    }
+
+    @Test
+    void should_not_truncate_result_by_default() {
+
+        // given
+        execute("INSERT INTO customers SELECT x, 'Customer ' || x FROM SYSTEM_RANGE(501, 2000)");
+        SqlDatabaseContentRetriever retriever = SqlDatabaseContentRetriever.builder()
+                .dataSource(dataSource)
+                .chatModel(new FixedSqlChatModel("SELECT * FROM customers ORDER BY customer_id"))
+                .build();
+
+        // when
+        String[] lines = retriever.retrieve(Query.from("List all customers")).get(0).textSegment().text().split("\n");
+
+        // then
+        assertThat(lines).hasSize(1 + 1 + 2000); // query, header, rows
+        assertThat(lines[2001]).isEqualTo("2000,Customer 2000");
+    }
+
+    @Test
+    void should_not_truncate_small_result() {
+
+        // given
+        SqlDatabaseContentRetriever retriever = SqlDatabaseContentRetriever.builder()
+                .dataSource(dataSource)
+                .chatModel(new FixedSqlChatModel("SELECT name FROM customers WHERE customer_id <= 2 ORDER BY customer_id"))
+                .maxRows(2)
+                .build();
+
+        // when
+        String text = retriever.retrieve(Query.from("List two customers")).get(0).textSegment().text();
+
+        // then
+        assertThat(text).endsWith("NAME\nCustomer 1\nCustomer 2");
+    }
+
+    @Test
+    void should_cache_database_structure_until_refreshed() {
+
+        // given
+        FixedSqlChatModel chatModel = new FixedSqlChatModel("SELECT COUNT(*) FROM customers");
+        SqlDatabaseContentRetriever retriever = SqlDatabaseContentRetriever.builder()
+                .dataSource(dataSource)
+                .chatModel(chatModel)
+                .build();
+
+        execute("CREATE TABLE products (product_id INT PRIMARY KEY)");
+
+        // when
+        retriever.retrieve(Query.from("How many customers?"));
+
+        // then
+        assertThat(chatModel.lastSystemMessage.get()).contains("CUSTOMERS").doesNotContain("PRODUCTS");
+
+        // when
+        retriever.refreshDatabaseStructure();
+        retriever.retrieve(Query.from("How many customers?"));
+
+        // then
+        assertThat(chatModel.lastSystemMessage.get()).contains("CUSTOMERS").contains("PRODUCTS");
+    }
+
+    @Test
+    void should_regenerate_database_structure_after_ttl() throws InterruptedException {
+
+        // given
+        FixedSqlChatModel chatModel = new FixedSqlChatModel("SELECT COUNT(*) FROM customers");
+        SqlDatabaseContentRetriever retriever = SqlDatabaseContentRetriever.builder()
+                .dataSource(dataSource)
+                .chatModel(chatModel)
+                .databaseStructureTtl(Duration.ofMillis(50))
+                .build();
+
+        execute("CREATE TABLE products (product_id INT PRIMARY KEY)");
+        Thread.sleep(100);
+
+        // when
+        retriever.retrieve(Query.from("How many customers?"));
+
+        // then
+        assertThat(chatModel.lastSystemMessage.get()).contains("PRODUCTS");
+    }
+
+    private void execute(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static class FixedSqlChatModel implements ChatModel {
+
+        private final String sql;
+        final AtomicReference<String> lastSystemMessage = new AtomicReference<>();
+
+        FixedSqlChatModel(String sql) {
+            this.sql = sql;
+        }
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            chatRequest.messages().stream()
+                    .filter(SystemMessage.class::isInstance)
+                    .map(message -> ((SystemMessage) message).text())
+                    .findFirst()
+                    .ifPresent(lastSystemMessage::set);
+            return ChatResponse.builder().aiMessage(AiMessage.from(sql)).build();
+        }
+    }
+}
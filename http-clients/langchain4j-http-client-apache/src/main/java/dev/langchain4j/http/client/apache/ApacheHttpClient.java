@@ -1,12 +1,14 @@
 package dev.langchain4j.http.client.apache;
 
 import static dev.langchain4j.http.client.sse.ServerSentEventListenerUtils.ignoringExceptions;
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static java.util.stream.Collectors.joining;
 
 import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpCompression;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
@@ -22,6 +24,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
@@ -33,6 +37,8 @@ import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ClassicHttpResponse;
@@ -40,16 +46,29 @@ import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpEntityContainer;
 import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 
 public class ApacheHttpClient implements HttpClient {
 
+    private static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 25;
+
     private final CloseableHttpClient syncClient;
     private final CloseableHttpAsyncClient asyncClient;
+    private final boolean compressRequests;
+    private final boolean decompressResponses;
 
     public ApacheHttpClient(ApacheHttpClientBuilder builder) {
+        if ((builder.httpClientBuilder() != null || builder.httpAsyncClientBuilder() != null)
+                && (builder.maxConnections() != null || builder.keepAlive() != null)) {
+            // they would replace the connection manager and keep-alive strategy configured on the custom builders
+            throw illegalArgument("maxConnections and keepAlive cannot be combined with a custom httpClientBuilder "
+                    + "or httpAsyncClientBuilder, configure their connection manager and keep-alive strategy instead");
+        }
         org.apache.hc.client5.http.impl.classic.HttpClientBuilder syncHttpClientBuilder =
                 getOrDefault(builder.httpClientBuilder(), HttpClients::custom);
         org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder asyncHttpClientBuilder =
@@ -66,12 +85,39 @@ public class ApacheHttpClient implements HttpClient {
                     Timeout.ofMilliseconds(builder.readTimeout().toMillis()));
         }
 
+        if (!getOrDefault(builder.decompressResponses(), true)) {
+            syncHttpClientBuilder.disableContentCompression();
+            asyncHttpClientBuilder.disableContentCompression();
+        }
+        if (builder.preferHttp2() != null) {
+            asyncHttpClientBuilder.setVersionPolicy(
+                    builder.preferHttp2() ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1);
+        }
+        if (builder.maxConnections() != null) {
+            int maxConnections = builder.maxConnections();
+            syncHttpClientBuilder.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnPerRoute(maxConnections)
+                    .setMaxConnTotal(Math.max(maxConnections, DEFAULT_MAX_CONNECTIONS_TOTAL))
+                    .build());
+            asyncHttpClientBuilder.setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                    .setMaxConnPerRoute(maxConnections)
+                    .setMaxConnTotal(Math.max(maxConnections, DEFAULT_MAX_CONNECTIONS_TOTAL))
+                    .build());
+        }
+        if (builder.keepAlive() != null) {
+            TimeValue keepAlive = TimeValue.ofMilliseconds(builder.keepAlive().toMillis());
+            syncHttpClientBuilder.setKeepAliveStrategy((response, context) -> keepAlive);
+            asyncHttpClientBuilder.setKeepAliveStrategy((response, context) -> keepAlive);
+        }
+
         RequestConfig requestConfig = requestConfigBuilder.build();
         asyncHttpClientBuilder.setDefaultRequestConfig(requestConfig);
         syncHttpClientBuilder.setDefaultRequestConfig(requestConfig);
         this.syncClient = syncHttpClientBuilder.build();
         this.asyncClient = asyncHttpClientBuilder.build();
         this.asyncClient.start();
+        this.compressRequests = getOrDefault(builder.compressRequests(), false);
+        this.decompressResponses = getOrDefault(builder.decompressResponses(), true);
     }
 
     public static ApacheHttpClientBuilder builder() {
@@ -95,6 +141,50 @@ public class ApacheHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        SimpleHttpRequest apacheRequest;
+        try {
+            apacheRequest = toSimpleApacheRequest(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<SuccessfulHttpResponse> future = new CompletableFuture<>();
+        Future<SimpleHttpResponse> apacheFuture = asyncClient.execute(apacheRequest, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse apacheResponse) {
+                if (!isSuccessful(apacheResponse)) {
+                    future.completeExceptionally(new HttpException(apacheResponse.getCode(), apacheResponse.getBodyText()));
+                } else {
+                    future.complete(fromApacheResponse(apacheResponse));
+                }
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                if (ex instanceof SocketTimeoutException) {
+                    future.completeExceptionally(new TimeoutException(ex));
+                } else if (ex instanceof RuntimeException) {
+                    future.completeExceptionally(ex);
+                } else {
+                    future.completeExceptionally(new RuntimeException(ex));
+                }
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        });
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                apacheFuture.cancel(true);
+            }
+        });
+        return future;
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         SimpleHttpRequest apacheRequest = toSimpleApacheRequest(request);
@@ -137,7 +227,7 @@ public class ApacheHttpClient implements HttpClient {
         return new ByteArrayInputStream(Objects.requireNonNullElseGet(bodyBytes, () -> new byte[0]));
     }
 
-    private SuccessfulHttpResponse fromApacheResponse(ClassicHttpResponse httpResponse) {
+    private SuccessfulHttpResponse fromApacheResponse(ClassicHttpResponse httpResponse) throws IOException {
         Map<String, List<String>> headers = new HashMap<>();
         org.apache.hc.core5.http.Header[] allHeaders = httpResponse.getHeaders();
         for (org.apache.hc.core5.http.Header header : allHeaders) {
@@ -146,10 +236,18 @@ public class ApacheHttpClient implements HttpClient {
         return SuccessfulHttpResponse.builder()
                 .statusCode(httpResponse.getCode())
                 .headers(headers)
-                .body(readBody(httpResponse))
+                .bodyBytes(readBodyBytes(httpResponse))
                 .build();
     }
 
+    private byte[] readBodyBytes(HttpEntityContainer httpEntityContainer) throws IOException {
+        HttpEntity entity = httpEntityContainer.getEntity();
+        if (entity == null) {
+            return new byte[0];
+        }
+        return EntityUtils.toByteArray(entity);
+    }
+
     private String readBody(HttpEntityContainer httpEntityContainer) {
         try {
             HttpEntity entity = httpEntityContainer.getEntity();
@@ -171,6 +269,10 @@ public class ApacheHttpClient implements HttpClient {
     }
 
     private ClassicHttpRequest toApacheRequest(HttpRequest request) {
+        if (compressRequests) {
+            request = HttpCompression.compressBody(request);
+        }
+
         ClassicHttpRequest apacheRequest =
                 switch (request.method()) {
                     case GET -> new HttpGet(request.url());
@@ -179,8 +281,12 @@ public class ApacheHttpClient implements HttpClient {
                 };
 
         if (request.formDataFields().isEmpty() && request.formDataFiles().isEmpty()) {
-            if (request.body() != null) {
-                apacheRequest.setEntity(new StringEntity(request.body(), ContentType.APPLICATION_JSON));
+            byte[] bodyBytes;
+            if (request.bodyStream() != null) {
+                apacheRequest.setEntity(
+                        new InputStreamEntity(request.bodyStream().get(), -1, ContentType.APPLICATION_JSON));
+            } else if ((bodyBytes = request.bodyBytes()) != null) {
+                apacheRequest.setEntity(new ByteArrayEntity(bodyBytes, ContentType.APPLICATION_JSON));
             }
         } else {
             HttpEntity entity =
@@ -200,6 +306,10 @@ public class ApacheHttpClient implements HttpClient {
     }
 
     private SimpleHttpRequest toSimpleApacheRequest(HttpRequest request) {
+        if (compressRequests) {
+            request = HttpCompression.compressBody(request);
+        }
+
         SimpleRequestBuilder builder;
         String uri = request.url();
 
@@ -210,8 +320,10 @@ public class ApacheHttpClient implements HttpClient {
                 case POST -> SimpleRequestBuilder.post(uri);
             };
 
-            if (request.body() != null) {
-                builder.setBody(request.body(), ContentType.APPLICATION_JSON);
+            // the async client buffers the whole request, so a streamed body is read into memory
+            byte[] bodyBytes = request.bodyStream() != null ? readAllBytes(request) : request.bodyBytes();
+            if (bodyBytes != null) {
+                builder.setBody(bodyBytes, ContentType.APPLICATION_JSON);
             }
         } else {
             builder = SimpleRequestBuilder.post(uri);
@@ -239,6 +351,14 @@ public class ApacheHttpClient implements HttpClient {
         return builder.build();
     }
 
+    private static byte[] readAllBytes(HttpRequest request) {
+        try (InputStream inputStream = request.bodyStream().get()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private SuccessfulHttpResponse fromApacheResponse(SimpleHttpResponse apacheResponse) {
         Map<String, List<String>> headers = new HashMap<>();
         org.apache.hc.core5.http.Header[] allHeaders = apacheResponse.getHeaders();
@@ -254,17 +374,22 @@ public class ApacheHttpClient implements HttpClient {
             }
         }
 
-        String body;
+        byte[] body;
         if (contentType != null && contentType.contains("text/event-stream")) {
             body = null;
         } else {
-            body = apacheResponse.getBodyText();
+            body = apacheResponse.getBodyBytes();
+        }
+
+        // unlike the classic client, the async client keeps the headers of the compressed body
+        if (decompressResponses && HttpCompression.isCompressed(headers)) {
+            headers = HttpCompression.decompressedHeaders(headers);
         }
 
         return SuccessfulHttpResponse.builder()
                 .statusCode(apacheResponse.getCode())
                 .headers(headers)
-                .body(body)
+                .bodyBytes(body)
                 .build();
     }
 }
@@ -9,6 +9,11 @@ public class ApacheHttpClientBuilder implements HttpClientBuilder {
     private org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder httpAsyncClientBuilder;
     private Duration connectTimeout;
     private Duration readTimeout;
+    private Boolean compressRequests;
+    private Boolean decompressResponses;
+    private Boolean preferHttp2;
+    private Integer maxConnections;
+    private Duration keepAlive;
 
     public org.apache.hc.client5.http.impl.classic.HttpClientBuilder httpClientBuilder() {
         return httpClientBuilder;
@@ -52,6 +57,81 @@ public class ApacheHttpClientBuilder implements HttpClientBuilder {
         return this;
     }
 
+    @Override
+    public Boolean compressRequests() {
+        return compressRequests;
+    }
+
+    @Override
+    public ApacheHttpClientBuilder compressRequests(Boolean compressRequests) {
+        this.compressRequests = compressRequests;
+        return this;
+    }
+
+    @Override
+    public Boolean decompressResponses() {
+        return decompressResponses;
+    }
+
+    /**
+     * Apache HttpClient requests and decompresses compressed responses by default.
+     * When this is {@code false}, content compression is disabled.
+     */
+    @Override
+    public ApacheHttpClientBuilder decompressResponses(Boolean decompressResponses) {
+        this.decompressResponses = decompressResponses;
+        return this;
+    }
+
+    @Override
+    public Boolean preferHttp2() {
+        return preferHttp2;
+    }
+
+    /**
+     * Applies to the asynchronous client only, the classic client always uses HTTP/1.1.
+     */
+    @Override
+    public ApacheHttpClientBuilder preferHttp2(Boolean preferHttp2) {
+        this.preferHttp2 = preferHttp2;
+        return this;
+    }
+
+    @Override
+    public Integer maxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Replaces the connection managers of both the classic and the asynchronous clients
+     * with pooling connection managers limited to this number of connections per route.
+     * It cannot be combined with a custom {@link #httpClientBuilder() httpClientBuilder}
+     * or {@link #httpAsyncClientBuilder() httpAsyncClientBuilder},
+     * whose connection managers should be configured directly.
+     */
+    @Override
+    public ApacheHttpClientBuilder maxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    @Override
+    public Duration keepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the keep-alive strategy of both the classic and the asynchronous clients.
+     * It cannot be combined with a custom {@link #httpClientBuilder() httpClientBuilder}
+     * or {@link #httpAsyncClientBuilder() httpAsyncClientBuilder},
+     * whose keep-alive strategies should be configured directly.
+     */
+    @Override
+    public ApacheHttpClientBuilder keepAlive(Duration keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
     @Override
     public ApacheHttpClient build() {
         return new ApacheHttpClient(this);
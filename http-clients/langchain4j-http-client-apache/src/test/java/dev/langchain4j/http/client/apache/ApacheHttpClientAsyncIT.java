@@ -0,0 +1,16 @@
+package dev.langchain4j.http.client.apache;
+
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientAsyncIT;
+
+import java.util.List;
+
+class ApacheHttpClientAsyncIT extends HttpClientAsyncIT {
+
+    @Override
+    protected List<HttpClient> clients() {
+        return List.of(
+                ApacheHttpClient.builder().build()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package dev.langchain4j.http.client.apache;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpClientCompressionIT;
+import java.time.Duration;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.jupiter.api.Test;
+
+class ApacheHttpClientCompressionIT extends HttpClientCompressionIT {
+
+    @Override
+    protected HttpClientBuilder clientBuilder() {
+        return ApacheHttpClient.builder();
+    }
+
+    @Test
+    void should_not_replace_connection_managers_of_custom_builders() {
+
+        assertThatThrownBy(() -> ApacheHttpClient.builder()
+                        .httpClientBuilder(HttpClients.custom())
+                        .maxConnections(4)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("httpClientBuilder");
+        assertThatThrownBy(() -> ApacheHttpClient.builder()
+                        .httpAsyncClientBuilder(HttpAsyncClients.custom())
+                        .keepAlive(Duration.ofSeconds(30))
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("httpAsyncClientBuilder");
+    }
+}
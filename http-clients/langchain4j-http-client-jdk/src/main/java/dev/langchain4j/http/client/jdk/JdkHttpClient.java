@@ -7,6 +7,7 @@ import static java.util.stream.Collectors.joining;
 import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpCompression;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.FormDataFile;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
@@ -16,18 +17,26 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.net.http.HttpClient.Version;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class JdkHttpClient implements HttpClient {
 
     private final java.net.http.HttpClient delegate;
     private final Duration readTimeout;
+    private final boolean compressRequests;
+    private final boolean decompressResponses;
 
     public JdkHttpClient(JdkHttpClientBuilder builder) {
         java.net.http.HttpClient.Builder httpClientBuilder =
@@ -35,8 +44,13 @@ public class JdkHttpClient implements HttpClient {
         if (builder.connectTimeout() != null) {
             httpClientBuilder.connectTimeout(builder.connectTimeout());
         }
+        if (builder.preferHttp2() != null) {
+            httpClientBuilder.version(builder.preferHttp2() ? Version.HTTP_2 : Version.HTTP_1_1);
+        }
         this.delegate = httpClientBuilder.build();
         this.readTimeout = builder.readTimeout();
+        this.compressRequests = getOrDefault(builder.compressRequests(), false);
+        this.decompressResponses = getOrDefault(builder.decompressResponses(), false);
     }
 
     public static JdkHttpClientBuilder builder() {
@@ -48,10 +62,10 @@ public class JdkHttpClient implements HttpClient {
         try {
             java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
 
-            java.net.http.HttpResponse<String> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofString());
+            java.net.http.HttpResponse<byte[]> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofByteArray());
 
             if (!isSuccessful(jdkResponse)) {
-                throw new HttpException(jdkResponse.statusCode(), jdkResponse.body());
+                throw new HttpException(jdkResponse.statusCode(), errorBody(jdkResponse));
             }
 
             return fromJdkResponse(jdkResponse, jdkResponse.body());
@@ -65,6 +79,43 @@ public class JdkHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        java.net.http.HttpRequest jdkRequest;
+        try {
+            jdkRequest = toJdkRequest(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<java.net.http.HttpResponse<byte[]>> jdkFuture =
+                delegate.sendAsync(jdkRequest, BodyHandlers.ofByteArray());
+
+        CompletableFuture<SuccessfulHttpResponse> future = new CompletableFuture<>();
+        jdkFuture.whenComplete((jdkResponse, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable;
+                future.completeExceptionally(toRuntimeException(cause));
+            } else if (!isSuccessful(jdkResponse)) {
+                future.completeExceptionally(new HttpException(jdkResponse.statusCode(), errorBody(jdkResponse)));
+            } else {
+                try {
+                    future.complete(fromJdkResponse(jdkResponse, jdkResponse.body()));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                jdkFuture.cancel(true);
+            }
+        });
+        return future;
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
@@ -80,7 +131,7 @@ public class JdkHttpClient implements HttpClient {
                     SuccessfulHttpResponse response = fromJdkResponse(jdkResponse, null);
                     ignoringExceptions(() -> listener.onOpen(response));
 
-                    try (InputStream inputStream = jdkResponse.body()) {
+                    try (InputStream inputStream = decompressed(jdkResponse)) {
                         parser.parse(inputStream, listener);
                         ignoringExceptions(listener::onClose);
                     } catch (IOException e) {
@@ -97,7 +148,23 @@ public class JdkHttpClient implements HttpClient {
                 });
     }
 
+    private static RuntimeException toRuntimeException(Throwable throwable) {
+        if (throwable instanceof HttpTimeoutException) {
+            return new TimeoutException(throwable);
+        }
+        return throwable instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new RuntimeException(throwable);
+    }
+
     private java.net.http.HttpRequest toJdkRequest(HttpRequest request) {
+        if (compressRequests) {
+            request = HttpCompression.compressBody(request);
+        }
+        if (decompressResponses) {
+            request = HttpCompression.acceptCompressedResponse(request);
+        }
+
         java.net.http.HttpRequest.Builder builder =
                 java.net.http.HttpRequest.newBuilder().uri(URI.create(request.url()));
 
@@ -109,8 +176,11 @@ public class JdkHttpClient implements HttpClient {
 
         BodyPublisher bodyPublisher;
         if (request.formDataFields().isEmpty() && request.formDataFiles().isEmpty()) {
-            if (request.body() != null) {
-                bodyPublisher = BodyPublishers.ofString(request.body());
+            byte[] bodyBytes;
+            if (request.bodyStream() != null) {
+                bodyPublisher = BodyPublishers.ofInputStream(request.bodyStream());
+            } else if ((bodyBytes = request.bodyBytes()) != null) {
+                bodyPublisher = BodyPublishers.ofByteArray(bodyBytes);
             } else {
                 bodyPublisher = BodyPublishers.noBody();
             }
@@ -137,21 +207,47 @@ public class JdkHttpClient implements HttpClient {
         return publisher.build();
     }
 
-    private static SuccessfulHttpResponse fromJdkResponse(java.net.http.HttpResponse<?> response, String body) {
+    private SuccessfulHttpResponse fromJdkResponse(java.net.http.HttpResponse<?> response, byte[] body) {
+        Map<String, List<String>> headers = response.headers().map();
+        if (decompressResponses && HttpCompression.isCompressed(headers)) {
+            headers = HttpCompression.decompressedHeaders(headers);
+            if (body != null) {
+                body = HttpCompression.gunzip(body);
+            }
+        }
         return SuccessfulHttpResponse.builder()
                 .statusCode(response.statusCode())
-                .headers(response.headers().map())
-                .body(body)
+                .headers(headers)
+                .bodyBytes(body)
                 .build();
     }
 
+    private String errorBody(java.net.http.HttpResponse<byte[]> response) {
+        byte[] body = response.body();
+        if (decompressResponses && HttpCompression.isCompressed(response.headers().map())) {
+            try {
+                body = HttpCompression.gunzip(body);
+            } catch (UncheckedIOException ignored) {
+                // keep the raw body
+            }
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private InputStream decompressed(java.net.http.HttpResponse<InputStream> response) throws IOException {
+        if (decompressResponses && HttpCompression.isCompressed(response.headers().map())) {
+            return HttpCompression.gunzip(response.body());
+        }
+        return response.body();
+    }
+
     private static boolean isSuccessful(java.net.http.HttpResponse<?> response) {
         int statusCode = response.statusCode();
         return statusCode >= 200 && statusCode < 300;
     }
 
-    private static String readBody(java.net.http.HttpResponse<InputStream> response) {
-        try (InputStream inputStream = response.body();
+    private String readBody(java.net.http.HttpResponse<InputStream> response) {
+        try (InputStream inputStream = decompressed(response);
                 BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
             return reader.lines().collect(joining(System.lineSeparator()));
         } catch (IOException e) {
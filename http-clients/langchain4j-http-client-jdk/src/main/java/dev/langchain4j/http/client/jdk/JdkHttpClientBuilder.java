@@ -1,5 +1,7 @@
 package dev.langchain4j.http.client.jdk;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+
 import dev.langchain4j.http.client.HttpClientBuilder;
 
 import java.time.Duration;
@@ -9,6 +11,9 @@ public class JdkHttpClientBuilder implements HttpClientBuilder {
     private java.net.http.HttpClient.Builder httpClientBuilder;
     private Duration connectTimeout;
     private Duration readTimeout;
+    private Boolean compressRequests;
+    private Boolean decompressResponses;
+    private Boolean preferHttp2;
 
     public java.net.http.HttpClient.Builder httpClientBuilder() {
         return httpClientBuilder;
@@ -41,6 +46,74 @@ public class JdkHttpClientBuilder implements HttpClientBuilder {
         return this;
     }
 
+    @Override
+    public Boolean compressRequests() {
+        return compressRequests;
+    }
+
+    @Override
+    public JdkHttpClientBuilder compressRequests(Boolean compressRequests) {
+        this.compressRequests = compressRequests;
+        return this;
+    }
+
+    @Override
+    public Boolean decompressResponses() {
+        return decompressResponses;
+    }
+
+    /**
+     * The JDK {@link java.net.http.HttpClient} does not decompress responses by itself,
+     * so when this is {@code true}, gzip-encoded responses are requested and decompressed by {@link JdkHttpClient}.
+     * By default, compressed responses are not requested.
+     */
+    @Override
+    public JdkHttpClientBuilder decompressResponses(Boolean decompressResponses) {
+        this.decompressResponses = decompressResponses;
+        return this;
+    }
+
+    @Override
+    public Boolean preferHttp2() {
+        return preferHttp2;
+    }
+
+    @Override
+    public JdkHttpClientBuilder preferHttp2(Boolean preferHttp2) {
+        this.preferHttp2 = preferHttp2;
+        return this;
+    }
+
+    /**
+     * Not supported: the connection pool of the JDK {@link java.net.http.HttpClient} is shared by the whole JVM
+     * and can only be configured with the {@code jdk.httpclient.connectionPoolSize}
+     * and {@code jdk.httpclient.keepalive.timeout} system properties.
+     *
+     * @throws IllegalArgumentException if {@code maxConnections} is not {@code null}
+     */
+    @Override
+    public JdkHttpClientBuilder maxConnections(Integer maxConnections) {
+        if (maxConnections != null) {
+            throw illegalArgument("maxConnections is not supported by the JDK HttpClient, "
+                    + "use the jdk.httpclient.connectionPoolSize system property instead");
+        }
+        return this;
+    }
+
+    /**
+     * Not supported, see {@link #maxConnections(Integer)}.
+     *
+     * @throws IllegalArgumentException if {@code keepAlive} is not {@code null}
+     */
+    @Override
+    public JdkHttpClientBuilder keepAlive(Duration keepAlive) {
+        if (keepAlive != null) {
+            throw illegalArgument("keepAlive is not supported by the JDK HttpClient, "
+                    + "use the jdk.httpclient.keepalive.timeout system property instead");
+        }
+        return this;
+    }
+
     @Override
     public JdkHttpClient build() {
         return new JdkHttpClient(this);
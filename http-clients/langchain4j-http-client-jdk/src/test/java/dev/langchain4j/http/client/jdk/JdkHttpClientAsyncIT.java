@@ -0,0 +1,20 @@
+package dev.langchain4j.http.client.jdk;
+
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientAsyncIT;
+
+import java.util.List;
+
+class JdkHttpClientAsyncIT extends HttpClientAsyncIT {
+
+    @Override
+    protected List<HttpClient> clients() {
+        return List.of(
+                JdkHttpClient.builder()
+                        // WireMock resets the h2c upgrade of requests with a streamed (chunked) body
+                        .httpClientBuilder(java.net.http.HttpClient.newBuilder()
+                                .version(java.net.http.HttpClient.Version.HTTP_1_1))
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package dev.langchain4j.http.client.jdk;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class JdkHttpClientBuilderTest {
+
+    @Test
+    void should_reject_max_connections() {
+
+        assertThatThrownBy(() -> JdkHttpClient.builder().maxConnections(4))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("jdk.httpclient.connectionPoolSize");
+    }
+
+    @Test
+    void should_reject_keep_alive() {
+
+        assertThatThrownBy(() -> JdkHttpClient.builder().keepAlive(Duration.ofSeconds(30)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("jdk.httpclient.keepalive.timeout");
+    }
+
+    @Test
+    void should_accept_unset_connection_pool_options() {
+
+        assertThatNoException()
+                .isThrownBy(() -> JdkHttpClient.builder().maxConnections(null).keepAlive(null).build());
+    }
+}
@@ -0,0 +1,12 @@
+package dev.langchain4j.http.client.jdk;
+
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpClientCompressionIT;
+
+class JdkHttpClientCompressionIT extends HttpClientCompressionIT {
+
+    @Override
+    protected HttpClientBuilder clientBuilder() {
+        return JdkHttpClient.builder();
+    }
+}
@@ -4,34 +4,58 @@ import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.http.client.FormDataFile;
 import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpCompression;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
 import okhttp3.Call;
 import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.SocketTimeoutException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static dev.langchain4j.http.client.sse.ServerSentEventListenerUtils.ignoringExceptions;
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 
 public class OkHttpClient implements HttpClient {
 
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+
     private final okhttp3.OkHttpClient client;
+    private final boolean compressRequests;
+    private final boolean decompressResponses;
 
     public OkHttpClient(OkHttpClientBuilder builder) {
+        if (builder.okHttpClientBuilder() != null
+                && (builder.maxConnections() != null || builder.keepAlive() != null)) {
+            // they would replace the ConnectionPool and Dispatcher configured on the custom builder
+            throw illegalArgument("maxConnections and keepAlive cannot be combined with a custom okHttpClientBuilder, "
+                    + "configure its ConnectionPool and Dispatcher instead");
+        }
         okhttp3.OkHttpClient.Builder okBuilder =
                 getOrDefault(builder.okHttpClientBuilder(), okhttp3.OkHttpClient.Builder::new);
 
@@ -41,8 +65,25 @@ public class OkHttpClient implements HttpClient {
         if (builder.readTimeout() != null) {
             okBuilder.readTimeout(builder.readTimeout().toMillis(), TimeUnit.MILLISECONDS);
         }
+        if (Boolean.FALSE.equals(builder.preferHttp2())) {
+            okBuilder.protocols(List.of(Protocol.HTTP_1_1));
+        }
+        if (builder.maxConnections() != null || builder.keepAlive() != null) {
+            Duration keepAlive = getOrDefault(builder.keepAlive(), DEFAULT_KEEP_ALIVE);
+            okBuilder.connectionPool(new ConnectionPool(
+                    getOrDefault(builder.maxConnections(), DEFAULT_MAX_IDLE_CONNECTIONS),
+                    keepAlive.toMillis(),
+                    TimeUnit.MILLISECONDS));
+        }
+        if (builder.maxConnections() != null) {
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequestsPerHost(builder.maxConnections());
+            okBuilder.dispatcher(dispatcher);
+        }
 
         this.client = okBuilder.build();
+        this.compressRequests = getOrDefault(builder.compressRequests(), false);
+        this.decompressResponses = getOrDefault(builder.decompressResponses(), true);
     }
 
     public static OkHttpClientBuilder builder() {
@@ -64,6 +105,51 @@ public class OkHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        Call call;
+        try {
+            call = client.newCall(toOkHttpRequest(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<SuccessfulHttpResponse> future = new CompletableFuture<>();
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    if (!response.isSuccessful()) {
+                        future.completeExceptionally(new HttpException(response.code(), readBody(response)));
+                    } else {
+                        future.complete(fromOkHttpResponse(response));
+                    }
+                } catch (SocketTimeoutException e) {
+                    future.completeExceptionally(new TimeoutException(e));
+                } catch (IOException e) {
+                    future.completeExceptionally(new RuntimeException(e));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (e instanceof SocketTimeoutException) {
+                    future.completeExceptionally(new TimeoutException(e));
+                } else {
+                    future.completeExceptionally(new RuntimeException(e));
+                }
+            }
+        });
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         Request okRequest = toOkHttpRequest(request);
@@ -106,27 +192,31 @@ public class OkHttpClient implements HttpClient {
         return response.body().byteStream();
     }
 
-    private SuccessfulHttpResponse fromOkHttpResponse(Response response) {
+    private SuccessfulHttpResponse fromOkHttpResponse(Response response) throws IOException {
         Map<String, List<String>> headers = new HashMap<>();
         for (String name : response.headers().names()) {
             headers.put(name, response.headers().values(name));
         }
 
         String contentType = response.header("content-type");
-        String body;
+        byte[] body;
         if (contentType != null && contentType.contains("text/event-stream")) {
             body = null;
         } else {
-            body = readBody(response);
+            body = readBodyBytes(response);
         }
 
         return SuccessfulHttpResponse.builder()
                 .statusCode(response.code())
                 .headers(headers)
-                .body(body)
+                .bodyBytes(body)
                 .build();
     }
 
+    private byte[] readBodyBytes(Response response) throws IOException {
+        return response.body().bytes();
+    }
+
     private String readBody(Response response) {
         try {
             return response.body().string();
@@ -136,6 +226,10 @@ public class OkHttpClient implements HttpClient {
     }
 
     private Request toOkHttpRequest(HttpRequest request) {
+        if (compressRequests) {
+            request = HttpCompression.compressBody(request);
+        }
+
         Request.Builder builder = new Request.Builder().url(request.url());
 
         request.headers().forEach((name, values) -> {
@@ -146,6 +240,11 @@ public class OkHttpClient implements HttpClient {
             }
         });
 
+        if (!decompressResponses
+                && request.headers().keySet().stream().noneMatch("Accept-Encoding"::equalsIgnoreCase)) {
+            builder.header("Accept-Encoding", "identity");
+        }
+
         RequestBody body = buildRequestBody(request);
 
         switch (request.method()) {
@@ -182,10 +281,59 @@ public class OkHttpClient implements HttpClient {
             return multipartBuilder.build();
         }
 
-        if (request.body() != null) {
-            return RequestBody.create(request.body(), MediaType.parse("application/json"));
+        if (request.bodyStream() != null) {
+            return new InputStreamRequestBody(request.bodyStream(), contentType(request));
+        }
+
+        byte[] bodyBytes = request.bodyBytes();
+        if (bodyBytes != null) {
+            return RequestBody.create(bodyBytes, contentType(request));
         }
 
         return null;
     }
+
+    /**
+     * OkHttp replaces the Content-Type header of the request with the content type of its body,
+     * so the body must be created with the media type of the header, when there is one.
+     */
+    private static MediaType contentType(HttpRequest request) {
+        for (Map.Entry<String, List<String>> header : request.headers().entrySet()) {
+            if ("Content-Type".equalsIgnoreCase(header.getKey())
+                    && header.getValue() != null
+                    && !header.getValue().isEmpty()) {
+                MediaType mediaType = MediaType.parse(header.getValue().get(0));
+                if (mediaType != null) {
+                    return mediaType;
+                }
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Streams the body from a new {@link InputStream} each time it is written (e.g., on retries or redirects).
+     */
+    private static class InputStreamRequestBody extends RequestBody {
+
+        private final Supplier<InputStream> bodyStream;
+        private final MediaType contentType;
+
+        private InputStreamRequestBody(Supplier<InputStream> bodyStream, MediaType contentType) {
+            this.bodyStream = bodyStream;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            try (Source source = Okio.source(bodyStream.get())) {
+                sink.writeAll(source);
+            }
+        }
+    }
 }
@@ -8,6 +8,11 @@ public class OkHttpClientBuilder implements HttpClientBuilder {
     private okhttp3.OkHttpClient.Builder okHttpClientBuilder;
     private Duration connectTimeout;
     private Duration readTimeout;
+    private Boolean compressRequests;
+    private Boolean decompressResponses;
+    private Boolean preferHttp2;
+    private Integer maxConnections;
+    private Duration keepAlive;
 
     public okhttp3.OkHttpClient.Builder okHttpClientBuilder() {
         return okHttpClientBuilder;
@@ -40,6 +45,82 @@ public class OkHttpClientBuilder implements HttpClientBuilder {
         return this;
     }
 
+    @Override
+    public Boolean compressRequests() {
+        return compressRequests;
+    }
+
+    @Override
+    public OkHttpClientBuilder compressRequests(Boolean compressRequests) {
+        this.compressRequests = compressRequests;
+        return this;
+    }
+
+    @Override
+    public Boolean decompressResponses() {
+        return decompressResponses;
+    }
+
+    /**
+     * OkHttp requests and decompresses gzip-encoded responses by default.
+     * When this is {@code false}, responses are requested with {@code Accept-Encoding: identity}.
+     */
+    @Override
+    public OkHttpClientBuilder decompressResponses(Boolean decompressResponses) {
+        this.decompressResponses = decompressResponses;
+        return this;
+    }
+
+    @Override
+    public Boolean preferHttp2() {
+        return preferHttp2;
+    }
+
+    @Override
+    public OkHttpClientBuilder preferHttp2(Boolean preferHttp2) {
+        this.preferHttp2 = preferHttp2;
+        return this;
+    }
+
+    @Override
+    public Integer maxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * OkHttp does not limit the number of open connections: it opens one for each concurrent call that cannot
+     * reuse an idle one. This value is applied to two separate limits instead:
+     * <ul>
+     * <li>the maximum number of <em>idle</em> connections kept in the {@link okhttp3.ConnectionPool},
+     * across all hosts (5 by default);</li>
+     * <li>the maximum number of concurrent <em>asynchronous</em> calls per host of the {@link okhttp3.Dispatcher}
+     * (5 by default), further calls being queued. Synchronous calls are not limited.</li>
+     * </ul>
+     * It cannot be combined with a custom {@link #okHttpClientBuilder(okhttp3.OkHttpClient.Builder)},
+     * whose {@link okhttp3.ConnectionPool} and {@link okhttp3.Dispatcher} should be configured directly.
+     */
+    @Override
+    public OkHttpClientBuilder maxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    @Override
+    public Duration keepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * How long idle connections are kept in the {@link okhttp3.ConnectionPool} (5 minutes by default).
+     * It cannot be combined with a custom {@link #okHttpClientBuilder(okhttp3.OkHttpClient.Builder)},
+     * whose {@link okhttp3.ConnectionPool} should be configured directly.
+     */
+    @Override
+    public OkHttpClientBuilder keepAlive(Duration keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
     @Override
     public OkHttpClient build() {
         return new OkHttpClient(this);
@@ -0,0 +1,16 @@
+package dev.langchain4j.http.client.okhttp;
+
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientAsyncIT;
+
+import java.util.List;
+
+class OkHttpClientAsyncIT extends HttpClientAsyncIT {
+
+    @Override
+    protected List<HttpClient> clients() {
+        return List.of(
+                OkHttpClient.builder().build()
+        );
+    }
+}
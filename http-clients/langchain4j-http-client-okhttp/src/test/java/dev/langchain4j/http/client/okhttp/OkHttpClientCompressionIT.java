@@ -0,0 +1,37 @@
+package dev.langchain4j.http.client.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpClientCompressionIT;
+import java.time.Duration;
+import okhttp3.ConnectionPool;
+import org.junit.jupiter.api.Test;
+
+class OkHttpClientCompressionIT extends HttpClientCompressionIT {
+
+    @Override
+    protected HttpClientBuilder clientBuilder() {
+        return OkHttpClient.builder();
+    }
+
+    @Test
+    void should_not_replace_connection_pool_of_custom_builder() {
+
+        okhttp3.OkHttpClient.Builder customBuilder = new okhttp3.OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool());
+
+        assertThatThrownBy(() -> OkHttpClient.builder()
+                        .okHttpClientBuilder(customBuilder)
+                        .maxConnections(4)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("okHttpClientBuilder");
+        assertThatThrownBy(() -> OkHttpClient.builder()
+                        .okHttpClientBuilder(customBuilder)
+                        .keepAlive(Duration.ofSeconds(30))
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("okHttpClientBuilder");
+    }
+}
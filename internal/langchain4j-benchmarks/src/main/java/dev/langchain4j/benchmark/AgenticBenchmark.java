@@ -0,0 +1,319 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.benchmark.Measurements.averageMicros;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+
+import dev.langchain4j.agentic.Agent;
+import dev.langchain4j.agentic.AgenticServices;
+import dev.langchain4j.agentic.patterns.goap.DependencyGraphSearch;
+import dev.langchain4j.agentic.patterns.goap.DependencyGraphSearch.CompiledGraph;
+import dev.langchain4j.agentic.patterns.goap.DependencyGraphSearch.Node;
+import dev.langchain4j.agentic.planner.Action;
+import dev.langchain4j.agentic.planner.AgentInstance;
+import dev.langchain4j.agentic.planner.InitPlanningContext;
+import dev.langchain4j.agentic.planner.Planner;
+import dev.langchain4j.agentic.planner.PlanningContext;
+import dev.langchain4j.agentic.scope.AgentInvocation;
+import dev.langchain4j.agentic.scope.AgenticScopeKey;
+import dev.langchain4j.agentic.scope.AgenticScopePersister;
+import dev.langchain4j.agentic.scope.AgenticScopeRegistry;
+import dev.langchain4j.agentic.scope.AgenticScopeStore;
+import dev.langchain4j.agentic.scope.DefaultAgenticScope;
+import dev.langchain4j.agentic.scope.FileAgenticScopeStore;
+import dev.langchain4j.internal.VirtualThreadUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Measures the agentic building blocks, without any LLM:
+ * <ul>
+ *     <li>many concurrent planner loops on virtual threads, each one alternating parallel batches of sub-agents
+ *     simulating slow I/O: since the loops only wake up when their sub-agents complete, the CPU time should stay
+ *     a small fraction of the elapsed time multiplied by the number of cores</li>
+ *     <li>checkpointing a long agentic loop in a {@link FileAgenticScopeStore},
+ *     with full snapshots and with incremental changes</li>
+ *     <li>the GOAP {@link DependencyGraphSearch} on a synthetic layered graph, from scratch (which also compiles
+ *     the graph) and on an already compiled graph, as done when planning again from an already seen state</li>
+ * </ul>
+ */
+public class AgenticBenchmark {
+
+    /**
+     * The throughput and CPU time of concurrent planner loops.
+     *
+     * @param executions     the number of sub-agent executions, which should be
+     *                       {@code workflows * batches * subAgents}
+     * @param cpuUtilization the CPU time of the process divided by the elapsed time and by the number of cores
+     */
+    public record PlannerLoopResult(
+            int workflows, int executions, Duration duration, Duration cpuTime, double cpuUtilization) {
+
+        public double workflowsPerSecond() {
+            return workflows / (duration.toNanos() / 1e9);
+        }
+    }
+
+    /**
+     * The time to run a loop checkpointing its scope after every step.
+     */
+    public record CheckpointResult(int steps, Duration fullSnapshots, Duration incrementalChanges) {}
+
+    /**
+     * The time to search a path to the goal of a graph.
+     */
+    public record GraphSearchResult(int nodes, int pathLength, double fromScratchMicros, double compiledMicros) {}
+
+    interface CountingAgent {
+
+        @Agent
+        int count();
+    }
+
+    /**
+     * Runs {@code workflows} concurrent workflows on virtual threads, each one calling {@code batches} times
+     * {@code subAgents} sub-agents in parallel, which take {@code subAgentLatency} to answer.
+     */
+    public static PlannerLoopResult plannerLoops(int workflows, int subAgents, int batches, Duration subAgentLatency)
+            throws Exception {
+        ensureGreaterThanZero(workflows, "workflows");
+        ExecutorService executor = VirtualThreadUtils.createVirtualThreadExecutor(Executors::newCachedThreadPool);
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        try {
+            runWorkflows(executor, Math.min(workflows, 50), subAgents, batches, subAgentLatency); // warm up
+
+            long cpuStart = os.getProcessCpuTime();
+            long start = System.nanoTime();
+            int executions = runWorkflows(executor, workflows, subAgents, batches, subAgentLatency);
+            long elapsedNanos = System.nanoTime() - start;
+            long cpuNanos = os.getProcessCpuTime() - cpuStart;
+
+            return new PlannerLoopResult(
+                    workflows,
+                    executions,
+                    Duration.ofNanos(elapsedNanos),
+                    Duration.ofNanos(cpuNanos),
+                    (double) cpuNanos / (elapsedNanos * Runtime.getRuntime().availableProcessors()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Runs a loop of {@code steps} steps, each one writing to the scope, registering an agent invocation
+     * and checkpointing the scope, with full snapshots and with incremental changes.
+     */
+    public static CheckpointResult checkpoints(int steps) throws IOException {
+        ensureGreaterThanZero(steps, "steps");
+        Path directory = Files.createTempDirectory("langchain4j-benchmark");
+        try {
+            FileAgenticScopeStore fullStore = new FileAgenticScopeStore(directory.resolve("full"));
+            Duration full = runLoop(new SnapshotOnlyStore(fullStore), steps);
+
+            FileAgenticScopeStore incrementalStore = new FileAgenticScopeStore(directory.resolve("incremental"));
+            Duration incremental = runLoop(incrementalStore, steps);
+
+            AgenticScopeKey key = new AgenticScopeKey("loop", "memory");
+            if (!incrementalStore.load(key).orElseThrow().state().equals(fullStore.load(key).orElseThrow().state())) {
+                throw new IllegalStateException("The incremental changes did not restore the same state");
+            }
+            return new CheckpointResult(steps, full, incremental);
+        } finally {
+            AgenticScopePersister.setStore(null);
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Searches a path to the goal of a layered graph of {@code layers * nodesPerLayer} nodes,
+     * {@code warmupIterations} times without measuring, then {@code iterations} times,
+     * from scratch and on the compiled graph.
+     */
+    public static GraphSearchResult graphSearch(int layers, int nodesPerLayer, int warmupIterations, int iterations) {
+        ensureNotNegative(warmupIterations, "warmupIterations");
+        List<Node> nodes = layeredGraph(layers, nodesPerLayer, 3, new Random(42));
+        Node start = nodes.get(0);
+        Node goal = nodes.get(nodes.size() - 1);
+
+        List<Node> path = DependencyGraphSearch.search(goal, start);
+        double fromScratch =
+                averageMicros(warmupIterations, iterations, i -> DependencyGraphSearch.search(goal, start));
+        CompiledGraph graph = DependencyGraphSearch.compile(nodes);
+        double compiled = averageMicros(warmupIterations, iterations, i -> graph.search(goal, List.of(start)));
+
+        return new GraphSearchResult(nodes.size(), path.size(), fromScratch, compiled);
+    }
+
+    private static int runWorkflows(
+            ExecutorService executor, int workflows, int subAgents, int batches, Duration subAgentLatency)
+            throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < workflows; i++) {
+            CountingAgent agent = workflow(executor, executions, subAgents, batches, subAgentLatency);
+            futures.add(executor.submit(agent::count));
+        }
+        for (Future<Integer> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        return executions.get();
+    }
+
+    private static CountingAgent workflow(
+            ExecutorService executor,
+            AtomicInteger executions,
+            int subAgentCount,
+            int batches,
+            Duration subAgentLatency) {
+        Object[] subAgents = new Object[subAgentCount];
+        for (int i = 0; i < subAgentCount; i++) {
+            subAgents[i] = AgenticServices.agentAction(() -> {
+                Thread.sleep(subAgentLatency.toMillis());
+                executions.incrementAndGet();
+            });
+        }
+        return AgenticServices.plannerBuilder(CountingAgent.class)
+                .subAgents(subAgents)
+                .planner(() -> new RepeatedBatchesPlanner(batches))
+                .executor(executor)
+                .output(scope -> executions.get())
+                .build();
+    }
+
+    /**
+     * Calls all its sub-agents in parallel, a given number of times.
+     */
+    static class RepeatedBatchesPlanner implements Planner {
+
+        private final int batches;
+        private final AtomicInteger invocations = new AtomicInteger();
+        private List<AgentInstance> subagents;
+
+        RepeatedBatchesPlanner(int batches) {
+            this.batches = batches;
+        }
+
+        @Override
+        public void init(InitPlanningContext initPlanningContext) {
+            this.subagents = initPlanningContext.subagents();
+        }
+
+        @Override
+        public Action firstAction(PlanningContext planningContext) {
+            return call(subagents);
+        }
+
+        @Override
+        public Action nextAction(PlanningContext planningContext) {
+            int invocation = invocations.incrementAndGet();
+            if (invocation % subagents.size() != 0) {
+                return noOp();
+            }
+            return invocation < batches * subagents.size() ? call(subagents) : done();
+        }
+    }
+
+    private static Duration runLoop(AgenticScopeStore store, int steps) {
+        AgenticScopePersister.setStore(store);
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("loop");
+        DefaultAgenticScope scope = registry.create("memory");
+
+        long start = System.nanoTime();
+        for (int step = 0; step < steps; step++) {
+            String result = "Result of step " + step + ": " + "lorem ipsum ".repeat(10);
+            scope.writeState("step", step);
+            scope.writeState("result_" + step, result);
+            scope.registerAgentInvocation(
+                    new AgentInvocation(Object.class, "worker", "worker-1", Map.of("step", step), result), null);
+            scope.checkpoint(registry);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * A single start node feeding the first layer, each node of the other layers depending on some random nodes
+     * of the previous layer, and a goal depending on some nodes of the last layer.
+     */
+    private static List<Node> layeredGraph(int layers, int nodesPerLayer, int inputsPerNode, Random random) {
+        List<Node> nodes = new ArrayList<>();
+        Node start = new Node("start");
+        nodes.add(start);
+
+        List<Node> previousLayer = List.of(start);
+        for (int layer = 0; layer < layers; layer++) {
+            List<Node> currentLayer = new ArrayList<>();
+            for (int i = 0; i < nodesPerLayer; i++) {
+                Node node = new Node("n" + layer + "_" + i);
+                for (int input = 0; input < inputsPerNode; input++) {
+                    previousLayer.get(random.nextInt(previousLayer.size())).addOutput(node);
+                }
+                currentLayer.add(node);
+            }
+            nodes.addAll(currentLayer);
+            previousLayer = currentLayer;
+        }
+
+        Node goal = new Node("goal");
+        for (int input = 0; input < inputsPerNode; input++) {
+            previousLayer.get(random.nextInt(previousLayer.size())).addOutput(goal);
+        }
+        nodes.add(goal);
+        return nodes;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Hides the incremental capabilities of the delegate, so that every checkpoint saves a full snapshot.
+     */
+    private record SnapshotOnlyStore(FileAgenticScopeStore delegate) implements AgenticScopeStore {
+
+        @Override
+        public boolean save(AgenticScopeKey key, DefaultAgenticScope agenticScope) {
+            return delegate.save(key, agenticScope);
+        }
+
+        @Override
+        public Optional<DefaultAgenticScope> load(AgenticScopeKey key) {
+            return delegate.load(key);
+        }
+
+        @Override
+        public boolean delete(AgenticScopeKey key) {
+            return delegate.delete(key);
+        }
+
+        @Override
+        public Set<AgenticScopeKey> getAllKeys() {
+            return delegate.getAllKeys();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.benchmark.Measurements.invokeConcurrently;
+import static dev.langchain4j.benchmark.Measurements.percentile;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.agent.tool.P;
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.benchmark.Measurements.Invocation;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.TokenStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the chat models and AI services of a {@link Provider} end to end against a {@link StubLlmServer},
+ * one {@link Layer} at a time, and reports the latency and the allocations of each invocation.
+ * Since the stub server answers immediately (unless configured otherwise), the results are dominated by
+ * the overhead of LangChain4j itself: comparing two consecutive layers gives the overhead of the added layer,
+ * and comparing two releases reveals regressions in the hot paths.
+ * <p>
+ * Allocations are measured with {@link com.sun.management.ThreadMXBean} across all threads
+ * (e.g. those of the HTTP client), minus the allocations of the stub server, so they are approximate.
+ */
+public class AiServiceBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final String QUESTION = "What is the weather in Berlin?";
+    private static final List<Content> CONTENTS = List.of(
+            Content.from("Berlin is the capital and largest city of Germany."),
+            Content.from("Berlin has a temperate oceanic climate, with warm summers and cold winters."),
+            Content.from("The weather in Berlin is usually mild in spring."));
+    private static final long TIMEOUT_SECONDS = 30;
+
+    /**
+     * The latency and allocations of the invocations of a scenario.
+     *
+     * @param meanMicros                   the mean latency of an invocation, in microseconds
+     * @param p50Micros                    the median latency of an invocation, in microseconds
+     * @param p99Micros                    the 99th percentile of the latency of an invocation, in microseconds
+     * @param allocatedBytesPerInvocation  the number of bytes allocated by an invocation
+     */
+    public record Result(
+            Provider provider,
+            Layer layer,
+            boolean streaming,
+            int iterations,
+            double meanMicros,
+            double p50Micros,
+            double p99Micros,
+            long allocatedBytesPerInvocation) {}
+
+    /**
+     * The throughput and latency of a scenario invoked concurrently.
+     *
+     * @param invocations          the number of invocations completed during the measurement
+     * @param invocationsPerSecond the throughput
+     * @param p50Micros            the median latency of an invocation, in microseconds
+     * @param p99Micros            the 99th percentile of the latency of an invocation, in microseconds
+     */
+    public record LoadTestResult(
+            Provider provider,
+            Layer layer,
+            boolean streaming,
+            int concurrency,
+            long invocations,
+            double invocationsPerSecond,
+            double p50Micros,
+            double p99Micros) {}
+
+    interface Assistant {
+
+        String chat(String message);
+    }
+
+    interface AssistantWithMemory {
+
+        String chat(@MemoryId int userId, @dev.langchain4j.service.UserMessage String message);
+    }
+
+    interface StreamingAssistant {
+
+        TokenStream chat(String message);
+    }
+
+    interface StreamingAssistantWithMemory {
+
+        TokenStream chat(@MemoryId int userId, @dev.langchain4j.service.UserMessage String message);
+    }
+
+    static class WeatherTools {
+
+        @Tool("Returns the current weather in the given city")
+        String currentWeather(@P("the city") String city) {
+            return "Sunny, 22 degrees in " + city;
+        }
+    }
+
+    private final StubLlmServer server;
+
+    public AiServiceBenchmark(StubLlmServer server) {
+        this.server = ensureNotNull(server, "server");
+    }
+
+    /**
+     * Invokes the scenario sequentially, {@code warmupIterations} times without measuring
+     * (to let the JIT compiler optimize the hot paths and the chat memory fill up), then {@code iterations} times.
+     */
+    public Result run(Provider provider, Layer layer, boolean streaming, int warmupIterations, int iterations)
+            throws Exception {
+        ensureNotNegative(warmupIterations, "warmupIterations");
+        ensureGreaterThanZero(iterations, "iterations");
+        Invocation invocation = invocation(provider, layer, streaming);
+
+        for (int i = 0; i < warmupIterations; i++) {
+            invocation.invoke(0);
+        }
+
+        long[] latencies = new long[iterations];
+        long serverAllocatedBefore = server.allocatedBytes();
+        long[] threadIdsBefore = THREAD_MX_BEAN.getAllThreadIds();
+        long[] allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadIdsBefore);
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            invocation.invoke(0);
+            latencies[i] = System.nanoTime() - start;
+        }
+        long allocated = allocatedBytesSince(threadIdsBefore, allocatedBefore)
+                - (server.allocatedBytes() - serverAllocatedBefore);
+
+        Arrays.sort(latencies);
+        return new Result(
+                provider,
+                layer,
+                streaming,
+                iterations,
+                Arrays.stream(latencies).average().orElse(0) / 1_000,
+                percentile(latencies, 0.50) / 1_000.0,
+                percentile(latencies, 0.99) / 1_000.0,
+                Math.max(0, allocated / iterations));
+    }
+
+    /**
+     * Invokes the scenario from {@code concurrency} threads (each one on behalf of a different user)
+     * for {@code warmup}, then for {@code duration} while measuring.
+     */
+    public LoadTestResult loadTest(
+            Provider provider, Layer layer, boolean streaming, int concurrency, Duration warmup, Duration duration)
+            throws Exception {
+        Invocation invocation = invocation(provider, layer, streaming);
+        long[] allLatencies = invokeConcurrently(concurrency, warmup, duration, invocation);
+
+        return new LoadTestResult(
+                provider,
+                layer,
+                streaming,
+                concurrency,
+                allLatencies.length,
+                allLatencies.length / (duration.toNanos() / 1e9),
+                percentile(allLatencies, 0.50) / 1_000.0,
+                percentile(allLatencies, 0.99) / 1_000.0);
+    }
+
+    Invocation invocation(Provider provider, Layer layer, boolean streaming) {
+        if (streaming) {
+            StreamingChatModel model = provider.streamingChatModel(server);
+            return switch (layer) {
+                case MODEL -> {
+                    ChatRequest chatRequest =
+                            ChatRequest.builder().messages(UserMessage.from(QUESTION)).build();
+                    yield userId -> {
+                        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+                        model.chat(chatRequest, new StreamingChatResponseHandler() {
+
+                            @Override
+                            public void onPartialResponse(String partialResponse) {}
+
+                            @Override
+                            public void onCompleteResponse(ChatResponse completeResponse) {
+                                future.complete(completeResponse);
+                            }
+
+                            @Override
+                            public void onError(Throwable error) {
+                                future.completeExceptionally(error);
+                            }
+                        });
+                        await(future);
+                    };
+                }
+                case AI_SERVICE -> {
+                    StreamingAssistant assistant = AiServices.builder(StreamingAssistant.class)
+                            .streamingChatModel(model)
+                            .build();
+                    yield userId -> await(assistant.chat(QUESTION));
+                }
+                default -> {
+                    StreamingAssistantWithMemory assistant = aiService(StreamingAssistantWithMemory.class, layer)
+                            .streamingChatModel(model)
+                            .build();
+                    yield userId -> await(assistant.chat(userId, QUESTION));
+                }
+            };
+        }
+
+        ChatModel model = provider.chatModel(server);
+        return switch (layer) {
+            case MODEL -> {
+                ChatRequest chatRequest =
+                        ChatRequest.builder().messages(UserMessage.from(QUESTION)).build();
+                yield userId -> model.chat(chatRequest);
+            }
+            case AI_SERVICE -> {
+                Assistant assistant =
+                        AiServices.builder(Assistant.class).chatModel(model).build();
+                yield userId -> assistant.chat(QUESTION);
+            }
+            default -> {
+                AssistantWithMemory assistant = aiService(AssistantWithMemory.class, layer)
+                        .chatModel(model)
+                        .build();
+                yield userId -> assistant.chat(userId, QUESTION);
+            }
+        };
+    }
+
+    private static <T> AiServices<T> aiService(Class<T> type, Layer layer) {
+        AiServices<T> aiServices =
+                AiServices.builder(type).chatMemoryProvider(userId -> MessageWindowChatMemory.withMaxMessages(20));
+        if (layer == Layer.TOOLS || layer == Layer.RAG) {
+            aiServices.tools(new WeatherTools());
+        }
+        if (layer == Layer.RAG) {
+            aiServices.contentRetriever(query -> CONTENTS);
+        }
+        return aiServices;
+    }
+
+    private static void await(TokenStream tokenStream) throws Exception {
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+        tokenStream
+                .onPartialResponse(partialResponse -> {})
+                .onCompleteResponse(future::complete)
+                .onError(future::completeExceptionally)
+                .start();
+        await(future);
+    }
+
+    private static void await(CompletableFuture<ChatResponse> future) throws Exception {
+        try {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated by all live threads since the given snapshot.
+     * Threads that terminated in the meantime are ignored, since their allocations are no longer known.
+     */
+    private static long allocatedBytesSince(long[] threadIdsBefore, long[] allocatedBefore) {
+        Map<Long, Long> allocatedBeforeByThreadId = new HashMap<>();
+        for (int i = 0; i < threadIdsBefore.length; i++) {
+            allocatedBeforeByThreadId.put(threadIdsBefore[i], allocatedBefore[i]);
+        }
+        long[] threadIds = THREAD_MX_BEAN.getAllThreadIds();
+        long[] allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadIds);
+        long total = 0;
+        for (int i = 0; i < threadIds.length; i++) {
+            if (allocated[i] > 0) {
+                total += allocated[i] - Math.max(0, allocatedBeforeByThreadId.getOrDefault(threadIds[i], 0L));
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,345 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.benchmark.AiServiceBenchmark.LoadTestResult;
+import dev.langchain4j.benchmark.AiServiceBenchmark.Result;
+import dev.langchain4j.data.segment.TextSegment;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the benchmark suites and prints the results:
+ * <ul>
+ *     <li>{@code ai-services}: for each provider served by a {@link StubLlmServer}, with and without streaming,
+ *     the latency, overhead and allocations of each {@link Layer}, then the throughput of the full stack
+ *     under load</li>
+ *     <li>{@code mcp}: the latency of the tool calls to a {@link StubMcpServer} over stdio,
+ *     then their throughput under load, with a single connection and with a pool of connections</li>
+ *     <li>{@code embedding}: see {@link EmbeddingBenchmark}</li>
+ *     <li>{@code serialization}: see {@link SerializationBenchmark}</li>
+ *     <li>{@code agentic}: see {@link AgenticBenchmark}</li>
+ *     <li>{@code guardrails}: see {@link GuardrailBenchmark}</li>
+ *     <li>{@code http}: see {@link HttpCompressionBenchmark}</li>
+ *     <li>{@code code-execution}: see {@link CodeExecutionBenchmark}</li>
+ * </ul>
+ * <p>
+ * Run it with {@code mvn -pl internal/langchain4j-benchmarks exec:java}, optionally configured with
+ * the following system properties:
+ * <ul>
+ *     <li>{@code benchmark.suites}: comma-separated suites, all by default</li>
+ *     <li>{@code benchmark.providers}: comma-separated {@link Provider}s, all by default</li>
+ *     <li>{@code benchmark.warmupIterations}: default 500</li>
+ *     <li>{@code benchmark.iterations}: default 1000</li>
+ *     <li>{@code benchmark.tokensPerResponse}: default 50</li>
+ *     <li>{@code benchmark.tokensPerSecond}: default 0 (as fast as possible)</li>
+ *     <li>{@code benchmark.concurrency}: the number of threads of the load tests, default 16
+ *     (0 to skip the load tests)</li>
+ *     <li>{@code benchmark.loadTestSeconds}: the duration of both the warmup and the measurement
+ *     of the load tests, default 10</li>
+ *     <li>{@code benchmark.mcpPoolSizes}: comma-separated numbers of MCP server processes, default 1,4</li>
+ *     <li>{@code benchmark.mcpToolLatencyMillis}: the latency of the MCP tool in the load test, default 5</li>
+ *     <li>{@code benchmark.mcpToolResultChars}: the size of the text returned by the MCP tool, default 1000</li>
+ *     <li>{@code benchmark.embeddingLatencyMillis}: the latency of the stub Ollama embedding endpoint, default 50</li>
+ *     <li>{@code benchmark.tools}: the number of tools of the serialized requests, default 200</li>
+ *     <li>{@code benchmark.workflows}: the number of concurrent planner loops, default 1000</li>
+ *     <li>{@code benchmark.checkpointSteps}: the number of checkpointed steps of the agentic loop, default 1000</li>
+ * </ul>
+ */
+public class Benchmarks {
+
+    public static void main(String[] args) throws Exception {
+        List<String> suites = split(System.getProperty("benchmark.suites", ""));
+        if (selected(suites, "ai-services")) {
+            aiServices();
+        }
+        if (selected(suites, "mcp")) {
+            mcp();
+        }
+        if (selected(suites, "embedding")) {
+            embedding();
+        }
+        if (selected(suites, "serialization")) {
+            serialization();
+        }
+        if (selected(suites, "agentic")) {
+            agentic();
+        }
+        if (selected(suites, "guardrails")) {
+            guardrails();
+        }
+        if (selected(suites, "http")) {
+            http();
+        }
+        if (selected(suites, "code-execution")) {
+            codeExecution();
+        }
+    }
+
+    private static void aiServices() throws Exception {
+        List<Provider> providers = split(System.getProperty("benchmark.providers", "OPEN_AI,ANTHROPIC,OLLAMA"))
+                .stream()
+                .map(Provider::valueOf)
+                .toList();
+        int warmupIterations = warmupIterations();
+        int iterations = iterations();
+        int concurrency = concurrency();
+        Duration loadTestDuration = loadTestDuration();
+
+        try (StubLlmServer server = StubLlmServer.builder()
+                .tokensPerResponse(Integer.getInteger("benchmark.tokensPerResponse", 50))
+                .tokensPerSecond(Integer.getInteger("benchmark.tokensPerSecond", 0))
+                .build()) {
+
+            AiServiceBenchmark benchmark = new AiServiceBenchmark(server);
+
+            System.out.printf(
+                    "%-10s %-9s %-11s %10s %10s %10s %12s %14s%n",
+                    "provider", "streaming", "layer", "mean (us)", "p50 (us)", "p99 (us)", "overhead (us)",
+                    "alloc (KB/op)");
+            for (Provider provider : providers) {
+                for (boolean streaming : new boolean[] {false, true}) {
+                    Result previous = null;
+                    for (Layer layer : Layer.values()) {
+                        Result result = benchmark.run(provider, layer, streaming, warmupIterations, iterations);
+                        System.out.printf(
+                                "%-10s %-9s %-11s %10.1f %10.1f %10.1f %12s %14.1f%n",
+                                provider,
+                                streaming,
+                                layer,
+                                result.meanMicros(),
+                                result.p50Micros(),
+                                result.p99Micros(),
+                                previous == null
+                                        ? "-"
+                                        : "%+.1f".formatted(result.meanMicros() - previous.meanMicros()),
+                                result.allocatedBytesPerInvocation() / 1024.0);
+                        previous = result;
+                    }
+                }
+            }
+
+            if (concurrency == 0) {
+                return;
+            }
+            System.out.printf(
+                    "%n%-10s %-9s %-11s %11s %12s %10s %10s%n",
+                    "provider", "streaming", "layer", "concurrency", "invocations/s", "p50 (us)", "p99 (us)");
+            for (Provider provider : providers) {
+                for (boolean streaming : new boolean[] {false, true}) {
+                    LoadTestResult result = benchmark.loadTest(
+                            provider, Layer.RAG, streaming, concurrency, loadTestDuration, loadTestDuration);
+                    System.out.printf(
+                            "%-10s %-9s %-11s %11d %12.0f %10.1f %10.1f%n",
+                            provider,
+                            streaming,
+                            result.layer(),
+                            concurrency,
+                            result.invocationsPerSecond(),
+                            result.p50Micros(),
+                            result.p99Micros());
+                }
+            }
+        }
+    }
+
+    private static void mcp() throws Exception {
+        List<Integer> poolSizes = split(System.getProperty("benchmark.mcpPoolSizes", "1,4")).stream()
+                .map(Integer::valueOf)
+                .toList();
+        int toolResultChars = Integer.getInteger("benchmark.mcpToolResultChars", 1000);
+        Duration toolLatency = Duration.ofMillis(Integer.getInteger("benchmark.mcpToolLatencyMillis", 5));
+        int concurrency = concurrency();
+        Duration loadTestDuration = loadTestDuration();
+
+        // the latency is measured with a tool answering immediately, to expose the overhead of the client
+        McpBenchmark immediateTool = new McpBenchmark(Duration.ZERO, toolResultChars);
+        System.out.printf("%n%-9s %10s %10s %10s%n", "mcp pool", "mean (us)", "p50 (us)", "p99 (us)");
+        for (int poolSize : poolSizes) {
+            McpBenchmark.Result result = immediateTool.run(poolSize, warmupIterations(), iterations());
+            System.out.printf(
+                    "%-9d %10.1f %10.1f %10.1f%n",
+                    poolSize, result.meanMicros(), result.p50Micros(), result.p99Micros());
+        }
+
+        if (concurrency == 0) {
+            return;
+        }
+        McpBenchmark slowTool = new McpBenchmark(toolLatency, toolResultChars);
+        System.out.printf(
+                "%n%-9s %11s %10s %10s %10s%n", "mcp pool", "concurrency", "calls/s", "p50 (us)", "p99 (us)");
+        for (int poolSize : poolSizes) {
+            McpBenchmark.LoadTestResult result =
+                    slowTool.loadTest(poolSize, concurrency, loadTestDuration, loadTestDuration);
+            System.out.printf(
+                    "%-9d %11d %10.0f %10.1f %10.1f%n",
+                    poolSize, concurrency, result.callsPerSecond(), result.p50Micros(), result.p99Micros());
+        }
+    }
+
+    private static void embedding() throws Exception {
+        List<TextSegment> segments = EmbeddingBenchmark.syntheticSegments(128, 32);
+        Duration latency = Duration.ofMillis(Integer.getInteger("benchmark.embeddingLatencyMillis", 50));
+        int concurrency = concurrency();
+        Duration loadTestDuration = loadTestDuration();
+
+        try (StubLlmServer server = StubLlmServer.builder().embeddingLatency(latency).build()) {
+            EmbeddingBenchmark benchmark = new EmbeddingBenchmark(server);
+            System.out.printf(
+                    "%n%-22s %-23s %10s %12s%n",
+                    "ollama segments/batch", "max concurrent requests", "segments", "segments/s");
+            for (int[] settings : new int[][] {{8, 1}, {8, 4}, {32, 4}}) {
+                EmbeddingBenchmark.ThroughputResult result = benchmark.ollama(settings[0], settings[1], segments, 1, 3);
+                System.out.printf(
+                        "%-22d %-23d %10d %12.0f%n",
+                        result.maxSegmentsPerBatch(),
+                        result.maxConcurrentRequests(),
+                        result.segmentCount(),
+                        result.segmentsPerSecond());
+            }
+        }
+
+        if (concurrency == 0) {
+            return;
+        }
+        System.out.printf(
+                "%n%-14s %11s %10s %10s %10s%n", "micro-batching", "concurrency", "calls/s", "p50 (us)", "p99 (us)");
+        for (int callers : new int[] {1, 8, 64, 256}) {
+            for (boolean microBatching : new boolean[] {false, true}) {
+                EmbeddingBenchmark.LoadTestResult result = EmbeddingBenchmark.singleSegmentCalls(
+                        microBatching, callers, loadTestDuration, loadTestDuration);
+                System.out.printf(
+                        "%-14s %11d %10.0f %10.1f %10.1f%n",
+                        microBatching, callers, result.callsPerSecond(), result.p50Micros(), result.p99Micros());
+            }
+        }
+    }
+
+    private static void serialization() {
+        SerializationBenchmark benchmark = new SerializationBenchmark(warmupIterations(), iterations());
+        int tools = Integer.getInteger("benchmark.tools", 200);
+
+        System.out.printf("%n%-10s %6s %15s %18s%n", "provider", "tools", "new tools (us)", "reused tools (us)");
+        for (Provider provider : List.of(Provider.OPEN_AI, Provider.ANTHROPIC)) {
+            SerializationBenchmark.ToolsResult result = benchmark.tools(provider, tools);
+            System.out.printf(
+                    "%-10s %6d %15.1f %18.1f%n",
+                    provider, result.toolCount(), result.newToolsMicros(), result.reusedToolsMicros());
+        }
+
+        System.out.printf("%n%-6s %8s %10s %12s %12s%n", "codec", "messages", "bytes", "encode (us)", "decode (us)");
+        for (SerializationBenchmark.CodecResult result : benchmark.chatMessages(200)) {
+            System.out.printf(
+                    "%-6s %8d %10d %12.1f %12.1f%n",
+                    result.codec(),
+                    result.messageCount(),
+                    result.encodedBytes(),
+                    result.encodeMicros(),
+                    result.decodeMicros());
+        }
+
+        System.out.printf("%n%-20s %14s %12s%n", "reflection", "uncached (us)", "cached (us)");
+        for (SerializationBenchmark.CacheResult result : benchmark.reflection()) {
+            System.out.printf("%-20s %14.2f %12.2f%n", result.name(), result.uncachedMicros(), result.cachedMicros());
+        }
+    }
+
+    private static void agentic() throws Exception {
+        AgenticBenchmark.PlannerLoopResult loops = AgenticBenchmark.plannerLoops(
+                Integer.getInteger("benchmark.workflows", 1000), 4, 3, Duration.ofMillis(20));
+        System.out.printf(
+                "%n%-10s %12s %11s %14s %8s%n", "workflows", "duration (s)", "workflows/s", "cpu time (ms)", "cpu (%)");
+        System.out.printf(
+                "%-10d %12.2f %11.0f %14d %8.1f%n",
+                loops.workflows(),
+                loops.duration().toMillis() / 1000.0,
+                loops.workflowsPerSecond(),
+                loops.cpuTime().toMillis(),
+                loops.cpuUtilization() * 100);
+
+        AgenticBenchmark.CheckpointResult checkpoints =
+                AgenticBenchmark.checkpoints(Integer.getInteger("benchmark.checkpointSteps", 1000));
+        System.out.printf("%n%-16s %19s %24s%n", "checkpoint steps", "full snapshots (ms)", "incremental changes (ms)");
+        System.out.printf(
+                "%-16d %19d %24d%n",
+                checkpoints.steps(),
+                checkpoints.fullSnapshots().toMillis(),
+                checkpoints.incrementalChanges().toMillis());
+
+        AgenticBenchmark.GraphSearchResult search =
+                AgenticBenchmark.graphSearch(20, 25, warmupIterations(), iterations());
+        System.out.printf("%n%-11s %6s %17s %15s%n", "graph nodes", "path", "from scratch (us)", "compiled (us)");
+        System.out.printf(
+                "%-11d %6d %17.1f %15.1f%n",
+                search.nodes(), search.pathLength(), search.fromScratchMicros(), search.compiledMicros());
+    }
+
+    private static void guardrails() throws Exception {
+        GuardrailBenchmark benchmark = new GuardrailBenchmark(120, Duration.ofMillis(5));
+        System.out.printf("%n%-11s %6s %18s %9s%n", "guardrail", "tokens", "token interval (ms)", "ttft (ms)");
+        for (GuardrailBenchmark.Guardrail guardrail : GuardrailBenchmark.Guardrail.values()) {
+            GuardrailBenchmark.Result result = benchmark.run(guardrail, 5);
+            System.out.printf(
+                    "%-11s %6d %18d %9d%n",
+                    guardrail,
+                    result.tokenCount(),
+                    result.tokenInterval().toMillis(),
+                    result.timeToFirstToken().toMillis());
+        }
+    }
+
+    private static void http() throws Exception {
+        try (HttpCompressionBenchmark benchmark = new HttpCompressionBenchmark()) {
+            System.out.printf(
+                    "%n%-10s %10s %15s %16s %12s%n",
+                    "compressed", "body (B)", "request (B)", "response (B)", "latency (us)");
+            for (boolean compressed : new boolean[] {false, true}) {
+                HttpCompressionBenchmark.Result result =
+                        benchmark.run(compressed, 64 * 1024, warmupIterations() / 10, iterations() / 10);
+                System.out.printf(
+                        "%-10s %10d %15d %16d %12.1f%n",
+                        compressed,
+                        result.bodyBytes(),
+                        result.requestBytes(),
+                        result.responseBytes(),
+                        result.latency().toNanos() / 1_000.0);
+            }
+        }
+    }
+
+    private static void codeExecution() {
+        System.out.printf("%n%-10s %10s %12s%n", "language", "cold (ms)", "pooled (ms)");
+        for (CodeExecutionBenchmark.Language language : CodeExecutionBenchmark.Language.values()) {
+            CodeExecutionBenchmark.Result result = CodeExecutionBenchmark.run(language, 20);
+            System.out.printf(
+                    "%-10s %10.2f %12.2f%n",
+                    language, result.cold().toNanos() / 1e6, result.pooled().toNanos() / 1e6);
+        }
+    }
+
+    private static int warmupIterations() {
+        return Integer.getInteger("benchmark.warmupIterations", 500);
+    }
+
+    private static int iterations() {
+        return Integer.getInteger("benchmark.iterations", 1000);
+    }
+
+    private static int concurrency() {
+        return Integer.getInteger("benchmark.concurrency", 16);
+    }
+
+    private static Duration loadTestDuration() {
+        return Duration.ofSeconds(Integer.getInteger("benchmark.loadTestSeconds", 10));
+    }
+
+    private static boolean selected(List<String> suites, String suite) {
+        return suites.isEmpty() || suites.contains(suite);
+    }
+
+    private static List<String> split(String values) {
+        return Arrays.stream(values.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,94 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static org.graalvm.polyglot.HostAccess.UNTRUSTED;
+import static org.graalvm.polyglot.SandboxPolicy.CONSTRAINED;
+import static org.graalvm.polyglot.SandboxPolicy.TRUSTED;
+
+import dev.langchain4j.code.CodeExecutionEngine;
+import dev.langchain4j.code.graalvm.GraalVmJavaScriptExecutionEngine;
+import dev.langchain4j.code.graalvm.GraalVmPythonExecutionEngine;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.SandboxPolicy;
+
+/**
+ * Compares the latency of executing code with GraalVM in a fresh {@link Context} without a shared engine
+ * (cold, as the execution engines did before pooling) with the latency of the pooled execution engines:
+ * {@link GraalVmPythonExecutionEngine} reusing its contexts, and {@link GraalVmJavaScriptExecutionEngine}
+ * creating a fresh context per execution on a shared engine.
+ */
+public class CodeExecutionBenchmark {
+
+    private static final String PYTHON_CODE = """
+            def fibonacci(n):
+                return n if n <= 1 else fibonacci(n - 1) + fibonacci(n - 2)
+            fibonacci(15)
+            """;
+
+    private static final String JAVASCRIPT_CODE = """
+            function fibonacci(n) { return n <= 1 ? n : fibonacci(n - 1) + fibonacci(n - 2); }
+            fibonacci(15)
+            """;
+
+    /**
+     * The language of the executed code.
+     */
+    public enum Language {
+        PYTHON,
+        JAVASCRIPT
+    }
+
+    /**
+     * The mean latency of an execution.
+     */
+    public record Result(Language language, Duration cold, Duration pooled) {}
+
+    /**
+     * Executes a small recursive function {@code iterations} times, cold then pooled.
+     */
+    public static Result run(Language language, int iterations) {
+        ensureGreaterThanZero(iterations, "iterations");
+        return switch (language) {
+            case PYTHON -> {
+                Duration cold =
+                        averageLatency(code -> coldExecute("python", TRUSTED, code), PYTHON_CODE, iterations);
+                try (GraalVmPythonExecutionEngine pooled = new GraalVmPythonExecutionEngine()) {
+                    yield new Result(language, cold, averageLatency(pooled, PYTHON_CODE, iterations));
+                }
+            }
+            case JAVASCRIPT -> {
+                Duration cold =
+                        averageLatency(code -> coldExecute("js", CONSTRAINED, code), JAVASCRIPT_CODE, iterations);
+                try (GraalVmJavaScriptExecutionEngine pooled = new GraalVmJavaScriptExecutionEngine()) {
+                    yield new Result(language, cold, averageLatency(pooled, JAVASCRIPT_CODE, iterations));
+                }
+            }
+        };
+    }
+
+    private static Duration averageLatency(CodeExecutionEngine engine, String code, int iterations) {
+        // the first execution initializes the engine (and the first context, for a pool), it is not measured
+        if (!"610".equals(engine.execute(code))) {
+            throw new IllegalStateException("Unexpected result of the code");
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            engine.execute(code);
+        }
+        return Duration.ofNanos((System.nanoTime() - start) / iterations);
+    }
+
+    private static String coldExecute(String language, SandboxPolicy sandboxPolicy, String code) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (Context context = Context.newBuilder(language)
+                .sandbox(sandboxPolicy)
+                .allowHostAccess(UNTRUSTED)
+                .out(outputStream)
+                .err(outputStream)
+                .build()) {
+            return String.valueOf(context.eval(language, code).as(Object.class));
+        }
+    }
+}
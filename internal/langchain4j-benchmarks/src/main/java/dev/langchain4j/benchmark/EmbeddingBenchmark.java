@@ -0,0 +1,187 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.benchmark.Measurements.invokeConcurrently;
+import static dev.langchain4j.benchmark.Measurements.percentile;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.MicroBatchingEmbeddingModel;
+import dev.langchain4j.model.ollama.OllamaEmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Measures the throughput of embedding models:
+ * <ul>
+ *     <li>{@link OllamaEmbeddingModel} against a {@link StubLlmServer} answering each request after a fixed latency,
+ *     to compare batching and concurrency settings without a real model</li>
+ *     <li>single-segment calls from concurrent callers, with and without {@link MicroBatchingEmbeddingModel},
+ *     against a simulated model whose calls cost a fixed overhead plus a small cost per segment,
+ *     and which only serves a few calls at a time</li>
+ * </ul>
+ */
+public class EmbeddingBenchmark {
+
+    private static final Duration SIMULATED_CALL_OVERHEAD = Duration.ofMillis(10);
+    private static final Duration SIMULATED_SEGMENT_COST = Duration.ofNanos(50_000);
+    private static final int SIMULATED_MODEL_CONCURRENCY = 4;
+
+    /**
+     * The throughput of embedding the same segments several times with {@link EmbeddingModel#embedAll(List)}.
+     */
+    public record ThroughputResult(
+            int maxSegmentsPerBatch, int maxConcurrentRequests, int segmentCount, int iterations, Duration duration) {
+
+        public double segmentsPerSecond() {
+            return (double) segmentCount * iterations / (duration.toNanos() / 1e9);
+        }
+    }
+
+    /**
+     * The throughput and latency of single-segment {@link EmbeddingModel#embed(TextSegment)} calls
+     * from concurrent callers.
+     *
+     * @param calls          the number of calls completed during the measurement
+     * @param callsPerSecond the throughput
+     * @param p50Micros      the median latency of a call, in microseconds
+     * @param p99Micros      the 99th percentile of the latency of a call, in microseconds
+     */
+    public record LoadTestResult(
+            boolean microBatching,
+            int concurrency,
+            long calls,
+            double callsPerSecond,
+            double p50Micros,
+            double p99Micros) {}
+
+    private final StubLlmServer server;
+
+    public EmbeddingBenchmark(StubLlmServer server) {
+        this.server = ensureNotNull(server, "server");
+    }
+
+    /**
+     * Embeds the given segments with an {@link OllamaEmbeddingModel} configured with the given settings,
+     * {@code warmupIterations} times without measuring, then {@code iterations} times.
+     */
+    public ThroughputResult ollama(
+            int maxSegmentsPerBatch,
+            int maxConcurrentRequests,
+            List<TextSegment> segments,
+            int warmupIterations,
+            int iterations) {
+        ensureNotEmpty(segments, "segments");
+        ensureNotNegative(warmupIterations, "warmupIterations");
+        ensureGreaterThanZero(iterations, "iterations");
+        EmbeddingModel model = OllamaEmbeddingModel.builder()
+                .baseUrl(server.ollamaBaseUrl())
+                .modelName("stub")
+                .maxSegmentsPerBatch(maxSegmentsPerBatch)
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .build();
+
+        for (int i = 0; i < warmupIterations; i++) {
+            embedAll(model, segments);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            embedAll(model, segments);
+        }
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        return new ThroughputResult(maxSegmentsPerBatch, maxConcurrentRequests, segments.size(), iterations, duration);
+    }
+
+    /**
+     * Calls {@link EmbeddingModel#embed(TextSegment)} on a simulated model from {@code concurrency} threads,
+     * through a {@link MicroBatchingEmbeddingModel} or not, for {@code warmup}, then for {@code duration}
+     * while measuring.
+     */
+    public static LoadTestResult singleSegmentCalls(
+            boolean microBatching, int concurrency, Duration warmup, Duration duration) throws Exception {
+        EmbeddingModel model = microBatching
+                ? MicroBatchingEmbeddingModel.builder()
+                        .embeddingModel(new SimulatedEmbeddingModel())
+                        .maxBatchSize(64)
+                        .maxDelay(Duration.ofMillis(2))
+                        .build()
+                : new SimulatedEmbeddingModel();
+
+        long[] latencies = invokeConcurrently(
+                concurrency, warmup, duration, userId -> model.embed(TextSegment.from("query number " + userId)));
+
+        return new LoadTestResult(
+                microBatching,
+                concurrency,
+                latencies.length,
+                latencies.length / (duration.toNanos() / 1e9),
+                percentile(latencies, 0.50) / 1_000.0,
+                percentile(latencies, 0.99) / 1_000.0);
+    }
+
+    /**
+     * Generates reproducible segments made of random lowercase words.
+     */
+    public static List<TextSegment> syntheticSegments(int segmentCount, int wordsPerSegment) {
+        Random random = new Random(42);
+        List<TextSegment> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int j = 0; j < wordsPerSegment; j++) {
+                if (j > 0) {
+                    text.append(' ');
+                }
+                int wordLength = 2 + random.nextInt(8);
+                for (int k = 0; k < wordLength; k++) {
+                    text.append((char) ('a' + random.nextInt(26)));
+                }
+            }
+            segments.add(TextSegment.from(text.toString()));
+        }
+        return segments;
+    }
+
+    private static void embedAll(EmbeddingModel model, List<TextSegment> segments) {
+        List<Embedding> embeddings = model.embedAll(segments).content();
+        if (embeddings.size() != segments.size()) {
+            throw new IllegalStateException(
+                    "Expected " + segments.size() + " embeddings, but got " + embeddings.size());
+        }
+    }
+
+    /**
+     * An embedding model whose calls cost a fixed overhead (a round trip, or an ONNX run) plus a small cost
+     * per segment, and which only serves a few calls at a time.
+     */
+    static class SimulatedEmbeddingModel implements EmbeddingModel {
+
+        private final Semaphore permits = new Semaphore(SIMULATED_MODEL_CONCURRENCY, true);
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            permits.acquireUninterruptibly();
+            try {
+                Thread.sleep(SIMULATED_CALL_OVERHEAD
+                        .plus(SIMULATED_SEGMENT_COST.multipliedBy(textSegments.size()))
+                        .toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } finally {
+                permits.release();
+            }
+            return Response.from(textSegments.stream()
+                    .map(textSegment -> Embedding.from(new float[] {textSegment.text().length()}))
+                    .toList());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.guardrail.OutputGuardrail;
+import dev.langchain4j.guardrail.OutputGuardrailChunk;
+import dev.langchain4j.guardrail.OutputGuardrailRequest;
+import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.StreamingOutputGuardrail;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.TokenStream;
+import dev.langchain4j.service.guardrail.OutputGuardrails;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the time to first token (TTFT) of a streaming AI service against a model that emits a token
+ * at a fixed interval, with a sentence every 8 tokens: without output guardrails, with a buffering
+ * {@link OutputGuardrail}, which only releases the response once it is complete,
+ * and with a {@link StreamingOutputGuardrail} validating it sentence by sentence.
+ */
+public class GuardrailBenchmark {
+
+    /**
+     * The kind of output guardrail of the AI service.
+     */
+    public enum Guardrail {
+        NONE(NoGuardrailAssistant.class),
+        BUFFERING(BufferingAssistant.class),
+        INCREMENTAL(IncrementalAssistant.class);
+
+        private final Class<? extends Assistant> assistantClass;
+
+        Guardrail(Class<? extends Assistant> assistantClass) {
+            this.assistantClass = assistantClass;
+        }
+    }
+
+    /**
+     * The mean time to first token over several streamed responses.
+     */
+    public record Result(Guardrail guardrail, int tokenCount, Duration tokenInterval, Duration timeToFirstToken) {}
+
+    interface Assistant {
+
+        TokenStream chat(String message);
+    }
+
+    interface NoGuardrailAssistant extends Assistant {}
+
+    interface BufferingAssistant extends Assistant {
+
+        @Override
+        @OutputGuardrails(BufferingGuardrail.class)
+        TokenStream chat(String message);
+    }
+
+    interface IncrementalAssistant extends Assistant {
+
+        @Override
+        @OutputGuardrails(IncrementalGuardrail.class)
+        TokenStream chat(String message);
+    }
+
+    public static class BufferingGuardrail implements OutputGuardrail {
+
+        @Override
+        public OutputGuardrailResult validate(OutputGuardrailRequest request) {
+            return request.responseFromLLM().aiMessage().text().contains("forbidden")
+                    ? failure("Forbidden word")
+                    : success();
+        }
+    }
+
+    public static class IncrementalGuardrail implements StreamingOutputGuardrail {
+
+        @Override
+        public OutputGuardrailResult validateChunk(OutputGuardrailChunk chunk) {
+            return chunk.window(16).contains("forbidden") ? failure("Forbidden word") : success();
+        }
+    }
+
+    private final int tokenCount;
+    private final Duration tokenInterval;
+
+    /**
+     * @param tokenCount    the number of tokens of each response
+     * @param tokenInterval the time the model waits before each token
+     */
+    public GuardrailBenchmark(int tokenCount, Duration tokenInterval) {
+        this.tokenCount = ensureGreaterThanZero(tokenCount, "tokenCount");
+        this.tokenInterval = ensureNotNull(tokenInterval, "tokenInterval");
+    }
+
+    /**
+     * Streams {@code iterations} responses through an AI service with the given guardrail.
+     */
+    public Result run(Guardrail guardrail, int iterations) throws Exception {
+        ensureGreaterThanZero(iterations, "iterations");
+        Assistant assistant = AiServices.builder(guardrail.assistantClass)
+                .streamingChatModel(new SlowStreamingModel())
+                .build();
+
+        long totalNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            totalNanos += timeToFirstToken(assistant).toNanos();
+        }
+        return new Result(guardrail, tokenCount, tokenInterval, Duration.ofNanos(totalNanos / iterations));
+    }
+
+    private static Duration timeToFirstToken(Assistant assistant) throws Exception {
+        AtomicLong firstTokenNanos = new AtomicLong();
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+        long start = System.nanoTime();
+        assistant
+                .chat("hi")
+                .onPartialResponse(token -> firstTokenNanos.compareAndSet(0, System.nanoTime()))
+                .onCompleteResponse(future::complete)
+                .onError(future::completeExceptionally)
+                .start();
+        future.get(5, TimeUnit.MINUTES);
+
+        return Duration.ofNanos(firstTokenNanos.get() - start);
+    }
+
+    /**
+     * Streams word tokens, with a sentence every 8 words, waiting for the token interval before each token.
+     */
+    private class SlowStreamingModel implements StreamingChatModel {
+
+        @Override
+        public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+            Thread thread = new Thread(() -> {
+                StringBuilder text = new StringBuilder();
+                for (int i = 1; i <= tokenCount; i++) {
+                    try {
+                        Thread.sleep(tokenInterval.toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        handler.onError(e);
+                        return;
+                    }
+                    String token = i % 8 == 0 ? "word. " : "word ";
+                    text.append(token);
+                    handler.onPartialResponse(token);
+                }
+                handler.onCompleteResponse(ChatResponse.builder()
+                        .aiMessage(AiMessage.from(text.toString()))
+                        .build());
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+}
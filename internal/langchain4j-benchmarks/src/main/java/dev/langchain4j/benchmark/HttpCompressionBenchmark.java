@@ -0,0 +1,134 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientBuilderLoader;
+import dev.langchain4j.http.client.HttpCompression;
+import dev.langchain4j.http.client.HttpRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends large JSON bodies to a local server echoing them, through the default {@link HttpClient},
+ * with and without the compression of the requests and responses, and reports the bytes on the wire
+ * and the latency. On loopback, the compression only costs CPU: the latency shows its overhead,
+ * while the bytes on the wire show what it saves on a real network.
+ */
+public class HttpCompressionBenchmark implements AutoCloseable {
+
+    /**
+     * The mean bytes on the wire and latency of an echo request.
+     */
+    public record Result(boolean compressed, int bodyBytes, long requestBytes, long responseBytes, Duration latency) {}
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicLong requestBytesOnWire = new AtomicLong();
+    private final AtomicLong responseBytesOnWire = new AtomicLong();
+
+    public HttpCompressionBenchmark() throws IOException {
+        // otherwise, Nagle's algorithm delays the small (compressed) responses, distorting the latency
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/echo", this::echo);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Sends a JSON body of about {@code bodyBytes} bytes {@code warmupIterations} times without measuring,
+     * then {@code iterations} times.
+     */
+    public Result run(boolean compressed, int bodyBytes, int warmupIterations, int iterations) {
+        ensureGreaterThanZero(iterations, "iterations");
+        HttpClient client = HttpClientBuilderLoader.loadHttpClientBuilder()
+                .compressRequests(compressed)
+                .decompressResponses(compressed)
+                .build();
+        String body = jsonBody(bodyBytes);
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://localhost:" + server.getAddress().getPort(), "/echo")
+                .addHeader("Content-Type", "application/json")
+                .body(body)
+                .build();
+
+        for (int i = 0; i < warmupIterations; i++) {
+            echo(client, request, body);
+        }
+        requestBytesOnWire.set(0);
+        responseBytesOnWire.set(0);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            echo(client, request, body);
+        }
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        return new Result(
+                compressed,
+                body.length(),
+                requestBytesOnWire.get() / iterations,
+                responseBytesOnWire.get() / iterations,
+                duration.dividedBy(iterations));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private static void echo(HttpClient client, HttpRequest request, String body) {
+        if (!client.execute(request).body().equals(body)) {
+            throw new IllegalStateException("The echoed body differs from the request body");
+        }
+    }
+
+    private void echo(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] raw;
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                raw = inputStream.readAllBytes();
+            }
+            requestBytesOnWire.addAndGet(raw.length);
+
+            String requestContentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            byte[] body = "gzip".equals(requestContentEncoding) ? HttpCompression.gunzip(raw) : raw;
+
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = HttpCompression.gzip(body);
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            responseBytesOnWire.addAndGet(body.length);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+    }
+
+    private static String jsonBody(int size) {
+        StringBuilder sb = new StringBuilder("{\"messages\":[");
+        int i = 0;
+        while (sb.length() < size) {
+            sb.append(i == 0 ? "" : ",")
+                    .append("{\"role\":\"user\",\"content\":\"Tell me about message number ")
+                    .append(i++)
+                    .append(" in this conversation, please.\"}");
+        }
+        return sb.append("]}").toString();
+    }
+}
@@ -0,0 +1,35 @@
+package dev.langchain4j.benchmark;
+
+/**
+ * The layers of LangChain4j exercised by a benchmark scenario.
+ * Each layer adds to the previous one, so that the difference between the results of two consecutive layers
+ * is the overhead of the added layer.
+ */
+public enum Layer {
+
+    /**
+     * The chat model only: request mapping, HTTP client, response (or SSE) parsing and mapping.
+     */
+    MODEL,
+
+    /**
+     * An AI service proxy, without memory, tools or RAG.
+     */
+    AI_SERVICE,
+
+    /**
+     * An AI service with a chat memory per user, holding up to 20 messages.
+     */
+    MEMORY,
+
+    /**
+     * An AI service with memory and a tool: each invocation makes 2 calls to the model,
+     * one returning a tool call and one returning the final answer.
+     */
+    TOOLS,
+
+    /**
+     * An AI service with memory, a tool and a content retriever returning 3 contents.
+     */
+    RAG
+}
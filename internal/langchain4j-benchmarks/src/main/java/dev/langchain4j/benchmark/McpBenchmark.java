@@ -0,0 +1,140 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.benchmark.Measurements.invokeConcurrently;
+import static dev.langchain4j.benchmark.Measurements.percentile;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.mcp.client.DefaultMcpClient;
+import dev.langchain4j.mcp.client.McpClient;
+import dev.langchain4j.mcp.client.PooledMcpClient;
+import dev.langchain4j.mcp.client.transport.stdio.StdioMcpTransport;
+import dev.langchain4j.service.tool.ToolExecutionResult;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Calls the tool of a {@link StubMcpServer} through the stdio transport, with a single connection
+ * ({@link DefaultMcpClient}) or a pool of connections ({@link PooledMcpClient}), and reports the latency
+ * and throughput of the tool calls.
+ * <p>
+ * With a tool that answers immediately, the sequential latency is dominated by the client and its transport
+ * (serialization, framing, correlation of responses) and by the pipes between the processes.
+ * With a slow tool called concurrently, the throughput shows how the pool spreads the calls
+ * across server processes.
+ */
+public class McpBenchmark {
+
+    private static final ToolExecutionRequest REQUEST = ToolExecutionRequest.builder()
+            .name(StubMcpServer.TOOL_NAME)
+            .arguments("{\"text\":\"hello\"}")
+            .build();
+
+    /**
+     * The latency of sequential tool calls.
+     *
+     * @param meanMicros the mean latency of a tool call, in microseconds
+     * @param p50Micros  the median latency of a tool call, in microseconds
+     * @param p99Micros  the 99th percentile of the latency of a tool call, in microseconds
+     */
+    public record Result(int poolSize, int iterations, double meanMicros, double p50Micros, double p99Micros) {}
+
+    /**
+     * The throughput and latency of concurrent tool calls.
+     *
+     * @param calls          the number of tool calls completed during the measurement
+     * @param callsPerSecond the throughput
+     * @param p50Micros      the median latency of a tool call, in microseconds
+     * @param p99Micros      the 99th percentile of the latency of a tool call, in microseconds
+     */
+    public record LoadTestResult(
+            int poolSize, int concurrency, long calls, double callsPerSecond, double p50Micros, double p99Micros) {}
+
+    private final Duration toolLatency;
+    private final int toolResultChars;
+
+    /**
+     * @param toolLatency     the time the tool of the stub server takes to answer
+     * @param toolResultChars the number of characters of the text returned by the tool
+     */
+    public McpBenchmark(Duration toolLatency, int toolResultChars) {
+        this.toolLatency = ensureNotNull(toolLatency, "toolLatency");
+        this.toolResultChars = ensureNotNegative(toolResultChars, "toolResultChars");
+    }
+
+    /**
+     * Starts {@code poolSize} stub server processes, calls the tool sequentially {@code warmupIterations} times
+     * without measuring, then {@code iterations} times.
+     */
+    public Result run(int poolSize, int warmupIterations, int iterations) throws Exception {
+        ensureNotNegative(warmupIterations, "warmupIterations");
+        ensureGreaterThanZero(iterations, "iterations");
+        try (McpClient client = client(poolSize)) {
+            for (int i = 0; i < warmupIterations; i++) {
+                call(client);
+            }
+
+            long[] latencies = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                call(client);
+                latencies[i] = System.nanoTime() - start;
+            }
+
+            Arrays.sort(latencies);
+            return new Result(
+                    poolSize,
+                    iterations,
+                    Arrays.stream(latencies).average().orElse(0) / 1_000,
+                    percentile(latencies, 0.50) / 1_000.0,
+                    percentile(latencies, 0.99) / 1_000.0);
+        }
+    }
+
+    /**
+     * Starts {@code poolSize} stub server processes and calls the tool from {@code concurrency} threads
+     * for {@code warmup}, then for {@code duration} while measuring.
+     */
+    public LoadTestResult loadTest(int poolSize, int concurrency, Duration warmup, Duration duration)
+            throws Exception {
+        try (McpClient client = client(poolSize)) {
+            long[] latencies = invokeConcurrently(concurrency, warmup, duration, userId -> call(client));
+            return new LoadTestResult(
+                    poolSize,
+                    concurrency,
+                    latencies.length,
+                    latencies.length / (duration.toNanos() / 1e9),
+                    percentile(latencies, 0.50) / 1_000.0,
+                    percentile(latencies, 0.99) / 1_000.0);
+        }
+    }
+
+    private McpClient client(int poolSize) {
+        ensureGreaterThanZero(poolSize, "poolSize");
+        if (poolSize == 1) {
+            return connection();
+        }
+        return PooledMcpClient.builder()
+                .clientFactory(this::connection)
+                .poolSize(poolSize)
+                .build();
+    }
+
+    private McpClient connection() {
+        return DefaultMcpClient.builder()
+                .transport(StdioMcpTransport.builder()
+                        .command(StubMcpServer.command(toolLatency, toolResultChars))
+                        .build())
+                .autoHealthCheck(false)
+                .build();
+    }
+
+    private static void call(McpClient client) {
+        ToolExecutionResult result = client.executeTool(REQUEST);
+        if (result.isError()) {
+            throw new IllegalStateException("Tool call failed: " + result.resultText());
+        }
+    }
+}
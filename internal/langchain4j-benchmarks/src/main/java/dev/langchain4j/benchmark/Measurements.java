@@ -0,0 +1,116 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+/**
+ * The measurement loops and statistics shared by the benchmarks.
+ */
+final class Measurements {
+
+    private Measurements() {}
+
+    /**
+     * A single invocation of a scenario, on behalf of the given user or thread.
+     */
+    interface Invocation {
+
+        void invoke(int userId) throws Exception;
+    }
+
+    /**
+     * Invokes the given scenario from {@code concurrency} threads (the index of the thread being passed as user ID)
+     * for {@code warmup}, then for {@code duration} while measuring.
+     *
+     * @return the latencies of the invocations started during the measurement, in nanoseconds, sorted
+     */
+    static long[] invokeConcurrently(int concurrency, Duration warmup, Duration duration, Invocation invocation)
+            throws Exception {
+        ensureGreaterThanZero(concurrency, "concurrency");
+
+        long measurementStart = System.nanoTime() + warmup.toNanos();
+        long measurementEnd = measurementStart + duration.toNanos();
+        List<List<Long>> latencies = new ArrayList<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(concurrency);
+
+        for (int t = 0; t < concurrency; t++) {
+            int userId = t;
+            List<Long> threadLatencies = new ArrayList<>();
+            latencies.add(threadLatencies);
+            Thread thread = new Thread(
+                    () -> {
+                        try {
+                            while (failure.get() == null) {
+                                long start = System.nanoTime();
+                                if (start >= measurementEnd) {
+                                    break;
+                                }
+                                invocation.invoke(userId);
+                                if (start >= measurementStart) {
+                                    threadLatencies.add(System.nanoTime() - start);
+                                }
+                            }
+                        } catch (Exception e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            finished.countDown();
+                        }
+                    },
+                    "benchmark-" + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        finished.await();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        return latencies.stream()
+                .flatMap(List::stream)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Runs the given action {@code warmupIterations} times without measuring, then {@code iterations} times,
+     * passing it the index of the iteration.
+     *
+     * @return the mean duration of an iteration, in microseconds
+     */
+    static double averageMicros(int warmupIterations, int iterations, IntFunction<Object> action) {
+        ensureGreaterThanZero(iterations, "iterations");
+        Object blackhole = null;
+        for (int i = 0; i < warmupIterations; i++) {
+            blackhole = action.apply(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole = action.apply(warmupIterations + i);
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / iterations;
+        if (blackhole == null) {
+            throw new IllegalStateException("The action must return a result, so that it is not optimized away");
+        }
+        return micros;
+    }
+
+    /**
+     * Returns the given percentile (between 0 and 1) of the given sorted values, or 0 if there is none.
+     */
+    static long percentile(long[] sortedValues, double percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedValues.length) - 1;
+        return sortedValues[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,84 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.model.anthropic.AnthropicChatModel;
+import dev.langchain4j.model.anthropic.AnthropicStreamingChatModel;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.ollama.OllamaChatModel;
+import dev.langchain4j.model.ollama.OllamaStreamingChatModel;
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
+
+/**
+ * The LLM providers whose wire formats are served by {@link StubLlmServer}.
+ */
+public enum Provider {
+    OPEN_AI {
+        @Override
+        public ChatModel chatModel(StubLlmServer server) {
+            return OpenAiChatModel.builder()
+                    .baseUrl(server.openAiBaseUrl())
+                    .apiKey(API_KEY)
+                    .modelName(MODEL_NAME)
+                    .build();
+        }
+
+        @Override
+        public StreamingChatModel streamingChatModel(StubLlmServer server) {
+            return OpenAiStreamingChatModel.builder()
+                    .baseUrl(server.openAiBaseUrl())
+                    .apiKey(API_KEY)
+                    .modelName(MODEL_NAME)
+                    .build();
+        }
+    },
+    ANTHROPIC {
+        @Override
+        public ChatModel chatModel(StubLlmServer server) {
+            return AnthropicChatModel.builder()
+                    .baseUrl(server.anthropicBaseUrl())
+                    .apiKey(API_KEY)
+                    .modelName(MODEL_NAME)
+                    .build();
+        }
+
+        @Override
+        public StreamingChatModel streamingChatModel(StubLlmServer server) {
+            return AnthropicStreamingChatModel.builder()
+                    .baseUrl(server.anthropicBaseUrl())
+                    .apiKey(API_KEY)
+                    .modelName(MODEL_NAME)
+                    .build();
+        }
+    },
+    OLLAMA {
+        @Override
+        public ChatModel chatModel(StubLlmServer server) {
+            return OllamaChatModel.builder()
+                    .baseUrl(server.ollamaBaseUrl())
+                    .modelName(MODEL_NAME)
+                    .build();
+        }
+
+        @Override
+        public StreamingChatModel streamingChatModel(StubLlmServer server) {
+            return OllamaStreamingChatModel.builder()
+                    .baseUrl(server.ollamaBaseUrl())
+                    .modelName(MODEL_NAME)
+                    .build();
+        }
+    };
+
+    private static final String API_KEY = "stub";
+    private static final String MODEL_NAME = "stub";
+
+    /**
+     * Returns a {@link ChatModel} of this provider calling the given stub server.
+     */
+    public abstract ChatModel chatModel(StubLlmServer server);
+
+    /**
+     * Returns a {@link StreamingChatModel} of this provider calling the given stub server.
+     */
+    public abstract StreamingChatModel streamingChatModel(StubLlmServer server);
+}
@@ -0,0 +1,296 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.benchmark.Measurements.averageMicros;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicTools;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.toTools;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.agent.tool.P;
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.agent.tool.ToolSpecifications;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageBinaryCodec;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.ImageContent;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.TextContent;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.internal.JsonSchemaElementUtils;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicCacheType;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageRequest;
+import dev.langchain4j.model.chat.request.json.JsonObjectSchema;
+import dev.langchain4j.model.chat.request.json.JsonSchema;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
+import dev.langchain4j.model.output.structured.Description;
+import dev.langchain4j.service.output.ServiceOutputParser;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the CPU cost of the serialization and reflection done on every call, without any I/O:
+ * <ul>
+ *     <li>building and serializing a request with many tools, when the tools are new to every request
+ *     and when the same tools are sent with every request (in which case their JSON is reused)</li>
+ *     <li>encoding and decoding a conversation with the JSON and the binary chat message codecs</li>
+ *     <li>computing the JSON schema of a deep POJO graph and the tool specifications of a class,
+ *     with and without the cache</li>
+ * </ul>
+ */
+public class SerializationBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * The time to build and serialize a request with {@code toolCount} tools.
+     *
+     * @param newToolsMicros    the mean time when the tools are new to every request, in microseconds
+     * @param reusedToolsMicros the mean time when the same tools are sent with every request, in microseconds
+     */
+    public record ToolsResult(Provider provider, int toolCount, double newToolsMicros, double reusedToolsMicros) {}
+
+    /**
+     * The size of an encoded conversation and the time to encode and decode it.
+     */
+    public record CodecResult(
+            String codec, int messageCount, int encodedBytes, double encodeMicros, double decodeMicros) {}
+
+    /**
+     * The time to compute something by reflection, with and without the cache.
+     */
+    public record CacheResult(String name, double uncachedMicros, double cachedMicros) {}
+
+    private final int warmupIterations;
+    private final int iterations;
+
+    public SerializationBenchmark(int warmupIterations, int iterations) {
+        this.warmupIterations = ensureNotNegative(warmupIterations, "warmupIterations");
+        this.iterations = ensureGreaterThanZero(iterations, "iterations");
+    }
+
+    /**
+     * Builds and serializes requests to the given provider with {@code toolCount} tools.
+     */
+    public ToolsResult tools(Provider provider, int toolCount) {
+        ensureNotNull(provider, "provider");
+        List<ToolSpecification> toolSpecifications = IntStream.range(0, toolCount)
+                .mapToObj(i -> toolSpecification("tool_" + i))
+                .toList();
+
+        double newTools = averageMicros(warmupIterations, iterations, iteration -> {
+            List<ToolSpecification> renamed = toolSpecifications.stream()
+                    .map(toolSpecification -> toolSpecification.toBuilder()
+                            .name(toolSpecification.name() + "_" + iteration)
+                            .build())
+                    .toList();
+            return serializedRequest(provider, renamed);
+        });
+        double reusedTools = averageMicros(
+                warmupIterations, iterations, iteration -> serializedRequest(provider, toolSpecifications));
+
+        return new ToolsResult(provider, toolCount, newTools, reusedTools);
+    }
+
+    /**
+     * Encodes and decodes a conversation of {@code messageCount} messages with tool calls, tool results,
+     * images and attributes, with the JSON and the binary codecs.
+     */
+    public List<CodecResult> chatMessages(int messageCount) {
+        List<ChatMessage> messages = conversation(messageCount);
+        String json = ChatMessageSerializer.messagesToJson(messages);
+        byte[] bytes = ChatMessageBinaryCodec.messagesToBytes(messages);
+
+        return List.of(
+                new CodecResult(
+                        "json",
+                        messageCount,
+                        json.getBytes(UTF_8).length,
+                        averageMicros(
+                                warmupIterations, iterations, i -> ChatMessageSerializer.messagesToJson(messages)),
+                        averageMicros(
+                                warmupIterations, iterations, i -> ChatMessageDeserializer.messagesFromJson(json))),
+                new CodecResult(
+                        "binary",
+                        messageCount,
+                        bytes.length,
+                        averageMicros(
+                                warmupIterations, iterations, i -> ChatMessageBinaryCodec.messagesToBytes(messages)),
+                        averageMicros(
+                                warmupIterations, iterations, i -> ChatMessageBinaryCodec.messagesFromBytes(bytes))));
+    }
+
+    /**
+     * Computes the JSON schema of a deep POJO graph (as done on every call of an AI service returning it)
+     * and the tool specifications of a class, with and without the cache.
+     */
+    public List<CacheResult> reflection() {
+        ServiceOutputParser serviceOutputParser = new ServiceOutputParser();
+        List<Method> toolMethods = Arrays.stream(Tools.class.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Tool.class))
+                .toList();
+
+        return List.of(
+                new CacheResult(
+                        "json schema",
+                        averageMicros(warmupIterations, iterations, i -> uncachedJsonSchema(Company.class)),
+                        averageMicros(
+                                warmupIterations, iterations, i -> serviceOutputParser.jsonSchema(Company.class))),
+                new CacheResult(
+                        "tool specifications",
+                        averageMicros(warmupIterations, iterations, i -> toolMethods.stream()
+                                .map(ToolSpecifications::toolSpecificationFrom)
+                                .toList()),
+                        averageMicros(
+                                warmupIterations,
+                                iterations,
+                                i -> ToolSpecifications.toolSpecificationsFrom(Tools.class))));
+    }
+
+    private static String serializedRequest(Provider provider, List<ToolSpecification> toolSpecifications) {
+        Object request =
+                switch (provider) {
+                    case OPEN_AI -> ChatCompletionRequest.builder()
+                            .model("gpt-4o-mini")
+                            .addUserMessage("Where is my last order?")
+                            .tools(toTools(toolSpecifications, false))
+                            .build();
+                    case ANTHROPIC -> AnthropicCreateMessageRequest.builder()
+                            .model("claude-sonnet-4-5")
+                            .maxTokens(1024)
+                            .tools(toAnthropicTools(toolSpecifications, AnthropicCacheType.EPHEMERAL, false))
+                            .build();
+                    default -> throw new IllegalArgumentException(provider + " does not reuse serialized tools");
+                };
+        try {
+            // the serializers reusing the JSON of the tools are declared on the requests, so they apply to any mapper
+            return OBJECT_MAPPER.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ToolSpecification toolSpecification(String name) {
+        return ToolSpecification.builder()
+                .name(name)
+                .description("Finds the orders of a customer, optionally filtered by status and date range")
+                .parameters(JsonObjectSchema.builder()
+                        .addStringProperty("customerId", "the ID of the customer")
+                        .addEnumProperty("status", List.of("PENDING", "SHIPPED", "DELIVERED", "CANCELLED"))
+                        .addProperty(
+                                "dateRange",
+                                JsonObjectSchema.builder()
+                                        .addStringProperty("from", "ISO-8601 date")
+                                        .addStringProperty("to", "ISO-8601 date")
+                                        .required("from", "to")
+                                        .build())
+                        .addIntegerProperty("limit", "the maximum number of orders")
+                        .addBooleanProperty("includeItems")
+                        .required("customerId")
+                        .build())
+                .build();
+    }
+
+    private static JsonSchema uncachedJsonSchema(Class<?> type) {
+        return JsonSchema.builder()
+                .name(type.getSimpleName())
+                .rootElement(JsonSchemaElementUtils.jsonObjectOrReferenceSchemaFrom(
+                        type, null, false, new LinkedHashMap<>(), true))
+                .build();
+    }
+
+    /**
+     * A conversation with tool calls, tool results, multimodal user messages and attributes.
+     */
+    static List<ChatMessage> conversation(int size) {
+        byte[] image = new byte[8 * 1024];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) (i * 31);
+        }
+        String base64Image = Base64.getEncoder().encodeToString(image);
+
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(SystemMessage.from("You are a helpful travel assistant. Answer concisely and use tools."));
+        for (int i = 0; messages.size() < size; i++) {
+            if (i % 10 == 0) {
+                messages.add(UserMessage.from(
+                        TextContent.from("What is on this picture number " + i + "?"),
+                        ImageContent.from(base64Image, "image/png")));
+            } else {
+                messages.add(UserMessage.from("What is the weather in city number " + i + " tomorrow morning?"));
+            }
+            String id = "call_" + i;
+            messages.add(AiMessage.builder()
+                    .thinking("The user asks about city " + i + ", I should call the weather tool.")
+                    .toolExecutionRequests(List.of(ToolExecutionRequest.builder()
+                            .id(id)
+                            .name("get_weather_forecast")
+                            .arguments("{\"city\":\"City " + i + "\",\"unit\":\"celsius\",\"days\":1}")
+                            .build()))
+                    .build());
+            messages.add(ToolExecutionResultMessage.builder()
+                    .id(id)
+                    .toolName("get_weather_forecast")
+                    .text("{\"city\":\"City " + i + "\",\"forecast\":[{\"time\":\"08:00\",\"temperature\":"
+                            + (i % 30) + ",\"condition\":\"partly cloudy\",\"precipitation\":0.2}]}")
+                    .attributes(Map.of("latencyMillis", 120 + i))
+                    .build());
+            messages.add(AiMessage.builder()
+                    .text("Tomorrow morning in City " + i + " it will be " + (i % 30)
+                            + " degrees and partly cloudy, with a small chance of rain.")
+                    .attributes(Map.of("model", "gpt-4o-mini", "outputTokens", 42))
+                    .build());
+        }
+        return messages.subList(0, size);
+    }
+
+    enum Level {
+        JUNIOR,
+        SENIOR,
+        PRINCIPAL
+    }
+
+    record Address(String street, String city, String country, String zipCode) {}
+
+    record Skill(String name, Level level, @Description("years of practice") int years) {}
+
+    record Employee(
+            String name, LocalDate birthDate, Address address, List<Skill> skills, Employee manager, Level level) {}
+
+    record Team(String name, Employee lead, List<Employee> members, List<String> tags) {}
+
+    record Department(String name, Address address, List<Team> teams, Map<String, String> attributes) {}
+
+    record Company(String name, Address headquarters, List<Department> departments, List<Employee> board) {}
+
+    static class Tools {
+
+        @Tool("Finds the employees of a team")
+        List<Employee> findEmployees(@P("the team") Team team, @P("the minimum level") Level level) {
+            return List.of();
+        }
+
+        @Tool("Moves a department to another address")
+        Department move(Department department, Address address) {
+            return department;
+        }
+
+        @Tool("Registers a company")
+        void register(Company company) {}
+    }
+}
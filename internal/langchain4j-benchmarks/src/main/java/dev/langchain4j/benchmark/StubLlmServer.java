@@ -0,0 +1,606 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A local HTTP server that imitates an LLM provider, speaking the OpenAI ({@code /v1/chat/completions}),
+ * Anthropic ({@code /v1/messages}) and Ollama ({@code /api/chat}) wire formats, with and without streaming,
+ * as well as Ollama embeddings ({@code /api/embed}).
+ * It makes it possible to measure the overhead of LangChain4j itself (AI service proxy, memory, tools, RAG,
+ * JSON mapping, SSE parsing), without the latency and variability of a real provider.
+ * <p>
+ * Each response contains {@link Builder#tokensPerResponse(Integer)} tokens, streamed as one event per token
+ * at {@link Builder#tokensPerSecond(Integer)} (as fast as possible by default),
+ * after {@link Builder#timeToFirstToken(Duration)}.
+ * When the request contains tools and its last message is not a tool result, the response is a call
+ * of the first tool, whose arguments are generated from the tool's JSON schema.
+ * Each embedding request is answered after {@link Builder#embeddingLatency(Duration)}, whatever the number of inputs,
+ * like a model computing a batch at once.
+ * <pre>{@code
+ * try (StubLlmServer server = StubLlmServer.builder().tokensPerResponse(100).build()) {
+ *     ChatModel model = OpenAiChatModel.builder()
+ *             .baseUrl(server.openAiBaseUrl())
+ *             .apiKey("stub")
+ *             .modelName("stub")
+ *             .build();
+ *     ...
+ * }
+ * }</pre>
+ */
+public class StubLlmServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    static {
+        // without it, the response body waits for the ACK of the headers, which may be delayed by 40 ms
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private static final String[] WORDS = {
+        "The ", "quick ", "brown ", "fox ", "jumps ", "over ", "the ", "lazy ", "dog", ". "
+    };
+
+    private final int tokensPerResponse;
+    private final long nanosPerToken;
+    private final long timeToFirstTokenNanos;
+    private final long embeddingLatencyNanos;
+    private final int embeddingDimension;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+
+    private StubLlmServer(Builder builder) {
+        this.tokensPerResponse =
+                ensureGreaterThanZero(getOrDefault(builder.tokensPerResponse, 50), "tokensPerResponse");
+        int tokensPerSecond = ensureNotNegative(getOrDefault(builder.tokensPerSecond, 0), "tokensPerSecond");
+        this.nanosPerToken = tokensPerSecond == 0 ? 0 : 1_000_000_000L / tokensPerSecond;
+        this.timeToFirstTokenNanos = getOrDefault(builder.timeToFirstToken, Duration.ZERO).toNanos();
+        this.embeddingLatencyNanos = getOrDefault(builder.embeddingLatency, Duration.ZERO).toNanos();
+        this.embeddingDimension =
+                ensureGreaterThanZero(getOrDefault(builder.embeddingDimension, 384), "embeddingDimension");
+
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-llm-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", handler(this::openAi));
+        server.createContext("/v1/messages", handler(this::anthropic));
+        server.createContext("/api/chat", handler(this::ollama));
+        server.createContext("/api/embed", handler(this::ollamaEmbed));
+        server.start();
+    }
+
+    /**
+     * Returns the base URL to configure on {@code OpenAiChatModel} and {@code OpenAiStreamingChatModel}.
+     */
+    public String openAiBaseUrl() {
+        return baseUrl() + "/v1";
+    }
+
+    /**
+     * Returns the base URL to configure on {@code AnthropicChatModel} and {@code AnthropicStreamingChatModel}.
+     */
+    public String anthropicBaseUrl() {
+        return baseUrl() + "/v1";
+    }
+
+    /**
+     * Returns the base URL to configure on {@code OllamaChatModel}, {@code OllamaStreamingChatModel}
+     * and {@code OllamaEmbeddingModel}.
+     */
+    public String ollamaBaseUrl() {
+        return baseUrl();
+    }
+
+    /**
+     * Returns the number of requests served so far.
+     */
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the number of bytes allocated by the server so far while handling requests,
+     * so that it can be subtracted from allocations measured in the same JVM.
+     */
+    public long allocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    private interface RequestHandler {
+
+        void handle(JsonNode request, HttpExchange exchange) throws IOException;
+    }
+
+    private HttpHandler handler(RequestHandler requestHandler) {
+        return exchange -> {
+            long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            try {
+                requestCount.incrementAndGet();
+                JsonNode request = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+                requestHandler.handle(request, exchange);
+            } finally {
+                exchange.close();
+                allocatedBytes.addAndGet(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore);
+            }
+        };
+    }
+
+    // OpenAI
+
+    private void openAi(JsonNode request, HttpExchange exchange) throws IOException {
+        String model = request.path("model").asText();
+        ToolCall toolCall = toolCall(request, "function", "parameters", lastMessageIsToolResult(request, "tool"));
+        int inputTokens = inputTokens(request);
+
+        if (!request.path("stream").asBoolean()) {
+            sleep(timeToFirstTokenNanos + nanosPerToken * tokensPerResponse);
+            ObjectNode message = OBJECT_MAPPER.createObjectNode().put("role", "assistant");
+            if (toolCall == null) {
+                message.put("content", text());
+            } else {
+                message.putNull("content");
+                message.set("tool_calls", OBJECT_MAPPER.createArrayNode().add(openAiToolCall(toolCall, true)));
+            }
+            ObjectNode response = openAiResponse("chat.completion", model);
+            response.withArray("choices")
+                    .addObject()
+                    .put("index", 0)
+                    .put("finish_reason", toolCall == null ? "stop" : "tool_calls")
+                    .set("message", message);
+            response.set("usage", openAiUsage(inputTokens));
+            sendJson(exchange, response);
+            return;
+        }
+
+        OutputStream out = startStreaming(exchange, "text/event-stream");
+        sleep(timeToFirstTokenNanos);
+        if (toolCall == null) {
+            for (Iterator<String> tokens = tokens(); tokens.hasNext(); ) {
+                ObjectNode delta = OBJECT_MAPPER.createObjectNode().put("content", tokens.next());
+                sendOpenAiChunk(out, model, delta, null);
+                sleep(nanosPerToken);
+            }
+        } else {
+            ObjectNode delta = OBJECT_MAPPER.createObjectNode();
+            delta.withArray("tool_calls").add(openAiToolCall(toolCall, false).put("index", 0));
+            sendOpenAiChunk(out, model, delta, null);
+            delta = OBJECT_MAPPER.createObjectNode();
+            delta.withArray("tool_calls")
+                    .addObject()
+                    .put("index", 0)
+                    .putObject("function")
+                    .put("arguments", toolCall.arguments().toString());
+            sendOpenAiChunk(out, model, delta, null);
+        }
+        sendOpenAiChunk(out, model, OBJECT_MAPPER.createObjectNode(), toolCall == null ? "stop" : "tool_calls");
+        ObjectNode usageChunk = openAiResponse("chat.completion.chunk", model);
+        usageChunk.putArray("choices");
+        usageChunk.set("usage", openAiUsage(inputTokens));
+        sendEvent(out, null, usageChunk.toString());
+        sendEvent(out, null, "[DONE]");
+    }
+
+    private void sendOpenAiChunk(OutputStream out, String model, ObjectNode delta, String finishReason)
+            throws IOException {
+        ObjectNode chunk = openAiResponse("chat.completion.chunk", model);
+        ObjectNode choice = chunk.withArray("choices").addObject().put("index", 0);
+        choice.set("delta", delta);
+        if (finishReason != null) {
+            choice.put("finish_reason", finishReason);
+        }
+        sendEvent(out, null, chunk.toString());
+    }
+
+    private ObjectNode openAiResponse(String object, String model) {
+        return OBJECT_MAPPER
+                .createObjectNode()
+                .put("id", "chatcmpl-stub")
+                .put("object", object)
+                .put("created", System.currentTimeMillis() / 1000)
+                .put("model", model);
+    }
+
+    private ObjectNode openAiToolCall(ToolCall toolCall, boolean withArguments) {
+        ObjectNode openAiToolCall =
+                OBJECT_MAPPER.createObjectNode().put("id", "call_stub").put("type", "function");
+        ObjectNode function = openAiToolCall.putObject("function").put("name", toolCall.name());
+        function.put("arguments", withArguments ? toolCall.arguments().toString() : "");
+        return openAiToolCall;
+    }
+
+    private ObjectNode openAiUsage(int inputTokens) {
+        return OBJECT_MAPPER
+                .createObjectNode()
+                .put("prompt_tokens", inputTokens)
+                .put("completion_tokens", tokensPerResponse)
+                .put("total_tokens", inputTokens + tokensPerResponse);
+    }
+
+    // Anthropic
+
+    private void anthropic(JsonNode request, HttpExchange exchange) throws IOException {
+        String model = request.path("model").asText();
+        ToolCall toolCall = toolCall(request, null, "input_schema", lastMessageIsAnthropicToolResult(request));
+        int inputTokens = inputTokens(request);
+        String stopReason = toolCall == null ? "end_turn" : "tool_use";
+
+        if (!request.path("stream").asBoolean()) {
+            sleep(timeToFirstTokenNanos + nanosPerToken * tokensPerResponse);
+            ObjectNode response = anthropicMessage(model, inputTokens, tokensPerResponse)
+                    .put("stop_reason", stopReason);
+            if (toolCall == null) {
+                response.withArray("content").addObject().put("type", "text").put("text", text());
+            } else {
+                response.withArray("content").add(anthropicToolUse(toolCall, toolCall.arguments()));
+            }
+            sendJson(exchange, response);
+            return;
+        }
+
+        OutputStream out = startStreaming(exchange, "text/event-stream");
+        ObjectNode messageStart = OBJECT_MAPPER.createObjectNode().put("type", "message_start");
+        messageStart.set("message", anthropicMessage(model, inputTokens, 1));
+        sendEvent(out, "message_start", messageStart.toString());
+        sleep(timeToFirstTokenNanos);
+
+        ObjectNode contentBlockStart =
+                OBJECT_MAPPER.createObjectNode().put("type", "content_block_start").put("index", 0);
+        if (toolCall == null) {
+            contentBlockStart.putObject("content_block").put("type", "text").put("text", "");
+            sendEvent(out, "content_block_start", contentBlockStart.toString());
+            for (Iterator<String> tokens = tokens(); tokens.hasNext(); ) {
+                ObjectNode delta = OBJECT_MAPPER.createObjectNode();
+                delta.put("type", "text_delta").put("text", tokens.next());
+                sendAnthropicDelta(out, delta);
+                sleep(nanosPerToken);
+            }
+        } else {
+            contentBlockStart.set("content_block", anthropicToolUse(toolCall, OBJECT_MAPPER.createObjectNode()));
+            sendEvent(out, "content_block_start", contentBlockStart.toString());
+            ObjectNode delta = OBJECT_MAPPER.createObjectNode();
+            delta.put("type", "input_json_delta").put("partial_json", toolCall.arguments().toString());
+            sendAnthropicDelta(out, delta);
+        }
+        sendEvent(out, "content_block_stop", "{\"type\":\"content_block_stop\",\"index\":0}");
+
+        ObjectNode messageDelta = OBJECT_MAPPER.createObjectNode().put("type", "message_delta");
+        messageDelta.putObject("delta").put("stop_reason", stopReason);
+        messageDelta.putObject("usage").put("output_tokens", tokensPerResponse);
+        sendEvent(out, "message_delta", messageDelta.toString());
+        sendEvent(out, "message_stop", "{\"type\":\"message_stop\"}");
+    }
+
+    private void sendAnthropicDelta(OutputStream out, ObjectNode delta) throws IOException {
+        ObjectNode event =
+                OBJECT_MAPPER.createObjectNode().put("type", "content_block_delta").put("index", 0);
+        event.set("delta", delta);
+        sendEvent(out, "content_block_delta", event.toString());
+    }
+
+    private ObjectNode anthropicMessage(String model, int inputTokens, int outputTokens) {
+        ObjectNode message = OBJECT_MAPPER
+                .createObjectNode()
+                .put("id", "msg_stub")
+                .put("type", "message")
+                .put("role", "assistant")
+                .put("model", model);
+        message.putArray("content");
+        message.putObject("usage").put("input_tokens", inputTokens).put("output_tokens", outputTokens);
+        return message;
+    }
+
+    private ObjectNode anthropicToolUse(ToolCall toolCall, JsonNode input) {
+        ObjectNode toolUse = OBJECT_MAPPER
+                .createObjectNode()
+                .put("type", "tool_use")
+                .put("id", "toolu_stub")
+                .put("name", toolCall.name());
+        toolUse.set("input", input);
+        return toolUse;
+    }
+
+    private static boolean lastMessageIsAnthropicToolResult(JsonNode request) {
+        JsonNode content = lastMessage(request).path("content");
+        for (JsonNode block : content) {
+            if ("tool_result".equals(block.path("type").asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Ollama
+
+    private void ollama(JsonNode request, HttpExchange exchange) throws IOException {
+        String model = request.path("model").asText();
+        ToolCall toolCall = toolCall(request, "function", "parameters", lastMessageIsToolResult(request, "tool"));
+        int inputTokens = inputTokens(request);
+
+        // Ollama streams by default
+        if (!request.path("stream").asBoolean(true)) {
+            sleep(timeToFirstTokenNanos + nanosPerToken * tokensPerResponse);
+            ObjectNode message = OBJECT_MAPPER
+                    .createObjectNode()
+                    .put("role", "assistant")
+                    .put("content", toolCall == null ? text() : "");
+            if (toolCall != null) {
+                message.set("tool_calls", ollamaToolCalls(toolCall));
+            }
+            sendJson(exchange, ollamaDone(ollamaResponse(model, message), inputTokens));
+            return;
+        }
+
+        OutputStream out = startStreaming(exchange, "application/x-ndjson");
+        sleep(timeToFirstTokenNanos);
+        if (toolCall == null) {
+            for (Iterator<String> tokens = tokens(); tokens.hasNext(); ) {
+                ObjectNode message =
+                        OBJECT_MAPPER.createObjectNode().put("role", "assistant").put("content", tokens.next());
+                sendLine(out, ollamaResponse(model, message).put("done", false).toString());
+                sleep(nanosPerToken);
+            }
+        } else {
+            ObjectNode message = OBJECT_MAPPER.createObjectNode().put("role", "assistant").put("content", "");
+            message.set("tool_calls", ollamaToolCalls(toolCall));
+            sendLine(out, ollamaResponse(model, message).put("done", false).toString());
+        }
+        ObjectNode message = OBJECT_MAPPER.createObjectNode().put("role", "assistant").put("content", "");
+        sendLine(out, ollamaDone(ollamaResponse(model, message), inputTokens).toString());
+    }
+
+    private void ollamaEmbed(JsonNode request, HttpExchange exchange) throws IOException {
+        JsonNode input = request.path("input");
+        int inputCount = input.isArray() ? input.size() : 1;
+        sleep(embeddingLatencyNanos);
+        ObjectNode response = OBJECT_MAPPER.createObjectNode().put("model", request.path("model").asText());
+        ArrayNode embeddings = response.putArray("embeddings");
+        for (int i = 0; i < inputCount; i++) {
+            ArrayNode embedding = embeddings.addArray();
+            for (int j = 0; j < embeddingDimension; j++) {
+                embedding.add(0.1f);
+            }
+        }
+        sendJson(exchange, response);
+    }
+
+    private static ObjectNode ollamaResponse(String model, ObjectNode message) {
+        ObjectNode response = OBJECT_MAPPER
+                .createObjectNode()
+                .put("model", model)
+                .put("created_at", Instant.now().toString());
+        response.set("message", message);
+        return response;
+    }
+
+    private ObjectNode ollamaDone(ObjectNode response, int inputTokens) {
+        return response.put("done", true)
+                .put("done_reason", "stop")
+                .put("prompt_eval_count", inputTokens)
+                .put("eval_count", tokensPerResponse);
+    }
+
+    private static ArrayNode ollamaToolCalls(ToolCall toolCall) {
+        ArrayNode toolCalls = OBJECT_MAPPER.createArrayNode();
+        ObjectNode function = toolCalls.addObject().putObject("function").put("name", toolCall.name());
+        function.set("arguments", toolCall.arguments());
+        return toolCalls;
+    }
+
+    // tools
+
+    private record ToolCall(String name, ObjectNode arguments) {}
+
+    /**
+     * Returns a call of the first tool of the request, or {@code null} if there are no tools
+     * or if the model has already been given a tool result.
+     */
+    private static ToolCall toolCall(
+            JsonNode request, String functionField, String schemaField, boolean lastMessageIsToolResult) {
+        JsonNode tools = request.path("tools");
+        if (!tools.isArray() || tools.isEmpty() || lastMessageIsToolResult) {
+            return null;
+        }
+        JsonNode tool = functionField == null ? tools.get(0) : tools.get(0).path(functionField);
+        ObjectNode arguments = OBJECT_MAPPER.createObjectNode();
+        for (Map.Entry<String, JsonNode> property :
+                tool.path(schemaField).path("properties").properties()) {
+            arguments.set(property.getKey(), stubValue(property.getValue()));
+        }
+        return new ToolCall(tool.path("name").asText(), arguments);
+    }
+
+    private static JsonNode stubValue(JsonNode schema) {
+        JsonNode enumValues = schema.path("enum");
+        if (enumValues.isArray() && !enumValues.isEmpty()) {
+            return enumValues.get(0);
+        }
+        return switch (schema.path("type").asText()) {
+            case "integer", "number" -> OBJECT_MAPPER.getNodeFactory().numberNode(1);
+            case "boolean" -> OBJECT_MAPPER.getNodeFactory().booleanNode(true);
+            case "array" -> OBJECT_MAPPER.createArrayNode();
+            case "object" -> OBJECT_MAPPER.createObjectNode();
+            default -> OBJECT_MAPPER.getNodeFactory().textNode("stub");
+        };
+    }
+
+    private static boolean lastMessageIsToolResult(JsonNode request, String toolRole) {
+        return toolRole.equals(lastMessage(request).path("role").asText());
+    }
+
+    private static JsonNode lastMessage(JsonNode request) {
+        JsonNode messages = request.path("messages");
+        return messages.isArray() && !messages.isEmpty() ? messages.get(messages.size() - 1) : messages;
+    }
+
+    // text
+
+    private Iterator<String> tokens() {
+        return new Iterator<>() {
+
+            int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < tokensPerResponse;
+            }
+
+            @Override
+            public String next() {
+                return WORDS[index++ % WORDS.length];
+            }
+        };
+    }
+
+    private String text() {
+        StringBuilder text = new StringBuilder();
+        tokens().forEachRemaining(text::append);
+        return text.toString();
+    }
+
+    private static int inputTokens(JsonNode request) {
+        // roughly 4 characters per token
+        return Math.max(1, request.path("messages").toString().length() / 4);
+    }
+
+    // HTTP
+
+    private static void sendJson(HttpExchange exchange, JsonNode json) throws IOException {
+        byte[] body = json.toString().getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static OutputStream startStreaming(HttpExchange exchange, String contentType) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, 0);
+        return exchange.getResponseBody();
+    }
+
+    private static void sendEvent(OutputStream out, String event, String data) throws IOException {
+        List<String> lines = new ArrayList<>(2);
+        if (event != null) {
+            lines.add("event: " + event);
+        }
+        lines.add("data: " + data);
+        out.write((String.join("\n", lines) + "\n\n").getBytes(UTF_8));
+        out.flush();
+    }
+
+    private static void sendLine(OutputStream out, String line) throws IOException {
+        out.write((line + "\n").getBytes(UTF_8));
+        out.flush();
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos > 0) {
+            LockSupport.parkNanos(nanos);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer tokensPerResponse;
+        private Integer tokensPerSecond;
+        private Duration timeToFirstToken;
+        private Duration embeddingLatency;
+        private Integer embeddingDimension;
+
+        /**
+         * Sets the number of tokens of each text response. Default: 50.
+         */
+        public Builder tokensPerResponse(Integer tokensPerResponse) {
+            this.tokensPerResponse = tokensPerResponse;
+            return this;
+        }
+
+        /**
+         * Sets the rate at which tokens are generated. Default: 0, meaning as fast as possible.
+         */
+        public Builder tokensPerSecond(Integer tokensPerSecond) {
+            this.tokensPerSecond = tokensPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the delay before the first token is generated. Default: no delay.
+         */
+        public Builder timeToFirstToken(Duration timeToFirstToken) {
+            this.timeToFirstToken = timeToFirstToken;
+            return this;
+        }
+
+        /**
+         * Sets the time to answer an embedding request, whatever the number of inputs. Default: no delay.
+         */
+        public Builder embeddingLatency(Duration embeddingLatency) {
+            this.embeddingLatency = embeddingLatency;
+            return this;
+        }
+
+        /**
+         * Sets the dimension of the embeddings. Default: 384.
+         */
+        public Builder embeddingDimension(Integer embeddingDimension) {
+            this.embeddingDimension = embeddingDimension;
+            return this;
+        }
+
+        /**
+         * Builds and starts the server on a random local port.
+         */
+        public StubLlmServer build() {
+            return new StubLlmServer(this);
+        }
+    }
+}
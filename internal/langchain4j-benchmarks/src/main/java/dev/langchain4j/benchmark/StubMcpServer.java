@@ -0,0 +1,127 @@
+package dev.langchain4j.benchmark;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A minimal MCP server speaking JSON-RPC over stdio, started as a separate process by the MCP client
+ * (see {@link #command(Duration, int)}). It makes it possible to measure the overhead of the MCP client
+ * and of its stdio transport (serialization, framing, correlation of responses), without the latency and
+ * variability of a real server.
+ * <p>
+ * The server exposes a single {@value #TOOL_NAME} tool, whose result contains a text of a configurable size,
+ * returned after a configurable latency. Like most stdio servers, it handles one request at a time,
+ * so a single connection is a bottleneck when the tool takes time, which is what
+ * {@link dev.langchain4j.mcp.client.PooledMcpClient} addresses.
+ */
+public class StubMcpServer {
+
+    /**
+     * The name of the only tool of the server.
+     */
+    public static final String TOOL_NAME = "echo";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final long toolLatencyNanos;
+    private final String toolResult;
+
+    private StubMcpServer(Duration toolLatency, int toolResultChars) {
+        this.toolLatencyNanos = ensureNotNull(toolLatency, "toolLatency").toNanos();
+        this.toolResult = "x".repeat(ensureNotNegative(toolResultChars, "toolResultChars"));
+    }
+
+    /**
+     * Returns the command starting a stub MCP server in a new JVM, with the classpath of the current one,
+     * to configure on {@code StdioMcpTransport}.
+     *
+     * @param toolLatency     the time the tool takes to answer
+     * @param toolResultChars the number of characters of the text returned by the tool
+     */
+    public static List<String> command(Duration toolLatency, int toolResultChars) {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        return List.of(
+                java,
+                "-cp",
+                System.getProperty("java.class.path"),
+                StubMcpServer.class.getName(),
+                String.valueOf(toolLatency.toNanos()),
+                String.valueOf(toolResultChars));
+    }
+
+    public static void main(String[] args) throws IOException {
+        new StubMcpServer(Duration.ofNanos(Long.parseLong(args[0])), Integer.parseInt(args[1])).serve();
+    }
+
+    private void serve() throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, UTF_8));
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, UTF_8));
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode request = OBJECT_MAPPER.readTree(line);
+            if (!request.hasNonNull("id")) {
+                continue; // notification
+            }
+            ObjectNode response = OBJECT_MAPPER.createObjectNode().put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+            String method = request.path("method").asText();
+            switch (method) {
+                case "initialize" -> response.set("result", initializeResult(request));
+                case "ping" -> response.putObject("result");
+                case "tools/list" -> response.set("result", listToolsResult());
+                case "tools/call" -> response.set("result", callToolResult());
+                default -> response.putObject("error")
+                        .put("code", -32601)
+                        .put("message", "Unknown method: " + method);
+            }
+            out.write(OBJECT_MAPPER.writeValueAsString(response));
+            out.newLine();
+            out.flush();
+        }
+    }
+
+    private static ObjectNode initializeResult(JsonNode request) {
+        ObjectNode result = OBJECT_MAPPER.createObjectNode();
+        result.put("protocolVersion", request.path("params").path("protocolVersion").asText());
+        result.putObject("capabilities").putObject("tools");
+        result.putObject("serverInfo").put("name", "stub").put("version", "1.0");
+        return result;
+    }
+
+    private static ObjectNode listToolsResult() {
+        ObjectNode result = OBJECT_MAPPER.createObjectNode();
+        ObjectNode tool = result.putArray("tools").addObject();
+        tool.put("name", TOOL_NAME);
+        tool.put("description", "Returns a text of a fixed size");
+        ObjectNode inputSchema = tool.putObject("inputSchema").put("type", "object");
+        inputSchema.putObject("properties").putObject("text").put("type", "string");
+        return result;
+    }
+
+    private ObjectNode callToolResult() {
+        if (toolLatencyNanos > 0) {
+            LockSupport.parkNanos(toolLatencyNanos);
+        }
+        ObjectNode result = OBJECT_MAPPER.createObjectNode();
+        result.putArray("content").addObject().put("type", "text").put("text", toolResult);
+        result.put("isError", false);
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.langchain4j.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.benchmark.AgenticBenchmark.CheckpointResult;
+import dev.langchain4j.benchmark.AgenticBenchmark.GraphSearchResult;
+import dev.langchain4j.benchmark.AgenticBenchmark.PlannerLoopResult;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AgenticBenchmarkIT {
+
+    @Test
+    void should_measure_planner_loops() throws Exception {
+        PlannerLoopResult result = AgenticBenchmark.plannerLoops(10, 2, 2, Duration.ofMillis(1));
+
+        assertThat(result.executions()).isEqualTo(10 * 2 * 2);
+        assertThat(result.workflowsPerSecond()).isPositive();
+    }
+
+    @Test
+    void should_measure_checkpoints() throws Exception {
+        CheckpointResult result = AgenticBenchmark.checkpoints(20);
+
+        assertThat(result.steps()).isEqualTo(20);
+        assertThat(result.fullSnapshots()).isPositive();
+        assertThat(result.incrementalChanges()).isPositive();
+    }
+
+    @Test
+    void should_measure_graph_search() {
+        GraphSearchResult result = AgenticBenchmark.graphSearch(5, 10, 5, 10);
+
+        assertThat(result.nodes()).isEqualTo(5 * 10 + 2);
+        assertThat(result.pathLength()).isGreaterThan(2);
+    }
+}
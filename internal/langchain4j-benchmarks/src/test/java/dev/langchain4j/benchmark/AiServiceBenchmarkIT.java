@@ -0,0 +1,47 @@
+package dev.langchain4j.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.benchmark.AiServiceBenchmark.LoadTestResult;
+import dev.langchain4j.benchmark.AiServiceBenchmark.Result;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class AiServiceBenchmarkIT {
+
+    StubLlmServer server = StubLlmServer.builder().build();
+    AiServiceBenchmark benchmark = new AiServiceBenchmark(server);
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Provider.class)
+    void should_measure_every_layer(Provider provider) throws Exception {
+        for (boolean streaming : new boolean[] {false, true}) {
+            for (Layer layer : Layer.values()) {
+                long requestsBefore = server.requestCount();
+
+                Result result = benchmark.run(provider, layer, streaming, 20, 50);
+                assertThat(result.meanMicros()).isPositive();
+                assertThat(result.p99Micros()).isGreaterThanOrEqualTo(result.p50Micros());
+                assertThat(result.allocatedBytesPerInvocation()).isPositive();
+                int requestsPerInvocation = layer == Layer.TOOLS || layer == Layer.RAG ? 2 : 1;
+                assertThat(server.requestCount() - requestsBefore).isEqualTo(70L * requestsPerInvocation);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Provider.class)
+    void should_measure_throughput_under_load(Provider provider) throws Exception {
+        LoadTestResult result =
+                benchmark.loadTest(provider, Layer.RAG, true, 4, Duration.ofMillis(200), Duration.ofMillis(500));
+        assertThat(result.invocations()).isPositive();
+        assertThat(result.invocationsPerSecond()).isPositive();
+    }
+}
@@ -0,0 +1,20 @@
+package dev.langchain4j.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.benchmark.CodeExecutionBenchmark.Language;
+import dev.langchain4j.benchmark.CodeExecutionBenchmark.Result;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class CodeExecutionBenchmarkIT {
+
+    @ParameterizedTest
+    @EnumSource(Language.class)
+    void should_measure_cold_and_pooled_execution(Language language) {
+        Result result = CodeExecutionBenchmark.run(language, 2);
+
+        assertThat(result.cold()).isPositive();
+        assertThat(result.pooled()).isPositive();
+    }
+}
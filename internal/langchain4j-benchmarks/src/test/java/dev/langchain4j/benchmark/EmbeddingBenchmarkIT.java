@@ -0,0 +1,34 @@
+package dev.langchain4j.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.benchmark.EmbeddingBenchmark.LoadTestResult;
+import dev.langchain4j.benchmark.EmbeddingBenchmark.ThroughputResult;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class EmbeddingBenchmarkIT {
+
+    @Test
+    void should_measure_ollama_throughput() {
+        try (StubLlmServer server = StubLlmServer.builder().build()) {
+            ThroughputResult result = new EmbeddingBenchmark(server)
+                    .ollama(4, 2, EmbeddingBenchmark.syntheticSegments(10, 8), 1, 2);
+
+            assertThat(result.segmentCount()).isEqualTo(10);
+            assertThat(result.segmentsPerSecond()).isPositive();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void should_measure_single_segment_calls(boolean microBatching) throws Exception {
+        LoadTestResult result =
+                EmbeddingBenchmark.singleSegmentCalls(microBatching, 4, Duration.ofMillis(100), Duration.ofMillis(300));
+
+        assertThat(result.calls()).isPositive();
+        assertThat(result.p99Micros()).isGreaterThanOrEqualTo(result.p50Micros());
+    }
+}
@@ -0,0 +1,21 @@
+package dev.langchain4j.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.benchmark.GuardrailBenchmark.Guardrail;
+import dev.langchain4j.benchmark.GuardrailBenchmark.Result;
+import java.time.Duration;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class GuardrailBenchmarkIT {
+
+    @ParameterizedTest
+    @EnumSource(Guardrail.class)
+    void should_measure_time_to_first_token(Guardrail guardrail) throws Exception {
+        Result result = new GuardrailBenchmark(16, Duration.ofMillis(1)).run(guardrail, 2);
+
+        assertThat(result.guardrail()).isEqualTo(guardrail);
+        assertThat(result.timeToFirstToken()).isPositive();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.langchain4j.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.benchmark.HttpCompressionBenchmark.Result;
+import org.junit.jupiter.api.Test;
+
+class HttpCompressionBenchmarkIT {
+
+    @Test
+    void should_measure_bytes_on_wire_with_and_without_compression() throws Exception {
+        try (HttpCompressionBenchmark benchmark = new HttpCompressionBenchmark()) {
+            Result plain = benchmark.run(false, 16 * 1024, 1, 3);
+            Result compressed = benchmark.run(true, 16 * 1024, 1, 3);
+
+            assertThat(plain.requestBytes()).isEqualTo(plain.bodyBytes());
+            assertThat(compressed.requestBytes()).isLessThan(plain.requestBytes());
+            assertThat(compressed.responseBytes()).isLessThan(plain.responseBytes());
+        }
+    }
+}
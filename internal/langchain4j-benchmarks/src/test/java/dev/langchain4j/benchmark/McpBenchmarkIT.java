@@ -0,0 +1,32 @@
+package dev.langchain4j.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.benchmark.McpBenchmark.LoadTestResult;
+import dev.langchain4j.benchmark.McpBenchmark.Result;
+import java.time.Duration;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class McpBenchmarkIT {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void should_measure_tool_calls(int poolSize) throws Exception {
+        Result result = new McpBenchmark(Duration.ZERO, 100).run(poolSize, 10, 20);
+
+        assertThat(result.iterations()).isEqualTo(20);
+        assertThat(result.meanMicros()).isPositive();
+        assertThat(result.p99Micros()).isGreaterThanOrEqualTo(result.p50Micros());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void should_measure_throughput_under_load(int poolSize) throws Exception {
+        LoadTestResult result = new McpBenchmark(Duration.ofMillis(1), 100)
+                .loadTest(poolSize, 4, Duration.ofMillis(200), Duration.ofMillis(500));
+
+        assertThat(result.calls()).isPositive();
+        assertThat(result.callsPerSecond()).isPositive();
+    }
+}
@@ -0,0 +1,39 @@
+package dev.langchain4j.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.benchmark.SerializationBenchmark.CodecResult;
+import dev.langchain4j.benchmark.SerializationBenchmark.ToolsResult;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class SerializationBenchmarkIT {
+
+    private final SerializationBenchmark benchmark = new SerializationBenchmark(5, 10);
+
+    @ParameterizedTest
+    @EnumSource(value = Provider.class, names = {"OPEN_AI", "ANTHROPIC"})
+    void should_measure_tool_serialization(Provider provider) {
+        ToolsResult result = benchmark.tools(provider, 20);
+
+        assertThat(result.newToolsMicros()).isPositive();
+        assertThat(result.reusedToolsMicros()).isPositive();
+    }
+
+    @Test
+    void should_measure_chat_message_codecs() {
+        List<CodecResult> results = benchmark.chatMessages(50);
+
+        assertThat(results).extracting(CodecResult::codec).containsExactly("json", "binary");
+        assertThat(results.get(1).encodedBytes()).isLessThan(results.get(0).encodedBytes());
+    }
+
+    @Test
+    void should_measure_reflection_caches() {
+        assertThat(benchmark.reflection())
+                .extracting(SerializationBenchmark.CacheResult::name)
+                .containsExactly("json schema", "tool specifications");
+    }
+}
@@ -0,0 +1,174 @@
+package dev.langchain4j.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.json.JsonObjectSchema;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.ollama.OllamaEmbeddingModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.TokenStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class StubLlmServerTest {
+
+    interface Assistant {
+
+        String chat(String message);
+    }
+
+    interface StreamingAssistant {
+
+        TokenStream chat(String message);
+    }
+
+    StubLlmServer server = StubLlmServer.builder().tokensPerResponse(10).build();
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Provider.class)
+    void should_answer_with_the_configured_number_of_tokens(Provider provider) {
+        ChatModel model = provider.chatModel(server);
+
+        ChatResponse response = model.chat(
+                ChatRequest.builder().messages(UserMessage.from("Hi")).build());
+
+        assertThat(response.aiMessage().text()).isEqualTo("The quick brown fox jumps over the lazy dog. ");
+        assertThat(response.finishReason()).isEqualTo(FinishReason.STOP);
+        assertThat(response.tokenUsage().outputTokenCount()).isEqualTo(10);
+        assertThat(response.tokenUsage().inputTokenCount()).isPositive();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Provider.class)
+    void should_stream_one_token_per_event(Provider provider) throws Exception {
+        List<String> partialResponses = new CopyOnWriteArrayList<>();
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+
+        provider.streamingChatModel(server)
+                .chat(
+                        ChatRequest.builder().messages(UserMessage.from("Hi")).build(),
+                        new StreamingChatResponseHandler() {
+
+                            @Override
+                            public void onPartialResponse(String partialResponse) {
+                                partialResponses.add(partialResponse);
+                            }
+
+                            @Override
+                            public void onCompleteResponse(ChatResponse completeResponse) {
+                                future.complete(completeResponse);
+                            }
+
+                            @Override
+                            public void onError(Throwable error) {
+                                future.completeExceptionally(error);
+                            }
+                        });
+
+        ChatResponse response = future.get(10, TimeUnit.SECONDS);
+        assertThat(partialResponses).hasSize(10).startsWith("The ", "quick ");
+        assertThat(response.aiMessage().text()).isEqualTo(String.join("", partialResponses));
+        assertThat(response.finishReason()).isEqualTo(FinishReason.STOP);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Provider.class)
+    void should_call_the_first_tool_with_arguments_matching_its_schema(Provider provider) {
+        ToolSpecification tool = ToolSpecification.builder()
+                .name("currentWeather")
+                .parameters(JsonObjectSchema.builder()
+                        .addStringProperty("city")
+                        .addIntegerProperty("days")
+                        .build())
+                .build();
+
+        ChatResponse response = provider.chatModel(server)
+                .chat(ChatRequest.builder()
+                        .messages(UserMessage.from("What is the weather in Berlin?"))
+                        .toolSpecifications(tool)
+                        .build());
+
+        assertThat(response.aiMessage().toolExecutionRequests()).hasSize(1);
+        assertThat(response.aiMessage().toolExecutionRequests().get(0).name()).isEqualTo("currentWeather");
+        assertThat(response.aiMessage().toolExecutionRequests().get(0).arguments())
+                .isEqualToIgnoringWhitespace("{\"city\":\"stub\",\"days\":1}");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Provider.class)
+    void should_answer_once_the_tool_has_been_executed(Provider provider) throws Exception {
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(provider.chatModel(server))
+                .tools(new AiServiceBenchmark.WeatherTools())
+                .build();
+        StreamingAssistant streamingAssistant = AiServices.builder(StreamingAssistant.class)
+                .streamingChatModel(provider.streamingChatModel(server))
+                .tools(new AiServiceBenchmark.WeatherTools())
+                .build();
+
+        assertThat(assistant.chat("What is the weather in Berlin?")).startsWith("The quick brown fox");
+        assertThat(server.requestCount()).isEqualTo(2);
+
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+        streamingAssistant
+                .chat("What is the weather in Berlin?")
+                .onCompleteResponse(future::complete)
+                .onError(future::completeExceptionally)
+                .start();
+        assertThat(future.get(10, TimeUnit.SECONDS).aiMessage().text()).startsWith("The quick brown fox");
+        assertThat(server.requestCount()).isEqualTo(4);
+    }
+
+    @Test
+    void should_answer_ollama_embedding_requests() {
+        OllamaEmbeddingModel model = OllamaEmbeddingModel.builder()
+                .baseUrl(server.ollamaBaseUrl())
+                .modelName("stub")
+                .maxSegmentsPerBatch(2)
+                .build();
+
+        List<Embedding> embeddings = model.embedAll(
+                        List.of(TextSegment.from("one"), TextSegment.from("two"), TextSegment.from("three")))
+                .content();
+
+        assertThat(embeddings).hasSize(3).allSatisfy(embedding -> assertThat(embedding.dimension())
+                .isEqualTo(384));
+        assertThat(server.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_generate_tokens_at_the_configured_rate() {
+        try (StubLlmServer slowServer = StubLlmServer.builder()
+                .tokensPerResponse(10)
+                .tokensPerSecond(100)
+                .timeToFirstToken(Duration.ofMillis(100))
+                .build()) {
+            ChatModel model = Provider.OPEN_AI.chatModel(slowServer);
+
+            long start = System.nanoTime();
+            model.chat("Hi");
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package dev.langchain4j.agentic.patterns.goap;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
-import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -73,172 +76,263 @@ public class DependencyGraphSearch {
     }
 
     /**
-     * Represents the state of the search: which nodes have been activated
+     * Finds the shortest sequence of nodes to activate, starting from the given preconditions, in order to
+     * activate the goal. The returned path starts with the preconditions, followed by the activated nodes.
+     *
+     * @return List of nodes in activation order, or null if no path exists
      */
-    record SearchState(Set<Node> activatedNodes, Node currentNode, int depth) {
-        SearchState activateNode(Node node) {
-            Set<Node> newActivated = new HashSet<>(activatedNodes);
-            newActivated.add(node);
-            return new SearchState(newActivated, node, depth + 1);
-        }
+    public static List<Node> search(Node goal, Node... preconditions) {
+        return search(goal, Stream.of(preconditions).collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
 
-        boolean canActivate(Node node) {
-            // A node can be activated if all its input dependencies are satisfied
-            return activatedNodes.containsAll(node.getInputNodes());
+    public static List<Node> search(Node goal, Collection<Node> preconditions) {
+        List<Node> nodes = new ArrayList<>(preconditions);
+        if (goal != null) {
+            nodes.add(goal);
         }
+        return compile(nodes).search(goal, preconditions);
     }
 
     /**
-     * Wrapper for priority queue with f-score
+     * Compiles the graph of the given nodes, and of all the nodes connected to them, into a form that can be searched
+     * multiple times. The compiled graph is a snapshot: nodes and edges added afterward are not taken into account.
      */
-    record StateScore(SearchState state, double fScore) implements Comparable<StateScore> {
-
-        @Override
-        public int compareTo(StateScore other) {
-            return Double.compare(this.fScore, other.fScore);
-        }
+    public static CompiledGraph compile(Collection<Node> nodes) {
+        return new CompiledGraph(nodes);
     }
 
     /**
-     * Heuristic function for estimating remaining cost
+     * A dependency graph whose nodes are identified by integers, so that the set of activated nodes of each state
+     * explored by the search is a bitset. The results of the searches are cached by goal and preconditions.
      */
-    interface Heuristic {
-        double estimate(SearchState state, Node goal);
-    }
-
-    public static List<Node> search(Node goal, Node... preconditions) {
-        return search(goal, Stream.of(preconditions).collect(Collectors.toSet()));
-    }
-
-    public static List<Node> search(Node goal, Collection<Node> preconditions) {
-        // Simple heuristic: number of unsatisfied dependencies
-        Heuristic heuristic = (state, goalNode) -> {
-            if (state.activatedNodes.contains(goalNode)) {
-                return 0.0;
+    public static class CompiledGraph {
+
+        static final int MAX_CACHED_PATHS = 1024;
+
+        private final List<Node> nodes = new ArrayList<>();
+        private final Map<Node, Integer> ids = new HashMap<>();
+        private final int words;
+        private final int[][] inputs;
+        private final long[][] inputMasks;
+
+        private final Map<PathKey, int[]> paths = new ConcurrentHashMap<>();
+
+        private CompiledGraph(Collection<Node> roots) {
+            Deque<Node> toVisit = new ArrayDeque<>(roots);
+            while (!toVisit.isEmpty()) {
+                Node node = toVisit.poll();
+                if (node != null && !ids.containsKey(node)) {
+                    ids.put(node, nodes.size());
+                    nodes.add(node);
+                    toVisit.addAll(node.getInputNodes());
+                    toVisit.addAll(node.getOutputNodes());
+                }
             }
-            // Estimate remaining nodes to activate
-            Set<Node> remaining = new HashSet<>();
-            Queue<Node> toCheck = new LinkedList<>();
-            toCheck.add(goalNode);
 
-            while (!toCheck.isEmpty()) {
-                Node node = toCheck.poll();
-                if (!state.activatedNodes.contains(node)) {
-                    remaining.add(node);
-                    toCheck.addAll(node.getInputNodes());
+            this.words = Math.max(1, (nodes.size() + 63) >>> 6);
+            this.inputs = new int[nodes.size()][];
+            this.inputMasks = new long[nodes.size()][];
+            for (int i = 0; i < nodes.size(); i++) {
+                inputs[i] = nodes.get(i).getInputNodes().stream().mapToInt(ids::get).toArray();
+                inputMasks[i] = new long[words];
+                for (int input : inputs[i]) {
+                    set(inputMasks[i], input);
                 }
             }
-
-            return remaining.size();
-        };
-        return search(preconditions, goal, heuristic);
-    }
-
-    /**
-     * Finds shortest path considering dependency constraints
-     *
-     * @param startNodes Set of nodes that are already active (preconditions)
-     * @param goal The goal node
-     * @param heuristic Heuristic function for A*
-     * @return List of nodes in activation order, or null if no path exists
-     */
-    private static List<Node> search(Collection<Node> startNodes, Node goal, Heuristic heuristic) {
-        if (startNodes == null || startNodes.isEmpty()) {
-            throw new IllegalArgumentException("Must provide at least one start node");
         }
 
-        // Initial state: all start nodes are already activated
-        Set<Node> initialActivated = new HashSet<>(startNodes);
-        // Use first start node as current (arbitrary choice since all are active)
-        SearchState initialState = new SearchState(initialActivated, startNodes.iterator().next(), 0);
-
-        PriorityQueue<StateScore> openSet = new PriorityQueue<>();
-        Set<SearchState> visited = new HashSet<>();
-        Map<SearchState, SearchState> cameFrom = new HashMap<>();
-        Map<SearchState, Double> gScore = new HashMap<>();
+        /**
+         * @return List of nodes in activation order, starting with the preconditions, or null if no path exists
+         */
+        public List<Node> search(Node goal, Collection<Node> preconditions) {
+            if (preconditions == null || preconditions.isEmpty()) {
+                throw new IllegalArgumentException("Must provide at least one start node");
+            }
+            Integer goalId = ids.get(goal);
+            if (goalId == null) {
+                return null;
+            }
 
-        gScore.put(initialState, 0.0);
-        openSet.add(new StateScore(initialState, heuristic.estimate(initialState, goal)));
+            long[] initial = new long[words];
+            for (Node precondition : preconditions) {
+                Integer id = ids.get(precondition);
+                if (id != null) {
+                    set(initial, id);
+                }
+            }
 
-        while (!openSet.isEmpty()) {
-            SearchState current = openSet.poll().state;
+            PathKey key = new PathKey(goalId, new BitKey(initial));
+            int[] activations = paths.get(key);
+            if (activations == null) {
+                activations = search(initial, goalId);
+                if (paths.size() >= MAX_CACHED_PATHS) {
+                    paths.clear();
+                }
+                paths.put(key, activations);
+            }
+            if (activations == NO_PATH) {
+                return null;
+            }
 
-            if (visited.contains(current)) {
-                continue;
+            List<Node> path = new ArrayList<>(new LinkedHashSet<>(preconditions));
+            for (int id : activations) {
+                path.add(nodes.get(id));
             }
-            visited.add(current);
+            return path;
+        }
 
-            // Check if goal is reached
-            if (current.currentNode.equals(goal)) {
-                return reconstructPath(cameFrom, current);
+        /**
+         * A* search over the sets of activated nodes. Only the nodes that the goal transitively depends on
+         * through not yet activated nodes can be part of the shortest path, so the search is restricted to them,
+         * and the number of them still to be activated is an exact estimate of the remaining cost.
+         */
+        private int[] search(long[] initial, int goal) {
+            long[] relevant = relevantNodes(initial, goal);
+            for (int id = nextSetBit(relevant, 0); id >= 0; id = nextSetBit(relevant, id + 1)) {
+                if (inputs[id].length == 0) {
+                    // a node that is neither a precondition nor the output of any other node cannot be activated
+                    return NO_PATH;
+                }
             }
 
-            double currentGScore = gScore.get(current);
+            PriorityQueue<SearchState> openSet = new PriorityQueue<>();
+            Set<BitKey> seen = new HashSet<>();
+            SearchState initialState = new SearchState(initial, -1, null, 0, cardinality(relevant, initial));
+            openSet.add(initialState);
+            seen.add(new BitKey(initial));
 
-            // Explore all nodes that can now be activated
-            for (Node nextNode : findActivatableNodes(current)) {
-                SearchState nextState = current.activateNode(nextNode);
+            while (!openSet.isEmpty()) {
+                SearchState current = openSet.poll();
+                if (isSet(current.activated(), goal)) {
+                    return current.activations();
+                }
 
-                if (visited.contains(nextState)) {
-                    continue;
+                // Explore all nodes that can now be activated
+                for (int id = nextSetBit(relevant, 0); id >= 0; id = nextSetBit(relevant, id + 1)) {
+                    if (!isSet(current.activated(), id) && containsAll(current.activated(), inputMasks[id])) {
+                        long[] activated = current.activated().clone();
+                        set(activated, id);
+                        if (seen.add(new BitKey(activated))) {
+                            openSet.add(new SearchState(
+                                    activated, id, current, current.depth() + 1, current.remaining() - 1));
+                        }
+                    }
                 }
+            }
 
-                double tentativeGScore = currentGScore + 1.0; // Cost of activating one node
+            return NO_PATH;
+        }
 
-                if (tentativeGScore < gScore.getOrDefault(nextState, Double.POSITIVE_INFINITY)) {
-                    cameFrom.put(nextState, current);
-                    gScore.put(nextState, tentativeGScore);
-                    double fScore = tentativeGScore + heuristic.estimate(nextState, goal);
-                    openSet.add(new StateScore(nextState, fScore));
+        private long[] relevantNodes(long[] activated, int goal) {
+            long[] relevant = new long[words];
+            Deque<Integer> toCheck = new ArrayDeque<>();
+            toCheck.add(goal);
+            while (!toCheck.isEmpty()) {
+                int id = toCheck.poll();
+                if (!isSet(activated, id) && !isSet(relevant, id)) {
+                    set(relevant, id);
+                    for (int input : inputs[id]) {
+                        toCheck.add(input);
+                    }
                 }
             }
+            return relevant;
         }
 
-        return null; // No path found
+        int cachedPaths() {
+            return paths.size();
+        }
     }
 
+    private static final int[] NO_PATH = new int[0];
+
+    private record PathKey(int goal, BitKey preconditions) {}
+
     /**
-     * Finds all nodes that can be activated given the current state
+     * Immutable wrapper of a bitset, usable as a key of hash-based collections.
      */
-    private static Set<Node> findActivatableNodes(SearchState state) {
-        Set<Node> activatable = new HashSet<>();
-
-        // Check all output nodes of already activated nodes
-        for (Node activatedNode : state.activatedNodes) {
-            for (Node outputNode : activatedNode.getOutputNodes()) {
-                if (!state.activatedNodes.contains(outputNode) && state.canActivate(outputNode)) {
-                    activatable.add(outputNode);
-                }
-            }
+    private record BitKey(long[] bits) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BitKey other && Arrays.equals(bits, other.bits);
         }
 
-        return activatable;
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(bits);
+        }
     }
 
     /**
-     * Reconstructs the path by following cameFrom references
+     * Represents the state of the search: which nodes have been activated, the last of them and the state it
+     * has been activated from. Since the cost of a state is the number of its activated nodes, a state is
+     * always reached with the same cost and doesn't need to be explored more than once.
      */
-    private static List<Node> reconstructPath(Map<SearchState, SearchState> cameFrom, SearchState current) {
-        List<Node> path = new ArrayList<>();
+    private record SearchState(long[] activated, int node, SearchState previous, int depth, int remaining)
+            implements Comparable<SearchState> {
+
+        int fScore() {
+            return depth + remaining;
+        }
 
-        // Collect all states in reverse order
-        List<SearchState> states = new ArrayList<>();
-        states.add(current);
+        int[] activations() {
+            int[] activations = new int[depth];
+            SearchState state = this;
+            for (int i = depth - 1; i >= 0; i--) {
+                activations[i] = state.node;
+                state = state.previous;
+            }
+            return activations;
+        }
 
-        while (cameFrom.containsKey(current)) {
-            current = cameFrom.get(current);
-            states.add(0, current);
+        @Override
+        public int compareTo(SearchState other) {
+            int byScore = Integer.compare(fScore(), other.fScore());
+            // among equally promising states, prefer the deepest ones to reach the goal first
+            return byScore != 0 ? byScore : Integer.compare(other.depth, depth);
         }
+    }
 
-        // Extract the sequence of activated nodes
-        Set<Node> previouslyActivated = new HashSet<>();
-        for (SearchState state : states) {
-            Set<Node> newNodes = new HashSet<>(state.activatedNodes);
-            newNodes.removeAll(previouslyActivated);
-            path.addAll(newNodes);
-            previouslyActivated = state.activatedNodes;
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static boolean containsAll(long[] bits, long[] mask) {
+        for (int i = 0; i < mask.length; i++) {
+            if ((bits[i] & mask[i]) != mask[i]) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    private static int cardinality(long[] bits, long[] excluded) {
+        int count = 0;
+        for (int i = 0; i < bits.length; i++) {
+            count += Long.bitCount(bits[i] & ~excluded[i]);
+        }
+        return count;
+    }
 
-        return path;
+    private static int nextSetBit(long[] bits, int fromIndex) {
+        int word = fromIndex >>> 6;
+        if (word >= bits.length) {
+            return -1;
+        }
+        long current = bits[word] & (-1L << fromIndex);
+        while (true) {
+            if (current != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(current);
+            }
+            if (++word == bits.length) {
+                return -1;
+            }
+            current = bits[word];
+        }
     }
 }
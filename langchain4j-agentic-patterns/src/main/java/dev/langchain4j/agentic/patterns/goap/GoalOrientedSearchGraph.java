@@ -6,6 +6,7 @@ import dev.langchain4j.agentic.planner.AgentInstance;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,34 +17,79 @@ public class GoalOrientedSearchGraph {
 
     private static final Logger LOG = LoggerFactory.getLogger(GoalOrientedSearchGraph.class);
 
+    static final int MAX_CACHED_STRUCTURES = 256;
+
+    // a planner, and then its graph, is created for each invocation of a goal oriented agent, so the structure
+    // of the graph, that only depends on the arguments and the output keys of the agents, is shared among them.
+    // Only the MAX_CACHED_STRUCTURES least recently used structures are kept: an application building more
+    // distinct sets of agents than that recompiles the evicted ones, losing the paths already found on them.
+    private static final Map<List<AgentSignature>, Structure> STRUCTURES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<AgentSignature>, Structure> eldest) {
+            return size() > MAX_CACHED_STRUCTURES;
+        }
+    };
+
     private record NodePair(Node input, Node output) {}
 
-    private final Map<String, Node> nodes = new HashMap<>();
-    private final Map<NodePair, AgentInstance> edges = new HashMap<>();
+    private record AgentSignature(List<String> arguments, String outputKey) {}
+
+    private static class Structure {
+
+        private final Map<String, Node> nodes = new HashMap<>();
+        // the agent of each edge, as its index in the list of agents
+        private final Map<NodePair, Integer> edges = new HashMap<>();
+        private final DependencyGraphSearch.CompiledGraph compiledGraph;
+
+        private Structure(List<AgentSignature> agents) {
+            for (int i = 0; i < agents.size(); i++) {
+                AgentSignature agent = agents.get(i);
+                List<Node> inputs = agent.arguments().stream()
+                        .map(arg -> nodes.computeIfAbsent(arg, Node::new))
+                        .toList();
+                Node output = nodes.computeIfAbsent(agent.outputKey(), Node::new);
+
+                int agentIndex = i;
+                inputs.forEach(input -> {
+                    input.addOutput(output);
+                    edges.put(new NodePair(input, output), agentIndex);
+                });
+            }
+            this.compiledGraph = DependencyGraphSearch.compile(nodes.values());
+        }
+    }
+
+    private final List<AgentInstance> agents;
+    private final Structure structure;
 
     public GoalOrientedSearchGraph(List<AgentInstance> agents) {
-        init(agents);
+        this.agents = List.copyOf(agents);
+        List<AgentSignature> signatures = agents.stream()
+                .map(agent -> new AgentSignature(
+                        agent.arguments().stream().map(AgentArgument::name).toList(), agent.outputKey()))
+                .toList();
+        this.structure = structureOf(signatures);
     }
 
-    private void init(List<AgentInstance> agents) {
-        for (AgentInstance agent : agents) {
-            List<Node> inputs = agent.arguments().stream()
-                    .map(AgentArgument::name)
-                    .map(arg -> nodes.computeIfAbsent(arg, Node::new))
-                    .toList();
-            Node output = nodes.computeIfAbsent(agent.outputKey(), Node::new);
-
-            inputs.forEach(input -> {
-                input.addOutput(output);
-                edges.put(new NodePair(input, output), agent);
-            });
+    private static Structure structureOf(List<AgentSignature> signatures) {
+        synchronized (STRUCTURES) {
+            Structure structure = STRUCTURES.get(signatures);
+            if (structure != null) {
+                return structure;
+            }
+        }
+        // compiled outside the lock, so that building an unrelated agentic system does not wait for it
+        Structure structure = new Structure(signatures);
+        synchronized (STRUCTURES) {
+            Structure existing = STRUCTURES.putIfAbsent(signatures, structure);
+            return existing != null ? existing : structure;
         }
     }
 
     public List<AgentInstance> search(Collection<String> preconditions, String goal) {
-        List<Node> nodesPath = DependencyGraphSearch.search(
-                nodes.get(goal),
-                preconditions.stream().map(nodes::get).filter(Objects::nonNull).toList());
+        List<Node> nodesPath = structure.compiledGraph.search(
+                structure.nodes.get(goal),
+                preconditions.stream().map(structure.nodes::get).filter(Objects::nonNull).toList());
 
         if (nodesPath == null) {
             return List.of();
@@ -58,9 +104,9 @@ public class GoalOrientedSearchGraph {
                 continue;
             }
             for (int j = i - 1; j >= 0; j--) {
-                AgentInstance agent = edges.get(new NodePair(nodesPath.get(j), output));
-                if (agent != null) {
-                    agentsPath.add(agent);
+                Integer agentIndex = structure.edges.get(new NodePair(nodesPath.get(j), output));
+                if (agentIndex != null) {
+                    agentsPath.add(agents.get(agentIndex));
                     break;
                 }
             }
@@ -0,0 +1,120 @@
+package dev.langchain4j.agentic.patterns.goap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agentic.patterns.goap.DependencyGraphSearch.CompiledGraph;
+import dev.langchain4j.agentic.patterns.goap.DependencyGraphSearch.Node;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DependencyGraphSearchTest {
+
+    @Test
+    void should_activate_a_node_only_after_all_its_inputs() {
+        Node prompt = new Node("prompt");
+        Node person = new Node("person");
+        Node sign = new Node("sign");
+        Node story = new Node("story");
+        Node horoscope = new Node("horoscope");
+        Node writeup = new Node("writeup");
+        prompt.addOutput(person);
+        prompt.addOutput(sign);
+        person.addOutput(horoscope);
+        sign.addOutput(horoscope);
+        person.addOutput(story);
+        horoscope.addOutput(writeup);
+        story.addOutput(writeup);
+
+        List<Node> path = DependencyGraphSearch.search(writeup, prompt);
+
+        assertThat(path).hasSize(6).startsWith(prompt).endsWith(writeup);
+        assertThat(path).containsExactlyInAnyOrder(prompt, person, sign, story, horoscope, writeup);
+        assertThat(path.indexOf(horoscope)).isGreaterThan(path.indexOf(person));
+        assertThat(path.indexOf(horoscope)).isGreaterThan(path.indexOf(sign));
+        assertThat(path.indexOf(writeup)).isGreaterThan(path.indexOf(story));
+    }
+
+    @Test
+    void should_not_activate_nodes_the_goal_does_not_depend_on() {
+        Node a = new Node("a");
+        Node b = new Node("b");
+        Node c = new Node("c");
+        Node unrelated = new Node("unrelated");
+        a.addOutput(b);
+        b.addOutput(c);
+        a.addOutput(unrelated);
+
+        assertThat(DependencyGraphSearch.search(c, a)).containsExactly(a, b, c);
+    }
+
+    @Test
+    void should_start_from_already_satisfied_preconditions() {
+        Node a = new Node("a");
+        Node b = new Node("b");
+        Node c = new Node("c");
+        Node d = new Node("d");
+        a.addOutput(b);
+        b.addOutput(c);
+        c.addOutput(d);
+
+        assertThat(DependencyGraphSearch.search(d, a, c)).containsExactly(a, c, d);
+    }
+
+    @Test
+    void should_return_null_when_an_input_cannot_be_produced() {
+        Node a = new Node("a");
+        Node missing = new Node("missing");
+        Node goal = new Node("goal");
+        a.addOutput(goal);
+        missing.addOutput(goal);
+
+        assertThat(DependencyGraphSearch.search(goal, a)).isNull();
+    }
+
+    @Test
+    void should_require_a_precondition() {
+        Node goal = new Node("goal");
+
+        assertThatThrownBy(() -> DependencyGraphSearch.search(goal, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_reuse_the_paths_already_found_by_a_compiled_graph() {
+        Node a = new Node("a");
+        Node b = new Node("b");
+        Node c = new Node("c");
+        a.addOutput(b);
+        b.addOutput(c);
+        CompiledGraph graph = DependencyGraphSearch.compile(List.of(a));
+
+        List<Node> first = graph.search(c, List.of(a));
+        List<Node> second = graph.search(c, List.of(a));
+        List<Node> fromIntermediateState = graph.search(c, List.of(a, b));
+
+        assertThat(first).containsExactly(a, b, c);
+        assertThat(second).isEqualTo(first);
+        assertThat(fromIntermediateState).containsExactly(a, b, c);
+        assertThat(graph.cachedPaths()).isEqualTo(2);
+    }
+
+    @Test
+    void should_search_graphs_larger_than_a_word() {
+        // a chain of 200 nodes, where each node also depends on the first one
+        Node first = new Node("n0");
+        Node previous = first;
+        for (int i = 1; i < 200; i++) {
+            Node next = new Node("n" + i);
+            previous.addOutput(next);
+            if (previous != first) {
+                first.addOutput(next);
+            }
+            previous = next;
+        }
+
+        List<Node> path = DependencyGraphSearch.search(previous, first);
+
+        assertThat(path).hasSize(200).startsWith(first).endsWith(previous);
+    }
+}
@@ -46,6 +46,7 @@ import dev.langchain4j.agentic.supervisor.SupervisorAgent;
 import dev.langchain4j.agentic.supervisor.SupervisorAgentService;
 import dev.langchain4j.agentic.supervisor.SupervisorAgentServiceImpl;
 import dev.langchain4j.agentic.workflow.ConditionalAgentService;
+import dev.langchain4j.agentic.workflow.DataflowAgentService;
 import dev.langchain4j.agentic.workflow.HumanInTheLoop;
 import dev.langchain4j.agentic.workflow.LoopAgentService;
 import dev.langchain4j.agentic.workflow.ParallelAgentService;
@@ -184,6 +185,25 @@ public class AgenticServices {
         return workflowAgentsBuilder().parallelMapperBuilder(agentServiceClass);
     }
 
+    /**
+     * Creates a builder for an untyped agent implementing a dataflow workflow of its subagents,
+     * invoking each of them as soon as the subagents producing its arguments have completed.
+     */
+    public static DataflowAgentService<UntypedAgent> dataflowBuilder() {
+        return workflowAgentsBuilder().dataflowBuilder();
+    }
+
+    /**
+     * Creates a builder for an agent implementing a dataflow workflow of its subagents,
+     * invoking each of them as soon as the subagents producing its arguments have completed,
+     * that can be invoked in a strongly typed way through the provided agent service interface.
+     *
+     * @param agentServiceClass the class of the agent service
+     */
+    public static <T> DataflowAgentService<T> dataflowBuilder(Class<T> agentServiceClass) {
+        return workflowAgentsBuilder().dataflowBuilder(agentServiceClass);
+    }
+
     /**
      * Creates a builder for an untyped agent implementing a loop workflow of its subagents.
      */
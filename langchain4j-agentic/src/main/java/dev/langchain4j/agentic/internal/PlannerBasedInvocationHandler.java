@@ -18,10 +18,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -350,8 +350,12 @@ public class PlannerBasedInvocationHandler implements InvocationHandler, Interna
         private final DefaultAgenticScope agenticScope;
         private final AgenticScopeRegistry registry;
         private final ReentrantLock lock = new ReentrantLock();
+        private final Condition stateChanged = lock.newCondition();
 
-        private volatile Action nextAction = null;
+        // guarded by lock
+        private Action nextAction = null;
+        private int runningAgents = 0;
+        private Throwable failure = null;
 
         private PlannerLoop(Planner planner, DefaultAgenticScope agenticScope, AgenticScopeRegistry registry) {
             this.planner = planner;
@@ -366,47 +370,161 @@ public class PlannerBasedInvocationHandler implements InvocationHandler, Interna
                 planner.restoreExecutionState(savedState);
             }
 
-            nextAction = planner.firstAction(new PlanningContext(agenticScope, null));
-            while (nextAction == null || !nextAction.isDone()) {
-                if (nextAction == null) {
-                    Thread.yield();
-                    continue;
-                }
-                List<AgentExecutor> agents = ((Action.AgentCallAction) nextAction).agentsToCall();
-                nextAction = null;
-                switch (agents.size()) {
-                    case 0 -> Thread.yield();
-                    case 1 -> agents.get(0).execute(agenticScope, this);
-                    default -> parallelExecution(agents);
-                }
+            Action firstAction = planner.firstAction(new PlanningContext(agenticScope, null));
+            lock.lock();
+            try {
+                nextAction = firstAction;
+            } finally {
+                lock.unlock();
             }
 
+            Action action = planner.callsAgentsEagerly() ? eagerLoop() : batchLoop();
+
             // Clear execution state when planner is done
             agenticScope.writeState(executionStateId(), null);
 
-            return result();
+            return result(action);
+        }
+
+        private Action batchLoop() {
+            Action action;
+            while (!(action = takeNextAction()).isDone()) {
+                List<AgentExecutor> agents = ((Action.AgentCallAction) action).agentsToCall();
+                if (agents.size() == 1) {
+                    agents.get(0).execute(agenticScope, this);
+                } else {
+                    dispatch(agents);
+                    awaitRunningAgents();
+                }
+            }
+            return action;
+        }
+
+        private Action eagerLoop() {
+            Action action;
+            while (!(action = awaitNextAction()).isDone()) {
+                dispatch(((Action.AgentCallAction) action).agentsToCall());
+            }
+            awaitRunningAgents();
+            return action;
         }
 
         private String executionStateId() {
             return EXECUTION_STATE_PREFIX + agentId();
         }
 
-        private void parallelExecution(List<AgentExecutor> agents) {
-            Executor exec = executor != null ? executor : DefaultExecutorProvider.getDefaultExecutorService();
-            var tasks = agents.stream()
-                    .map(agentExecutor -> CompletableFuture.supplyAsync(() -> agentExecutor.execute(agenticScope, this), exec))
-                    .toArray(CompletableFuture[]::new);
+        /**
+         * Hands over the action produced by the planner to the loop. Actions calling no agent are discarded,
+         * and since every agent invocation triggers the planner before returning, an empty action with no agent
+         * left running means that the planner will never produce anything else to do.
+         */
+        private Action takeNextAction() {
+            lock.lock();
+            try {
+                Action action = nextAction;
+                nextAction = null;
+                if (action == null || isEmptyCall(action)) {
+                    throw noActionException();
+                }
+                return action;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Like {@link #takeNextAction()}, but waits for an agent to complete while there is nothing to do.
+         * After a failure no more agents are started, and the failure is rethrown once the running ones completed.
+         */
+        private Action awaitNextAction() {
+            lock.lock();
             try {
-                CompletableFuture.allOf(tasks).get();
+                while (true) {
+                    if (failure != null) {
+                        awaitRunningAgents();
+                    }
+                    Action action = nextAction;
+                    nextAction = null;
+                    if (action != null && !isEmptyCall(action)) {
+                        return action;
+                    }
+                    if (runningAgents == 0) {
+                        throw noActionException();
+                    }
+                    stateChanged.await();
+                }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new RuntimeException(e);
-            } catch (ExecutionException e) {
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private IllegalStateException noActionException() {
+            return new IllegalStateException(
+                    "The planner of agent '" + name() + "' has no agent to invoke, but its execution is not done");
+        }
+
+        private void dispatch(List<AgentExecutor> agents) {
+            Executor exec = executor != null ? executor : DefaultExecutorProvider.getDefaultExecutorService();
+            lock.lock();
+            try {
+                runningAgents += agents.size();
+            } finally {
+                lock.unlock();
+            }
+            for (AgentExecutor agentExecutor : agents) {
+                try {
+                    exec.execute(() -> {
+                        try {
+                            agentExecutor.execute(agenticScope, this);
+                            onAgentCompleted(null);
+                        } catch (Throwable t) {
+                            onAgentCompleted(t);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    onAgentCompleted(e);
+                }
+            }
+        }
+
+        private void onAgentCompleted(Throwable t) {
+            lock.lock();
+            try {
+                if (t != null && failure == null) {
+                    failure = t;
+                }
+                if (--runningAgents == 0 || t != null) {
+                    stateChanged.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void awaitRunningAgents() {
+            lock.lock();
+            try {
+                while (runningAgents > 0) {
+                    stateChanged.await();
+                }
+                if (failure != null) {
+                    Throwable t = failure;
+                    failure = null;
+                    throw new RuntimeException(new ExecutionException(t));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 throw new RuntimeException(e);
+            } finally {
+                lock.unlock();
             }
         }
-        private Object result() {
-            Object result = output != null ? output.apply(agenticScope) : nextAction.result();
+
+        private Object result(Action doneAction) {
+            Object result = output != null ? output.apply(agenticScope) : doneAction.result();
 
             if (outputKey != null) {
                 if (result != null) {
@@ -424,6 +542,7 @@ public class PlannerBasedInvocationHandler implements InvocationHandler, Interna
             lock.lock();
             try {
                 this.nextAction = composeActions(this.nextAction, planner.nextAction(new PlanningContext(agenticScope, agentInvocation)));
+                stateChanged.signalAll();
 
                 // Save planner execution state after each agent invocation
                 Map<String, Object> execState = planner.executionState();
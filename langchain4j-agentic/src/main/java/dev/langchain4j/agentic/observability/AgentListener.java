@@ -17,6 +17,11 @@ public interface AgentListener {
     default void beforeAgentToolExecution(BeforeAgentToolExecution beforeAgentToolExecution) { }
     default void afterAgentToolExecution(AfterAgentToolExecution afterAgentToolExecution) { }
 
+    /**
+     * Invoked when a dataflow agent completes, with the chain of its subagents that determined its duration.
+     */
+    default void onCriticalPath(CriticalPath criticalPath) { }
+
     /**
      * Indicates whether this listener should be used only to the agent where it is registered (default)
      * or also inherited by its subagents.
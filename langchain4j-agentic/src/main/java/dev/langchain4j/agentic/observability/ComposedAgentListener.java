@@ -84,6 +84,13 @@ public class ComposedAgentListener implements AgentListener {
         }
     }
 
+    @Override
+    public void onCriticalPath(CriticalPath criticalPath) {
+        for (AgentListener listener : listeners) {
+            listener.onCriticalPath(criticalPath);
+        }
+    }
+
     @Override
     public void afterAgenticScopeCreated(final AgenticScope agenticScope) {
         for (AgentListener listener : listeners) {
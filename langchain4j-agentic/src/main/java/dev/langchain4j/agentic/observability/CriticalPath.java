@@ -0,0 +1,37 @@
+package dev.langchain4j.agentic.observability;
+
+import dev.langchain4j.agentic.planner.AgentInstance;
+import dev.langchain4j.agentic.scope.AgenticScope;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The chain of dependent subagents that determined the duration of the execution of a dataflow agent.
+ * Each step is the dependency of the following one that completed last, so that speeding up any agent
+ * not on this path cannot make the whole execution faster.
+ */
+public record CriticalPath(AgenticScope agenticScope, AgentInstance agent, List<Step> steps) {
+
+    public record Step(AgentInstance agent, Instant start, Instant end) {
+
+        public Duration duration() {
+            return Duration.between(start, end);
+        }
+    }
+
+    public String agentName() {
+        return agent.name();
+    }
+
+    public String agentId() {
+        return agent.agentId();
+    }
+
+    /**
+     * Returns the sum of the durations of the agents on the critical path.
+     */
+    public Duration duration() {
+        return steps.stream().map(Step::duration).reduce(Duration.ZERO, Duration::plus);
+    }
+}
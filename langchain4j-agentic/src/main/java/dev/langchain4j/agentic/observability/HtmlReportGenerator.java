@@ -825,6 +825,7 @@ public record HtmlReportGenerator(AgentMonitor monitor, AgentInstance rootAgent,
             case HUMAN_IN_THE_LOOP -> "human";
             case SEQUENCE -> "seq";
             case PARALLEL -> "par";
+            case DATAFLOW -> "flow";
             case LOOP -> "loop";
             case ROUTER -> "rtr";
             case STAR -> "star";
@@ -838,6 +839,7 @@ public record HtmlReportGenerator(AgentMonitor monitor, AgentInstance rootAgent,
             case HUMAN_IN_THE_LOOP -> "Human";
             case SEQUENCE -> "Sequence";
             case PARALLEL -> "Parallel";
+            case DATAFLOW -> "Dataflow";
             case LOOP -> "Loop";
             case ROUTER -> "Router";
             case STAR -> "Star";
@@ -851,6 +853,7 @@ public record HtmlReportGenerator(AgentMonitor monitor, AgentInstance rootAgent,
             case HUMAN_IN_THE_LOOP -> "#d97706";
             case SEQUENCE -> "#0891b2";
             case PARALLEL -> "#3b82f6";
+            case DATAFLOW -> "#0d9488";
             case LOOP -> "#7c3aed";
             case ROUTER -> "#dc2626";
             case STAR -> "#ca8a04";
@@ -934,6 +937,7 @@ public record HtmlReportGenerator(AgentMonitor monitor, AgentInstance rootAgent,
                 --c-human: #d97706;
                 --c-seq: #0891b2;
                 --c-par: #3b82f6;
+                --c-flow: #0d9488;
                 --c-loop: #7c3aed;
                 --c-rtr: #dc2626;
                 --c-star: #ca8a04;
@@ -1022,6 +1026,7 @@ public record HtmlReportGenerator(AgentMonitor monitor, AgentInstance rootAgent,
             .topology-badge.human { background:var(--c-human); }
             .topology-badge.seq   { background:var(--c-seq); }
             .topology-badge.par   { background:var(--c-par); }
+            .topology-badge.flow  { background:var(--c-flow); }
             .topology-badge.loop  { background:var(--c-loop); }
             .topology-badge.rtr   { background:var(--c-rtr); }
             .topology-badge.star  { background:var(--c-star); }
@@ -1032,6 +1037,7 @@ public record HtmlReportGenerator(AgentMonitor monitor, AgentInstance rootAgent,
             .node-border-human { border-left:3px solid var(--c-human); }
             .node-border-seq   { border-left:3px solid var(--c-seq); }
             .node-border-par   { border-left:3px solid var(--c-par); }
+            .node-border-flow  { border-left:3px solid var(--c-flow); }
             .node-border-loop  { border-left:3px solid var(--c-loop); }
             .node-border-rtr   { border-left:3px solid var(--c-rtr); }
             .node-border-star  { border-left:3px solid var(--c-star); }
@@ -1135,6 +1141,7 @@ public record HtmlReportGenerator(AgentMonitor monitor, AgentInstance rootAgent,
             .bar-human { background:var(--c-human); }
             .bar-seq   { background:var(--c-seq); }
             .bar-par   { background:var(--c-par); }
+            .bar-flow  { background:var(--c-flow); }
             .bar-loop  { background:var(--c-loop); }
             .bar-rtr   { background:var(--c-rtr); }
             .bar-star  { background:var(--c-star); }
@@ -51,6 +51,16 @@ public class ListenerNotifierUtil {
         }
     }
 
+    public static void criticalPath(AgentListener listener, CriticalPath criticalPath) {
+        if (listener != null) {
+            try {
+                listener.onCriticalPath(criticalPath);
+            } catch (Exception e) {
+                LOG.error("onCriticalPath listener for agent " + criticalPath.agentName() + " failed: " + e.getMessage(), e);
+            }
+        }
+    }
+
     public static void afterAgenticScopeCreated(AgentListener listener, AgenticScope agenticScope) {
         if (listener != null) {
             try {
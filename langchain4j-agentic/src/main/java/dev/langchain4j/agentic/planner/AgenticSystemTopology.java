@@ -6,6 +6,7 @@ public enum AgenticSystemTopology {
     HUMAN_IN_THE_LOOP,
     SEQUENCE,
     PARALLEL,
+    DATAFLOW,
     LOOP,
     ROUTER,
     STAR
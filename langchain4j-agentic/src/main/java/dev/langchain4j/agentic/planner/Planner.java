@@ -46,6 +46,17 @@ public interface Planner {
         return false;
     }
 
+    /**
+     * Indicates whether the agents called by an action can be started as soon as the action is returned,
+     * even while other agents are still running. By default, when more agents are invoked in parallel,
+     * the actions returned by this planner in the meantime are executed only once all of them completed.
+     *
+     * @return true if the agents to be called must not wait for the completion of the running ones, false otherwise
+     */
+    default boolean callsAgentsEagerly() {
+        return false;
+    }
+
     default Action noOp() {
         return Action.NoOpAction.INSTANCE;
     }
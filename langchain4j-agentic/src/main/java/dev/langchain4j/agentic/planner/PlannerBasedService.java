@@ -1,8 +1,17 @@
 package dev.langchain4j.agentic.planner;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 public interface PlannerBasedService<T> extends AgenticService<PlannerBasedService<T>, T> {
 
     PlannerBasedService<T> planner(Supplier<Planner> plannerSupplier);
+
+    /**
+     * Sets the executor used to invoke the agents of a parallel action.
+     * Implementations not supporting a custom executor ignore it and keep using their default one.
+     */
+    default PlannerBasedService<T> executor(Executor executor) {
+        return this;
+    }
 }
@@ -0,0 +1,35 @@
+package dev.langchain4j.agentic.scope;
+
+import dev.langchain4j.agentic.scope.DefaultAgenticScope.AgentMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The changes applied to a {@link DefaultAgenticScope} since its last checkpoint: the state entries that have been
+ * written or removed, and the agent invocations and context messages that have been appended.
+ * <p>
+ * Applying all the changes recorded since a snapshot to that snapshot, in order,
+ * via {@link DefaultAgenticScope#applyChanges(AgenticScopeChanges)}, restores the current scope.
+ */
+public record AgenticScopeChanges(
+        Map<String, Object> writtenState,
+        Set<String> removedState,
+        List<AgentInvocation> agentInvocations,
+        List<AgentMessage> context) {
+
+    public AgenticScopeChanges {
+        // plain collections, so that their runtime type can be recorded by the JSON codec
+        writtenState = writtenState != null ? new HashMap<>(writtenState) : new HashMap<>();
+        removedState = removedState != null ? new HashSet<>(removedState) : new HashSet<>();
+        agentInvocations = agentInvocations != null ? new ArrayList<>(agentInvocations) : new ArrayList<>();
+        context = context != null ? new ArrayList<>(context) : new ArrayList<>();
+    }
+
+    public boolean isEmpty() {
+        return writtenState.isEmpty() && removedState.isEmpty() && agentInvocations.isEmpty() && context.isEmpty();
+    }
+}
@@ -21,4 +21,34 @@ public interface AgenticScopeJsonCodec {
      * @return the serialized JSON string.
      */
     String toJson(DefaultAgenticScope agenticScope);
+
+    /**
+     * Returns whether this codec implements {@link #changesToJson(AgenticScopeChanges)} and
+     * {@link #changesFromJson(String)}. When it does not, an {@link IncrementalAgenticScopeStore} relying on
+     * this codec, like {@link FileAgenticScopeStore}, falls back to saving a full snapshot at each checkpoint.
+     * @return true if this codec can serialize {@link AgenticScopeChanges}, false by default.
+     */
+    default boolean supportsChanges() {
+        return false;
+    }
+
+    /**
+     * Deserializes a JSON string to {@link AgenticScopeChanges}.
+     * Only called when {@link #supportsChanges()} returns true.
+     * @param json the JSON string.
+     * @return the deserialized {@link AgenticScopeChanges}.
+     */
+    default AgenticScopeChanges changesFromJson(String json) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support AgenticScopeChanges");
+    }
+
+    /**
+     * Serializes {@link AgenticScopeChanges} to a JSON string.
+     * Only called when {@link #supportsChanges()} returns true.
+     * @param changes the {@link AgenticScopeChanges}.
+     * @return the serialized JSON string.
+     */
+    default String changesToJson(AgenticScopeChanges changes) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support AgenticScopeChanges");
+    }
 }
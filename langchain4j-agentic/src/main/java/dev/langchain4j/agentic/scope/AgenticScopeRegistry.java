@@ -38,12 +38,27 @@ public class AgenticScopeRegistry {
         }
     }
 
+    boolean savesChangesIncrementally() {
+        return store instanceof IncrementalAgenticScopeStore incrementalStore && incrementalStore.supportsChanges();
+    }
+
+    boolean needsSnapshot(DefaultAgenticScope agenticScope) {
+        return ((IncrementalAgenticScopeStore) store)
+                .needsSnapshot(new AgenticScopeKey(agentId, agenticScope.memoryId()));
+    }
+
+    void updateChanges(DefaultAgenticScope agenticScope, String changes) {
+        ((IncrementalAgenticScopeStore) store)
+                .saveChanges(new AgenticScopeKey(agentId, agenticScope.memoryId()), changes);
+    }
+
     public DefaultAgenticScope get(Object memoryId) {
         AgenticScopeKey key = new AgenticScopeKey(agentId, memoryId);
         DefaultAgenticScope agenticScope = inMemoryAgenticScope.get(key);
         if (agenticScope == null && hasStore()) {
             agenticScope = store.load(key)
                     .map(loaded -> {
+                        loaded.resetChanges();
                         inMemoryAgenticScope.put(key, loaded);
                         return loaded;
                     }).orElse(null);
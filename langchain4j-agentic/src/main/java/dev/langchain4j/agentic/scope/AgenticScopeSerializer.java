@@ -39,4 +39,34 @@ public class AgenticScopeSerializer {
     public static DefaultAgenticScope fromJson(String json) {
         return CODEC.fromJson(json);
     }
+
+    /**
+     * Returns whether the configured codec can serialize the changes made to a AgenticScope,
+     * see {@link AgenticScopeJsonCodec#supportsChanges()}.
+     *
+     * @return true if {@link #changesToJson(AgenticScopeChanges)} and {@link #changesFromJson(String)} are supported.
+     */
+    public static boolean supportsChanges() {
+        return CODEC.supportsChanges();
+    }
+
+    /**
+     * Serializes the changes made to a AgenticScope since its last checkpoint into a JSON string.
+     *
+     * @param changes AgenticScopeChanges to be serialized.
+     * @return A JSON string with the changes.
+     */
+    public static String changesToJson(AgenticScopeChanges changes) {
+        return CODEC.changesToJson(changes);
+    }
+
+    /**
+     * Deserializes a JSON string into AgenticScopeChanges.
+     *
+     * @param json JSON string to be deserialized.
+     * @return The AgenticScopeChanges constructed from the JSON.
+     */
+    public static AgenticScopeChanges changesFromJson(String json) {
+        return CODEC.changesFromJson(json);
+    }
 }
@@ -21,18 +21,27 @@ import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.service.TokenStream;
 import dev.langchain4j.service.memory.ChatMemoryAccess;
 import java.lang.reflect.Proxy;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +61,11 @@ public class DefaultAgenticScope implements AgenticScope {
     private final transient Map<String, Object> agents = new ConcurrentHashMap<>();
     private final transient Map<String, Object> executionContexts = new ConcurrentHashMap<>();
 
+    // changes since the last checkpoint, used to persist this scope incrementally
+    private final transient Set<String> changedStateKeys = ConcurrentHashMap.newKeySet();
+    private final transient Map<String, Object> trackedState = new TrackedState();
+    private transient int checkpointedAgentInvocations;
+    private transient int checkpointedContext;
     private static final Function<ErrorContext, ErrorRecoveryResult> DEFAULT_ERROR_RECOVERY =
             errorContext -> ErrorRecoveryResult.throwException();
 
@@ -109,6 +123,12 @@ public class DefaultAgenticScope implements AgenticScope {
      */
     private final transient ReadWriteLock lock;
 
+    /**
+     * This lock ensures that checkpoints of a persistent AgenticScope reach the store in the same order in which their
+     * changes have been collected, even if the changes are written to the store after the write lock is released.
+     */
+    private final transient Lock checkpointLock;
+
     DefaultAgenticScope(Kind kind) {
         this(Utils.randomUUID(), kind);
     }
@@ -117,6 +137,7 @@ public class DefaultAgenticScope implements AgenticScope {
         this.memoryId = memoryId;
         this.kind = kind;
         this.lock = (kind == Kind.PERSISTENT) ? new ReentrantReadWriteLock() : null;
+        this.checkpointLock = (kind == Kind.PERSISTENT) ? new ReentrantLock() : null;
     }
 
     public static DefaultAgenticScope ephemeralAgenticScope() {
@@ -136,6 +157,7 @@ public class DefaultAgenticScope implements AgenticScope {
             } else {
                 state.put(key, value);
             }
+            changedStateKeys.add(key);
         });
     }
 
@@ -146,7 +168,10 @@ public class DefaultAgenticScope implements AgenticScope {
 
     @Override
     public void writeStates(Map<String, Object> newState) {
-        withReadLock(() -> state.putAll(newState));
+        withReadLock(() -> {
+            state.putAll(newState);
+            changedStateKeys.addAll(newState.keySet());
+        });
     }
 
     @Override
@@ -186,9 +211,15 @@ public class DefaultAgenticScope implements AgenticScope {
         return state;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The keys written or removed through the returned map are tracked like those of
+     * {@link #writeState(String, Object)}, so that they are persisted by the next checkpoint.
+     */
     @Override
     public Map<String, Object> state() {
-        return state;
+        return trackedState;
     }
 
     public <T> T getOrCreateAgent(String agentId, Function<DefaultAgenticScope, T> agentFactory) {
@@ -217,14 +248,100 @@ public class DefaultAgenticScope implements AgenticScope {
     }
 
     private void flush(AgenticScopeRegistry registry) {
-        lock.writeLock().lock();
+        checkpointLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                registry.update(this);
+                resetChanges();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    private void flushChanges(AgenticScopeRegistry registry) {
+        checkpointLock.lock();
         try {
-            registry.update(this);
+            String changes = null;
+            lock.writeLock().lock();
+            try {
+                AgenticScopeChanges collectedChanges = collectChanges();
+                if (!collectedChanges.isEmpty()) {
+                    // the values are serialized before releasing the lock, as they may be mutated in place
+                    changes = AgenticScopeSerializer.changesToJson(collectedChanges);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (changes != null) {
+                registry.updateChanges(this, changes);
+            }
         } finally {
-            lock.writeLock().unlock();
+            checkpointLock.unlock();
         }
     }
 
+    /**
+     * Collects the changes made since the last checkpoint and starts tracking new changes from here.
+     * Must be called while no other thread can modify this scope, i.e. while holding the write lock.
+     */
+    private AgenticScopeChanges collectChanges() {
+        Map<String, Object> writtenState = new HashMap<>();
+        Set<String> removedState = new HashSet<>();
+        for (Iterator<String> iterator = changedStateKeys.iterator(); iterator.hasNext(); ) {
+            String key = iterator.next();
+            iterator.remove();
+            Object value = state.get(key);
+            if (value != null && isSerializable(value)) {
+                writtenState.put(key, value);
+            } else {
+                removedState.add(key);
+            }
+        }
+
+        List<AgentInvocation> newAgentInvocations;
+        synchronized (agentInvocations) {
+            newAgentInvocations =
+                    List.copyOf(agentInvocations.subList(checkpointedAgentInvocations, agentInvocations.size()));
+            checkpointedAgentInvocations = agentInvocations.size();
+        }
+        List<AgentMessage> newContext;
+        synchronized (context) {
+            newContext = List.copyOf(context.subList(checkpointedContext, context.size()));
+            checkpointedContext = context.size();
+        }
+
+        return new AgenticScopeChanges(writtenState, removedState, newAgentInvocations, newContext);
+    }
+
+    /**
+     * Marks the current content of this scope as checkpointed, so that only later changes are persisted incrementally.
+     */
+    void resetChanges() {
+        changedStateKeys.clear();
+        checkpointedAgentInvocations = agentInvocations.size();
+        checkpointedContext = context.size();
+    }
+
+    /**
+     * Applies changes previously recorded by a checkpoint of this scope.
+     * This is meant to be used by an {@link IncrementalAgenticScopeStore} to rebuild a scope from its last snapshot
+     * and the changes recorded after it, and the applied changes are not tracked as new changes.
+     *
+     * @param changes the changes to apply
+     */
+    public void applyChanges(AgenticScopeChanges changes) {
+        withReadLock(() -> {
+            changes.removedState().forEach(state::remove);
+            state.putAll(changes.writtenState());
+            agentInvocations.addAll(changes.agentInvocations());
+            context.addAll(changes.context());
+        });
+    }
+
     private void registerContext(AgentInvocation agentInvocation, Object agent) {
         ChatMemory chatMemory =
                 agent instanceof ChatMemoryAccess agentWithMemory ? agentWithMemory.getChatMemory(memoryId) : null;
@@ -335,15 +452,149 @@ public class DefaultAgenticScope implements AgenticScope {
     }
 
     private void withReadLock(Runnable action) {
+        withReadLock(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T withReadLock(Supplier<T> action) {
         if (kind == Kind.PERSISTENT) {
             lock.readLock().lock();
             try {
-                action.run();
+                return action.get();
             } finally {
                 lock.readLock().unlock();
             }
         } else {
-            action.run();
+            return action.get();
+        }
+    }
+
+    private <T> T writeStateKey(String key, Supplier<T> write) {
+        return withReadLock(() -> {
+            T result = write.get();
+            changedStateKeys.add(key);
+            return result;
+        });
+    }
+
+    /**
+     * The live view of the state returned by {@link #state()}: it reads and writes the state of this scope,
+     * and tracks the keys written through it as changes to be checkpointed.
+     */
+    private class TrackedState extends AbstractMap<String, Object> {
+
+        @Override
+        public Object get(Object key) {
+            return state.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return state.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return state.size();
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return writeStateKey(key, () -> value == null ? state.remove(key) : state.put(key, value));
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return key instanceof String name ? writeStateKey(name, () -> state.remove(name)) : null;
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            return key instanceof String name && writeStateKey(name, () -> state.remove(name, value));
+        }
+
+        @Override
+        public Object putIfAbsent(String key, Object value) {
+            return writeStateKey(key, () -> state.putIfAbsent(key, value));
+        }
+
+        @Override
+        public boolean replace(String key, Object oldValue, Object newValue) {
+            return writeStateKey(key, () -> state.replace(key, oldValue, newValue));
+        }
+
+        @Override
+        public Object replace(String key, Object value) {
+            return writeStateKey(key, () -> state.replace(key, value));
+        }
+
+        @Override
+        public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+            return writeStateKey(key, () -> state.computeIfAbsent(key, mappingFunction));
+        }
+
+        @Override
+        public Object computeIfPresent(
+                String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            return writeStateKey(key, () -> state.computeIfPresent(key, remappingFunction));
+        }
+
+        @Override
+        public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            return writeStateKey(key, () -> state.compute(key, remappingFunction));
+        }
+
+        @Override
+        public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            return writeStateKey(key, () -> state.merge(key, value, remappingFunction));
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    Iterator<Entry<String, Object>> entries = state.entrySet().iterator();
+                    return new Iterator<>() {
+
+                        private Entry<String, Object> current;
+
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            current = entries.next();
+                            return new SimpleEntry<>(current) {
+                                @Override
+                                public Object setValue(Object value) {
+                                    super.setValue(value);
+                                    return put(getKey(), value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            String key = current.getKey();
+                            writeStateKey(key, () -> {
+                                entries.remove();
+                                return null;
+                            });
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return state.size();
+                }
+            };
         }
     }
 
@@ -361,13 +612,20 @@ public class DefaultAgenticScope implements AgenticScope {
     /**
      * Checkpoints the current state of this scope by persisting it to the store.
      * This is a no-op for non-persistent scopes. For persistent scopes, it acquires
-     * the write lock and flushes the current state to the store.
+     * the write lock and flushes the current state to the store. If the store is an
+     * {@link IncrementalAgenticScopeStore}, only the changes since the previous checkpoint
+     * are collected and serialized under the write lock and then saved after releasing it,
+     * unless the store needs a new snapshot.
      *
      * @param registry the registry managing this scope's persistence
      */
     public void checkpoint(AgenticScopeRegistry registry) {
         if (kind == Kind.PERSISTENT) {
-            flush(registry);
+            if (registry.savesChangesIncrementally() && !registry.needsSnapshot(this)) {
+                flushChanges(registry);
+            } else {
+                flush(registry);
+            }
         }
     }
 
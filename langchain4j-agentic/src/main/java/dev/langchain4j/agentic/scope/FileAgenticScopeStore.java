@@ -0,0 +1,246 @@
+package dev.langchain4j.agentic.scope;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A reference {@link IncrementalAgenticScopeStore} that keeps each AgenticScope in its own file of a directory.
+ * <p>
+ * Each file is a journal: a full JSON snapshot of the scope followed by one JSON line per checkpoint
+ * with the changes made since the previous one. Checkpoints only append a line to the journal, and once
+ * {@code compactionThreshold} changes have been appended the next checkpoint replaces the journal
+ * with a new snapshot of the live scope, see {@link #needsSnapshot(AgenticScopeKey)}.
+ * Snapshots are written to a temporary file and then atomically moved in place, and a partially written
+ * last line, e.g. after a crash, is ignored when loading.
+ * <p>
+ * The first line of a journal holds the agentId of its scope, so agentIds must not contain line breaks.
+ */
+public class FileAgenticScopeStore implements IncrementalAgenticScopeStore {
+
+    static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final String FILE_EXTENSION = ".scope";
+    private static final String KEY_PREFIX = "K ";
+    private static final String SNAPSHOT_PREFIX = "S ";
+    private static final String CHANGES_PREFIX = "C ";
+
+    private final Path directory;
+    private final int compactionThreshold;
+
+    // the Path instances of this map are also used to synchronize the accesses to each file,
+    // and an entry is only removed while holding the lock of its Path, see delete()
+    private final Map<AgenticScopeKey, Path> files = new ConcurrentHashMap<>();
+    private final Map<AgenticScopeKey, Integer> changesSinceSnapshot = new ConcurrentHashMap<>();
+
+    public FileAgenticScopeStore(Path directory) {
+        this(directory, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public FileAgenticScopeStore(Path directory, int compactionThreshold) {
+        this.directory = ensureNotNull(directory, "directory");
+        this.compactionThreshold = ensureGreaterThanZero(compactionThreshold, "compactionThreshold");
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> paths = Files.list(directory)) {
+                paths.filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION))
+                        .forEach(this::index);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void index(Path file) {
+        Journal journal = read(file);
+        if (journal != null) {
+            AgenticScopeKey key = new AgenticScopeKey(journal.agentId(), journal.scope().memoryId());
+            files.put(key, file);
+            changesSinceSnapshot.put(key, journal.changes());
+            if (journal.truncated()) {
+                // rewrite the journal without the partially written line, so that new changes can be appended
+                writeSnapshot(key, AgenticScopeSerializer.toJson(journal.scope()));
+            }
+        }
+    }
+
+    @Override
+    public boolean save(AgenticScopeKey key, DefaultAgenticScope agenticScope) {
+        String agentId = key.agentId();
+        if (agentId.indexOf('\n') >= 0 || agentId.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException(
+                    "The agentId of an AgenticScope stored in a file cannot contain line breaks: " + agentId);
+        }
+        return writeSnapshot(key, AgenticScopeSerializer.toJson(agenticScope));
+    }
+
+    @Override
+    public boolean needsSnapshot(AgenticScopeKey key) {
+        return changesSinceSnapshot(key) >= compactionThreshold;
+    }
+
+    @Override
+    public boolean saveChanges(AgenticScopeKey key, String changes) {
+        Path file = files.get(key);
+        if (file == null) {
+            return false;
+        }
+        String line = CHANGES_PREFIX + changes + "\n";
+        synchronized (file) {
+            if (!isCurrent(key, file)) {
+                // the scope has been deleted meanwhile
+                return false;
+            }
+            try {
+                Files.writeString(file, line, UTF_8, WRITE, APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            changesSinceSnapshot.merge(key, 1, Integer::sum);
+        }
+        return true;
+    }
+
+    private boolean writeSnapshot(AgenticScopeKey key, String json) {
+        while (true) {
+            Path file = files.computeIfAbsent(key, this::fileFor);
+            synchronized (file) {
+                if (!isCurrent(key, file)) {
+                    // deleted since it has been looked up, start again with the file of a new journal
+                    continue;
+                }
+                String content = KEY_PREFIX + key.agentId() + "\n" + SNAPSHOT_PREFIX + json + "\n";
+                try {
+                    Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+                    Files.writeString(temporaryFile, content, UTF_8);
+                    try {
+                        Files.move(temporaryFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(temporaryFile, file, REPLACE_EXISTING);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                changesSinceSnapshot.put(key, 0);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public Optional<DefaultAgenticScope> load(AgenticScopeKey key) {
+        while (true) {
+            Path file = files.get(key);
+            if (file == null) {
+                return Optional.empty();
+            }
+            synchronized (file) {
+                if (isCurrent(key, file)) {
+                    return Optional.ofNullable(read(file)).map(Journal::scope);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean delete(AgenticScopeKey key) {
+        while (true) {
+            Path file = files.get(key);
+            if (file == null) {
+                return false;
+            }
+            synchronized (file) {
+                // the entry is removed while holding the lock of its file, so that a save or a compaction
+                // that looked the file up before cannot write it again once it has been deleted
+                if (isCurrent(key, file)) {
+                    files.remove(key);
+                    changesSinceSnapshot.remove(key);
+                    try {
+                        return Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the given file, whose lock must be held, is still the journal of the given AgenticScope.
+     * Each journal gets its own Path instance, so identity tells apart a deleted journal from a newer one.
+     */
+    private boolean isCurrent(AgenticScopeKey key, Path file) {
+        return files.get(key) == file;
+    }
+
+    @Override
+    public Set<AgenticScopeKey> getAllKeys() {
+        return Set.copyOf(files.keySet());
+    }
+
+    /**
+     * Returns the number of changes appended to the journal of the given AgenticScope since its last snapshot.
+     */
+    int changesSinceSnapshot(AgenticScopeKey key) {
+        return changesSinceSnapshot.getOrDefault(key, 0);
+    }
+
+    private Path fileFor(AgenticScopeKey key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(key.agentId().getBytes(UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(key.memoryId()).getBytes(UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest.digest()) + FILE_EXTENSION);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Journal read(Path file) {
+        String content;
+        try {
+            content = Files.readString(file, UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // ignore a last line that has only partially been written
+        int end = content.lastIndexOf('\n');
+        List<String> lines = content.substring(0, end + 1).lines().toList();
+        if (lines.size() < 2 || !lines.get(0).startsWith(KEY_PREFIX) || !lines.get(1).startsWith(SNAPSHOT_PREFIX)) {
+            return null;
+        }
+
+        String agentId = lines.get(0).substring(KEY_PREFIX.length());
+        DefaultAgenticScope scope = AgenticScopeSerializer.fromJson(lines.get(1).substring(SNAPSHOT_PREFIX.length()));
+        int changes = 0;
+        for (String line : lines.subList(2, lines.size())) {
+            if (line.startsWith(CHANGES_PREFIX)) {
+                scope.applyChanges(AgenticScopeSerializer.changesFromJson(line.substring(CHANGES_PREFIX.length())));
+                changes++;
+            }
+        }
+        return new Journal(agentId, scope, changes, end + 1 < content.length());
+    }
+
+    private record Journal(String agentId, DefaultAgenticScope scope, int changes, boolean truncated) {}
+}
@@ -0,0 +1,52 @@
+package dev.langchain4j.agentic.scope;
+
+/**
+ * An {@link AgenticScopeStore} that can persist only the changes made to an AgenticScope since its last checkpoint,
+ * instead of the whole scope.
+ * <p>
+ * When the configured store implements this interface, checkpoints taken after each step of an agentic workflow
+ * call {@link #saveChanges(AgenticScopeKey, String)}, and the persistence lock of the scope is only held while
+ * collecting and serializing the changes, not while writing them.
+ * {@link #save(AgenticScopeKey, DefaultAgenticScope)} is still used to persist a full snapshot
+ * when the scope is created, when its root call ends, and when {@link #needsSnapshot(AgenticScopeKey)} returns true.
+ * <p>
+ * Only the state entries written through the scope are recorded as changes: a value mutated in place is persisted
+ * by the next snapshot, so implementations are expected to periodically request one to compact the recorded changes,
+ * see {@link FileAgenticScopeStore} for a reference implementation.
+ */
+public interface IncrementalAgenticScopeStore extends AgenticScopeStore {
+
+    /**
+     * Returns whether this store can currently persist changes. When it returns false, checkpoints fall back to
+     * {@link #save(AgenticScopeKey, DefaultAgenticScope)} with a full snapshot, as with any other store.
+     *
+     * @return whether the configured {@link AgenticScopeJsonCodec} supports changes, by default
+     */
+    default boolean supportsChanges() {
+        return AgenticScopeSerializer.supportsChanges();
+    }
+
+    /**
+     * Returns whether the next checkpoint of the given AgenticScope should save a full snapshot of it with
+     * {@link #save(AgenticScopeKey, DefaultAgenticScope)} instead of its changes, e.g. to compact the changes
+     * recorded since the previous snapshot.
+     *
+     * @param key the key of the AgenticScope
+     * @return false by default
+     */
+    default boolean needsSnapshot(AgenticScopeKey key) {
+        return false;
+    }
+
+    /**
+     * Appends the changes made to a AgenticScope since its previous checkpoint.
+     * Changes of the same AgenticScope are always passed in the order they were made.
+     *
+     * @param key     the key of the AgenticScope
+     * @param changes the changes since the previous checkpoint, serialized with
+     *                {@link AgenticScopeSerializer#changesToJson(AgenticScopeChanges)} while the scope could not
+     *                be modified, and never empty
+     * @return true if the operation was successful
+     */
+    boolean saveChanges(AgenticScopeKey key, String changes);
+}
@@ -1,6 +1,7 @@
 package dev.langchain4j.agentic.scope;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -23,7 +24,8 @@ class JacksonAgenticScopeJsonCodec implements AgenticScopeJsonCodec {
         return JacksonChatMessageJsonCodec.chatMessageJsonMapperBuilder()
                 .addMixIn(DefaultAgenticScope.class, AgenticScopeMixin.class)
                 .addMixIn(AgentMessage.class, AgentMessageMixin.class)
-                .addMixIn(AgentInvocation.class, AgentInvocationMixin.class);
+                .addMixIn(AgentInvocation.class, AgentInvocationMixin.class)
+                .addMixIn(AgenticScopeChanges.class, AgenticScopeChangesMixin.class);
     }
 
     static ObjectMapper agenticScopeJsonSerializer() {
@@ -57,6 +59,29 @@ class JacksonAgenticScopeJsonCodec implements AgenticScopeJsonCodec {
         }
     }
 
+    @Override
+    public boolean supportsChanges() {
+        return true;
+    }
+
+    @Override
+    public AgenticScopeChanges changesFromJson(String json) {
+        try {
+            return MAPPER.readValue(json, AgenticScopeChanges.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to deserialize AgenticScope changes from JSON", e);
+        }
+    }
+
+    @Override
+    public String changesToJson(AgenticScopeChanges changes) {
+        try {
+            return MAPPER.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize AgenticScope changes to JSON", e);
+        }
+    }
+
     @JsonInclude(NON_NULL)
     private static abstract class AgenticScopeMixin {
         @JsonCreator
@@ -87,4 +112,9 @@ class JacksonAgenticScopeJsonCodec implements AgenticScopeJsonCodec {
                 @JsonProperty("output") Object output) {
         }
     }
+
+    private static abstract class AgenticScopeChangesMixin {
+        @JsonIgnore
+        abstract boolean isEmpty();
+    }
 }
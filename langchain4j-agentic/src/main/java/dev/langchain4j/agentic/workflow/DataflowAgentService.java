@@ -0,0 +1,15 @@
+package dev.langchain4j.agentic.workflow;
+
+import dev.langchain4j.agentic.planner.AgenticService;
+import java.util.concurrent.Executor;
+
+public interface DataflowAgentService<T> extends AgenticService<DataflowAgentService<T>, T> {
+
+    DataflowAgentService<T> executor(Executor executor);
+
+    /**
+     * Sets the maximum number of subagents running at the same time.
+     * Defaults to {@link dev.langchain4j.agentic.workflow.impl.DataflowPlanner#DEFAULT_MAX_CONCURRENCY}.
+     */
+    DataflowAgentService<T> maxConcurrency(int maxConcurrency);
+}
@@ -26,4 +26,12 @@ public interface WorkflowAgentsBuilder {
     default <T> ParallelMapperService<T> parallelMapperBuilder(Class<T> agentServiceClass) {
         throw new UnsupportedOperationException("Not yet implemented");
     }
+
+    default DataflowAgentService<UntypedAgent> dataflowBuilder() {
+        throw new UnsupportedOperationException("Not yet implemented");
+    }
+
+    default <T> DataflowAgentService<T> dataflowBuilder(Class<T> agentServiceClass) {
+        throw new UnsupportedOperationException("Not yet implemented");
+    }
 }
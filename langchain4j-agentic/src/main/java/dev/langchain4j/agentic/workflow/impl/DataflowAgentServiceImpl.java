@@ -0,0 +1,55 @@
+package dev.langchain4j.agentic.workflow.impl;
+
+import static dev.langchain4j.agentic.declarative.DeclarativeUtil.buildAgentFeatures;
+import static dev.langchain4j.agentic.declarative.DeclarativeUtil.configureOutput;
+import static dev.langchain4j.agentic.declarative.DeclarativeUtil.parallelExecutor;
+import static dev.langchain4j.agentic.internal.AgentUtil.validateAgentClass;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import dev.langchain4j.agentic.UntypedAgent;
+import dev.langchain4j.agentic.internal.AbstractServiceBuilder;
+import dev.langchain4j.agentic.workflow.DataflowAgentService;
+import java.lang.reflect.Method;
+
+public class DataflowAgentServiceImpl<T> extends AbstractServiceBuilder<T, DataflowAgentService<T>>
+        implements DataflowAgentService<T> {
+
+    private int maxConcurrency = DataflowPlanner.DEFAULT_MAX_CONCURRENCY;
+
+    public DataflowAgentServiceImpl(Class<T> agentServiceClass, Method agenticMethod) {
+        super(agentServiceClass, agenticMethod);
+        configureDataflow(agentServiceClass);
+    }
+
+    @Override
+    public DataflowAgentService<T> maxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+        return this;
+    }
+
+    @Override
+    public T build() {
+        int concurrency = maxConcurrency;
+        return build(() -> new DataflowPlanner(concurrency));
+    }
+
+    public static DataflowAgentServiceImpl<UntypedAgent> builder() {
+        return new DataflowAgentServiceImpl<>(UntypedAgent.class, null);
+    }
+
+    public static <T> DataflowAgentServiceImpl<T> builder(Class<T> agentServiceClass) {
+        return new DataflowAgentServiceImpl<>(agentServiceClass, validateAgentClass(agentServiceClass, false));
+    }
+
+    @Override
+    public String serviceType() {
+        return "Dataflow";
+    }
+
+    private void configureDataflow(Class<T> agentServiceClass) {
+        configureOutput(agentServiceClass, this);
+        buildAgentFeatures(agentServiceClass, this);
+
+        parallelExecutor(agentServiceClass).ifPresent(this::executor);
+    }
+}
@@ -0,0 +1,248 @@
+package dev.langchain4j.agentic.workflow.impl;
+
+import static dev.langchain4j.agentic.observability.ListenerNotifierUtil.criticalPath;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import dev.langchain4j.agentic.internal.InternalAgent;
+import dev.langchain4j.agentic.observability.AgentListener;
+import dev.langchain4j.agentic.observability.CriticalPath;
+import dev.langchain4j.agentic.planner.Action;
+import dev.langchain4j.agentic.planner.AgentArgument;
+import dev.langchain4j.agentic.planner.AgentInstance;
+import dev.langchain4j.agentic.planner.AgenticSystemTopology;
+import dev.langchain4j.agentic.planner.InitPlanningContext;
+import dev.langchain4j.agentic.planner.Planner;
+import dev.langchain4j.agentic.planner.PlanningContext;
+import dev.langchain4j.agentic.scope.AgenticScope;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A planner invoking each subagent as soon as all the subagents it depends on have completed.
+ * <p>
+ * The dependencies are inferred from the names of the arguments and from the output keys of the subagents,
+ * taking their declaration order as the order in which they would be executed sequentially: a subagent depends
+ * on the previously declared ones writing one of its arguments (read after write), reading its output key
+ * (write after read) or writing its same output key (write after write). Arguments not written by any subagent
+ * are expected to be already available in the {@link AgenticScope} when the workflow starts.
+ * <p>
+ * At most {@code maxConcurrency} subagents are running at the same time.
+ */
+public class DataflowPlanner implements Planner {
+
+    /**
+     * The default maximum number of subagents running at the same time. Subagents mostly wait for model
+     * responses, so this is a fixed bound rather than the number of available processors.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private final int maxConcurrency;
+
+    private AgenticScope agenticScope;
+    private AgentInstance plannerAgent;
+    private List<AgentInstance> agents;
+    private Map<String, Integer> agentIndexes;
+    private List<List<Integer>> dependencies;
+    private List<List<Integer>> dependents;
+
+    private int[] pendingDependencies;
+    private boolean[] completed;
+    private int completedCount;
+    private int runningCount;
+    private final Deque<Integer> ready = new ArrayDeque<>();
+
+    private Instant[] starts;
+    private Instant[] ends;
+
+    public DataflowPlanner() {
+        this(DEFAULT_MAX_CONCURRENCY);
+    }
+
+    public DataflowPlanner(int maxConcurrency) {
+        this.maxConcurrency = ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+    }
+
+    @Override
+    public void init(InitPlanningContext initPlanningContext) {
+        this.agenticScope = initPlanningContext.agenticScope();
+        this.plannerAgent = initPlanningContext.plannerAgent();
+        this.agents = initPlanningContext.subagents();
+        this.agentIndexes = new HashMap<>();
+        for (int i = 0; i < agents.size(); i++) {
+            agentIndexes.put(agents.get(i).agentId(), i);
+        }
+        this.dependencies = dependencies(agents);
+        this.dependents = new ArrayList<>();
+        agents.forEach(agent -> dependents.add(new ArrayList<>()));
+        for (int i = 0; i < agents.size(); i++) {
+            for (int dependency : dependencies.get(i)) {
+                dependents.get(dependency).add(i);
+            }
+        }
+        this.completed = new boolean[agents.size()];
+        this.starts = new Instant[agents.size()];
+        this.ends = new Instant[agents.size()];
+    }
+
+    static List<List<Integer>> dependencies(List<AgentInstance> agents) {
+        List<List<Integer>> dependencies = new ArrayList<>();
+        for (int i = 0; i < agents.size(); i++) {
+            AgentInstance agent = agents.get(i);
+            Set<String> inputs = argumentNames(agent);
+            List<Integer> agentDependencies = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                AgentInstance previous = agents.get(j);
+                if (writesAny(previous, inputs)
+                        || writesAny(agent, argumentNames(previous))
+                        || (agent.outputKey() != null && Objects.equals(agent.outputKey(), previous.outputKey()))) {
+                    agentDependencies.add(j);
+                }
+            }
+            dependencies.add(agentDependencies);
+        }
+        return dependencies;
+    }
+
+    private static Set<String> argumentNames(AgentInstance agent) {
+        return agent.arguments().stream().map(AgentArgument::name).collect(Collectors.toSet());
+    }
+
+    private static boolean writesAny(AgentInstance agent, Collection<String> keys) {
+        return agent.outputKey() != null && keys.contains(agent.outputKey());
+    }
+
+    @Override
+    public Action firstAction(PlanningContext planningContext) {
+        this.pendingDependencies = new int[agents.size()];
+        for (int i = 0; i < agents.size(); i++) {
+            if (completed[i]) {
+                continue;
+            }
+            for (int dependency : dependencies.get(i)) {
+                if (!completed[dependency]) {
+                    pendingDependencies[i]++;
+                }
+            }
+            if (pendingDependencies[i] == 0) {
+                ready.add(i);
+            }
+        }
+        return completedCount == agents.size() ? done() : callReadyAgents();
+    }
+
+    @Override
+    public Action nextAction(PlanningContext planningContext) {
+        Integer index = agentIndexes.get(planningContext.previousAgentInvocation().agentId());
+        if (index == null || completed[index]) {
+            return noOp();
+        }
+        ends[index] = Instant.now();
+        completed[index] = true;
+        completedCount++;
+        runningCount--;
+        for (int dependent : dependents.get(index)) {
+            if (--pendingDependencies[dependent] == 0) {
+                ready.add(dependent);
+            }
+        }
+
+        if (completedCount == agents.size()) {
+            notifyCriticalPath();
+            return done();
+        }
+        return callReadyAgents();
+    }
+
+    private Action callReadyAgents() {
+        List<AgentInstance> toCall = new ArrayList<>();
+        Instant now = Instant.now();
+        while (!ready.isEmpty() && runningCount < maxConcurrency) {
+            int index = ready.poll();
+            starts[index] = now;
+            runningCount++;
+            toCall.add(agents.get(index));
+        }
+        return toCall.isEmpty() ? noOp() : call(toCall);
+    }
+
+    private void notifyCriticalPath() {
+        if (plannerAgent instanceof InternalAgent internalAgent) {
+            AgentListener listener = internalAgent.listener();
+            if (listener != null) {
+                criticalPath(listener, new CriticalPath(agenticScope, plannerAgent, criticalPathSteps()));
+            }
+        }
+    }
+
+    /**
+     * Walks back from the last completed subagent, each time following the dependency that completed last.
+     * Subagents completed before a recovery have not been timed and are not part of the critical path.
+     */
+    List<CriticalPath.Step> criticalPathSteps() {
+        Integer current = latestCompleted(agentIndexes.values());
+        Deque<CriticalPath.Step> steps = new ArrayDeque<>();
+        while (current != null) {
+            steps.addFirst(new CriticalPath.Step(agents.get(current), starts[current], ends[current]));
+            current = latestCompleted(dependencies.get(current));
+        }
+        return List.copyOf(steps);
+    }
+
+    private Integer latestCompleted(Collection<Integer> indexes) {
+        Integer latest = null;
+        for (int index : indexes) {
+            if (ends[index] != null && starts[index] != null && (latest == null || ends[index].isAfter(ends[latest]))) {
+                latest = index;
+            }
+        }
+        return latest;
+    }
+
+    @Override
+    public AgenticSystemTopology topology() {
+        return AgenticSystemTopology.DATAFLOW;
+    }
+
+    @Override
+    public boolean terminated() {
+        return completedCount == agents.size();
+    }
+
+    @Override
+    public boolean callsAgentsEagerly() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Object> executionState() {
+        List<String> completedAgents = new ArrayList<>();
+        for (int i = 0; i < agents.size(); i++) {
+            if (completed[i]) {
+                completedAgents.add(agents.get(i).agentId());
+            }
+        }
+        return completedAgents.isEmpty() ? Map.of() : Map.of("completed", completedAgents);
+    }
+
+    @Override
+    public void restoreExecutionState(Map<String, Object> state) {
+        if (state.get("completed") instanceof Collection<?> completedAgents) {
+            for (Object agentId : completedAgents) {
+                Integer index = agentIndexes.get(agentId);
+                if (index != null && !completed[index]) {
+                    completed[index] = true;
+                    completedCount++;
+                }
+            }
+        }
+    }
+}
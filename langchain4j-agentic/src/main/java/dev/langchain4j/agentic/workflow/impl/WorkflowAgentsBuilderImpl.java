@@ -2,6 +2,7 @@ package dev.langchain4j.agentic.workflow.impl;
 
 import dev.langchain4j.agentic.UntypedAgent;
 import dev.langchain4j.agentic.workflow.ConditionalAgentService;
+import dev.langchain4j.agentic.workflow.DataflowAgentService;
 import dev.langchain4j.agentic.workflow.LoopAgentService;
 import dev.langchain4j.agentic.workflow.ParallelAgentService;
 import dev.langchain4j.agentic.workflow.ParallelMapperService;
@@ -60,4 +61,14 @@ public enum WorkflowAgentsBuilderImpl implements WorkflowAgentsBuilder {
     public <T> ParallelMapperService<T> parallelMapperBuilder(final Class<T> agentServiceClass) {
         return ParallelMapperServiceImpl.builder(agentServiceClass);
     }
+
+    @Override
+    public DataflowAgentService<UntypedAgent> dataflowBuilder() {
+        return DataflowAgentServiceImpl.builder();
+    }
+
+    @Override
+    public <T> DataflowAgentService<T> dataflowBuilder(final Class<T> agentServiceClass) {
+        return DataflowAgentServiceImpl.builder(agentServiceClass);
+    }
 }
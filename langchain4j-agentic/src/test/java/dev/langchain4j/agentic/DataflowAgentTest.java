@@ -0,0 +1,195 @@
+package dev.langchain4j.agentic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.agentic.observability.AgentListener;
+import dev.langchain4j.agentic.observability.CriticalPath;
+import dev.langchain4j.agentic.planner.AgenticSystemTopology;
+import dev.langchain4j.service.V;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class DataflowAgentTest {
+
+    private static final long LATENCY_MILLIS = 100;
+
+    static class Recorder {
+
+        final Map<String, Long> starts = new ConcurrentHashMap<>();
+        final Map<String, Long> ends = new ConcurrentHashMap<>();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        String run(String name, String result) {
+            starts.put(name, System.nanoTime());
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            running.decrementAndGet();
+            ends.put(name, System.nanoTime());
+            return result;
+        }
+
+        boolean startedAfterEnd(String agent, String dependency) {
+            return starts.get(agent) >= ends.get(dependency);
+        }
+    }
+
+    public static class ResearchAgent {
+
+        private final Recorder recorder;
+
+        ResearchAgent(Recorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Agent(outputKey = "research")
+        public String research(@V("topic") String topic) {
+            return recorder.run("research", "research on " + topic);
+        }
+    }
+
+    public static class ExamplesAgent {
+
+        private final Recorder recorder;
+
+        ExamplesAgent(Recorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Agent(outputKey = "examples")
+        public String examples(@V("topic") String topic) {
+            return recorder.run("examples", "examples of " + topic);
+        }
+    }
+
+    public static class WriterAgent {
+
+        private final Recorder recorder;
+
+        WriterAgent(Recorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Agent(outputKey = "article")
+        public String write(@V("research") String research, @V("examples") String examples) {
+            return recorder.run("writer", research + " with " + examples);
+        }
+    }
+
+    public static class TitleAgent {
+
+        private final Recorder recorder;
+
+        TitleAgent(Recorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Agent(outputKey = "title")
+        public String title(@V("topic") String topic) {
+            return recorder.run("title", "All about " + topic);
+        }
+    }
+
+    public static class ReviewerAgent {
+
+        private final Recorder recorder;
+
+        ReviewerAgent(Recorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Agent(outputKey = "topic")
+        public String review(@V("research") String research) {
+            return recorder.run("reviewer", "reviewed " + research);
+        }
+    }
+
+    public interface Publisher {
+
+        @Agent
+        String publish(@V("topic") String topic);
+    }
+
+    @Test
+    void should_start_each_agent_as_soon_as_its_inputs_are_available() {
+        Recorder recorder = new Recorder();
+        AtomicReference<CriticalPath> criticalPath = new AtomicReference<>();
+
+        Publisher publisher = AgenticServices.dataflowBuilder(Publisher.class)
+                .subAgents(
+                        new ResearchAgent(recorder),
+                        new ExamplesAgent(recorder),
+                        new WriterAgent(recorder),
+                        new TitleAgent(recorder))
+                .listener(new AgentListener() {
+                    @Override
+                    public void onCriticalPath(CriticalPath path) {
+                        criticalPath.set(path);
+                    }
+                })
+                .output(scope -> scope.readState("title") + ": " + scope.readState("article"))
+                .build();
+
+        String result = publisher.publish("dataflow");
+
+        assertThat(result).isEqualTo("All about dataflow: research on dataflow with examples of dataflow");
+        assertThat(recorder.maxRunning).hasValue(3);
+        assertThat(recorder.startedAfterEnd("writer", "research")).isTrue();
+        assertThat(recorder.startedAfterEnd("writer", "examples")).isTrue();
+
+        List<CriticalPath.Step> steps = criticalPath.get().steps();
+        assertThat(steps).hasSize(2);
+        assertThat(steps.get(0).agent().name()).isIn("research", "examples");
+        assertThat(steps.get(1).agent().name()).isEqualTo("write");
+        assertThat(criticalPath.get().agent().topology()).isEqualTo(AgenticSystemTopology.DATAFLOW);
+        assertThat(criticalPath.get().duration().toMillis()).isGreaterThanOrEqualTo(2 * LATENCY_MILLIS);
+    }
+
+    @Test
+    void should_not_exceed_max_concurrency() {
+        Recorder recorder = new Recorder();
+
+        Publisher publisher = AgenticServices.dataflowBuilder(Publisher.class)
+                .subAgents(
+                        new ResearchAgent(recorder),
+                        new ExamplesAgent(recorder),
+                        new WriterAgent(recorder),
+                        new TitleAgent(recorder))
+                .maxConcurrency(2)
+                .output(scope -> scope.readState("title") + ": " + scope.readState("article"))
+                .build();
+
+        String result = publisher.publish("dataflow");
+
+        assertThat(result).isEqualTo("All about dataflow: research on dataflow with examples of dataflow");
+        assertThat(recorder.maxRunning).hasValue(2);
+        assertThat(recorder.startedAfterEnd("writer", "research")).isTrue();
+        assertThat(recorder.startedAfterEnd("writer", "examples")).isTrue();
+    }
+
+    @Test
+    void should_not_overwrite_a_state_before_the_previous_agents_read_it() {
+        Recorder recorder = new Recorder();
+
+        // the reviewer overwrites the topic, that must still be read by the title agent declared before it
+        Publisher publisher = AgenticServices.dataflowBuilder(Publisher.class)
+                .subAgents(new ResearchAgent(recorder), new TitleAgent(recorder), new ReviewerAgent(recorder))
+                .output(scope -> scope.readState("title"))
+                .build();
+
+        String result = publisher.publish("dataflow");
+
+        assertThat(result).isEqualTo("All about dataflow");
+        assertThat(recorder.startedAfterEnd("reviewer", "research")).isTrue();
+        assertThat(recorder.startedAfterEnd("reviewer", "title")).isTrue();
+    }
+}
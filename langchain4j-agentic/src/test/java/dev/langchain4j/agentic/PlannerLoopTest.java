@@ -0,0 +1,136 @@
+package dev.langchain4j.agentic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agentic.planner.Action;
+import dev.langchain4j.agentic.planner.AgentInstance;
+import dev.langchain4j.agentic.planner.InitPlanningContext;
+import dev.langchain4j.agentic.planner.Planner;
+import dev.langchain4j.agentic.planner.PlanningContext;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PlannerLoopTest {
+
+    interface CountingAgent {
+        @Agent
+        int count();
+    }
+
+    /**
+     * Calls all its subagents in parallel and then, once all of them completed, the first one again.
+     */
+    static class TwoBatchesPlanner implements Planner {
+
+        private List<AgentInstance> subagents;
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public void init(InitPlanningContext initPlanningContext) {
+            this.subagents = initPlanningContext.subagents();
+        }
+
+        @Override
+        public Action firstAction(PlanningContext planningContext) {
+            return call(subagents);
+        }
+
+        @Override
+        public Action nextAction(PlanningContext planningContext) {
+            int invocation = invocations.incrementAndGet();
+            if (invocation < subagents.size()) {
+                return noOp();
+            }
+            return invocation == subagents.size() ? call(subagents.get(0)) : done();
+        }
+    }
+
+    static class NoOpPlanner implements Planner {
+
+        private List<AgentInstance> subagents;
+
+        @Override
+        public void init(InitPlanningContext initPlanningContext) {
+            this.subagents = initPlanningContext.subagents();
+        }
+
+        @Override
+        public Action firstAction(PlanningContext planningContext) {
+            return call(subagents);
+        }
+
+        @Override
+        public Action nextAction(PlanningContext planningContext) {
+            return noOp();
+        }
+    }
+
+    @Test
+    void should_wait_for_the_whole_parallel_batch_before_executing_the_next_action() {
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger executionsBeforeFollowUp = new AtomicInteger(-1);
+
+        Object[] subAgents = new Object[4];
+        for (int i = 0; i < subAgents.length; i++) {
+            int delay = 5 * (i + 1);
+            subAgents[i] = AgenticServices.agentAction(() -> {
+                if (started.incrementAndGet() > subAgents.length) {
+                    executionsBeforeFollowUp.set(executions.get());
+                }
+                Thread.sleep(delay);
+                executions.incrementAndGet();
+            });
+        }
+
+        CountingAgent agent = AgenticServices.plannerBuilder(CountingAgent.class)
+                .subAgents(subAgents)
+                .planner(TwoBatchesPlanner::new)
+                .output(scope -> executions.get())
+                .build();
+
+        assertThat(agent.count()).isEqualTo(5);
+        assertThat(executionsBeforeFollowUp).hasValue(4);
+    }
+
+    @Test
+    void should_fail_instead_of_hanging_when_the_planner_has_nothing_left_to_do() throws Exception {
+        CountingAgent agent = AgenticServices.plannerBuilder(CountingAgent.class)
+                .subAgents(AgenticServices.agentAction(() -> {}), AgenticServices.agentAction(() -> {}))
+                .planner(NoOpPlanner::new)
+                .output(scope -> 0)
+                .build();
+
+        CompletableFuture<Integer> result = CompletableFuture.supplyAsync(agent::count);
+
+        assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .rootCause()
+                .hasMessageContaining("has no agent to invoke");
+    }
+
+    @Test
+    void should_propagate_the_failure_of_a_parallel_agent_after_the_whole_batch_completed() {
+        AtomicInteger completed = new AtomicInteger();
+
+        CountingAgent agent = AgenticServices.plannerBuilder(CountingAgent.class)
+                .subAgents(
+                        AgenticServices.agentAction(() -> {
+                            throw new IllegalArgumentException("boom");
+                        }),
+                        AgenticServices.agentAction(() -> {
+                            Thread.sleep(50);
+                            completed.incrementAndGet();
+                        }))
+                .planner(TwoBatchesPlanner::new)
+                .output(scope -> completed.get())
+                .build();
+
+        assertThatThrownBy(agent::count).hasRootCauseMessage("boom");
+        assertThat(completed).hasValue(1);
+    }
+}
@@ -0,0 +1,403 @@
+package dev.langchain4j.agentic.scope;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agentic.scope.DefaultAgenticScope.AgentMessage;
+import dev.langchain4j.agentic.scope.DefaultAgenticScope.Kind;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileAgenticScopeStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void cleanup() {
+        AgenticScopePersister.setStore(null);
+    }
+
+    @Test
+    void should_save_only_changes_since_last_checkpoint() {
+
+        // given
+        List<AgenticScopeChanges> savedChanges = new ArrayList<>();
+        FileAgenticScopeStore fileStore = new FileAgenticScopeStore(directory);
+        AgenticScopePersister.setStore(new RecordingStore(fileStore, savedChanges));
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("agent");
+        DefaultAgenticScope scope = registry.create("memory");
+
+        // when
+        scope.writeState("first", "one");
+        scope.registerAgentInvocation(invocation(1), null);
+        scope.checkpoint(registry);
+
+        scope.writeState("second", 2);
+        scope.writeState("first", null);
+        scope.checkpoint(registry);
+
+        scope.checkpoint(registry);
+
+        // then
+        assertThat(savedChanges).hasSize(2);
+        assertThat(savedChanges.get(0).writtenState()).isEqualTo(Map.of("first", "one"));
+        assertThat(savedChanges.get(0).agentInvocations()).containsExactly(invocation(1));
+        assertThat(savedChanges.get(1).writtenState()).isEqualTo(Map.of("second", 2));
+        assertThat(savedChanges.get(1).removedState()).containsExactly("first");
+        assertThat(savedChanges.get(1).agentInvocations()).isEmpty();
+    }
+
+    @Test
+    void should_restore_scope_from_snapshot_and_changes() {
+
+        // given
+        FileAgenticScopeStore store = new FileAgenticScopeStore(directory);
+        AgenticScopePersister.setStore(store);
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("agent");
+        DefaultAgenticScope scope = registry.create("memory");
+
+        Person person = new Person();
+        person.setName("Mario");
+        person.setAge(52);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            scope.writeState("step", i);
+            scope.registerAgentInvocation(invocation(i), null);
+            scope.checkpoint(registry);
+        }
+        scope.writeState("person", person);
+        scope.context().add(new AgentMessage("agent", "agent-1", UserMessage.from("Hi")));
+        scope.context().add(new AgentMessage("agent", "agent-1", AiMessage.from("Hello")));
+        scope.checkpoint(registry);
+
+        // then
+        DefaultAgenticScope loaded = new FileAgenticScopeStore(directory)
+                .load(new AgenticScopeKey("agent", "memory"))
+                .orElseThrow();
+        assertThat(loaded.readState("step")).isEqualTo(9);
+        assertThat(((Person) loaded.readState("person")).getName()).isEqualTo("Mario");
+        assertThat(loaded.agentInvocations()).hasSize(10);
+        assertThat(loaded.agentInvocations().get(9)).isEqualTo(invocation(9));
+        assertThat(loaded.context()).hasSize(2);
+        assertThat(loaded.context().get(1).message()).isEqualTo(AiMessage.from("Hello"));
+    }
+
+    @Test
+    void should_compact_changes_into_snapshot() throws IOException {
+
+        // given
+        FileAgenticScopeStore store = new FileAgenticScopeStore(directory, 5);
+        AgenticScopePersister.setStore(store);
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("agent");
+        DefaultAgenticScope scope = registry.create("memory");
+        AgenticScopeKey key = new AgenticScopeKey("agent", "memory");
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            scope.writeState("step", i);
+            scope.checkpoint(registry);
+        }
+
+        // then
+        // the 6th checkpoint saved a snapshot, the 7th appended its changes
+        assertThat(store.changesSinceSnapshot(key)).isEqualTo(1);
+        assertThat(Files.readAllLines(singleFile(), UTF_8)).hasSize(2 + 1);
+        assertThat(store.load(key).orElseThrow().readState("step")).isEqualTo(6);
+    }
+
+    @Test
+    void should_snapshot_values_mutated_in_place_when_compacting() {
+
+        // given
+        FileAgenticScopeStore store = new FileAgenticScopeStore(directory, 3);
+        AgenticScopePersister.setStore(store);
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("agent");
+        DefaultAgenticScope scope = registry.create("memory");
+        List<String> items = new ArrayList<>();
+        scope.writeState("items", items);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            items.add("item " + i);
+            scope.writeState("step", i);
+            scope.checkpoint(registry);
+        }
+
+        // then
+        assertThat(store.load(new AgenticScopeKey("agent", "memory")).orElseThrow().readState("items"))
+                .isEqualTo(List.of("item 0", "item 1", "item 2", "item 3"));
+    }
+
+    @Test
+    void should_serialize_changes_while_scope_cannot_be_modified() {
+
+        // given
+        List<AgenticScopeChanges> savedChanges = new ArrayList<>();
+        AgenticScopePersister.setStore(new RecordingStore(new FileAgenticScopeStore(directory), savedChanges));
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("agent");
+        DefaultAgenticScope scope = registry.create("memory");
+        List<String> items = new ArrayList<>(List.of("first"));
+        scope.writeState("items", items);
+
+        // when
+        scope.checkpoint(registry);
+        items.add("second");
+
+        // then
+        assertThat(savedChanges).hasSize(1);
+        assertThat(savedChanges.get(0).writtenState()).isEqualTo(Map.of("items", List.of("first")));
+    }
+
+    @Test
+    void should_reject_agent_id_with_line_break() {
+
+        FileAgenticScopeStore store = new FileAgenticScopeStore(directory);
+        DefaultAgenticScope scope = new DefaultAgenticScope("memory", Kind.PERSISTENT);
+
+        assertThatThrownBy(() -> store.save(new AgenticScopeKey("agent\nS {}", "memory"), scope))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line breaks");
+    }
+
+    @Test
+    void should_ignore_partially_written_changes() throws IOException {
+
+        // given
+        FileAgenticScopeStore store = new FileAgenticScopeStore(directory);
+        AgenticScopePersister.setStore(store);
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("agent");
+        DefaultAgenticScope scope = registry.create("memory");
+        scope.writeState("step", 1);
+        scope.checkpoint(registry);
+        Files.writeString(singleFile(), "C {\"writtenSt", StandardOpenOption.APPEND);
+
+        // when
+        FileAgenticScopeStore reopened = new FileAgenticScopeStore(directory);
+        AgenticScopePersister.setStore(reopened);
+        AgenticScopeRegistry newRegistry = new AgenticScopeRegistry("agent");
+        DefaultAgenticScope loaded = newRegistry.get("memory");
+        loaded.writeState("step", 2);
+        loaded.checkpoint(newRegistry);
+
+        // then
+        assertThat(new FileAgenticScopeStore(directory)
+                        .load(new AgenticScopeKey("agent", "memory"))
+                        .orElseThrow()
+                        .readState("step"))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void should_list_and_delete_scopes() {
+
+        // given
+        FileAgenticScopeStore store = new FileAgenticScopeStore(directory);
+        store.save(new AgenticScopeKey("agent", "one"), new DefaultAgenticScope("one", Kind.PERSISTENT));
+        store.save(new AgenticScopeKey("agent", 2), new DefaultAgenticScope(2, Kind.PERSISTENT));
+
+        // when
+        FileAgenticScopeStore reopened = new FileAgenticScopeStore(directory);
+
+        // then
+        assertThat(reopened.getAllKeys())
+                .containsExactlyInAnyOrder(new AgenticScopeKey("agent", "one"), new AgenticScopeKey("agent", 2));
+        assertThat(reopened.delete(new AgenticScopeKey("agent", "one"))).isTrue();
+        assertThat(reopened.delete(new AgenticScopeKey("agent", "one"))).isFalse();
+        assertThat(new FileAgenticScopeStore(directory).getAllKeys())
+                .containsExactly(new AgenticScopeKey("agent", 2));
+    }
+
+    @Test
+    void should_save_changes_made_through_state_map() {
+
+        // given
+        List<AgenticScopeChanges> savedChanges = new ArrayList<>();
+        AgenticScopePersister.setStore(new RecordingStore(new FileAgenticScopeStore(directory), savedChanges));
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("agent");
+        DefaultAgenticScope scope = registry.create("memory");
+        scope.writeStates(Map.of("first", "one", "second", "two", "third", "three"));
+        scope.checkpoint(registry);
+
+        // when
+        scope.state().put("fourth", 4);
+        scope.state().computeIfAbsent("fifth", key -> 5);
+        scope.state().remove("first");
+        scope.state().entrySet().removeIf(entry -> entry.getKey().equals("second"));
+        scope.state().entrySet().stream()
+                .filter(entry -> entry.getKey().equals("third"))
+                .forEach(entry -> entry.setValue("3"));
+        scope.checkpoint(registry);
+
+        // then
+        assertThat(savedChanges).hasSize(2);
+        assertThat(savedChanges.get(1).writtenState()).isEqualTo(Map.of("third", "3", "fourth", 4, "fifth", 5));
+        assertThat(savedChanges.get(1).removedState()).containsExactlyInAnyOrder("first", "second");
+        assertThat(new FileAgenticScopeStore(directory)
+                        .load(new AgenticScopeKey("agent", "memory"))
+                        .orElseThrow()
+                        .state())
+                .isEqualTo(Map.of("third", "3", "fourth", 4, "fifth", 5));
+    }
+
+    @Test
+    void should_save_snapshots_when_changes_are_not_supported() throws IOException {
+
+        // given
+        FileAgenticScopeStore store = new FileAgenticScopeStore(directory) {
+            @Override
+            public boolean supportsChanges() {
+                return false;
+            }
+        };
+        AgenticScopePersister.setStore(store);
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("agent");
+        DefaultAgenticScope scope = registry.create("memory");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            scope.writeState("step", i);
+            scope.checkpoint(registry);
+        }
+
+        // then
+        AgenticScopeKey key = new AgenticScopeKey("agent", "memory");
+        assertThat(store.changesSinceSnapshot(key)).isZero();
+        assertThat(Files.readAllLines(singleFile(), UTF_8)).hasSize(2);
+        assertThat(store.load(key).orElseThrow().readState("step")).isEqualTo(2);
+    }
+
+    @Test
+    void should_restore_same_scope_from_changes_as_from_snapshots() {
+
+        // given
+        FileAgenticScopeStore incrementalStore = new FileAgenticScopeStore(directory.resolve("incremental"));
+        FileAgenticScopeStore snapshotStore = new FileAgenticScopeStore(directory.resolve("snapshots")) {
+            @Override
+            public boolean supportsChanges() {
+                return false;
+            }
+        };
+
+        // when
+        runLoop(incrementalStore, 50);
+        runLoop(snapshotStore, 50);
+
+        // then
+        AgenticScopeKey key = new AgenticScopeKey("loop", "memory");
+        DefaultAgenticScope restored = incrementalStore.load(key).orElseThrow();
+        assertThat(restored.state()).isEqualTo(snapshotStore.load(key).orElseThrow().state());
+        assertThat(restored.agentInvocations()).hasSize(50).endsWith(invocation(49));
+    }
+
+    @Test
+    void should_not_write_deleted_scope_again() throws Exception {
+
+        // given
+        FileAgenticScopeStore store = new FileAgenticScopeStore(directory, 1);
+        AgenticScopeKey key = new AgenticScopeKey("agent", "memory");
+        String changes = AgenticScopeSerializer.changesToJson(
+                new AgenticScopeChanges(Map.of("step", 1), Set.of(), List.of(), List.of()));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            for (int i = 0; i < 200; i++) {
+                store.save(key, new DefaultAgenticScope("memory", Kind.PERSISTENT));
+
+                // when
+                // each saved change races with the deletion
+                Future<Boolean> saved = executor.submit(() -> store.saveChanges(key, changes));
+                boolean deleted = store.delete(key);
+                saved.get();
+
+                // then
+                if (deleted) {
+                    assertThat(store.getAllKeys()).isEmpty();
+                    try (Stream<Path> files = Files.list(directory)) {
+                        assertThat(files).isEmpty();
+                    }
+                } else {
+                    assertThat(store.delete(key)).isTrue();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runLoop(AgenticScopeStore store, int steps) {
+        AgenticScopePersister.setStore(store);
+        AgenticScopeRegistry registry = new AgenticScopeRegistry("loop");
+        DefaultAgenticScope scope = registry.create("memory");
+        for (int step = 0; step < steps; step++) {
+            scope.writeState("step", step);
+            scope.writeState("result_" + step, "result " + step);
+            scope.registerAgentInvocation(invocation(step), null);
+            scope.checkpoint(registry);
+        }
+    }
+
+    private Path singleFile() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList()).get(0);
+        }
+    }
+
+    private static AgentInvocation invocation(int step) {
+        return new AgentInvocation(Object.class, "agent", "agent-" + step, Map.of("step", step), "result " + step);
+    }
+
+    private record RecordingStore(FileAgenticScopeStore delegate, List<AgenticScopeChanges> savedChanges)
+            implements IncrementalAgenticScopeStore {
+
+        @Override
+        public boolean saveChanges(AgenticScopeKey key, String changes) {
+            savedChanges.add(AgenticScopeSerializer.changesFromJson(changes));
+            return delegate.saveChanges(key, changes);
+        }
+
+        @Override
+        public boolean needsSnapshot(AgenticScopeKey key) {
+            return delegate.needsSnapshot(key);
+        }
+
+        @Override
+        public boolean save(AgenticScopeKey key, DefaultAgenticScope agenticScope) {
+            return delegate.save(key, agenticScope);
+        }
+
+        @Override
+        public Optional<DefaultAgenticScope> load(AgenticScopeKey key) {
+            return delegate.load(key);
+        }
+
+        @Override
+        public boolean delete(AgenticScopeKey key) {
+            return delegate.delete(key);
+        }
+
+        @Override
+        public Set<AgenticScopeKey> getAllKeys() {
+            return delegate.getAllKeys();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.to
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toTokenUsage;
 import static java.util.Arrays.asList;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.image.Image;
 import dev.langchain4j.data.message.AiMessage;
@@ -129,6 +130,7 @@ public class AnthropicChatModel implements ChatModel {
                 .responseFormat(getOrDefault(builder.responseFormat, commonParameters.responseFormat()))
                 .cacheSystemMessages(getOrDefault(builder.cacheSystemMessages, anthropicDefaults.cacheSystemMessages()))
                 .cacheTools(getOrDefault(builder.cacheTools, anthropicDefaults.cacheTools()))
+                .cacheMessages(getOrDefault(builder.cacheMessages, anthropicDefaults.cacheMessages()))
                 .thinkingType(getOrDefault(builder.thinkingType, anthropicDefaults.thinkingType()))
                 .thinkingBudgetTokens(
                         getOrDefault(builder.thinkingBudgetTokens, anthropicDefaults.thinkingBudgetTokens()))
@@ -168,6 +170,7 @@ public class AnthropicChatModel implements ChatModel {
         private Set<String> toolMetadataKeysToSend;
         private Boolean cacheSystemMessages;
         private Boolean cacheTools;
+        private Boolean cacheMessages;
         private String thinkingType;
         private Integer thinkingBudgetTokens;
         private String thinkingDisplay;
@@ -498,6 +501,29 @@ public class AnthropicChatModel implements ChatModel {
             return this;
         }
 
+        /**
+         * Enables prompt caching for the conversation history (user, AI and tool result messages).
+         * <p>
+         * When {@code true}, {@code cache_control} breakpoints are placed on the messages automatically:
+         * one on the last message, so that the next request of the conversation reads the whole history
+         * from the cache, and the remaining ones every 20 content blocks, so that the cached prefix is still
+         * found when many messages are added between requests (e.g. by tool calls).
+         * They move forward as the conversation grows, and never exceed the limit of 4 breakpoints per request,
+         * taking into account those used by {@link #cacheSystemMessages(Boolean)}, {@link #cacheTools(Boolean)}
+         * and the {@code cache_control} attribute of {@link dev.langchain4j.data.message.UserMessage}s.
+         * The resulting cache hit ratio is reported by {@link AnthropicTokenUsage#cacheReadInputTokensRatio()}.
+         * See the <a href="https://docs.anthropic.com/en/docs/build-with-claude/prompt-caching">prompt caching docs</a>.
+         *
+         * @param cacheMessages whether to cache the conversation history
+         * @return {@code this}
+         * @since 1.17.0
+         */
+        @Experimental
+        public AnthropicChatModelBuilder cacheMessages(Boolean cacheMessages) {
+            this.cacheMessages = cacheMessages;
+            return this;
+        }
+
         /**
          * Enables <a href="https://docs.anthropic.com/en/docs/build-with-claude/extended-thinking">thinking</a>.
          */
@@ -754,6 +780,7 @@ public class AnthropicChatModel implements ChatModel {
                 getOrDefault(parameters.sendThinking(), true),
                 getOrDefault(parameters.cacheSystemMessages(), false) ? EPHEMERAL : NO_CACHE,
                 getOrDefault(parameters.cacheTools(), false) ? EPHEMERAL : NO_CACHE,
+                getOrDefault(parameters.cacheMessages(), false),
                 false,
                 parameters.toolChoiceName(),
                 parameters.disableParallelToolUse(),
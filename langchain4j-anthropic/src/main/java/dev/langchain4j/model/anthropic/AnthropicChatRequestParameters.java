@@ -2,6 +2,7 @@ package dev.langchain4j.model.anthropic;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.model.chat.request.ChatRequestParameters;
 import dev.langchain4j.model.chat.request.DefaultChatRequestParameters;
 import java.util.Objects;
@@ -17,6 +18,7 @@ public class AnthropicChatRequestParameters extends DefaultChatRequestParameters
 
     private final Boolean cacheSystemMessages;
     private final Boolean cacheTools;
+    private final Boolean cacheMessages;
     private final String thinkingType;
     private final Integer thinkingBudgetTokens;
     private final Boolean sendThinking;
@@ -29,6 +31,7 @@ public class AnthropicChatRequestParameters extends DefaultChatRequestParameters
         super(builder);
         this.cacheSystemMessages = builder.cacheSystemMessages;
         this.cacheTools = builder.cacheTools;
+        this.cacheMessages = builder.cacheMessages;
         this.thinkingType = builder.thinkingType;
         this.thinkingBudgetTokens = builder.thinkingBudgetTokens;
         this.sendThinking = builder.sendThinking;
@@ -46,6 +49,14 @@ public class AnthropicChatRequestParameters extends DefaultChatRequestParameters
         return cacheTools;
     }
 
+    /**
+     * @since 1.17.0
+     */
+    @Experimental
+    public Boolean cacheMessages() {
+        return cacheMessages;
+    }
+
     public String thinkingType() {
         return thinkingType;
     }
@@ -98,6 +109,7 @@ public class AnthropicChatRequestParameters extends DefaultChatRequestParameters
         AnthropicChatRequestParameters that = (AnthropicChatRequestParameters) o;
         return Objects.equals(cacheSystemMessages, that.cacheSystemMessages)
                 && Objects.equals(cacheTools, that.cacheTools)
+                && Objects.equals(cacheMessages, that.cacheMessages)
                 && Objects.equals(thinkingType, that.thinkingType)
                 && Objects.equals(thinkingBudgetTokens, that.thinkingBudgetTokens)
                 && Objects.equals(sendThinking, that.sendThinking)
@@ -113,6 +125,7 @@ public class AnthropicChatRequestParameters extends DefaultChatRequestParameters
                 super.hashCode(),
                 cacheSystemMessages,
                 cacheTools,
+                cacheMessages,
                 thinkingType,
                 thinkingBudgetTokens,
                 sendThinking,
@@ -138,6 +151,7 @@ public class AnthropicChatRequestParameters extends DefaultChatRequestParameters
                 + ", responseFormat=" + responseFormat()
                 + ", cacheSystemMessages=" + cacheSystemMessages
                 + ", cacheTools=" + cacheTools
+                + ", cacheMessages=" + cacheMessages
                 + ", thinkingType=" + thinkingType
                 + ", thinkingBudgetTokens=" + thinkingBudgetTokens
                 + ", sendThinking=" + sendThinking
@@ -160,6 +174,7 @@ public class AnthropicChatRequestParameters extends DefaultChatRequestParameters
 
         private Boolean cacheSystemMessages;
         private Boolean cacheTools;
+        private Boolean cacheMessages;
         private String thinkingType;
         private Integer thinkingBudgetTokens;
         private Boolean sendThinking;
@@ -174,6 +189,7 @@ public class AnthropicChatRequestParameters extends DefaultChatRequestParameters
             if (parameters instanceof AnthropicChatRequestParameters anthropicParameters) {
                 cacheSystemMessages(getOrDefault(anthropicParameters.cacheSystemMessages(), cacheSystemMessages));
                 cacheTools(getOrDefault(anthropicParameters.cacheTools(), cacheTools));
+                cacheMessages(getOrDefault(anthropicParameters.cacheMessages(), cacheMessages));
                 thinkingType(getOrDefault(anthropicParameters.thinkingType(), thinkingType));
                 thinkingBudgetTokens(getOrDefault(anthropicParameters.thinkingBudgetTokens(), thinkingBudgetTokens));
                 sendThinking(getOrDefault(anthropicParameters.sendThinking(), sendThinking));
@@ -200,6 +216,18 @@ public class AnthropicChatRequestParameters extends DefaultChatRequestParameters
             return this;
         }
 
+        /**
+         * Enables prompt caching for the conversation history,
+         * see {@link AnthropicChatModel.AnthropicChatModelBuilder#cacheMessages(Boolean)}.
+         *
+         * @since 1.17.0
+         */
+        @Experimental
+        public Builder cacheMessages(Boolean cacheMessages) {
+            this.cacheMessages = cacheMessages;
+            return this;
+        }
+
         public Builder thinkingType(String thinkingType) {
             this.thinkingType = thinkingType;
             return this;
@@ -1,5 +1,6 @@
 package dev.langchain4j.model.anthropic;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.model.output.TokenUsage;
 
 public class AnthropicTokenUsage extends TokenUsage {
@@ -31,6 +32,30 @@ public class AnthropicTokenUsage extends TokenUsage {
         return cacheReadInputTokens;
     }
 
+    /**
+     * Returns the share of the prompt that was read from the cache, between 0 and 1:
+     * {@link #cacheReadInputTokens()} divided by the total number of input tokens,
+     * that is {@link #inputTokenCount()} (which does not include cached tokens),
+     * {@link #cacheCreationInputTokens()} and {@link #cacheReadInputTokens()}.
+     * Returns null if unknown.
+     * <p>
+     * It can be used to monitor the effectiveness of prompt caching,
+     * e.g. in a {@link dev.langchain4j.model.chat.listener.ChatModelListener}.
+     *
+     * @return The share of the input tokens read from the cache, or null if unknown.
+     * @since 1.17.0
+     */
+    @Experimental
+    public Double cacheReadInputTokensRatio() {
+        if (cacheReadInputTokens == null) {
+            return null;
+        }
+        long total = (long) cacheReadInputTokens
+                + (inputTokenCount() == null ? 0 : inputTokenCount())
+                + (cacheCreationInputTokens == null ? 0 : cacheCreationInputTokens);
+        return total == 0 ? null : (double) cacheReadInputTokens / total;
+    }
+
     @Override
     public AnthropicTokenUsage add(TokenUsage that) {
         if (that == null) {
@@ -1,6 +1,8 @@
 package dev.langchain4j.model.anthropic;
 
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.addRollingCacheBreakpoints;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.countCacheBreakpoints;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicMessages;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicSystemPrompt;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicToolChoice;
@@ -58,6 +60,7 @@ class InternalAnthropicHelper {
             boolean sendThinking,
             AnthropicCacheType cacheType,
             AnthropicCacheType toolsCacheType,
+            boolean cacheMessages,
             boolean stream,
             String toolChoiceName,
             Boolean disableParallelToolUse,
@@ -100,7 +103,12 @@ class InternalAnthropicHelper {
             requestBuilder.metadata(AnthropicMetadata.builder().userId(userId).build());
         }
 
-        return requestBuilder.build();
+        AnthropicCreateMessageRequest request = requestBuilder.build();
+        if (cacheMessages) {
+            addRollingCacheBreakpoints(
+                    request.messages, countCacheBreakpoints(request.system) + countCacheBreakpoints(request.tools));
+        }
+        return request;
     }
 
     public static AnthropicOutputConfig toAnthropicOutputConfig(ResponseFormat responseFormat) {
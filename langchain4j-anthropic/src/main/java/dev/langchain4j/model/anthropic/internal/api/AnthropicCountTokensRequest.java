@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.util.List;
 import java.util.Objects;
 
@@ -38,6 +39,7 @@ public class AnthropicCountTokensRequest {
     /**
      * Optional list of tools available for the model.
      */
+    @JsonSerialize(contentUsing = AnthropicToolSerializer.class)
     private List<AnthropicTool> tools;
 
     /**
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +26,7 @@ public class AnthropicCreateMessageRequest {
     public Double temperature;
     public Double topP;
     public Integer topK;
+    @JsonSerialize(contentUsing = AnthropicToolSerializer.class)
     public List<AnthropicTool> tools;
     public AnthropicToolChoice toolChoice;
     public AnthropicOutputConfig outputConfig;
@@ -24,6 +24,8 @@ public class AnthropicTool {
     @JsonIgnore
     public Map<String, Object> customParameters;
     public Boolean strict;
+    @JsonIgnore
+    private SharedJson sharedJson;
 
     public AnthropicTool() {}
 
@@ -53,6 +55,66 @@ public class AnthropicTool {
         return customParameters;
     }
 
+    /**
+     * Returns a copy of this tool whose JSON is serialized once and shared with all the other copies
+     * (see {@link AnthropicToolSerializer}), as long as none of its fields is reassigned.
+     * The input schema and custom parameters are shared with the other copies and must not be modified.
+     */
+    public AnthropicTool copySharingJson() {
+        SharedJson sharedJson = this.sharedJson;
+        if (sharedJson == null) {
+            sharedJson = new SharedJson(this);
+            this.sharedJson = sharedJson;
+        }
+        AnthropicTool copy = builder()
+                .name(name)
+                .description(description)
+                .inputSchema(inputSchema)
+                .cacheControl(cacheControl)
+                .customParameters(customParameters)
+                .strict(strict)
+                .build();
+        copy.sharedJson = sharedJson;
+        return copy;
+    }
+
+    /**
+     * Returns the shared JSON of this tool, or {@code null} if it does not share its JSON
+     * or if one of its fields has been reassigned since it was copied.
+     */
+    String sharedJson(AnthropicToolSerializer serializer) {
+        SharedJson sharedJson = this.sharedJson;
+        return sharedJson != null && sharedJson.isJsonOf(this) ? sharedJson.json(serializer) : null;
+    }
+
+    private static final class SharedJson {
+
+        private final AnthropicTool source;
+        private volatile String json;
+
+        private SharedJson(AnthropicTool source) {
+            this.source = source;
+        }
+
+        private boolean isJsonOf(AnthropicTool tool) {
+            return tool.name == source.name
+                    && tool.description == source.description
+                    && tool.inputSchema == source.inputSchema
+                    && tool.cacheControl == source.cacheControl
+                    && tool.customParameters == source.customParameters
+                    && tool.strict == source.strict;
+        }
+
+        private String json(AnthropicToolSerializer serializer) {
+            String json = this.json;
+            if (json == null) {
+                json = serializer.toJson(source);
+                this.json = json;
+            }
+            return json;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
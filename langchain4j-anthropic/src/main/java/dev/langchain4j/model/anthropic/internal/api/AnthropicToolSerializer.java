@@ -0,0 +1,44 @@
+package dev.langchain4j.model.anthropic.internal.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes the shared JSON of an {@link AnthropicTool} (see {@link AnthropicTool#copySharingJson()}) as is,
+ * so that the (possibly hundreds of) tools sent with every request are not serialized again and again.
+ * Falls back to the regular serialization for the other tools,
+ * and when the output is not JSON text (e.g. when converting to a tree).
+ */
+class AnthropicToolSerializer extends StdSerializer<AnthropicTool> {
+
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+
+    AnthropicToolSerializer() {
+        super(AnthropicTool.class);
+    }
+
+    @Override
+    public void serialize(AnthropicTool tool, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        String json = generator instanceof JsonGeneratorImpl ? tool.sharedJson(this) : null;
+        if (json != null) {
+            generator.writeRawValue(json);
+        } else {
+            provider.findValueSerializer(AnthropicTool.class).serialize(tool, generator, provider);
+        }
+    }
+
+    String toJson(AnthropicTool tool) {
+        try {
+            return WRITER.writeValueAsString(tool);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
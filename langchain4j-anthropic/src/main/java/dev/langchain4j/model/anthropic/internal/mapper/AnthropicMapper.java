@@ -18,6 +18,7 @@ import static dev.langchain4j.model.output.FinishReason.STOP;
 import static dev.langchain4j.model.output.FinishReason.TOOL_EXECUTION;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.synchronizedMap;
 import static java.util.stream.Collectors.joining;
 
 import dev.langchain4j.Internal;
@@ -66,6 +67,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Internal
 public class AnthropicMapper {
@@ -78,6 +81,21 @@ public class AnthropicMapper {
             "server_tool_results"; // do not change, will break backward compatibility!
     public static final String CACHE_CONTROL = "cache_control";
 
+    /**
+     * The maximum number of {@code cache_control} breakpoints accepted in a single request.
+     */
+    public static final int MAX_CACHE_BREAKPOINTS = 4;
+
+    /**
+     * The number of content blocks Anthropic checks before a breakpoint when looking for a cached prefix.
+     */
+    public static final int CACHE_LOOKBACK_BLOCKS = 20;
+
+    private static final Map<ToolSpecification, Map<ToolOptions, AnthropicTool>> TOOLS =
+            synchronizedMap(new WeakHashMap<>());
+
+    private record ToolOptions(AnthropicCacheType cacheType, Set<String> metadataKeysToSend, boolean strict) {}
+
     public static List<AnthropicMessage> toAnthropicMessages(List<ChatMessage> messages) {
         return toAnthropicMessages(messages, false);
     }
@@ -253,6 +271,76 @@ public class AnthropicMapper {
                 .toList();
     }
 
+    /**
+     * Places {@code cache_control} breakpoints on the conversation history, so that its stable prefix
+     * is read from the prompt cache by the next request instead of being processed again.
+     * <p>
+     * One breakpoint is placed on the last content block: the next request (with more messages) finds
+     * the prefix cached by this one as long as fewer than {@link #CACHE_LOOKBACK_BLOCKS} blocks were added.
+     * The remaining breakpoints are placed on the blocks at every {@link #CACHE_LOOKBACK_BLOCKS}-th position,
+     * from the most recent one backwards, so that a prefix cached earlier is still found when the history
+     * grows faster than that. At most {@link #MAX_CACHE_BREAKPOINTS} breakpoints are used in total,
+     * including those already placed on the system prompt, the tools and the messages.
+     * Thinking blocks and empty text blocks cannot be cached and are skipped.
+     *
+     * @param messages        the messages of the request, whose content blocks are updated in place
+     * @param usedBreakpoints the number of breakpoints already placed outside the messages
+     */
+    public static void addRollingCacheBreakpoints(List<AnthropicMessage> messages, int usedBreakpoints) {
+        List<AnthropicMessageContent> blocks = new ArrayList<>();
+        for (AnthropicMessage message : messages) {
+            if (message.content != null) {
+                blocks.addAll(message.content);
+            }
+        }
+
+        int available = MAX_CACHE_BREAKPOINTS - usedBreakpoints - countCacheBreakpoints(blocks);
+        int position = blocks.size() - 1;
+        while (available > 0 && position >= 0) {
+            int cacheable = lastCacheableBlock(blocks, position);
+            if (cacheable < 0) {
+                return;
+            }
+            if (blocks.get(cacheable).cacheControl == null) {
+                blocks.get(cacheable).cacheControl = AnthropicCacheType.EPHEMERAL.cacheControl();
+                available--;
+            }
+            position = cacheable / CACHE_LOOKBACK_BLOCKS * CACHE_LOOKBACK_BLOCKS - 1;
+        }
+    }
+
+    public static int countCacheBreakpoints(List<?> blocks) {
+        if (blocks == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Object block : blocks) {
+            if ((block instanceof AnthropicMessageContent content && content.cacheControl != null)
+                    || (block instanceof AnthropicTool tool && tool.cacheControl != null)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int lastCacheableBlock(List<AnthropicMessageContent> blocks, int position) {
+        for (int i = position; i >= 0; i--) {
+            AnthropicMessageContent block = blocks.get(i);
+            if (block.cacheControl != null) {
+                // an explicit breakpoint already covers this prefix
+                return i;
+            }
+            if (block instanceof AnthropicThinkingContent || block instanceof AnthropicRedactedThinkingContent) {
+                continue;
+            }
+            if (block instanceof AnthropicTextContent text && isNullOrEmpty(text.text)) {
+                continue;
+            }
+            return i;
+        }
+        return -1;
+    }
+
     public static AiMessage toAiMessage(List<AnthropicContent> contents) {
         return toAiMessage(contents, false, false);
     }
@@ -378,6 +466,12 @@ public class AnthropicMapper {
         return toAnthropicTools(toolSpecifications, cacheToolsPrompt, Set.of(), strictTools);
     }
 
+    /**
+     * Converts the tool specifications into tools, reusing the tools already converted for equal specifications
+     * (and options), since the same tools are usually sent with every request.
+     * Each returned tool is a copy sharing the JSON of the reused tool (see {@link AnthropicTool#copySharingJson()}),
+     * which is then serialized only once.
+     */
     public static List<AnthropicTool> toAnthropicTools(
             List<ToolSpecification> toolSpecifications,
             AnthropicCacheType cacheToolsPrompt,
@@ -385,19 +479,39 @@ public class AnthropicMapper {
             Boolean strictTools) {
         ToolSpecification lastToolSpecification =
                 toolSpecifications.isEmpty() ? null : toolSpecifications.get(toolSpecifications.size() - 1);
+        Set<String> metadataKeysToSend = Set.copyOf(toolMetadataKeysToSend);
         return toolSpecifications.stream()
                 .map(toolSpecification -> {
                     boolean isLastItem = toolSpecification.equals(lastToolSpecification);
                     if (isLastItem && cacheToolsPrompt != AnthropicCacheType.NO_CACHE) {
-                        return toAnthropicTool(
-                                toolSpecification, cacheToolsPrompt, toolMetadataKeysToSend, strictTools);
+                        return toCachedAnthropicTool(
+                                toolSpecification, cacheToolsPrompt, metadataKeysToSend, strictTools);
                     }
-                    return toAnthropicTool(
-                            toolSpecification, AnthropicCacheType.NO_CACHE, toolMetadataKeysToSend, strictTools);
+                    return toCachedAnthropicTool(
+                            toolSpecification, AnthropicCacheType.NO_CACHE, metadataKeysToSend, strictTools);
                 })
                 .toList();
     }
 
+    private static AnthropicTool toCachedAnthropicTool(
+            ToolSpecification toolSpecification,
+            AnthropicCacheType cacheToolsPrompt,
+            Set<String> toolMetadataKeysToSend,
+            Boolean strictTools) {
+        Map<ToolOptions, AnthropicTool> tools = TOOLS.get(toolSpecification);
+        if (tools == null) {
+            tools = new ConcurrentHashMap<>();
+            TOOLS.put(toolSpecification, tools);
+        }
+        ToolOptions options =
+                new ToolOptions(cacheToolsPrompt, toolMetadataKeysToSend, Boolean.TRUE.equals(strictTools));
+        return tools.computeIfAbsent(
+                        options,
+                        ignored -> toAnthropicTool(
+                                toolSpecification, cacheToolsPrompt, toolMetadataKeysToSend, strictTools))
+                .copySharingJson();
+    }
+
     public static AnthropicTool toAnthropicTool(
             ToolSpecification toolSpecification, AnthropicCacheType cacheToolsPrompt) {
         return toAnthropicTool(toolSpecification, cacheToolsPrompt, Set.of(), null);
@@ -6,15 +6,25 @@ import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.request.ToolChoice;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -126,6 +136,84 @@ class AnthropicChatRequestCacheParametersTest {
         assertThat(lastRequestBody()).contains("cache_control").contains("ephemeral");
     }
 
+    @Test
+    void should_place_rolling_cache_breakpoints_on_conversation_history_per_request() throws Exception {
+        AnthropicChatModel model =
+                modelBuilder().cacheSystemMessages(true).cacheTools(true).build();
+
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(SystemMessage.from("You are a helpful assistant."));
+        for (int i = 0; i < 45; i++) {
+            messages.add(i % 2 == 0 ? UserMessage.from("question " + i) : AiMessage.from("answer " + i));
+        }
+
+        model.chat(ChatRequest.builder()
+                .messages(messages)
+                .parameters(AnthropicChatRequestParameters.builder()
+                        .toolSpecifications(weatherTool())
+                        .cacheMessages(true)
+                        .build())
+                .build());
+
+        String body = lastRequestBody();
+        // system prompt, tools and the 2 most recent breakpoints of the history
+        assertThat(body.split("cache_control", -1)).hasSize(4 + 1);
+        JsonNode anthropicMessages = new ObjectMapper().readTree(body).get("messages");
+        assertThat(anthropicMessages.get(44).get("content").get(0).has("cache_control")).isTrue();
+        assertThat(anthropicMessages.get(39).get("content").get(0).has("cache_control")).isTrue();
+        assertThat(anthropicMessages.get(19).get("content").get(0).has("cache_control")).isFalse();
+    }
+
+    @Test
+    void should_not_cache_conversation_history_by_default() {
+        AnthropicChatModel model = modelBuilder().build();
+
+        model.chat(ChatRequest.builder()
+                .messages(UserMessage.from("Hi"), AiMessage.from("Hello!"), UserMessage.from("How are you?"))
+                .build());
+
+        assertThat(lastRequestBody()).doesNotContain("cache_control");
+    }
+
+    @Test
+    void should_report_cache_read_input_tokens_ratio_to_listeners() {
+        wireMockServer.stubFor(post(anyUrl())
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                        {
+                          "id": "msg_123",
+                          "type": "message",
+                          "role": "assistant",
+                          "model": "claude-3-5-haiku-20241022",
+                          "content": [{"type": "text", "text": "Hello!"}],
+                          "stop_reason": "end_turn",
+                          "usage": {
+                            "input_tokens": 10,
+                            "cache_creation_input_tokens": 30,
+                            "cache_read_input_tokens": 60,
+                            "output_tokens": 5
+                          }
+                        }
+                        """)));
+        AtomicReference<TokenUsage> tokenUsage = new AtomicReference<>();
+        ChatModelListener listener = new ChatModelListener() {
+            @Override
+            public void onResponse(ChatModelResponseContext responseContext) {
+                tokenUsage.set(responseContext.chatResponse().tokenUsage());
+            }
+        };
+        AnthropicChatModel model =
+                modelBuilder().cacheMessages(true).listeners(List.of(listener)).build();
+
+        model.chat(UserMessage.from("Hi"), AiMessage.from("Hello!"), UserMessage.from("How are you?"));
+
+        assertThat(tokenUsage.get()).isInstanceOf(AnthropicTokenUsage.class);
+        assertThat(((AnthropicTokenUsage) tokenUsage.get()).cacheReadInputTokensRatio())
+                .isCloseTo(0.6, within(1e-9));
+    }
+
     @Test
     void should_override_thinking_parameters_per_request() {
         AnthropicChatModel model = modelBuilder()
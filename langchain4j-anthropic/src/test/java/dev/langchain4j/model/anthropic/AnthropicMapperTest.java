@@ -2,12 +2,15 @@ package dev.langchain4j.model.anthropic;
 
 import static dev.langchain4j.model.anthropic.internal.api.AnthropicRole.ASSISTANT;
 import static dev.langchain4j.model.anthropic.internal.api.AnthropicRole.USER;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.CACHE_CONTROL;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.SERVER_TOOL_RESULTS_KEY;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.addRollingCacheBreakpoints;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.retainKeys;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAiMessage;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicMessages;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicSchema;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicTool;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicTools;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -36,6 +39,7 @@ import dev.langchain4j.model.anthropic.internal.api.AnthropicMessage;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageContent;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicPdfContent;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicTextContent;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicThinkingContent;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicTool;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicToolResultContent;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicToolSchema;
@@ -45,6 +49,7 @@ import dev.langchain4j.model.chat.request.json.JsonReferenceSchema;
 import dev.langchain4j.model.chat.request.json.JsonSchemaElement;
 import java.net.URI;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -635,4 +640,97 @@ class AnthropicMapperTest {
     private static <K, V> Map.Entry<K, V> entry(K key, V value) {
         return new AbstractMap.SimpleEntry<>(key, value);
     }
+
+    @Test
+    void should_reuse_tools_converted_for_equal_tool_specifications() {
+        // given
+        ToolSpecification toolSpecification = ToolSpecification.builder()
+                .name("get_weather")
+                .parameters(JsonObjectSchema.builder().addStringProperty("city").build())
+                .build();
+
+        // when
+        AnthropicTool tool = toAnthropicTools(List.of(toolSpecification), AnthropicCacheType.NO_CACHE, false)
+                .get(0);
+        AnthropicTool reusedTool = toAnthropicTools(
+                        List.of(toolSpecification.toBuilder().build()), AnthropicCacheType.NO_CACHE, false)
+                .get(0);
+        AnthropicTool cachedTool = toAnthropicTools(List.of(toolSpecification), AnthropicCacheType.EPHEMERAL, false)
+                .get(0);
+
+        // then
+        assertThat(reusedTool).isEqualTo(tool).isNotSameAs(tool);
+        assertThat(reusedTool.inputSchema).isSameAs(tool.inputSchema);
+        assertThat(cachedTool.cacheControl).isNotNull();
+        assertThat(tool.cacheControl).isNull();
+    }
+
+    @Test
+    void should_place_rolling_cache_breakpoints_on_last_block_and_every_20_blocks() {
+        // given
+        List<AnthropicMessage> messages = toAnthropicMessages(conversation(45, -1));
+
+        // when
+        addRollingCacheBreakpoints(messages, 0);
+
+        // then
+        assertThat(cacheBreakpoints(messages)).containsExactly(19, 39, 44);
+    }
+
+    @Test
+    void should_not_exceed_4_cache_breakpoints_with_system_tools_and_explicit_breakpoints() {
+        // given
+        List<AnthropicMessage> messages = toAnthropicMessages(conversation(45, 10));
+
+        // when
+        addRollingCacheBreakpoints(messages, 1);
+
+        // then
+        assertThat(cacheBreakpoints(messages)).containsExactly(10, 39, 44);
+    }
+
+    @Test
+    void should_not_place_cache_breakpoints_on_thinking_and_empty_text_blocks() {
+        // given
+        List<AnthropicMessage> messages = List.of(
+                new AnthropicMessage(USER, List.of(new AnthropicTextContent("Hi"))),
+                new AnthropicMessage(
+                        ASSISTANT,
+                        List.of(new AnthropicThinkingContent("Hmm", "signature"), new AnthropicTextContent(""))));
+
+        // when
+        addRollingCacheBreakpoints(messages, 0);
+
+        // then
+        assertThat(cacheBreakpoints(messages)).containsExactly(0);
+    }
+
+    private static List<ChatMessage> conversation(int size, int explicitBreakpoint) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (i % 2 == 1) {
+                messages.add(AiMessage.from("answer " + i));
+            } else if (i == explicitBreakpoint) {
+                messages.add(UserMessage.builder()
+                        .addContent(TextContent.from("question " + i))
+                        .attributes(Map.of(CACHE_CONTROL, "ephemeral"))
+                        .build());
+            } else {
+                messages.add(UserMessage.from("question " + i));
+            }
+        }
+        return messages;
+    }
+
+    private static List<Integer> cacheBreakpoints(List<AnthropicMessage> messages) {
+        List<AnthropicMessageContent> blocks =
+                messages.stream().flatMap(message -> message.content.stream()).toList();
+        List<Integer> breakpoints = new ArrayList<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            if (blocks.get(i).cacheControl != null) {
+                breakpoints.add(i);
+            }
+        }
+        return breakpoints;
+    }
 }
@@ -0,0 +1,84 @@
+package dev.langchain4j.model.anthropic.internal.api;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AnthropicToolSerializerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(INDENT_OUTPUT);
+
+    private static AnthropicTool tool(String name) {
+        return AnthropicTool.builder()
+                .name(name)
+                .description("description of " + name)
+                .inputSchema(AnthropicToolSchema.builder()
+                        .properties(Map.of("city", Map.of("type", "string")))
+                        .required(List.of("city"))
+                        .build())
+                .customParameters(Map.of("defer_loading", true))
+                .build();
+    }
+
+    private static AnthropicCreateMessageRequest request(List<AnthropicTool> tools) {
+        return AnthropicCreateMessageRequest.builder()
+                .model("claude-sonnet-4-5")
+                .maxTokens(1024)
+                .tools(tools)
+                .build();
+    }
+
+    @Test
+    void should_serialize_tools_sharing_json_as_regular_json() throws Exception {
+        // given
+        AnthropicTool weather = tool("get_weather");
+        AnthropicCreateMessageRequest request =
+                request(List.of(weather.copySharingJson(), weather.copySharingJson(), tool("get_time")));
+
+        // when
+        String json = OBJECT_MAPPER.writeValueAsString(request);
+
+        // then
+        JsonNode regularJson = OBJECT_MAPPER.valueToTree(request); // does not use the shared JSON
+        assertThat(OBJECT_MAPPER.readTree(json)).isEqualTo(regularJson);
+        assertThat(regularJson.get("tools").get(1).get("defer_loading").asBoolean())
+                .isTrue();
+    }
+
+    @Test
+    void should_share_json_between_copies() {
+        // given
+        AnthropicTool tool = tool("get_weather");
+        AnthropicToolSerializer serializer = new AnthropicToolSerializer();
+
+        // when
+        String json = tool.copySharingJson().sharedJson(serializer);
+
+        // then
+        assertThat(tool.copySharingJson().sharedJson(serializer)).isSameAs(json);
+        assertThat(tool("get_weather").sharedJson(serializer)).isNull();
+    }
+
+    @Test
+    void should_not_use_shared_json_once_a_field_is_reassigned() throws Exception {
+        // given
+        AnthropicTool tool = tool("get_weather");
+        AnthropicTool copy = tool.copySharingJson();
+        AnthropicToolSerializer serializer = new AnthropicToolSerializer();
+        tool.copySharingJson().sharedJson(serializer);
+
+        // when
+        copy.cacheControl = AnthropicCacheType.EPHEMERAL.cacheControl();
+
+        // then
+        assertThat(copy.sharedJson(serializer)).isNull();
+        JsonNode json = OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(request(List.of(copy))));
+        assertThat(json.get("tools").get(0).get("cache_control").get("type").asText())
+                .isEqualTo("ephemeral");
+    }
+}
@@ -9,6 +9,7 @@ import static java.util.stream.Collectors.toList;
 import dev.langchain4j.internal.Json;
 import dev.langchain4j.internal.JsonSchemaElementUtils;
 import dev.langchain4j.internal.JsonSchemaElementUtils.VisitedClassMetadata;
+import dev.langchain4j.internal.TypeCache;
 import dev.langchain4j.invocation.InvocationContext;
 import dev.langchain4j.invocation.InvocationParameters;
 import dev.langchain4j.invocation.LangChain4jManaged;
@@ -52,21 +53,30 @@ public class ToolSpecifications {
         }
     };
 
+    private static final TypeCache<List<ToolSpecification>> TOOL_SPECIFICATIONS =
+            new TypeCache<>(classWithTools -> computeToolSpecificationsFrom((Class<?>) classWithTools));
+
     private ToolSpecifications() {}
 
     /**
      * Returns {@link ToolSpecification}s for all methods annotated with @{@link Tool} within the specified class.
      *
+     * The specifications are computed once per class, then cached.
+     *
      * @param classWithTools the class.
      * @return the {@link ToolSpecification}s.
      */
     public static List<ToolSpecification> toolSpecificationsFrom(Class<?> classWithTools) {
+        return new ArrayList<>(TOOL_SPECIFICATIONS.get(classWithTools));
+    }
+
+    private static List<ToolSpecification> computeToolSpecificationsFrom(Class<?> classWithTools) {
         List<ToolSpecification> toolSpecifications = allConcreteMethods(classWithTools).stream()
                 .filter(method -> method.isAnnotationPresent(Tool.class))
                 .map(ToolSpecifications::toolSpecificationFrom)
                 .collect(toList());
         validateSpecifications(toolSpecifications);
-        return toolSpecifications;
+        return List.copyOf(toolSpecifications);
     }
 
     /**
@@ -0,0 +1,661 @@
+package dev.langchain4j.data.message;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.audio.Audio;
+import dev.langchain4j.data.image.Image;
+import dev.langchain4j.data.pdf.PdfFile;
+import dev.langchain4j.data.video.Video;
+import dev.langchain4j.internal.Json;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, versioned binary codec for {@link ChatMessage}s.
+ * It can be used by any {@link dev.langchain4j.store.memory.chat.ChatMemoryStore} that persists bytes
+ * as a faster and smaller alternative to {@link ChatMessageSerializer} and {@link ChatMessageDeserializer}.
+ * <p>
+ * Compared to JSON, the binary format:
+ * <ul>
+ *     <li>encodes message and content types as single-byte tags and lengths as varints</li>
+ *     <li>writes repeated short strings (tool names, MIME types, attribute keys, etc.) only once per payload</li>
+ *     <li>stores base64-encoded image, audio, video and PDF data as raw bytes</li>
+ * </ul>
+ * Each payload starts with a magic number and a format version. Payloads written by an older version of this codec
+ * can always be read by newer versions; payloads written by a newer version are rejected
+ * with an {@link IllegalArgumentException}.
+ * <p>
+ * Attribute values of type {@link String}, {@link Boolean}, {@link Integer}, {@link Long}, {@link Float},
+ * {@link Double}, {@link List} and {@link Map} are encoded natively, all other values are encoded as JSON.
+ *
+ * @since 1.17.0
+ */
+@Experimental
+public final class ChatMessageBinaryCodec {
+
+    static final byte[] MAGIC = {'L', '4', 'J', 'M'};
+    static final int VERSION = 1;
+
+    private static final int SYSTEM = 1;
+    private static final int USER = 2;
+    private static final int AI = 3;
+    private static final int TOOL_EXECUTION_RESULT = 4;
+    private static final int CUSTOM = 5;
+
+    private static final int TEXT = 1;
+    private static final int IMAGE = 2;
+    private static final int AUDIO = 3;
+    private static final int VIDEO = 4;
+    private static final int PDF = 5;
+
+    private static final int NO_DATA = 0;
+    private static final int RAW_DATA = 1;
+    private static final int BASE64_DATA = 2;
+
+    private static final int NULL_VALUE = 0;
+    private static final int STRING_VALUE = 1;
+    private static final int TRUE_VALUE = 2;
+    private static final int FALSE_VALUE = 3;
+    private static final int INT_VALUE = 4;
+    private static final int LONG_VALUE = 5;
+    private static final int FLOAT_VALUE = 6;
+    private static final int DOUBLE_VALUE = 7;
+    private static final int LIST_VALUE = 8;
+    private static final int MAP_VALUE = 9;
+    private static final int JSON_VALUE = 10;
+
+    private ChatMessageBinaryCodec() {}
+
+    /**
+     * Encodes a chat message into bytes.
+     *
+     * @param message the chat message to encode.
+     * @return the encoded message.
+     */
+    public static byte[] messageToBytes(ChatMessage message) {
+        return messagesToBytes(List.of(ensureNotNull(message, "message")));
+    }
+
+    /**
+     * Encodes a list of chat messages into bytes.
+     *
+     * @param messages the chat messages to encode.
+     * @return the encoded messages.
+     */
+    public static byte[] messagesToBytes(List<ChatMessage> messages) {
+        ensureNotNull(messages, "messages");
+        Writer writer = new Writer();
+        writer.writeBytes(MAGIC);
+        writer.writeVarint(VERSION);
+        writer.writeVarint(messages.size());
+        for (ChatMessage message : messages) {
+            writeMessage(writer, message);
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes a single chat message from bytes produced by {@link #messageToBytes(ChatMessage)}.
+     *
+     * @param bytes the encoded message.
+     * @return the decoded chat message.
+     */
+    public static ChatMessage messageFromBytes(byte[] bytes) {
+        List<ChatMessage> messages = messagesFromBytes(bytes);
+        if (messages.size() != 1) {
+            throw new IllegalArgumentException("Expected a single chat message, but found " + messages.size());
+        }
+        return messages.get(0);
+    }
+
+    /**
+     * Decodes a list of chat messages from bytes produced by {@link #messagesToBytes(List)}.
+     *
+     * @param bytes the encoded messages.
+     * @return the decoded chat messages.
+     */
+    public static List<ChatMessage> messagesFromBytes(byte[] bytes) {
+        ensureNotNull(bytes, "bytes");
+        Reader reader = new Reader(bytes);
+        if (bytes.length < MAGIC.length || !Arrays.equals(reader.readBytes(MAGIC.length), MAGIC)) {
+            throw new IllegalArgumentException("Not a binary-encoded list of chat messages");
+        }
+        int version = reader.readVarint();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException(
+                    "Unsupported binary chat message format version " + version + ", expected at most " + VERSION);
+        }
+        int size = reader.readSize();
+        List<ChatMessage> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(readMessage(reader));
+        }
+        return messages;
+    }
+
+    private static void writeMessage(Writer writer, ChatMessage message) {
+        if (message instanceof SystemMessage systemMessage) {
+            writer.writeVarint(SYSTEM);
+            writer.writeString(systemMessage.text());
+        } else if (message instanceof UserMessage userMessage) {
+            writer.writeVarint(USER);
+            writer.writeSymbol(userMessage.name());
+            writeContents(writer, userMessage.contents());
+            writeAttributes(writer, userMessage.attributes());
+        } else if (message instanceof AiMessage aiMessage) {
+            writer.writeVarint(AI);
+            writer.writeString(aiMessage.text());
+            writer.writeString(aiMessage.thinking());
+            List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
+            writer.writeVarint(toolExecutionRequests.size());
+            for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+                writer.writeString(toolExecutionRequest.id());
+                writer.writeSymbol(toolExecutionRequest.name());
+                writer.writeString(toolExecutionRequest.arguments());
+            }
+            writeAttributes(writer, aiMessage.attributes());
+        } else if (message instanceof ToolExecutionResultMessage toolExecutionResultMessage) {
+            writer.writeVarint(TOOL_EXECUTION_RESULT);
+            writer.writeString(toolExecutionResultMessage.id());
+            writer.writeSymbol(toolExecutionResultMessage.toolName());
+            Boolean isError = toolExecutionResultMessage.isError();
+            writer.writeVarint(isError == null ? NULL_VALUE : isError ? TRUE_VALUE : FALSE_VALUE);
+            writeContents(writer, toolExecutionResultMessage.contents());
+            writeAttributes(writer, toolExecutionResultMessage.attributes());
+        } else if (message instanceof CustomMessage customMessage) {
+            writer.writeVarint(CUSTOM);
+            writeAttributes(writer, customMessage.attributes());
+        } else {
+            throw new IllegalArgumentException("Unsupported chat message type: " + message.getClass().getName());
+        }
+    }
+
+    private static ChatMessage readMessage(Reader reader) {
+        int type = reader.readVarint();
+        switch (type) {
+            case SYSTEM:
+                return SystemMessage.from(reader.readString());
+            case USER:
+                return UserMessage.builder()
+                        .name(reader.readSymbol())
+                        .contents(readContents(reader))
+                        .attributes(readAttributes(reader))
+                        .build();
+            case AI: {
+                AiMessage.Builder builder =
+                        AiMessage.builder().text(reader.readString()).thinking(reader.readString());
+                int size = reader.readSize();
+                List<ToolExecutionRequest> toolExecutionRequests = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    toolExecutionRequests.add(ToolExecutionRequest.builder()
+                            .id(reader.readString())
+                            .name(reader.readSymbol())
+                            .arguments(reader.readString())
+                            .build());
+                }
+                return builder.toolExecutionRequests(toolExecutionRequests)
+                        .attributes(readAttributes(reader))
+                        .build();
+            }
+            case TOOL_EXECUTION_RESULT: {
+                ToolExecutionResultMessage.Builder builder =
+                        ToolExecutionResultMessage.builder().id(reader.readString()).toolName(reader.readSymbol());
+                int isError = reader.readVarint();
+                return builder.isError(isError == NULL_VALUE ? null : isError == TRUE_VALUE)
+                        .contents(readContents(reader))
+                        .attributes(readAttributes(reader))
+                        .build();
+            }
+            case CUSTOM:
+                return CustomMessage.from(readAttributes(reader));
+            default:
+                throw new IllegalArgumentException("Unknown chat message type tag: " + type);
+        }
+    }
+
+    private static void writeContents(Writer writer, List<Content> contents) {
+        writer.writeVarint(contents.size());
+        for (Content content : contents) {
+            if (content instanceof TextContent textContent) {
+                writer.writeVarint(TEXT);
+                writer.writeString(textContent.text());
+            } else if (content instanceof ImageContent imageContent) {
+                writer.writeVarint(IMAGE);
+                Image image = imageContent.image();
+                writeMedia(writer, image.url(), null, image.base64Data(), image.mimeType());
+                writer.writeString(image.revisedPrompt());
+                ImageContent.DetailLevel detailLevel = imageContent.detailLevel();
+                writer.writeSymbol(detailLevel == null ? null : detailLevel.name());
+            } else if (content instanceof AudioContent audioContent) {
+                writer.writeVarint(AUDIO);
+                Audio audio = audioContent.audio();
+                writeMedia(writer, audio.url(), audio.binaryData(), audio.base64Data(), audio.mimeType());
+            } else if (content instanceof VideoContent videoContent) {
+                writer.writeVarint(VIDEO);
+                Video video = videoContent.video();
+                writeMedia(writer, video.url(), null, video.base64Data(), video.mimeType());
+            } else if (content instanceof PdfFileContent pdfFileContent) {
+                writer.writeVarint(PDF);
+                PdfFile pdfFile = pdfFileContent.pdfFile();
+                writeMedia(writer, pdfFile.url(), null, pdfFile.base64Data(), pdfFile.mimeType());
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported content type: " + content.getClass().getName());
+            }
+        }
+    }
+
+    private static List<Content> readContents(Reader reader) {
+        int size = reader.readSize();
+        List<Content> contents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int type = reader.readVarint();
+            switch (type) {
+                case TEXT -> contents.add(TextContent.from(reader.readString()));
+                case IMAGE -> {
+                    Media media = readMedia(reader);
+                    Image image = Image.builder()
+                            .url(media.url())
+                            .base64Data(media.base64Data())
+                            .mimeType(media.mimeType())
+                            .revisedPrompt(reader.readString())
+                            .build();
+                    String detailLevel = reader.readSymbol();
+                    contents.add(new ImageContent(
+                            image, detailLevel == null ? null : ImageContent.DetailLevel.valueOf(detailLevel)));
+                }
+                case AUDIO -> {
+                    Media media = readMedia(reader);
+                    contents.add(AudioContent.from(Audio.builder()
+                            .url(media.url())
+                            .binaryData(media.binaryData())
+                            .base64Data(media.base64Data())
+                            .mimeType(media.mimeType())
+                            .build()));
+                }
+                case VIDEO -> {
+                    Media media = readMedia(reader);
+                    contents.add(VideoContent.from(Video.builder()
+                            .url(media.url())
+                            .base64Data(media.base64Data())
+                            .mimeType(media.mimeType())
+                            .build()));
+                }
+                case PDF -> {
+                    Media media = readMedia(reader);
+                    contents.add(PdfFileContent.from(PdfFile.builder()
+                            .url(media.url())
+                            .base64Data(media.base64Data())
+                            .mimeType(media.mimeType())
+                            .build()));
+                }
+                default -> throw new IllegalArgumentException("Unknown content type tag: " + type);
+            }
+        }
+        return contents;
+    }
+
+    private static void writeMedia(Writer writer, URI url, byte[] binaryData, String base64Data, String mimeType) {
+        writer.writeString(url == null ? null : url.toString());
+        if (binaryData == null) {
+            writer.writeVarint(NO_DATA);
+        } else {
+            writer.writeVarint(RAW_DATA);
+            writer.writeVarint(binaryData.length);
+            writer.writeBytes(binaryData);
+        }
+        byte[] decoded = decodeCanonicalBase64(base64Data);
+        if (decoded != null) {
+            writer.writeVarint(RAW_DATA);
+            writer.writeVarint(decoded.length);
+            writer.writeBytes(decoded);
+        } else if (base64Data != null) {
+            writer.writeVarint(BASE64_DATA);
+            writer.writeString(base64Data);
+        } else {
+            writer.writeVarint(NO_DATA);
+        }
+        writer.writeSymbol(mimeType);
+    }
+
+    private static Media readMedia(Reader reader) {
+        String url = reader.readString();
+        byte[] binaryData = reader.readVarint() == RAW_DATA ? reader.readBytes(reader.readVarint()) : null;
+        String base64Data =
+                switch (reader.readVarint()) {
+                    case NO_DATA -> null;
+                    case RAW_DATA -> Base64.getEncoder().encodeToString(reader.readBytes(reader.readVarint()));
+                    case BASE64_DATA -> reader.readString();
+                    default -> throw new IllegalArgumentException("Unknown binary data tag");
+                };
+        return new Media(url == null ? null : URI.create(url), binaryData, base64Data, reader.readSymbol());
+    }
+
+    /**
+     * Returns the decoded bytes only if re-encoding them would yield exactly the same string,
+     * so that decoding the message restores the original {@code base64Data} unchanged.
+     * This is the case of a padded string without line breaks whose unused trailing bits are all zeros:
+     * the decoder accepts any value for these bits, while the encoder always writes zeros.
+     */
+    private static byte[] decodeCanonicalBase64(String base64Data) {
+        if (base64Data == null || base64Data.length() % 4 != 0) {
+            return null;
+        }
+        int padding = base64Data.endsWith("==") ? 2 : base64Data.endsWith("=") ? 1 : 0;
+        if (padding > 0) {
+            int lastSextet = base64Sextet(base64Data.charAt(base64Data.length() - padding - 1));
+            int unusedBits = padding == 2 ? 0x0F : 0x03;
+            if (lastSextet < 0 || (lastSextet & unusedBits) != 0) {
+                return null;
+            }
+        }
+        try {
+            return Base64.getDecoder().decode(base64Data);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int base64Sextet(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        } else if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 26;
+        } else if (c >= '0' && c <= '9') {
+            return c - '0' + 52;
+        } else if (c == '+') {
+            return 62;
+        } else if (c == '/') {
+            return 63;
+        }
+        return -1;
+    }
+
+    private static void writeAttributes(Writer writer, Map<String, Object> attributes) {
+        if (attributes == null) {
+            writer.writeVarint(0);
+            return;
+        }
+        writer.writeVarint(attributes.size());
+        attributes.forEach((key, value) -> {
+            writer.writeSymbol(key);
+            writeValue(writer, value);
+        });
+    }
+
+    private static Map<String, Object> readAttributes(Reader reader) {
+        int size = reader.readSize();
+        Map<String, Object> attributes = newMap(size);
+        for (int i = 0; i < size; i++) {
+            attributes.put(reader.readSymbol(), readValue(reader));
+        }
+        return attributes;
+    }
+
+    private static Map<String, Object> newMap(int size) {
+        // the size has been checked against the remaining data, but doubling it could still overflow
+        return new LinkedHashMap<>((int) Math.min(Integer.MAX_VALUE, Math.max(16L, size * 2L)));
+    }
+
+    private static void writeValue(Writer writer, Object value) {
+        if (value == null) {
+            writer.writeVarint(NULL_VALUE);
+        } else if (value instanceof String string) {
+            writer.writeVarint(STRING_VALUE);
+            writer.writeString(string);
+        } else if (value instanceof Boolean bool) {
+            writer.writeVarint(bool ? TRUE_VALUE : FALSE_VALUE);
+        } else if (value instanceof Integer integer) {
+            writer.writeVarint(INT_VALUE);
+            writer.writeVarlong(zigZag(integer));
+        } else if (value instanceof Long longValue) {
+            writer.writeVarint(LONG_VALUE);
+            writer.writeVarlong(zigZag(longValue));
+        } else if (value instanceof Float floatValue) {
+            writer.writeVarint(FLOAT_VALUE);
+            writer.writeFixed(Float.floatToIntBits(floatValue), Integer.BYTES);
+        } else if (value instanceof Double doubleValue) {
+            writer.writeVarint(DOUBLE_VALUE);
+            writer.writeFixed(Double.doubleToLongBits(doubleValue), Long.BYTES);
+        } else if (value instanceof List<?> list) {
+            writer.writeVarint(LIST_VALUE);
+            writer.writeVarint(list.size());
+            for (Object element : list) {
+                writeValue(writer, element);
+            }
+        } else if (value instanceof Map<?, ?> map && map.keySet().stream().allMatch(String.class::isInstance)) {
+            writer.writeVarint(MAP_VALUE);
+            writer.writeVarint(map.size());
+            map.forEach((key, element) -> {
+                writer.writeSymbol((String) key);
+                writeValue(writer, element);
+            });
+        } else {
+            writer.writeVarint(JSON_VALUE);
+            writer.writeString(Json.toJson(value));
+        }
+    }
+
+    private static Object readValue(Reader reader) {
+        int type = reader.readVarint();
+        switch (type) {
+            case NULL_VALUE:
+                return null;
+            case STRING_VALUE:
+                return reader.readString();
+            case TRUE_VALUE:
+                return Boolean.TRUE;
+            case FALSE_VALUE:
+                return Boolean.FALSE;
+            case INT_VALUE:
+                return (int) unZigZag(reader.readVarlong());
+            case LONG_VALUE:
+                return unZigZag(reader.readVarlong());
+            case FLOAT_VALUE:
+                return Float.intBitsToFloat((int) reader.readFixed(Integer.BYTES));
+            case DOUBLE_VALUE:
+                return Double.longBitsToDouble(reader.readFixed(Long.BYTES));
+            case LIST_VALUE: {
+                int size = reader.readSize();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(reader));
+                }
+                return list;
+            }
+            case MAP_VALUE: {
+                int size = reader.readSize();
+                Map<String, Object> map = newMap(size);
+                for (int i = 0; i < size; i++) {
+                    map.put(reader.readSymbol(), readValue(reader));
+                }
+                return map;
+            }
+            case JSON_VALUE:
+                return Json.fromJson(reader.readString(), Object.class);
+            default:
+                throw new IllegalArgumentException("Unknown attribute value type tag: " + type);
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private record Media(URI url, byte[] binaryData, String base64Data, String mimeType) {}
+
+    /**
+     * Strings are written as a varint of {@code length + 1} followed by UTF-8 bytes ({@code 0} stands for
+     * {@code null}). Symbols (short strings that tend to repeat, like tool names and MIME types) are interned:
+     * the first occurrence is written as {@code 1} followed by the string, later occurrences as {@code index + 2}.
+     */
+    private static final class Writer {
+
+        private final Map<String, Integer> symbols = new HashMap<>();
+        private byte[] buffer = new byte[1024];
+        private int position;
+
+        void writeString(String string) {
+            if (string == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = string.getBytes(UTF_8);
+            writeVarint(bytes.length + 1);
+            writeBytes(bytes);
+        }
+
+        void writeSymbol(String symbol) {
+            if (symbol == null) {
+                writeVarint(0);
+                return;
+            }
+            Integer index = symbols.get(symbol);
+            if (index != null) {
+                writeVarint(index + 2);
+            } else {
+                symbols.put(symbol, symbols.size());
+                writeVarint(1);
+                writeString(symbol);
+            }
+        }
+
+        void writeVarint(int value) {
+            writeVarlong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarlong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeFixed(long value, int length) {
+            ensureCapacity(length);
+            for (int i = length - 1; i >= 0; i--) {
+                buffer[position++] = (byte) (value >>> (i * 8));
+            }
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Reader {
+
+        private final List<String> symbols = new ArrayList<>();
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        String readString() {
+            int length = readVarint();
+            if (length == 0) {
+                return null;
+            }
+            ensureAvailable(length - 1);
+            String string = new String(buffer, position, length - 1, UTF_8);
+            position += length - 1;
+            return string;
+        }
+
+        String readSymbol() {
+            int reference = readVarint();
+            if (reference == 0) {
+                return null;
+            } else if (reference == 1) {
+                String symbol = readString();
+                symbols.add(symbol);
+                return symbol;
+            } else if (reference - 2 < symbols.size()) {
+                return symbols.get(reference - 2);
+            }
+            throw new IllegalArgumentException("Unknown symbol reference: " + reference);
+        }
+
+        int readVarint() {
+            long value = readVarlong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Varint out of range: " + value);
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads the number of elements of a collection. Since each element takes at least one byte,
+         * it cannot exceed the remaining data, which prevents malformed data from allocating huge collections.
+         */
+        int readSize() {
+            int size = readVarint();
+            ensureAvailable(size);
+            return size;
+        }
+
+        long readVarlong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                ensureAvailable(1);
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        long readFixed(int length) {
+            ensureAvailable(length);
+            long value = 0;
+            for (int i = 0; i < length; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        byte[] readBytes(int length) {
+            ensureAvailable(length);
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        private void ensureAvailable(int length) {
+            if (length < 0 || length > buffer.length - position) {
+                throw new IllegalArgumentException("Unexpected end of binary chat message data");
+            }
+        }
+    }
+}
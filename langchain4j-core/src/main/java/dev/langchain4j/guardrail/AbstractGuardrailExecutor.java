@@ -1,17 +1,24 @@
 package dev.langchain4j.guardrail;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.guardrail.GuardrailResult.Failure;
 import dev.langchain4j.guardrail.config.GuardrailsConfig;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.invocation.InvocationContext;
 import dev.langchain4j.observability.api.event.GuardrailExecutedEvent;
 import dev.langchain4j.observability.api.event.GuardrailExecutedEvent.GuardrailExecutedEventBuilder;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 
 /**
  * Abstract base class for {@link GuardrailExecutor}s.
@@ -75,6 +82,28 @@ public abstract sealed class AbstractGuardrailExecutor<
      */
     protected abstract GuardrailExecutedEventBuilder<P, R, G, E> createEmptyObservabilityEventBuilderInstance();
 
+    /**
+     * Whether the guardrails are independent of each other and can be executed concurrently.
+     * <p>
+     *     When {@code true}, every guardrail validates the original request, the results are aggregated
+     *     in the order the guardrails are listed, and the first fatal result cancels the guardrails still running.
+     * </p>
+     * @return {@code true} to execute the guardrails concurrently, {@code false} (the default) to execute them
+     *         sequentially
+     */
+    protected boolean executeInParallel() {
+        return false;
+    }
+
+    /**
+     * The maximum duration of the concurrent execution of all the guardrails.
+     * Only applies when {@link #executeInParallel()} returns {@code true}.
+     * @return The timeout, or {@code null} (the default) for no timeout
+     */
+    protected Duration timeout() {
+        return null;
+    }
+
     @Override
     public C config() {
         return this.config;
@@ -133,6 +162,10 @@ public abstract sealed class AbstractGuardrailExecutor<
     protected R executeGuardrails(P request) {
         ensureNotNull(request, "request");
 
+        if (executeInParallel() && this.guardrails.size() > 1) {
+            return executeGuardrailsInParallel(request);
+        }
+
         var accumulatedRequest = request;
         var accumulatedResult = createSuccess();
 
@@ -161,6 +194,82 @@ public abstract sealed class AbstractGuardrailExecutor<
         return accumulatedResult;
     }
 
+    private R executeGuardrailsInParallel(P request) {
+        var guardrails = this.guardrails.stream().filter(Objects::nonNull).toList();
+        var completionService =
+                new ExecutorCompletionService<IndexedResult<R>>(DefaultExecutorProvider.getDefaultExecutorService());
+        var futures = new ArrayList<Future<IndexedResult<R>>>(guardrails.size());
+
+        for (int i = 0; i < guardrails.size(); i++) {
+            var index = i;
+            var guardrail = guardrails.get(i);
+            futures.add(completionService.submit(() -> {
+                var before = System.nanoTime();
+                var result = validate(request, guardrail);
+                var after = System.nanoTime();
+                fireObservabilityEvent(
+                        request.requestParams().invocationContext(),
+                        request,
+                        result,
+                        guardrail,
+                        Duration.ofNanos(after - before));
+                return new IndexedResult<>(index, result);
+            }));
+        }
+
+        var timeout = timeout();
+        var deadline = (timeout != null) ? System.nanoTime() + timeout.toNanos() : 0;
+        var results = (R[]) new GuardrailResult[guardrails.size()];
+
+        try {
+            for (int completed = 0; completed < guardrails.size(); completed++) {
+                var future = (timeout != null)
+                        ? completionService.poll(deadline - System.nanoTime(), NANOSECONDS)
+                        : completionService.take();
+
+                if (future == null) {
+                    throw createGuardrailException("The guardrails did not complete within " + timeout, null);
+                }
+
+                var indexedResult = future.get();
+
+                if (indexedResult.result().isFatal()) {
+                    // Fatal result, so stop right here and cancel the guardrails still running
+                    var accumulatedResult = accumulate(Arrays.asList(results).subList(0, indexedResult.index()));
+                    return handleFatalResult(accumulatedResult, indexedResult.result());
+                }
+
+                results[indexedResult.index()] = indexedResult.result();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw createGuardrailException("Interrupted while executing the guardrails", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw createGuardrailException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        return accumulate(Arrays.asList(results));
+    }
+
+    private R accumulate(List<R> results) {
+        var accumulatedResult = createSuccess();
+
+        for (var result : results) {
+            if (result != null) {
+                accumulatedResult = composeResult(accumulatedResult, result);
+            }
+        }
+
+        return accumulatedResult;
+    }
+
+    private record IndexedResult<T>(int index, T result) {}
+
     protected R composeResult(R oldResult, R newResult) {
         if (oldResult.isSuccess()) {
             return newResult;
@@ -6,6 +6,7 @@ import dev.langchain4j.guardrail.InputGuardrailResult.Failure;
 import dev.langchain4j.guardrail.config.InputGuardrailsConfig;
 import dev.langchain4j.observability.api.event.InputGuardrailExecutedEvent;
 import dev.langchain4j.spi.guardrail.InputGuardrailExecutorBuilderFactory;
+import java.time.Duration;
 import java.util.List;
 import java.util.ServiceLoader;
 
@@ -25,6 +26,24 @@ public non-sealed class InputGuardrailExecutor
         super(config, guardrails);
     }
 
+    /**
+     * Whether the input guardrails are executed concurrently.
+     * @see InputGuardrailsConfig#parallel()
+     */
+    @Override
+    protected boolean executeInParallel() {
+        return config().parallel();
+    }
+
+    /**
+     * The maximum duration of the concurrent execution of the input guardrails.
+     * @see InputGuardrailsConfig#timeout()
+     */
+    @Override
+    protected Duration timeout() {
+        return config().timeout();
+    }
+
     /**
      * Creates a failure result from some {@link Failure}s.
      * @param failures The failures
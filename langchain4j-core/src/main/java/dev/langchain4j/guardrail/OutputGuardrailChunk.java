@@ -0,0 +1,39 @@
+package dev.langchain4j.guardrail;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.Experimental;
+
+/**
+ * A chunk of a streamed response, passed to {@link StreamingOutputGuardrail#validateChunk(OutputGuardrailChunk)}.
+ *
+ * @param text          the text of the chunk
+ * @param precedingText the text of the response streamed before this chunk, which was already validated.
+ *                      It can be a view of a buffer that keeps growing while the response is streamed,
+ *                      so it is only valid during the validation of this chunk: call {@code toString()} to keep it.
+ * @param index         the index of the chunk in the response, starting from 0
+ * @since 1.17.0
+ */
+@Experimental
+public record OutputGuardrailChunk(String text, CharSequence precedingText, int index) {
+
+    public OutputGuardrailChunk {
+        ensureNotNull(text, "text");
+        ensureNotNull(precedingText, "precedingText");
+        ensureNotNegative(index, "index");
+    }
+
+    /**
+     * Returns a sliding window over the response: the text of this chunk, preceded by at most
+     * {@code maxPrecedingLength} characters of the text streamed before it. This allows to detect violations
+     * spanning several chunks without re-validating the whole response for every chunk.
+     *
+     * @param maxPrecedingLength the maximum number of characters preceding this chunk to include
+     * @return the window, ending with the text of this chunk
+     */
+    public String window(int maxPrecedingLength) {
+        int start = Math.max(0, precedingText.length() - ensureNotNegative(maxPrecedingLength, "maxPrecedingLength"));
+        return precedingText.subSequence(start, precedingText.length()) + text;
+    }
+}
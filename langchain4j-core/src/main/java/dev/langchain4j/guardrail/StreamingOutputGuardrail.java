@@ -0,0 +1,48 @@
+package dev.langchain4j.guardrail;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.message.AiMessage;
+
+/**
+ * An {@link OutputGuardrail} that can also validate a streamed response incrementally, chunk by chunk,
+ * while it is being generated.
+ * <p>
+ * When all output guardrails of a streaming AI service method are {@code StreamingOutputGuardrail}s,
+ * partial responses are not buffered until the whole response is received. Instead, they are grouped into chunks
+ * (usually sentences), and each chunk is released to the partial response handler as soon as
+ * {@link #validateChunk(OutputGuardrailChunk)} succeeded for all guardrails.
+ * If any other output guardrail is configured, partial responses are still buffered,
+ * but the stream is aborted as soon as a chunk is rejected.
+ * <p>
+ * When a chunk is rejected, the stream is cancelled (if the model supports it), the remaining partial responses
+ * are discarded and the error handler receives an {@link OutputGuardrailException}.
+ * Retries and reprompts are not supported for chunks: any failure aborts the stream.
+ * Also, the text of a successful result is ignored, so chunks cannot be rewritten.
+ * <p>
+ * When all output guardrails are {@code StreamingOutputGuardrail}s, {@link #validate(OutputGuardrailRequest)}
+ * is not called once the response is complete: its chunks were already released, so it can neither be rewritten
+ * nor reprompted. Otherwise, since the response is buffered, it is called with the whole response,
+ * like for any other output guardrail. By default, it succeeds.
+ *
+ * @since 1.17.0
+ */
+@Experimental
+public interface StreamingOutputGuardrail extends OutputGuardrail {
+
+    /**
+     * Validates a chunk of a streamed response.
+     *
+     * @param chunk the chunk, with the text of the response that precedes it
+     * @return the result of the validation
+     */
+    OutputGuardrailResult validateChunk(OutputGuardrailChunk chunk);
+
+    /**
+     * Validates the complete response, when it is buffered because not all output guardrails are
+     * {@code StreamingOutputGuardrail}s. By default, it succeeds, as all chunks have already been validated.
+     */
+    @Override
+    default OutputGuardrailResult validate(AiMessage responseFromLLM) {
+        return success();
+    }
+}
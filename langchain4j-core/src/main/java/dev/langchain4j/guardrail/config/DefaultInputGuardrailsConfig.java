@@ -2,12 +2,19 @@ package dev.langchain4j.guardrail.config;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
+import java.time.Duration;
+
 /**
  * The default implementation of {@link InputGuardrailsConfig} for this library if no other libraries provide their own implementations.
  */
 final class DefaultInputGuardrailsConfig implements InputGuardrailsConfig {
+    private final boolean parallel;
+    private final Duration timeout;
+
     DefaultInputGuardrailsConfig(Builder builder) {
         ensureNotNull(builder, "builder");
+        this.parallel = builder.parallel;
+        this.timeout = builder.timeout;
     }
 
     /**
@@ -18,10 +25,35 @@ final class DefaultInputGuardrailsConfig implements InputGuardrailsConfig {
         return new Builder();
     }
 
+    @Override
+    public boolean parallel() {
+        return this.parallel;
+    }
+
+    @Override
+    public Duration timeout() {
+        return this.timeout;
+    }
+
     /**
      * Builder for {@link DefaultInputGuardrailsConfig} instances.
      */
     static class Builder implements InputGuardrailsConfigBuilder {
+        private boolean parallel;
+        private Duration timeout;
+
+        @Override
+        public Builder parallel(boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        @Override
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
         @Override
         public InputGuardrailsConfig build() {
             return new DefaultInputGuardrailsConfig(this);
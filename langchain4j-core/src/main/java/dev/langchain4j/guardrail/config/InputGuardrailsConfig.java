@@ -1,6 +1,8 @@
 package dev.langchain4j.guardrail.config;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.spi.guardrail.config.InputGuardrailsConfigBuilderFactory;
+import java.time.Duration;
 import java.util.ServiceLoader;
 
 /**
@@ -10,6 +12,42 @@ import java.util.ServiceLoader;
  * </p>
  */
 public interface InputGuardrailsConfig extends GuardrailsConfig {
+
+    /**
+     * Whether the input guardrails are independent of each other and can be executed concurrently.
+     * <p>
+     *     When {@code true}, all guardrails validate the original request, so a guardrail does not see
+     *     the text rewritten by the guardrails listed before it. Results are still aggregated in the order
+     *     the guardrails are listed. As soon as a guardrail returns a fatal result, the guardrails still running
+     *     are cancelled (interrupted) and the fatal result is returned.
+     * </p>
+     * <p>
+     *     Defaults to {@code false}: guardrails are executed sequentially, in the order they are listed.
+     * </p>
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    default boolean parallel() {
+        return false;
+    }
+
+    /**
+     * The maximum duration of the concurrent execution of all the input guardrails,
+     * after which the guardrails still running are cancelled and an
+     * {@link dev.langchain4j.guardrail.InputGuardrailException} is thrown.
+     * Only applies when {@link #parallel()} is {@code true}.
+     * <p>
+     *     Defaults to {@code null}: no timeout.
+     * </p>
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    default Duration timeout() {
+        return null;
+    }
+
     /**
      * Gets a builder instance for building {@link InputGuardrailsConfig} instances.
      * @return A {@link InputGuardrailsConfigBuilder} for building {@link InputGuardrailsConfig} instances.
@@ -28,5 +66,34 @@ public interface InputGuardrailsConfig extends GuardrailsConfig {
      *     implementations while also adhering to the interfaces and specs defined here.
      * </p>
      */
-    interface InputGuardrailsConfigBuilder extends GuardrailsConfigBuilder<InputGuardrailsConfig> {}
+    interface InputGuardrailsConfigBuilder extends GuardrailsConfigBuilder<InputGuardrailsConfig> {
+
+        /**
+         * Sets whether the input guardrails are executed concurrently.
+         * Implementations that do not support concurrent execution ignore it.
+         *
+         * @param parallel Whether the input guardrails are executed concurrently
+         * @return The builder
+         * @see InputGuardrailsConfig#parallel()
+         * @since 1.17.0
+         */
+        @Experimental
+        default InputGuardrailsConfigBuilder parallel(boolean parallel) {
+            return this;
+        }
+
+        /**
+         * Sets the maximum duration of the concurrent execution of the input guardrails.
+         * Implementations that do not support concurrent execution ignore it.
+         *
+         * @param timeout The timeout, or {@code null} for no timeout
+         * @return The builder
+         * @see InputGuardrailsConfig#timeout()
+         * @since 1.17.0
+         */
+        @Experimental
+        default InputGuardrailsConfigBuilder timeout(Duration timeout) {
+            return this;
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.CompletableFuture.runAsync;
+
+import dev.langchain4j.Internal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Utility methods to split work into batches and process them concurrently,
+ * e.g. to embed many segments with several requests in flight.
+ */
+@Internal
+public final class BatchUtils {
+
+    private BatchUtils() {}
+
+    /**
+     * Splits the given list into consecutive views of at most {@code size} elements.
+     *
+     * @param list the list to split.
+     * @param size the maximum size of each batch.
+     * @return the batches, in order.
+     */
+    public static <T> List<List<T>> partition(List<T> list, int size) {
+        ensureGreaterThanZero(size, "size");
+        List<List<T>> batches = new ArrayList<>((list.size() + size - 1) / size);
+        for (int i = 0; i < list.size(); i += size) {
+            batches.add(list.subList(i, Math.min(i + size, list.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Applies the given function to each batch, with at most {@code maxConcurrency} batches processed at a time
+     * on the given executor, and returns the results in the order of the batches.
+     * <p>
+     * Each worker picks the next pending batch until all of them are processed. When a batch fails,
+     * no further batch is started and its exception is rethrown once the batches in progress are done.
+     *
+     * @param batches        the batches to process.
+     * @param function       the function processing one batch.
+     * @param maxConcurrency the maximum number of batches processed at a time.
+     * @param executor       the executor running the workers.
+     * @return the result of each batch, in order.
+     */
+    public static <T, R> List<R> mapConcurrently(
+            List<T> batches, Function<T, R> function, int maxConcurrency, Executor executor) {
+        ensureGreaterThanZero(maxConcurrency, "maxConcurrency");
+        ensureNotNull(executor, "executor");
+
+        AtomicReferenceArray<R> results = new AtomicReferenceArray<>(batches.size());
+        AtomicInteger nextBatch = new AtomicInteger();
+        int workerCount = Math.min(maxConcurrency, batches.size());
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(runAsync(
+                    () -> {
+                        int batch;
+                        while ((batch = nextBatch.getAndIncrement()) < batches.size()) {
+                            try {
+                                results.set(batch, function.apply(batches.get(batch)));
+                            } catch (RuntimeException e) {
+                                nextBatch.set(batches.size());
+                                throw e;
+                            }
+                        }
+                    },
+                    executor));
+        }
+
+        try {
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+
+        List<R> resultList = new ArrayList<>(batches.size());
+        for (int i = 0; i < batches.size(); i++) {
+            resultList.add(results.get(i));
+        }
+        return resultList;
+    }
+}
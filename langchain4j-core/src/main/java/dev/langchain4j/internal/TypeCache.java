@@ -0,0 +1,57 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.Internal;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache of the values computed from a {@link Type} by reflection,
+ * such as the JSON schema of a structured output type or the tool specifications of a class.
+ * <p>
+ * The values of a {@link Class} are attached to it with a {@link ClassValue}, and the values of other types
+ * (e.g. {@code List<Person>}) are held with weak keys, so the cache never prevents the classes
+ * of a redeployed application from being unloaded.
+ * For the same reason, the values must not reference the classes they were computed from.
+ * <p>
+ * A value may be computed more than once by concurrent callers, but a single one is kept.
+ * Exceptions thrown while computing a value are not cached.
+ */
+@Internal
+public class TypeCache<V> {
+
+    private final Function<Type, V> computation;
+    private final ClassValue<V> classValues;
+    private final Map<Type, V> typeValues = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public TypeCache(Function<Type, V> computation) {
+        this.computation = ensureNotNull(computation, "computation");
+        this.classValues = new ClassValue<>() {
+            @Override
+            protected V computeValue(Class<?> type) {
+                return computation.apply(type);
+            }
+        };
+    }
+
+    public V get(Type type) {
+        ensureNotNull(type, "type");
+        if (type instanceof Class<?> clazz) {
+            return classValues.get(clazz);
+        }
+
+        V value = typeValues.get(type);
+        if (value == null) {
+            value = computation.apply(type);
+            V previous = typeValues.putIfAbsent(type, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return value;
+    }
+}
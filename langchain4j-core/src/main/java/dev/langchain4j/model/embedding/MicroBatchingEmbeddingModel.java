@@ -0,0 +1,253 @@
+package dev.langchain4j.model.embedding;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureEq;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link EmbeddingModel} decorator that coalesces concurrent single-segment calls
+ * ({@link #embed(String)}, {@link #embed(TextSegment)} and {@link #embedAsync(TextSegment)})
+ * into a single {@link EmbeddingModel#embedAll(List)} call of the delegate model.
+ * <p>
+ * The first call of a batch opens a window of {@code maxDelay}, during which the calls of other threads
+ * join the same batch. The batch is sent to the delegate model as soon as the window closes
+ * or as soon as it holds {@code maxBatchSize} segments, whichever comes first.
+ * Each caller gets its own embedding, together with a share of the {@link TokenUsage} of the batch
+ * that is proportional to the length of its text. If the batch fails, all its callers get the same exception.
+ * <p>
+ * Calls to {@link #embedAll(List)} are already batched, so they are sent to the delegate model as they are.
+ * <pre>{@code
+ * EmbeddingModel model = MicroBatchingEmbeddingModel.builder()
+ *         .embeddingModel(embeddingModel)
+ *         .maxBatchSize(64)
+ *         .maxDelay(Duration.ofMillis(5))
+ *         .build();
+ * }</pre>
+ *
+ * @since 1.17.0
+ */
+@Experimental
+public class MicroBatchingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel embeddingModel;
+    private final int maxBatchSize;
+    private final Executor executor;
+    private final Executor delayedExecutor;
+
+    private final Object lock = new Object();
+    private List<PendingEmbedding> pending = new ArrayList<>(); // guarded by lock
+
+    public MicroBatchingEmbeddingModel(Builder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        this.maxBatchSize = ensureGreaterThanZero(getOrDefault(builder.maxBatchSize, 64), "maxBatchSize");
+        Duration maxDelay = getOrDefault(builder.maxDelay, Duration.ofMillis(5));
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay must not be negative, but is: " + maxDelay);
+        }
+        this.executor = getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
+        this.delayedExecutor = CompletableFuture.delayedExecutor(maxDelay.toNanos(), NANOSECONDS, executor);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public Response<Embedding> embed(TextSegment textSegment) {
+        try {
+            return embedAsync(textSegment).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Adds the text segment to the current batch, without waiting for it to be embedded.
+     *
+     * @param textSegment the text segment to embed.
+     * @return a future completed with the embedding once the batch has been embedded.
+     */
+    public CompletableFuture<Response<Embedding>> embedAsync(TextSegment textSegment) {
+        PendingEmbedding embedding = new PendingEmbedding(ensureNotNull(textSegment, "textSegment"));
+
+        List<PendingEmbedding> fullBatch = null;
+        List<PendingEmbedding> newBatch = null;
+        synchronized (lock) {
+            pending.add(embedding);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = pending;
+                pending = new ArrayList<>();
+            } else if (pending.size() == 1) {
+                newBatch = pending;
+            }
+        }
+
+        if (fullBatch != null) {
+            List<PendingEmbedding> batch = fullBatch;
+            executor.execute(() -> embedBatch(batch));
+        } else if (newBatch != null) {
+            List<PendingEmbedding> batch = newBatch;
+            delayedExecutor.execute(() -> embedWhenDelayElapsed(batch));
+        }
+        return embedding.future;
+    }
+
+    private void embedWhenDelayElapsed(List<PendingEmbedding> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                // the batch was already sent because it was full
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        embedBatch(batch);
+    }
+
+    private void embedBatch(List<PendingEmbedding> batch) {
+        try {
+            List<TextSegment> textSegments = batch.stream().map(PendingEmbedding::textSegment).toList();
+            Response<List<Embedding>> response = embeddingModel.embedAll(textSegments);
+            List<Embedding> embeddings = response.content();
+            ensureEq(
+                    embeddings.size(),
+                    batch.size(),
+                    "Expected %d embeddings, but got %d",
+                    batch.size(),
+                    embeddings.size());
+
+            List<TokenUsage> tokenUsages = splitTokenUsage(response.tokenUsage(), textSegments);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(
+                        Response.from(embeddings.get(i), tokenUsages.get(i), response.finishReason()));
+            }
+        } catch (Throwable e) {
+            batch.forEach(embedding -> embedding.future.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Splits the token usage of a batch between its text segments, in proportion to the length of their text.
+     * The token counts of the segments add up to the token counts of the batch.
+     */
+    static List<TokenUsage> splitTokenUsage(TokenUsage tokenUsage, List<TextSegment> textSegments) {
+        List<TokenUsage> tokenUsages = new ArrayList<>(textSegments.size());
+        if (tokenUsage == null) {
+            textSegments.forEach(textSegment -> tokenUsages.add(null));
+            return tokenUsages;
+        }
+
+        long totalLength = 0;
+        for (TextSegment textSegment : textSegments) {
+            totalLength += textSegment.text().length();
+        }
+
+        long lengthBefore = 0;
+        for (TextSegment textSegment : textSegments) {
+            long lengthAfter = lengthBefore + textSegment.text().length();
+            tokenUsages.add(new TokenUsage(
+                    share(tokenUsage.inputTokenCount(), lengthBefore, lengthAfter, totalLength),
+                    share(tokenUsage.outputTokenCount(), lengthBefore, lengthAfter, totalLength),
+                    share(tokenUsage.totalTokenCount(), lengthBefore, lengthAfter, totalLength)));
+            lengthBefore = lengthAfter;
+        }
+        return tokenUsages;
+    }
+
+    private static Integer share(Integer count, long lengthBefore, long lengthAfter, long totalLength) {
+        if (count == null) {
+            return null;
+        }
+        // rounding the cumulative counts (instead of each share) makes the shares add up to the count
+        return (int) (count * lengthAfter / totalLength - count * lengthBefore / totalLength);
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        return embeddingModel.embedAll(textSegments);
+    }
+
+    @Override
+    public int dimension() {
+        return embeddingModel.dimension();
+    }
+
+    @Override
+    public String modelName() {
+        return embeddingModel.modelName();
+    }
+
+    private record PendingEmbedding(TextSegment textSegment, CompletableFuture<Response<Embedding>> future) {
+
+        PendingEmbedding(TextSegment textSegment) {
+            this(textSegment, new CompletableFuture<>());
+        }
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel embeddingModel;
+        private Integer maxBatchSize;
+        private Duration maxDelay;
+        private Executor executor;
+
+        /**
+         * The model embedding the batches.
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments of a batch. A full batch is sent without waiting for {@code maxDelay}.
+         * Default value: 64.
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * The maximum time the first call of a batch waits for other calls to join it.
+         * Default value: 5 milliseconds.
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * The executor calling the model. By default, virtual threads are used if available,
+         * otherwise a cached thread pool.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public MicroBatchingEmbeddingModel build() {
+            return new MicroBatchingEmbeddingModel(this);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package dev.langchain4j.observability.api;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import dev.langchain4j.observability.api.event.AiServiceEvent;
+import dev.langchain4j.observability.api.listener.AiServiceListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AiServiceListenerRegistrar} that dispatches events to the registered {@link AiServiceListener}s
+ * on a background thread, so that slow listeners cannot stall AI service calls.
+ * <p>
+ * {@link #fireEvent(AiServiceEvent)} only puts the event into a bounded queue and returns immediately.
+ * A single consumer thread drains the queue and notifies the listeners in the order the events were fired.
+ * When the queue is full, the event is dropped and counted in {@link #droppedEventCount()}.
+ * <p>
+ * Since listeners are notified asynchronously, exceptions thrown by listeners can never be propagated
+ * to the caller, regardless of {@link #shouldThrowExceptionOnEventError(boolean)}.
+ * They are logged and counted in {@link #failedEventCount()} instead.
+ * <p>
+ * The consumer thread is started when the first event is fired.
+ * This registrar can be plugged in via {@link dev.langchain4j.spi.observability.AiServiceListenerRegistrarFactory}.
+ * It should be {@linkplain #close() closed} when no longer needed to stop the consumer thread.
+ */
+public class AsyncAiServiceListenerRegistrar extends DefaultAiServiceListenerRegistrar implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncAiServiceListenerRegistrar.class);
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final BlockingQueue<AiServiceEvent> queue;
+    private final Duration shutdownTimeout;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Held (shared) while enqueueing an event and (exclusively) while closing,
+     * so that no event can be enqueued once the consumer may have seen {@link #closed}.
+     */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private final AtomicLong dispatchedEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+
+    private volatile Thread consumer;
+    private volatile boolean closed;
+
+    public AsyncAiServiceListenerRegistrar() {
+        this(builder());
+    }
+
+    private AsyncAiServiceListenerRegistrar(Builder builder) {
+        int queueCapacity = ensureGreaterThanZero(
+                getOrDefault(builder.queueCapacity, DEFAULT_QUEUE_CAPACITY), "queueCapacity");
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.shutdownTimeout = getOrDefault(builder.shutdownTimeout, DEFAULT_SHUTDOWN_TIMEOUT);
+        this.threadFactory = getOrDefault(builder.threadFactory, AsyncAiServiceListenerRegistrar::newThread);
+    }
+
+    /**
+     * Enqueues the given event to be dispatched to all registered {@link AiServiceListener}s on the consumer thread.
+     * If the queue is full or this registrar is closed, the event is dropped.
+     *
+     * @param <T>   The type of the event, which must be a subtype of {@link AiServiceEvent}.
+     * @param event The event to be fired to the listeners. Must not be null.
+     */
+    @Override
+    public <T extends AiServiceEvent> void fireEvent(T event) {
+        ensureNotNull(event, "event");
+
+        boolean enqueued;
+        closeLock.readLock().lock();
+        try {
+            enqueued = !closed && queue.offer(event);
+            if (enqueued) {
+                startConsumerIfNeeded();
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        if (!enqueued) {
+            drop(event);
+        }
+    }
+
+    private void startConsumerIfNeeded() {
+        if (consumer == null) {
+            synchronized (this) {
+                if (consumer == null) {
+                    Thread thread = threadFactory.newThread(this::drain);
+                    thread.start();
+                    consumer = thread;
+                }
+            }
+        }
+    }
+
+    private void drop(AiServiceEvent event) {
+        if (droppedEvents.getAndIncrement() == 0) {
+            LOG.warn("Dropping event ({}): the event queue is full or the registrar is closed",
+                    event.getClass().getName());
+        }
+    }
+
+    /**
+     * @return the number of events that were delivered to the listeners.
+     */
+    public long dispatchedEventCount() {
+        return dispatchedEvents.get();
+    }
+
+    /**
+     * @return the number of events that were dropped because the queue was full or the registrar was closed.
+     */
+    public long droppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * @return the number of times a listener threw an exception while handling an event.
+     */
+    public long failedEventCount() {
+        return failedEvents.get();
+    }
+
+    /**
+     * @return the number of events waiting in the queue to be dispatched.
+     */
+    public int pendingEventCount() {
+        return queue.size();
+    }
+
+    /**
+     * Stops accepting new events, dispatches the events that are already queued
+     * (waiting at most for the configured shutdown timeout) and stops the consumer thread.
+     * The events that could not be dispatched in time are counted as dropped.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        Thread consumer = this.consumer;
+        if (consumer != null) {
+            try {
+                consumer.join(shutdownTimeout.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (consumer.isAlive()) {
+                consumer.interrupt();
+                try {
+                    consumer.join(shutdownTimeout.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        if (consumer == null || !consumer.isAlive()) {
+            AiServiceEvent event;
+            while ((event = queue.poll()) != null) {
+                drop(event);
+            }
+        }
+    }
+
+    private void drain() {
+        while (!closed || !queue.isEmpty()) {
+            AiServiceEvent event;
+            try {
+                event = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (event != null) {
+                dispatch(event);
+            }
+        }
+    }
+
+    private void dispatch(AiServiceEvent event) {
+        try {
+            super.fireEvent(event);
+        } catch (Exception e) {
+            // there is no caller to propagate to, the error has already been logged and counted
+        } finally {
+            dispatchedEvents.incrementAndGet();
+        }
+    }
+
+    @Override
+    void onListenerError(AiServiceEvent event, AiServiceListener<?> listener, Exception error) {
+        failedEvents.incrementAndGet();
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "langchain4j-ai-service-listener-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer queueCapacity;
+        private ThreadFactory threadFactory;
+        private Duration shutdownTimeout;
+
+        /**
+         * @param queueCapacity The maximum number of events waiting to be dispatched.
+         *                      When the queue is full, new events are dropped.
+         *                      Default value: {@value AsyncAiServiceListenerRegistrar#DEFAULT_QUEUE_CAPACITY}.
+         * @return builder
+         */
+        public Builder queueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * @param threadFactory The factory used to create the consumer thread.
+         *                      By default, a daemon thread is created.
+         * @return builder
+         */
+        public Builder threadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * @param shutdownTimeout How long {@link AsyncAiServiceListenerRegistrar#close()} waits for queued events
+         *                        to be dispatched. Default value: 5 seconds.
+         * @return builder
+         */
+        public Builder shutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+            return this;
+        }
+
+        public AsyncAiServiceListenerRegistrar build() {
+            return new AsyncAiServiceListenerRegistrar(this);
+        }
+    }
+}
@@ -2,14 +2,12 @@ package dev.langchain4j.observability.api;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import dev.langchain4j.observability.api.event.AiServiceEvent;
 import dev.langchain4j.observability.api.listener.AiServiceListener;
 import org.jspecify.annotations.NonNull;
@@ -19,6 +17,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A default registrar for registering {@link AiServiceListener}s.
+ * <p>
+ * Listeners are kept in copy-on-write snapshots, so firing an event does not take any lock.
+ * Events are dispatched synchronously on the calling thread.
+ * See {@link AsyncAiServiceListenerRegistrar} for a variant that dispatches events on a background thread.
  */
 public class DefaultAiServiceListenerRegistrar implements AiServiceListenerRegistrar {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAiServiceListenerRegistrar.class);
@@ -71,6 +73,11 @@ public class DefaultAiServiceListenerRegistrar implements AiServiceListenerRegis
         this.shouldThrowExceptionOnEventError.compareAndSet(!shouldThrowExceptionOnEventError, shouldThrowExceptionOnEventError);
     }
 
+    /**
+     * Called after a listener threw an exception while handling an event, before the exception is (optionally) rethrown.
+     */
+    void onListenerError(AiServiceEvent event, AiServiceListener<?> listener, Exception error) {}
+
     private <T extends AiServiceEvent> EventListeners<T> addToExistingOrNewList(
             @Nullable EventListeners<? extends AiServiceEvent> listenersList, AiServiceListener<T> listener) {
 
@@ -82,61 +89,42 @@ public class DefaultAiServiceListenerRegistrar implements AiServiceListenerRegis
     }
 
     private class EventListeners<T extends AiServiceEvent> {
-        private final Set<@NonNull AiServiceListener<T>> listeners = new LinkedHashSet<>();
-        private final ReadWriteLock lock = new ReentrantReadWriteLock(true);
+        // Copy-on-write: registration is rare, firing is on the hot path of every AI service call.
+        // Iteration works on an immutable snapshot, so firing an event never takes a lock.
+        private final Set<@NonNull AiServiceListener<T>> listeners = new CopyOnWriteArraySet<>();
 
         private EventListeners() {
             super();
         }
 
         private void add(AiServiceListener<T> listener) {
-            ensureNotNull(listener, "listener");
-            var writeLock = this.lock.writeLock();
-            writeLock.lock();
-
-            try {
-                this.listeners.add(listener);
-            } finally {
-                writeLock.unlock();
-            }
+            this.listeners.add(ensureNotNull(listener, "listener"));
         }
 
         private void remove(AiServiceListener<T> listener) {
-            var writeLock = this.lock.writeLock();
-            writeLock.lock();
-
-            try {
-                this.listeners.remove(ensureNotNull(listener, "listener"));
-            } finally {
-                writeLock.unlock();
-            }
+            this.listeners.remove(ensureNotNull(listener, "listener"));
         }
 
         private void fireEvent(T event) {
             ensureNotNull(event, "event");
-            var readLock = this.lock.readLock();
-            readLock.lock();
-
-            try {
-                this.listeners.forEach(listener -> {
-                    try {
-                        listener.onEvent(event);
-                    } catch (Exception e) {
-                        LOG.warn(
-                                "An error occurred while firing event (%s) to listener (%s): %s"
-                                        .formatted(
-                                                event.getClass().getName(),
-                                                listener.getClass().getName(),
-                                                e.getMessage()),
-                                e);
-
-                        if (shouldThrowExceptionOnEventError.get()) {
-                            throw e;
-                        }
+
+            for (AiServiceListener<T> listener : this.listeners) {
+                try {
+                    listener.onEvent(event);
+                } catch (Exception e) {
+                    LOG.warn(
+                            "An error occurred while firing event (%s) to listener (%s): %s"
+                                    .formatted(
+                                            event.getClass().getName(),
+                                            listener.getClass().getName(),
+                                            e.getMessage()),
+                            e);
+                    onListenerError(event, listener, e);
+
+                    if (shouldThrowExceptionOnEventError.get()) {
+                        throw e;
                     }
-                });
-            } finally {
-                readLock.unlock();
+                }
             }
         }
     }
@@ -1,38 +1,360 @@
 package dev.langchain4j.store.memory.chat;
 
-import dev.langchain4j.data.message.ChatMessage;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
 
+import dev.langchain4j.Experimental;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.Content;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.TextContent;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Implementation of {@link ChatMemoryStore} that stores state of {@link dev.langchain4j.memory.ChatMemory} (chat messages) in-memory.
  * <p>
  * This storage mechanism is transient and does not persist data across application restarts.
+ * <p>
+ * By default, the messages of a memory are kept until they are deleted. When the store holds many conversations,
+ * a {@link Builder#timeToIdle(Duration) time to idle}
+ * and a {@link Builder#maxMemories(Integer) maximum number of memories}
+ * can be configured. Eviction happens on the calling threads, without background thread:
+ * <ul>
+ * <li>an idle memory is evicted when it is accessed, and during periodic sweeps piggybacked on updates
+ * (or explicit calls to {@link #evictExpired()});</li>
+ * <li>when a new memory exceeds the maximum, the least recently accessed memories are evicted in a batch,
+ * down to 15/16 of the maximum, so that the cost of finding them is amortized over many updates.</li>
+ * </ul>
+ * Eviction listeners are notified with the ID of each evicted memory. AI services whose chat memories
+ * are stored in an {@code InMemoryChatMemoryStore} register one automatically, to also drop the corresponding
+ * {@link dev.langchain4j.memory.ChatMemory} they cache.
+ * <p>
+ * The store does not lock conversations itself: each of its operations is atomic, but appending a message
+ * is a read followed by an update done by the {@link dev.langchain4j.memory.ChatMemory}, which a lock held
+ * inside a single store operation could not keep ordered. AI services keep the appends to the same memory ID
+ * ordered with a lock per memory ID held around each chat memory read and update.
+ * {@link #memoryCount()} and {@link #estimatedSizeInBytes()} can be exposed as gauges, e.g. with Micrometer:
+ * {@code Gauge.builder("chat.memory.count", store, InMemoryChatMemoryStore::memoryCount).register(registry)}.
  */
 public class InMemoryChatMemoryStore implements ChatMemoryStore {
 
-    private final Map<Object, List<ChatMessage>> messagesByMemoryId = new ConcurrentHashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(InMemoryChatMemoryStore.class);
+
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+    private static final long MESSAGE_OVERHEAD_BYTES = 64;
+    private static final long MIN_SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final Long timeToIdleNanos;
+    private final Integer maxMemories;
+    private final List<Consumer<Object>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong estimatedSizeInBytes = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private volatile long lastSweepNanos = System.nanoTime();
 
     /**
      * Constructs a new {@link InMemoryChatMemoryStore}.
      */
-    public InMemoryChatMemoryStore() {}
+    public InMemoryChatMemoryStore() {
+        this(builder());
+    }
+
+    /**
+     * Constructs a new {@link InMemoryChatMemoryStore} from a builder.
+     *
+     * @param builder the builder
+     * @since 1.17.0
+     */
+    @Experimental
+    public InMemoryChatMemoryStore(Builder builder) {
+        if (builder.timeToIdle != null) {
+            ensureTrue(builder.timeToIdle.toNanos() > 0, "timeToIdle must be positive");
+        }
+        this.timeToIdleNanos = builder.timeToIdle == null ? null : builder.timeToIdle.toNanos();
+        this.maxMemories =
+                builder.maxMemories == null ? null : ensureGreaterThanZero(builder.maxMemories, "maxMemories");
+        this.evictionListeners.addAll(builder.evictionListeners);
+    }
 
     @Override
     public List<ChatMessage> getMessages(Object memoryId) {
-        return messagesByMemoryId.computeIfAbsent(memoryId, ignored -> new ArrayList<>());
+        Entry entry = entries.get(memoryId);
+        if (entry == null) {
+            return new ArrayList<>();
+        }
+        long now = System.nanoTime();
+        if (isExpired(entry, now)) {
+            evict(memoryId, entry);
+            return new ArrayList<>();
+        }
+        entry.lastAccessNanos = now;
+        return entry.messages;
     }
 
     @Override
     public void updateMessages(Object memoryId, List<ChatMessage> messages) {
-        messagesByMemoryId.put(memoryId, messages);
+        long now = System.nanoTime();
+        Entry entry = new Entry(messages, estimateSizeInBytes(messages), now);
+        Entry previous = entries.put(memoryId, entry);
+        estimatedSizeInBytes.addAndGet(
+                entry.estimatedSizeInBytes - (previous == null ? 0 : previous.estimatedSizeInBytes));
+        evictIfNeeded(previous == null, now);
     }
 
     @Override
     public void deleteMessages(Object memoryId) {
-        messagesByMemoryId.remove(memoryId);
+        Entry entry = entries.remove(memoryId);
+        if (entry != null) {
+            estimatedSizeInBytes.addAndGet(-entry.estimatedSizeInBytes);
+        }
+    }
+
+    /**
+     * Registers a listener notified with the ID of each memory evicted because it was idle for too long
+     * or because the maximum number of memories was exceeded.
+     * It is not notified of {@link #deleteMessages(Object) deletions}.
+     *
+     * @param listener the listener
+     * @since 1.17.0
+     */
+    @Experimental
+    public void addEvictionListener(Consumer<Object> listener) {
+        evictionListeners.add(ensureNotNull(listener, "listener"));
+    }
+
+    /**
+     * Unregisters a listener registered with {@link #addEvictionListener(Consumer)}.
+     *
+     * @param listener the listener
+     * @since 1.17.0
+     */
+    @Experimental
+    public void removeEvictionListener(Consumer<Object> listener) {
+        evictionListeners.remove(listener);
+    }
+
+    /**
+     * Evicts all the memories that have been idle for longer than the time to idle.
+     * This happens periodically when memories are updated; calling it explicitly (e.g. from a scheduler)
+     * frees idle memories even when the store is not updated anymore.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    public void evictExpired() {
+        if (timeToIdleNanos == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastSweepNanos = now;
+        entries.forEach((memoryId, entry) -> {
+            if (isExpired(entry, now)) {
+                evict(memoryId, entry);
+            }
+        });
+    }
+
+    /**
+     * @return the number of memories currently stored
+     * @since 1.17.0
+     */
+    @Experimental
+    public int memoryCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return a rough estimation of the heap used by the stored messages, based on the length of their texts
+     * @since 1.17.0
+     */
+    @Experimental
+    public long estimatedSizeInBytes() {
+        return estimatedSizeInBytes.get();
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return timeToIdleNanos != null && now - entry.lastAccessNanos >= timeToIdleNanos;
+    }
+
+    private void evict(Object memoryId, Entry entry) {
+        if (entries.remove(memoryId, entry)) {
+            estimatedSizeInBytes.addAndGet(-entry.estimatedSizeInBytes);
+            for (Consumer<Object> listener : evictionListeners) {
+                try {
+                    listener.accept(memoryId);
+                } catch (Exception e) {
+                    log.warn("An exception occurred during the invocation of an eviction listener", e);
+                }
+            }
+        }
+    }
+
+    private void evictIfNeeded(boolean added, long now) {
+        boolean exceeded = added && maxMemories != null && entries.size() > maxMemories;
+        boolean sweepDue = timeToIdleNanos != null
+                && now - lastSweepNanos >= Math.max(timeToIdleNanos / 2, MIN_SWEEP_INTERVAL_NANOS);
+        if ((!exceeded && !sweepDue) || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (sweepDue) {
+                evictExpired();
+            }
+            if (maxMemories != null && entries.size() > maxMemories) {
+                evictLeastRecentlyAccessed();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void evictLeastRecentlyAccessed() {
+        int lowWatermark = maxMemories - maxMemories / 16;
+        int toEvict = entries.size() - lowWatermark;
+        if (toEvict <= 0) {
+            return;
+        }
+        // keeps the toEvict least recently accessed entries, the most recently accessed of them at the head
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(
+                toEvict + 1, Comparator.comparingLong((Candidate candidate) -> candidate.lastAccessNanos)
+                        .reversed());
+        entries.forEach((memoryId, entry) -> {
+            long lastAccessNanos = entry.lastAccessNanos;
+            if (candidates.size() < toEvict) {
+                candidates.add(new Candidate(memoryId, entry, lastAccessNanos));
+            } else if (lastAccessNanos - candidates.peek().lastAccessNanos < 0) {
+                candidates.poll();
+                candidates.add(new Candidate(memoryId, entry, lastAccessNanos));
+            }
+        });
+        for (Candidate candidate : candidates) {
+            evict(candidate.memoryId, candidate.entry);
+        }
+    }
+
+    private static long estimateSizeInBytes(List<ChatMessage> messages) {
+        long size = ENTRY_OVERHEAD_BYTES;
+        for (ChatMessage message : messages) {
+            size += MESSAGE_OVERHEAD_BYTES + 2L * textLength(message);
+        }
+        return size;
+    }
+
+    private static long textLength(ChatMessage message) {
+        if (message instanceof SystemMessage systemMessage) {
+            return length(systemMessage.text());
+        } else if (message instanceof UserMessage userMessage) {
+            long length = 0;
+            for (Content content : userMessage.contents()) {
+                length += content instanceof TextContent textContent
+                        ? length(textContent.text())
+                        : length(content.toString());
+            }
+            return length;
+        } else if (message instanceof AiMessage aiMessage) {
+            long length = length(aiMessage.text()) + length(aiMessage.thinking());
+            for (ToolExecutionRequest request : aiMessage.toolExecutionRequests()) {
+                length += length(request.id()) + length(request.name()) + length(request.arguments());
+            }
+            return length;
+        } else if (message instanceof ToolExecutionResultMessage toolExecutionResultMessage) {
+            return length(toolExecutionResultMessage.text());
+        }
+        return length(String.valueOf(message));
+    }
+
+    private static long length(String text) {
+        return text == null ? 0 : text.length();
+    }
+
+    private static final class Entry {
+
+        private final List<ChatMessage> messages;
+        private final long estimatedSizeInBytes;
+        private volatile long lastAccessNanos;
+
+        private Entry(List<ChatMessage> messages, long estimatedSizeInBytes, long lastAccessNanos) {
+            this.messages = messages;
+            this.estimatedSizeInBytes = estimatedSizeInBytes;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    private record Candidate(Object memoryId, Entry entry, long lastAccessNanos) {}
+
+    /**
+     * Creates a builder for {@link InMemoryChatMemoryStore}.
+     *
+     * @return the builder
+     * @since 1.17.0
+     */
+    @Experimental
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link InMemoryChatMemoryStore}.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    public static class Builder {
+
+        private Duration timeToIdle;
+        private Integer maxMemories;
+        private final List<Consumer<Object>> evictionListeners = new ArrayList<>();
+
+        /**
+         * @param timeToIdle the duration after which a memory that has been neither read nor updated is evicted.
+         *                   Default: memories are not evicted based on time.
+         * @return the builder
+         */
+        public Builder timeToIdle(Duration timeToIdle) {
+            this.timeToIdle = timeToIdle;
+            return this;
+        }
+
+        /**
+         * @param maxMemories the maximum number of memories, beyond which the least recently accessed ones are evicted.
+         *                    Default: unbounded.
+         * @return the builder
+         */
+        public Builder maxMemories(Integer maxMemories) {
+            this.maxMemories = maxMemories;
+            return this;
+        }
+
+        /**
+         * @param evictionListener a listener notified with the ID of each evicted memory,
+         *                         see {@link InMemoryChatMemoryStore#addEvictionListener(Consumer)}
+         * @return the builder
+         */
+        public Builder evictionListener(Consumer<Object> evictionListener) {
+            this.evictionListeners.add(ensureNotNull(evictionListener, "evictionListener"));
+            return this;
+        }
+
+        public InMemoryChatMemoryStore build() {
+            return new InMemoryChatMemoryStore(this);
+        }
     }
 }
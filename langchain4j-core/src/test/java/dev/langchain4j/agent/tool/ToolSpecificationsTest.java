@@ -782,4 +782,21 @@ class ToolSpecificationsTest implements WithAssertions {
         assertThat(specs).extracting(ToolSpecification::description)
                 .containsExactlyInAnyOrder("static tool", "instance tool");
     }
+
+    @Test
+    void should_cache_tool_specifications_of_a_class() {
+        Class<?> toolClass = ImplementsInterfaceWithStaticTool.class;
+
+        List<ToolSpecification> first = ToolSpecifications.toolSpecificationsFrom(toolClass);
+        List<ToolSpecification> second = ToolSpecifications.toolSpecificationsFrom(toolClass);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second).hasSameSizeAs(first);
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i)).isSameAs(first.get(i));
+        }
+
+        first.clear(); // the returned list is a copy
+        assertThat(ToolSpecifications.toolSpecificationsFrom(toolClass)).hasSize(2);
+    }
 }
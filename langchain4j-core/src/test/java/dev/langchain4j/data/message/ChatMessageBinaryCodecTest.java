@@ -0,0 +1,243 @@
+package dev.langchain4j.data.message;
+
+import static dev.langchain4j.data.message.ChatMessageBinaryCodec.messageFromBytes;
+import static dev.langchain4j.data.message.ChatMessageBinaryCodec.messageToBytes;
+import static dev.langchain4j.data.message.ChatMessageBinaryCodec.messagesFromBytes;
+import static dev.langchain4j.data.message.ChatMessageBinaryCodec.messagesToBytes;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.audio.Audio;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ChatMessageBinaryCodecTest {
+
+    @ParameterizedTest
+    @MethodSource(
+            "dev.langchain4j.data.message.ChatMessageSerializerTest#should_serialize_and_deserialize_chat_message")
+    void should_encode_and_decode_chat_message(ChatMessage message, String ignoredJson) {
+
+        byte[] bytes = messageToBytes(message);
+
+        assertThat(messageFromBytes(bytes)).isEqualTo(message);
+    }
+
+    @Test
+    void should_encode_and_decode_empty_list() {
+
+        byte[] bytes = messagesToBytes(List.of());
+
+        assertThat(messagesFromBytes(bytes)).isEmpty();
+    }
+
+    @Test
+    void should_encode_and_decode_conversation() {
+
+        List<ChatMessage> messages = conversation(50);
+
+        assertThat(messagesFromBytes(messagesToBytes(messages))).isEqualTo(messages);
+    }
+
+    @Test
+    void should_store_base64_data_as_raw_bytes() {
+
+        byte[] image = new byte[30_000];
+        Arrays.fill(image, (byte) 7);
+        String base64 = Base64.getEncoder().encodeToString(image);
+        UserMessage message = UserMessage.from(ImageContent.from(base64, "image/png"));
+
+        byte[] bytes = messageToBytes(message);
+
+        assertThat(bytes.length).isLessThan(image.length + 100);
+        assertThat(messageFromBytes(bytes)).isEqualTo(message);
+    }
+
+    @Test
+    void should_preserve_non_canonical_base64_data() {
+
+        UserMessage message = UserMessage.from(ImageContent.from("aGVsbG8\n", "image/png"));
+        // the unused trailing bits of "9" are not zeros
+        UserMessage nonZeroTrailingBits = UserMessage.from(ImageContent.from("aGVsbG9=", "image/png"));
+
+        assertThat(messageFromBytes(messageToBytes(message))).isEqualTo(message);
+        assertThat(messageFromBytes(messageToBytes(nonZeroTrailingBits))).isEqualTo(nonZeroTrailingBits);
+    }
+
+    @Test
+    void should_store_image_detail_level_by_name() {
+
+        UserMessage message = UserMessage.from(
+                ImageContent.from("https://example.com/cat.png", ImageContent.DetailLevel.HIGH),
+                ImageContent.from("https://example.com/dog.png", ImageContent.DetailLevel.HIGH));
+
+        byte[] bytes = messageToBytes(message);
+
+        assertThat(new String(bytes, UTF_8)).containsOnlyOnce("HIGH");
+        assertThat(messageFromBytes(bytes)).isEqualTo(message);
+    }
+
+    @Test
+    void should_encode_and_decode_audio_binary_data() {
+
+        Audio audio = Audio.builder()
+                .binaryData(new byte[] {1, 2, 3})
+                .mimeType("audio/wav")
+                .build();
+
+        UserMessage decoded =
+                (UserMessage) messageFromBytes(messageToBytes(UserMessage.from(AudioContent.from(audio))));
+
+        assertThat(((AudioContent) decoded.contents().get(0)).audio().binaryData())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void should_encode_and_decode_attribute_values() {
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("string", "value");
+        attributes.put("int", -42);
+        attributes.put("long", Long.MAX_VALUE);
+        attributes.put("float", 1.5f);
+        attributes.put("double", -2.25);
+        attributes.put("boolean", true);
+        attributes.put("null", null);
+        attributes.put("list", List.of(1, "two", List.of(3L)));
+        attributes.put("map", Map.of("nested", Map.of("key", false)));
+        attributes.put("pojo", new Pojo("name", 7));
+
+        CustomMessage decoded = (CustomMessage) messageFromBytes(messageToBytes(CustomMessage.from(attributes)));
+
+        Map<String, Object> expected = new LinkedHashMap<>(attributes);
+        expected.put("pojo", Map.of("name", "name", "value", 7));
+        assertThat(decoded.attributes()).containsExactlyEntriesOf(expected);
+    }
+
+    @Test
+    void should_intern_repeated_symbols() {
+
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            messages.add(ToolExecutionResultMessage.from(null, "a_rather_long_tool_name", "ok"));
+        }
+
+        byte[] bytes = messagesToBytes(messages);
+
+        assertThat(new String(bytes, UTF_8)).containsOnlyOnce("a_rather_long_tool_name");
+        assertThat(messagesFromBytes(bytes)).isEqualTo(messages);
+    }
+
+    @Test
+    void should_be_smaller_than_json() {
+
+        List<ChatMessage> messages = conversation(200);
+
+        byte[] bytes = messagesToBytes(messages);
+        byte[] json = ChatMessageSerializer.messagesToJson(messages).getBytes(UTF_8);
+
+        assertThat(bytes.length).isLessThan(json.length);
+    }
+
+    @Test
+    void should_reject_unknown_format() {
+
+        assertThatThrownBy(() -> messagesFromBytes("[]".getBytes(UTF_8)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not a binary-encoded list of chat messages");
+    }
+
+    @Test
+    void should_reject_newer_version() {
+
+        byte[] bytes = messagesToBytes(List.of());
+        bytes[ChatMessageBinaryCodec.MAGIC.length] = (byte) (ChatMessageBinaryCodec.VERSION + 1);
+
+        assertThatThrownBy(() -> messagesFromBytes(bytes))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Unsupported binary chat message format version 2");
+    }
+
+    @Test
+    void should_reject_truncated_data() {
+
+        byte[] bytes = messageToBytes(UserMessage.from("hello"));
+
+        assertThatThrownBy(() -> messagesFromBytes(Arrays.copyOf(bytes, bytes.length - 2)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unexpected end of binary chat message data");
+    }
+
+    @Test
+    void should_reject_collection_size_exceeding_data() {
+
+        byte[] malformed = {
+            'L', '4', 'J', 'M', // magic
+            1, // version
+            1, // number of messages
+            2, // user message
+            0, // no name
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 // Integer.MAX_VALUE contents
+        };
+
+        assertThatThrownBy(() -> messagesFromBytes(malformed))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unexpected end of binary chat message data");
+    }
+
+    /**
+     * A conversation with tool calls, tool results, multimodal user messages and attributes.
+     */
+    static List<ChatMessage> conversation(int size) {
+        byte[] image = new byte[8 * 1024];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) (i * 31);
+        }
+        String base64Image = Base64.getEncoder().encodeToString(image);
+
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(SystemMessage.from("You are a helpful travel assistant. Answer concisely and use tools."));
+        for (int i = 0; messages.size() < size; i++) {
+            if (i % 10 == 0) {
+                messages.add(UserMessage.from(
+                        TextContent.from("What is on this picture number " + i + "?"),
+                        ImageContent.from(base64Image, "image/png")));
+            } else {
+                messages.add(UserMessage.from("What is the weather in city number " + i + " tomorrow morning?"));
+            }
+            String id = "call_" + i;
+            messages.add(AiMessage.builder()
+                    .thinking("The user asks about city " + i + ", I should call the weather tool.")
+                    .toolExecutionRequests(List.of(ToolExecutionRequest.builder()
+                            .id(id)
+                            .name("get_weather_forecast")
+                            .arguments("{\"city\":\"City " + i + "\",\"unit\":\"celsius\",\"days\":1}")
+                            .build()))
+                    .build());
+            messages.add(ToolExecutionResultMessage.builder()
+                    .id(id)
+                    .toolName("get_weather_forecast")
+                    .text("{\"city\":\"City " + i + "\",\"forecast\":[{\"time\":\"08:00\",\"temperature\":"
+                            + (i % 30) + ",\"condition\":\"partly cloudy\",\"precipitation\":0.2}]}")
+                    .attributes(Map.of("latencyMillis", 120 + i))
+                    .build());
+            messages.add(AiMessage.builder()
+                    .text("Tomorrow morning in City " + i + " it will be " + (i % 30)
+                            + " degrees and partly cloudy, with a small chance of rain.")
+                    .attributes(Map.of("model", "gpt-4o-mini", "outputTokens", 42))
+                    .build());
+        }
+        return messages.subList(0, size);
+    }
+
+    record Pojo(String name, int value) {}
+}
@@ -0,0 +1,161 @@
+package dev.langchain4j.guardrail;
+
+import static dev.langchain4j.guardrail.InputGuardrailExecutorTests.from;
+import static dev.langchain4j.test.guardrail.GuardrailAssertions.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.guardrail.config.InputGuardrailsConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class ParallelInputGuardrailExecutorTests {
+
+    private static final InputGuardrailsConfig PARALLEL =
+            InputGuardrailsConfig.builder().parallel(true).build();
+
+    @Test
+    void independentGuardrailsShouldRunConcurrently() {
+        var threads = new CopyOnWriteArrayList<Thread>();
+        var executor = InputGuardrailExecutor.builder()
+                .config(PARALLEL)
+                .guardrails(
+                        new SlowInputGuardrail(300, threads),
+                        new SlowInputGuardrail(300, threads),
+                        new SlowInputGuardrail(300, threads))
+                .build();
+
+        var before = System.nanoTime();
+        var result = executor.execute(from(UserMessage.from("test")));
+        var duration = Duration.ofNanos(System.nanoTime() - before);
+
+        assertThat(result).isSuccessful();
+        assertThat(threads).hasSize(3).doesNotHaveDuplicates();
+        assertThat(duration).isLessThan(Duration.ofMillis(600));
+    }
+
+    @Test
+    void guardrailsShouldRunSequentiallyByDefault() {
+        var threads = new CopyOnWriteArrayList<Thread>();
+        var executor = InputGuardrailExecutor.builder()
+                .guardrails(new SlowInputGuardrail(10, threads), new SlowInputGuardrail(10, threads))
+                .build();
+
+        var result = executor.execute(from(UserMessage.from("test")));
+
+        assertThat(result).isSuccessful();
+        assertThat(threads).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    void failuresShouldBeReportedInDeclarationOrder() {
+        var executor = InputGuardrailExecutor.builder()
+                .config(PARALLEL)
+                .guardrails(
+                        new SlowFailureInputGuardrail(200, "failure 1"), new SlowFailureInputGuardrail(0, "failure 2"))
+                .build();
+
+        assertThatExceptionOfType(InputGuardrailException.class)
+                .isThrownBy(() -> executor.execute(from(UserMessage.from("test"))))
+                .withMessageMatching(".*failure 1.*failure 2.*");
+    }
+
+    @Test
+    void fatalFailureShouldCancelRunningGuardrails() throws InterruptedException {
+        var blocking = new BlockingInputGuardrail();
+        var executor = InputGuardrailExecutor.builder()
+                .config(PARALLEL)
+                .guardrails(blocking, new FatalInputGuardrail())
+                .build();
+
+        assertThatExceptionOfType(InputGuardrailException.class)
+                .isThrownBy(() -> executor.execute(from(UserMessage.from("test"))))
+                .withMessageContaining("fatal failure");
+
+        assertThat(blocking.interrupted.await(5, SECONDS)).isTrue();
+    }
+
+    @Test
+    void slowGuardrailsShouldTimeOut() throws InterruptedException {
+        var blocking = new BlockingInputGuardrail();
+        var executor = InputGuardrailExecutor.builder()
+                .config(InputGuardrailsConfig.builder()
+                        .parallel(true)
+                        .timeout(Duration.ofMillis(100))
+                        .build())
+                .guardrails(blocking, new SlowInputGuardrail(0, new CopyOnWriteArrayList<>()))
+                .build();
+
+        assertThatExceptionOfType(InputGuardrailException.class)
+                .isThrownBy(() -> executor.execute(from(UserMessage.from("test"))))
+                .withMessage("The guardrails did not complete within PT0.1S");
+
+        assertThat(blocking.interrupted.await(5, SECONDS)).isTrue();
+    }
+
+    private static class SlowInputGuardrail implements InputGuardrail {
+        private final long delayMillis;
+        private final List<Thread> threads;
+
+        SlowInputGuardrail(long delayMillis, List<Thread> threads) {
+            this.delayMillis = delayMillis;
+            this.threads = threads;
+        }
+
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            threads.add(Thread.currentThread());
+            sleep(delayMillis);
+            return success();
+        }
+    }
+
+    private static class SlowFailureInputGuardrail implements InputGuardrail {
+        private final long delayMillis;
+        private final String message;
+
+        SlowFailureInputGuardrail(long delayMillis, String message) {
+            this.delayMillis = delayMillis;
+            this.message = message;
+        }
+
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            sleep(delayMillis);
+            return failure(message);
+        }
+    }
+
+    private static class FatalInputGuardrail implements InputGuardrail {
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            return fatal("fatal failure");
+        }
+    }
+
+    private static class BlockingInputGuardrail implements InputGuardrail {
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return success();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
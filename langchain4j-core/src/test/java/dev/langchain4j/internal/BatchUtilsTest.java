@@ -0,0 +1,80 @@
+package dev.langchain4j.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BatchUtilsTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_partition_list() {
+        assertThat(BatchUtils.partition(List.of(1, 2, 3, 4, 5), 2))
+                .containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        assertThat(BatchUtils.partition(List.of(1, 2), 2)).containsExactly(List.of(1, 2));
+        assertThat(BatchUtils.partition(List.of(), 2)).isEmpty();
+    }
+
+    @Test
+    void should_return_results_in_order_of_batches() {
+        List<Integer> batches = IntStream.range(0, 50).boxed().toList();
+
+        List<String> results = BatchUtils.mapConcurrently(batches, String::valueOf, 3, executor);
+
+        assertThat(results).isEqualTo(batches.stream().map(String::valueOf).toList());
+    }
+
+    @Test
+    void should_not_exceed_max_concurrency() {
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+        List<Integer> batches = IntStream.range(0, 20).boxed().toList();
+
+        BatchUtils.mapConcurrently(
+                batches,
+                batch -> {
+                    maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    inProgress.decrementAndGet();
+                    return batch;
+                },
+                2,
+                executor);
+
+        assertThat(maxInProgress.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void should_stop_starting_batches_after_failure() {
+        AtomicInteger processed = new AtomicInteger();
+        List<Integer> batches = IntStream.range(0, 20).boxed().toList();
+
+        assertThatThrownBy(() -> BatchUtils.mapConcurrently(
+                        batches,
+                        batch -> {
+                            processed.incrementAndGet();
+                            if (batch == 0) {
+                                throw new IllegalStateException("failed batch " + batch);
+                            }
+                            return batch;
+                        },
+                        1,
+                        executor))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("failed batch 0");
+        assertThat(processed).hasValue(1);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.langchain4j.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TypeCacheTest {
+
+    List<String> strings;
+    List<String> otherStrings;
+    List<Integer> integers;
+
+    final Map<Type, AtomicInteger> computations = new ConcurrentHashMap<>();
+
+    final TypeCache<String> cache = new TypeCache<>(type -> {
+        computations.computeIfAbsent(type, ignored -> new AtomicInteger()).incrementAndGet();
+        if (type == Void.class) {
+            throw new IllegalArgumentException("Unsupported type");
+        }
+        return type.getTypeName();
+    });
+
+    private static Type typeOf(String fieldName) throws NoSuchFieldException {
+        return TypeCacheTest.class.getDeclaredField(fieldName).getGenericType();
+    }
+
+    @Test
+    void should_compute_the_value_of_a_class_once() {
+        assertThat(cache.get(String.class)).isEqualTo("java.lang.String");
+        assertThat(cache.get(String.class)).isEqualTo("java.lang.String");
+        assertThat(cache.get(Integer.class)).isEqualTo("java.lang.Integer");
+
+        assertThat(computations.get(String.class)).hasValue(1);
+        assertThat(computations.get(Integer.class)).hasValue(1);
+    }
+
+    @Test
+    void should_compute_the_value_of_equal_parameterized_types_once() throws Exception {
+        // the keys are weakly referenced, so they are kept strongly reachable for the duration of the test
+        Type strings = typeOf("strings");
+        Type otherStrings = typeOf("otherStrings");
+        Type integers = typeOf("integers");
+
+        assertThat(cache.get(strings)).isEqualTo("java.util.List<java.lang.String>");
+        assertThat(cache.get(otherStrings)).isEqualTo("java.util.List<java.lang.String>");
+        assertThat(cache.get(integers)).isEqualTo("java.util.List<java.lang.Integer>");
+
+        assertThat(computations.get(strings)).hasValue(1);
+        assertThat(computations.get(integers)).hasValue(1);
+    }
+
+    @Test
+    void should_not_cache_exceptions() {
+        assertThatThrownBy(() -> cache.get(Void.class)).hasMessage("Unsupported type");
+        assertThatThrownBy(() -> cache.get(Void.class)).hasMessage("Unsupported type");
+
+        assertThat(computations.get(Void.class)).hasValue(2);
+    }
+}
@@ -0,0 +1,170 @@
+package dev.langchain4j.model.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MicroBatchingEmbeddingModelTest {
+
+    /**
+     * Embeds each text into a vector made of its length, and counts one input token per character.
+     */
+    static class RecordingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            batches.add(textSegments.stream().map(TextSegment::text).toList());
+            if (textSegments.stream().anyMatch(textSegment -> textSegment.text().startsWith("fail"))) {
+                throw new IllegalStateException("Embedding failed");
+            }
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(textSegment -> Embedding.from(new float[] {textSegment.text().length()}))
+                    .toList();
+            int length = textSegments.stream()
+                    .mapToInt(textSegment -> textSegment.text().length())
+                    .sum();
+            return Response.from(embeddings, new TokenUsage(length), FinishReason.STOP);
+        }
+
+        @Override
+        public int dimension() {
+            return 1;
+        }
+
+        @Override
+        public String modelName() {
+            return "recording";
+        }
+    }
+
+    RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+    ExecutorService threads = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    private MicroBatchingEmbeddingModel model(int maxBatchSize, Duration maxDelay) {
+        return MicroBatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxBatchSize(maxBatchSize)
+                .maxDelay(maxDelay)
+                .build();
+    }
+
+    @Test
+    void should_embed_concurrent_calls_in_a_single_batch_once_it_is_full() throws Exception {
+        MicroBatchingEmbeddingModel model = model(8, Duration.ofMinutes(1));
+
+        List<Future<Response<Embedding>>> responses = IntStream.range(0, 8)
+                .mapToObj(i -> threads.submit(() -> model.embed("a".repeat(i + 1))))
+                .toList();
+
+        for (int i = 0; i < 8; i++) {
+            Response<Embedding> response = responses.get(i).get();
+            assertThat(response.content().vector()).containsExactly(i + 1);
+            assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(i + 1);
+            assertThat(response.finishReason()).isEqualTo(FinishReason.STOP);
+        }
+        assertThat(delegate.batches).singleElement().asList().hasSize(8);
+    }
+
+    @Test
+    void should_embed_a_partial_batch_once_the_max_delay_has_elapsed() {
+        MicroBatchingEmbeddingModel model = model(100, Duration.ofMillis(50));
+
+        CompletableFuture<Response<Embedding>> first = model.embedAsync(TextSegment.from("one"));
+        CompletableFuture<Response<Embedding>> second = model.embedAsync(TextSegment.from("three"));
+
+        assertThat(first.join().content().vector()).containsExactly(3);
+        assertThat(second.join().content().vector()).containsExactly(5);
+        assertThat(delegate.batches).containsExactly(List.of("one", "three"));
+
+        model.embedAsync(TextSegment.from("four")).join();
+        assertThat(delegate.batches).containsExactly(List.of("one", "three"), List.of("four"));
+    }
+
+    @Test
+    void should_split_batches_at_max_batch_size() {
+        MicroBatchingEmbeddingModel model = model(2, Duration.ofMillis(50));
+
+        List<CompletableFuture<Response<Embedding>>> responses = List.of("a", "b", "c").stream()
+                .map(text -> model.embedAsync(TextSegment.from(text)))
+                .toList();
+        responses.forEach(CompletableFuture::join);
+
+        assertThat(delegate.batches).containsExactly(List.of("a", "b"), List.of("c"));
+    }
+
+    @Test
+    void should_fail_all_calls_of_a_failed_batch() {
+        MicroBatchingEmbeddingModel model = model(2, Duration.ofMinutes(1));
+
+        CompletableFuture<Response<Embedding>> first = model.embedAsync(TextSegment.from("first"));
+        Future<Response<Embedding>> second = threads.submit(() -> model.embed("fail"));
+
+        assertThatThrownBy(first::join).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::get).hasRootCauseMessage("Embedding failed");
+    }
+
+    @Test
+    void should_rethrow_the_exception_of_the_delegate_model() {
+        MicroBatchingEmbeddingModel model = model(1, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> model.embed("fail"))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Embedding failed");
+    }
+
+    @Test
+    void should_pass_embed_all_calls_through() {
+        MicroBatchingEmbeddingModel model = model(2, Duration.ofMinutes(1));
+
+        Response<List<Embedding>> response =
+                model.embedAll(List.of(TextSegment.from("a"), TextSegment.from("b"), TextSegment.from("c")));
+
+        assertThat(response.content()).hasSize(3);
+        assertThat(delegate.batches).containsExactly(List.of("a", "b", "c"));
+        assertThat(model.dimension()).isEqualTo(1);
+        assertThat(model.modelName()).isEqualTo("recording");
+    }
+
+    @Test
+    void should_split_token_usage_in_proportion_to_text_length() {
+        List<TextSegment> textSegments =
+                List.of(TextSegment.from("a"), TextSegment.from("bb"), TextSegment.from("ccc"));
+
+        List<TokenUsage> tokenUsages =
+                MicroBatchingEmbeddingModel.splitTokenUsage(new TokenUsage(10, null, 10), textSegments);
+
+        assertThat(tokenUsages).extracting(TokenUsage::inputTokenCount).containsExactly(1, 4, 5);
+        assertThat(tokenUsages).extracting(TokenUsage::outputTokenCount).containsOnlyNulls();
+        assertThat(tokenUsages).extracting(TokenUsage::totalTokenCount).containsExactly(1, 4, 5);
+    }
+
+    @Test
+    void should_not_split_missing_token_usage() {
+        List<TextSegment> textSegments = List.of(TextSegment.from("a"), TextSegment.from("b"));
+
+        assertThat(MicroBatchingEmbeddingModel.splitTokenUsage(null, textSegments))
+                .containsExactly(null, null);
+    }
+}
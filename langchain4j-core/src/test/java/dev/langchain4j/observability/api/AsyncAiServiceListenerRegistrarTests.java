@@ -0,0 +1,205 @@
+package dev.langchain4j.observability.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.invocation.InvocationContext;
+import dev.langchain4j.observability.api.event.AiServiceStartedEvent;
+import dev.langchain4j.observability.api.listener.AiServiceStartedListener;
+import org.junit.jupiter.api.Test;
+
+class AsyncAiServiceListenerRegistrarTests {
+
+    private static AiServiceStartedEvent startedEvent(String methodName) {
+        return AiServiceStartedEvent.builder()
+                .invocationContext(InvocationContext.builder()
+                        .interfaceName("SomeInterface")
+                        .methodName(methodName)
+                        .build())
+                .userMessage(UserMessage.from("Hello, world!"))
+                .build();
+    }
+
+    @Test
+    void dispatchesEventsInOrderOnBackgroundThread() {
+        List<String> methodNames = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        try (var registrar = AsyncAiServiceListenerRegistrar.builder().build()) {
+            registrar.register((AiServiceStartedListener) event -> {
+                threads.add(Thread.currentThread());
+                methodNames.add(event.invocationContext().methodName());
+            });
+
+            IntStream.range(0, 100).forEach(i -> registrar.fireEvent(startedEvent("method" + i)));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> registrar.dispatchedEventCount() == 100);
+
+            assertThat(methodNames)
+                    .containsExactlyElementsOf(
+                            IntStream.range(0, 100).mapToObj(i -> "method" + i).toList());
+            assertThat(threads).doesNotContain(Thread.currentThread());
+            assertThat(registrar.droppedEventCount()).isZero();
+        }
+    }
+
+    @Test
+    void slowListenerDoesNotBlockCallerAndOverflowIsDropped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (var registrar =
+                AsyncAiServiceListenerRegistrar.builder().queueCapacity(2).build()) {
+            registrar.register((AiServiceStartedListener) event -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            // first event is picked up by the consumer and blocks it
+            registrar.fireEvent(startedEvent("first"));
+            await().atMost(Duration.ofSeconds(5)).until(() -> registrar.pendingEventCount() == 0);
+
+            // fill the queue, then overflow it
+            IntStream.range(0, 5).forEach(i -> registrar.fireEvent(startedEvent("method" + i)));
+
+            assertThat(registrar.pendingEventCount()).isEqualTo(2);
+            assertThat(registrar.droppedEventCount()).isEqualTo(3);
+
+            release.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> registrar.dispatchedEventCount() == 3);
+        }
+    }
+
+    @Test
+    void listenerErrorsAreCountedAndNeverPropagated() {
+        try (var registrar = AsyncAiServiceListenerRegistrar.builder().build()) {
+            registrar.shouldThrowExceptionOnEventError(true);
+            registrar.register((AiServiceStartedListener) event -> {
+                throw new RuntimeException("Some error");
+            });
+
+            assertThatNoException().isThrownBy(() -> registrar.fireEvent(startedEvent("method")));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> registrar.failedEventCount() == 1);
+            assertThat(registrar.dispatchedEventCount()).isOne();
+        }
+    }
+
+    @Test
+    void closeDrainsPendingEventsAndDropsNewOnes() {
+        List<String> methodNames = new CopyOnWriteArrayList<>();
+        var registrar = AsyncAiServiceListenerRegistrar.builder().build();
+        registrar.register((AiServiceStartedListener) event ->
+                methodNames.add(event.invocationContext().methodName()));
+
+        IntStream.range(0, 10).forEach(i -> registrar.fireEvent(startedEvent("method" + i)));
+        registrar.close();
+
+        assertThat(methodNames).hasSize(10);
+
+        registrar.fireEvent(startedEvent("afterClose"));
+
+        assertThat(registrar.droppedEventCount()).isOne();
+        assertThat(methodNames).doesNotContain("afterClose");
+    }
+
+    @Test
+    void consumerThreadIsStartedOnFirstEvent() {
+        List<Thread> createdThreads = new CopyOnWriteArrayList<>();
+        try (var registrar = AsyncAiServiceListenerRegistrar.builder()
+                .threadFactory(runnable -> {
+                    Thread thread = new Thread(runnable);
+                    thread.setDaemon(true);
+                    createdThreads.add(thread);
+                    return thread;
+                })
+                .build()) {
+
+            assertThat(createdThreads).isEmpty();
+
+            registrar.fireEvent(startedEvent("first"));
+            registrar.fireEvent(startedEvent("second"));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> registrar.dispatchedEventCount() == 2);
+            assertThat(createdThreads).hasSize(1);
+        }
+    }
+
+    @Test
+    void closeWithoutEventsDoesNotStartConsumerThread() {
+        List<Thread> createdThreads = new CopyOnWriteArrayList<>();
+        var registrar = AsyncAiServiceListenerRegistrar.builder()
+                .threadFactory(runnable -> {
+                    Thread thread = new Thread(runnable);
+                    createdThreads.add(thread);
+                    return thread;
+                })
+                .build();
+
+        registrar.close();
+        registrar.fireEvent(startedEvent("afterClose"));
+
+        assertThat(createdThreads).isEmpty();
+        assertThat(registrar.droppedEventCount()).isOne();
+    }
+
+    @Test
+    void everyEventFiredConcurrentlyWithCloseIsDispatchedOrDropped() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            var registrar = AsyncAiServiceListenerRegistrar.builder().build();
+            registrar.register((AiServiceStartedListener) event -> {});
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> producers = IntStream.range(0, 4)
+                    .mapToObj(i -> new Thread(() -> {
+                        started.countDown();
+                        for (int j = 0; j < 500; j++) {
+                            registrar.fireEvent(startedEvent("method" + j));
+                        }
+                    }))
+                    .toList();
+            producers.forEach(Thread::start);
+
+            started.await();
+            registrar.close();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertThat(registrar.dispatchedEventCount() + registrar.droppedEventCount())
+                    .isEqualTo(4 * 500);
+            assertThat(registrar.pendingEventCount()).isZero();
+        }
+    }
+
+    @Test
+    void eventsNotDispatchedWithinShutdownTimeoutAreCountedAsDropped() {
+        CountDownLatch release = new CountDownLatch(1);
+        var registrar = AsyncAiServiceListenerRegistrar.builder()
+                .shutdownTimeout(Duration.ofMillis(100))
+                .build();
+        registrar.register((AiServiceStartedListener) event -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        IntStream.range(0, 5).forEach(i -> registrar.fireEvent(startedEvent("method" + i)));
+        registrar.close();
+
+        assertThat(registrar.dispatchedEventCount() + registrar.droppedEventCount())
+                .isEqualTo(5);
+        assertThat(registrar.pendingEventCount()).isZero();
+    }
+}
@@ -1,11 +1,19 @@
 package dev.langchain4j.store.memory.chat;
 
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 class InMemoryChatMemoryStoreTest implements WithAssertions {
     @Test
@@ -21,4 +29,107 @@ class InMemoryChatMemoryStoreTest implements WithAssertions {
 
         assertThat(store.getMessages("foo")).isEmpty();
     }
+
+    @Test
+    void should_evict_idle_memories() throws InterruptedException {
+        List<Object> evicted = new CopyOnWriteArrayList<>();
+        InMemoryChatMemoryStore store = InMemoryChatMemoryStore.builder()
+                .timeToIdle(Duration.ofMillis(100))
+                .evictionListener(evicted::add)
+                .build();
+
+        store.updateMessages("idle", List.of(new UserMessage("hello")));
+        store.updateMessages("active", List.of(new UserMessage("hello")));
+
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(40);
+            assertThat(store.getMessages("active")).hasSize(1);
+        }
+
+        assertThat(store.getMessages("idle")).isEmpty();
+        assertThat(evicted).containsExactly("idle");
+
+        Thread.sleep(150);
+        store.evictExpired();
+
+        assertThat(evicted).containsExactly("idle", "active");
+        assertThat(store.memoryCount()).isZero();
+        assertThat(store.estimatedSizeInBytes()).isZero();
+    }
+
+    @Test
+    void should_evict_least_recently_accessed_memories_when_max_is_exceeded() {
+        List<Object> evicted = new CopyOnWriteArrayList<>();
+        InMemoryChatMemoryStore store = InMemoryChatMemoryStore.builder()
+                .maxMemories(3)
+                .evictionListener(evicted::add)
+                .build();
+
+        store.updateMessages("one", List.of(new UserMessage("1")));
+        store.updateMessages("two", List.of(new UserMessage("2")));
+        store.updateMessages("three", List.of(new UserMessage("3")));
+        store.getMessages("one");
+
+        store.updateMessages("four", List.of(new UserMessage("4")));
+
+        assertThat(evicted).containsExactly("two");
+        assertThat(store.memoryCount()).isEqualTo(3);
+        assertThat(store.getMessages("one")).hasSize(1);
+        assertThat(store.getMessages("two")).isEmpty();
+    }
+
+    @Test
+    void should_evict_in_batches_down_to_low_watermark() {
+        InMemoryChatMemoryStore store =
+                InMemoryChatMemoryStore.builder().maxMemories(160).build();
+
+        for (int i = 0; i < 161; i++) {
+            store.updateMessages(i, List.of(new UserMessage("message " + i)));
+        }
+
+        assertThat(store.memoryCount()).isEqualTo(150);
+        assertThat(store.getMessages(0)).isEmpty();
+        assertThat(store.getMessages(160)).hasSize(1);
+    }
+
+    @Test
+    void should_estimate_size() {
+        InMemoryChatMemoryStore store = new InMemoryChatMemoryStore();
+
+        store.updateMessages("foo", List.of(new UserMessage("a".repeat(1000))));
+        long oneMessage = store.estimatedSizeInBytes();
+        assertThat(oneMessage).isGreaterThanOrEqualTo(2000);
+
+        store.updateMessages("foo", List.of(new UserMessage("a".repeat(1000)), new AiMessage("b".repeat(1000))));
+        assertThat(store.estimatedSizeInBytes()).isGreaterThanOrEqualTo(oneMessage + 2000);
+
+        store.deleteMessages("foo");
+        assertThat(store.estimatedSizeInBytes()).isZero();
+        assertThat(store.memoryCount()).isZero();
+    }
+
+    @Test
+    void should_stay_bounded_under_concurrent_updates() throws InterruptedException {
+        InMemoryChatMemoryStore store = InMemoryChatMemoryStore.builder()
+                .maxMemories(1_000)
+                .timeToIdle(Duration.ofMinutes(1))
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread * 10_000;
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    List<ChatMessage> messages = new ArrayList<>(store.getMessages(offset + i % 2_000));
+                    messages.add(new UserMessage("message " + i));
+                    store.updateMessages(offset + i % 2_000, messages);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        store.updateMessages("last", List.of(new UserMessage("last")));
+        assertThat(store.memoryCount()).isLessThanOrEqualTo(1_000);
+    }
 }
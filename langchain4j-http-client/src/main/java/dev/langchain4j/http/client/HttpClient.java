@@ -1,9 +1,12 @@
 package dev.langchain4j.http.client;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A client for executing HTTP requests both synchronously and asynchronously.
@@ -22,6 +25,28 @@ public interface HttpClient {
      */
     SuccessfulHttpResponse execute(HttpRequest request) throws HttpException, RuntimeException;
 
+    /**
+     * Executes a given HTTP request asynchronously and returns a future of the response.
+     * This method returns immediately, without blocking the calling thread.
+     * <p>
+     * The returned future is completed exceptionally with the same exceptions that {@link #execute(HttpRequest)} throws:
+     * an {@link HttpException} for client (4XX) and server (5XX) error responses,
+     * and another {@link RuntimeException} for unexpected errors (e.g., network issues, timeouts).
+     * Cancelling the returned future cancels the request, when the implementation supports it.
+     * <p>
+     * The default implementation calls {@link #execute(HttpRequest)} on the default executor of LangChain4j.
+     * Implementations backed by a non-blocking HTTP client should override it.
+     *
+     * @param request the HTTP request to be executed.
+     * @return a future of the {@link SuccessfulHttpResponse}
+     * @since 1.17.0
+     */
+    @Experimental
+    default CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        return CompletableFuture.supplyAsync(
+                () -> execute(request), DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
     /**
      * Executes a given HTTP request asynchronously with server-sent events (SSE) handling.
      * This method returns immediately while processing continues on a separate thread.
@@ -1,5 +1,6 @@
 package dev.langchain4j.http.client;
 
+import dev.langchain4j.Experimental;
 import java.time.Duration;
 
 public interface HttpClientBuilder {
@@ -12,5 +13,113 @@ public interface HttpClientBuilder {
 
     HttpClientBuilder readTimeout(Duration timeout);
 
+    /**
+     * @since 1.17.0
+     */
+    @Experimental
+    default Boolean compressRequests() {
+        return null;
+    }
+
+    /**
+     * Whether request bodies are compressed with gzip and sent with the {@code Content-Encoding: gzip} header.
+     * Only bodies of at least {@link HttpCompression#MIN_COMPRESSED_BODY_SIZE} bytes are compressed.
+     * Enable it only if the server accepts compressed request bodies.
+     * <p>
+     * Default value: {@code false}. Implementations that do not support this option ignore it.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    default HttpClientBuilder compressRequests(Boolean compressRequests) {
+        return this;
+    }
+
+    /**
+     * @since 1.17.0
+     */
+    @Experimental
+    default Boolean decompressResponses() {
+        return null;
+    }
+
+    /**
+     * Whether compressed responses are requested (with the {@code Accept-Encoding: gzip} header)
+     * and transparently decompressed.
+     * <p>
+     * By default, the behavior of the underlying HTTP client is kept.
+     * Implementations that do not support this option ignore it.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    default HttpClientBuilder decompressResponses(Boolean decompressResponses) {
+        return this;
+    }
+
+    /**
+     * @since 1.17.0
+     */
+    @Experimental
+    default Boolean preferHttp2() {
+        return null;
+    }
+
+    /**
+     * Whether HTTP/2 should be negotiated with servers supporting it, so that concurrent requests
+     * are multiplexed over a single connection. When {@code false}, HTTP/1.1 is always used.
+     * <p>
+     * By default, the behavior of the underlying HTTP client is kept.
+     * Implementations that do not support this option ignore it.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    default HttpClientBuilder preferHttp2(Boolean preferHttp2) {
+        return this;
+    }
+
+    /**
+     * @since 1.17.0
+     */
+    @Experimental
+    default Integer maxConnections() {
+        return null;
+    }
+
+    /**
+     * The maximum number of (HTTP/1.1) connections kept open to the same host.
+     * <p>
+     * By default, the behavior of the underlying HTTP client is kept.
+     * Implementations that do not support this option should reject it with an {@link IllegalArgumentException}.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    default HttpClientBuilder maxConnections(Integer maxConnections) {
+        return this;
+    }
+
+    /**
+     * @since 1.17.0
+     */
+    @Experimental
+    default Duration keepAlive() {
+        return null;
+    }
+
+    /**
+     * How long idle connections are kept open for reuse.
+     * <p>
+     * By default, the behavior of the underlying HTTP client is kept.
+     * Implementations that do not support this option should reject it with an {@link IllegalArgumentException}.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    default HttpClientBuilder keepAlive(Duration keepAlive) {
+        return this;
+    }
+
     HttpClient build();
 }
@@ -0,0 +1,133 @@
+package dev.langchain4j.http.client;
+
+import dev.langchain4j.Internal;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Helpers for {@link HttpClient} implementations supporting
+ * {@link HttpClientBuilder#compressRequests(Boolean)} and {@link HttpClientBuilder#decompressResponses(Boolean)}.
+ */
+@Internal
+public class HttpCompression {
+
+    /**
+     * Request bodies smaller than this are not worth compressing.
+     */
+    public static final int MIN_COMPRESSED_BODY_SIZE = 1024;
+
+    private static final String GZIP = "gzip";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    private HttpCompression() {}
+
+    /**
+     * Returns a copy of the request with a gzip-compressed body and a {@code Content-Encoding: gzip} header,
+     * or the request itself if its body is too small, is streamed, is form data or is already encoded.
+     */
+    public static HttpRequest compressBody(HttpRequest request) {
+        if (!request.formDataFields().isEmpty()
+                || !request.formDataFiles().isEmpty()
+                || request.bodyStream() != null
+                || hasHeader(request.headers(), CONTENT_ENCODING)) {
+            return request;
+        }
+        byte[] body = request.bodyBytes();
+        if (body == null || body.length < MIN_COMPRESSED_BODY_SIZE) {
+            return request;
+        }
+
+        Map<String, List<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(CONTENT_ENCODING, List.of(GZIP));
+        return HttpRequest.builder()
+                .method(request.method())
+                .url(request.url())
+                .headers(headers)
+                .bodyBytes(gzip(body))
+                .build();
+    }
+
+    /**
+     * Returns a copy of the request with an {@code Accept-Encoding: gzip} header,
+     * or the request itself if it already has an {@code Accept-Encoding} header.
+     */
+    public static HttpRequest acceptCompressedResponse(HttpRequest request) {
+        if (hasHeader(request.headers(), ACCEPT_ENCODING)) {
+            return request;
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(ACCEPT_ENCODING, List.of(GZIP));
+        return HttpRequest.builder()
+                .method(request.method())
+                .url(request.url())
+                .headers(headers)
+                .formDataFields(request.formDataFields())
+                .formDataFiles(request.formDataFiles())
+                .bodyStream(request.bodyStream())
+                .bodyBytes(request.bodyStream() == null ? request.bodyBytes() : null)
+                .build();
+    }
+
+    public static boolean isCompressed(Map<String, List<String>> responseHeaders) {
+        for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+            if (CONTENT_ENCODING.equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                for (String value : header.getValue()) {
+                    if (GZIP.equalsIgnoreCase(value.trim())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the headers of a decompressed response, that is, without the {@code Content-Encoding}
+     * and {@code Content-Length} headers, which describe the compressed body.
+     */
+    public static Map<String, List<String>> decompressedHeaders(Map<String, List<String>> responseHeaders) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        responseHeaders.forEach((name, values) -> {
+            if (!CONTENT_ENCODING.equalsIgnoreCase(name) && !"Content-Length".equalsIgnoreCase(name)) {
+                headers.put(name, new ArrayList<>(values));
+            }
+        });
+        return headers;
+    }
+
+    public static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    public static byte[] gunzip(byte[] bytes) {
+        try (InputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gunzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static InputStream gunzip(InputStream inputStream) throws IOException {
+        return new GZIPInputStream(inputStream);
+    }
+
+    private static boolean hasHeader(Map<String, List<String>> headers, String name) {
+        return headers.keySet().stream().anyMatch(name::equalsIgnoreCase);
+    }
+}
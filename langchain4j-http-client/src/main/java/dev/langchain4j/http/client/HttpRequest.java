@@ -10,12 +10,16 @@ import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
 
 import dev.langchain4j.Experimental;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class HttpRequest {
 
@@ -25,6 +29,8 @@ public class HttpRequest {
     private final Map<String, String> formDataFields;
     private final Map<String, FormDataFile> formDataFiles;
     private final String body;
+    private final byte[] bodyBytes;
+    private final Supplier<InputStream> bodyStream;
 
     public HttpRequest(Builder builder) {
         validate(builder);
@@ -34,10 +40,18 @@ public class HttpRequest {
         this.formDataFields = copy(builder.formDataFields);
         this.formDataFiles = copy(builder.formDataFiles);
         this.body = builder.body;
+        this.bodyBytes = builder.bodyBytes;
+        this.bodyStream = builder.bodyStream;
     }
 
     private static void validate(Builder builder) {
-        boolean hasBody = builder.body != null;
+        int bodyCount = (builder.body != null ? 1 : 0)
+                + (builder.bodyBytes != null ? 1 : 0)
+                + (builder.bodyStream != null ? 1 : 0);
+        if (bodyCount > 1) {
+            throw illegalArgument("Only one of body, bodyBytes and bodyStream can be specified");
+        }
+        boolean hasBody = bodyCount > 0;
         boolean hasFormDataFields = builder.formDataFields != null && !builder.formDataFields.isEmpty();
         boolean hasFormDataFiles = builder.formDataFiles != null && !builder.formDataFiles.isEmpty();
         if (hasBody && hasFormDataFields) {
@@ -97,8 +111,53 @@ public class HttpRequest {
         return formDataFiles;
     }
 
+    /**
+     * Returns the body as a {@link String}.
+     * <p>
+     * If the body was specified as bytes or as a stream, it is decoded as UTF-8 on each call
+     * (and, in case of a stream, fully read). {@link HttpClient} implementations should prefer
+     * {@link #bodyStream()} and {@link #bodyBytes()} to avoid these copies.
+     */
     public String body() {
-        return body;
+        if (body != null) {
+            return body;
+        }
+        if (bodyBytes != null) {
+            return new String(bodyBytes, StandardCharsets.UTF_8);
+        }
+        if (bodyStream != null) {
+            try (InputStream inputStream = bodyStream.get()) {
+                return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the body as bytes: either the bytes it was specified with,
+     * or the UTF-8 encoding of the {@link String} it was specified with.
+     * Returns {@code null} if there is no body or if it was specified as a stream (see {@link #bodyStream()}).
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    public byte[] bodyBytes() {
+        if (bodyBytes != null) {
+            return bodyBytes;
+        }
+        return body == null ? null : body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the supplier of the body stream, if the body was specified as a stream, {@code null} otherwise.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    public Supplier<InputStream> bodyStream() {
+        return bodyStream;
     }
 
     public static Builder builder() {
@@ -114,6 +173,8 @@ public class HttpRequest {
         private Map<String, String> formDataFields;
         private Map<String, FormDataFile> formDataFiles;
         private String body;
+        private byte[] bodyBytes;
+        private Supplier<InputStream> bodyStream;
 
         private Builder() {}
 
@@ -260,6 +321,32 @@ public class HttpRequest {
             return this;
         }
 
+        /**
+         * Sets the body as bytes, for example an already serialized JSON payload.
+         * The bytes are sent as-is, without being copied into a {@link String}.
+         *
+         * @since 1.17.0
+         */
+        @Experimental
+        public Builder bodyBytes(byte[] bodyBytes) {
+            this.bodyBytes = bodyBytes;
+            return this;
+        }
+
+        /**
+         * Sets the body as a stream, which is sent without being fully loaded into memory
+         * (when the {@link HttpClient} implementation supports it).
+         * The supplier is called each time the request is sent (e.g., on retries)
+         * and must return a new stream each time. The stream is closed once it has been sent.
+         *
+         * @since 1.17.0
+         */
+        @Experimental
+        public Builder bodyStream(Supplier<InputStream> bodyStream) {
+            this.bodyStream = bodyStream;
+            return this;
+        }
+
         public HttpRequest build() {
             return new HttpRequest(this);
         }
@@ -1,8 +1,14 @@
 package dev.langchain4j.http.client;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 
+import dev.langchain4j.Experimental;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -11,11 +17,17 @@ public class SuccessfulHttpResponse {
     private final int statusCode;
     private final Map<String, List<String>> headers;
     private final String body;
+    private final byte[] bodyBytes;
+    private volatile String decodedBody;
 
     public SuccessfulHttpResponse(Builder builder) {
+        if (builder.body != null && builder.bodyBytes != null) {
+            throw illegalArgument("Cannot specify both body and bodyBytes");
+        }
         this.statusCode = ensureBetween(builder.statusCode, 200, 299, "statusCode");
         this.headers = copy(builder.headers);
         this.body = builder.body;
+        this.bodyBytes = builder.bodyBytes;
     }
 
     public int statusCode() {
@@ -26,8 +38,67 @@ public class SuccessfulHttpResponse {
         return headers;
     }
 
+    /**
+     * Returns the body as a {@link String}.
+     * If the body was received as bytes, it is decoded (once) using the charset of the {@code Content-Type} header,
+     * or UTF-8 if none is specified.
+     */
     public String body() {
-        return body;
+        if (body != null || bodyBytes == null) {
+            return body;
+        }
+        String decoded = decodedBody;
+        if (decoded == null) {
+            decoded = new String(bodyBytes, charset(headers));
+            decodedBody = decoded;
+        }
+        return decoded;
+    }
+
+    /**
+     * Returns the body as bytes, without decoding it into a {@link String} when it was received as bytes.
+     * This allows, for example, to deserialize JSON directly from the bytes.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    public byte[] bodyBytes() {
+        if (bodyBytes != null) {
+            return bodyBytes;
+        }
+        return body == null ? null : body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the body as an {@link InputStream}, or {@code null} if there is no body.
+     *
+     * @since 1.17.0
+     */
+    @Experimental
+    public InputStream bodyAsInputStream() {
+        byte[] bytes = bodyBytes();
+        return bytes == null ? null : new ByteArrayInputStream(bytes);
+    }
+
+    static Charset charset(Map<String, List<String>> headers) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (!"content-type".equalsIgnoreCase(header.getKey()) || header.getValue() == null) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                for (String parameter : value.split(";")) {
+                    String trimmed = parameter.trim();
+                    if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                        try {
+                            return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                        } catch (IllegalArgumentException ignored) {
+                            return StandardCharsets.UTF_8;
+                        }
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
     }
 
     public static Builder builder() {
@@ -39,6 +110,7 @@ public class SuccessfulHttpResponse {
         private int statusCode;
         private Map<String, List<String>> headers;
         private String body;
+        private byte[] bodyBytes;
 
         private Builder() {}
 
@@ -57,6 +129,17 @@ public class SuccessfulHttpResponse {
             return this;
         }
 
+        /**
+         * Sets the body as raw bytes. It is decoded into a {@link String} only if {@link #body()} is called.
+         *
+         * @since 1.17.0
+         */
+        @Experimental
+        public Builder bodyBytes(byte[] bodyBytes) {
+            this.bodyBytes = bodyBytes;
+            return this;
+        }
+
         public SuccessfulHttpResponse build() {
             return new SuccessfulHttpResponse(this);
         }
@@ -32,7 +32,7 @@ class HttpRequestLogger {
                     httpRequest.method(),
                     httpRequest.url(),
                     format(httpRequest.headers()),
-                    httpRequest.body());
+                    httpRequest.bodyStream() != null ? "[streamed body]" : httpRequest.body());
         } catch (Exception e) {
             log.warn("Exception occurred while logging HTTP request: {}", e.getMessage());
         }
@@ -12,6 +12,7 @@ import dev.langchain4j.http.client.sse.ServerSentEvent;
 import dev.langchain4j.http.client.sse.ServerSentEventContext;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +56,23 @@ public class LoggingHttpClient implements HttpClient {
         return response;
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+
+        if (logRequests) {
+            HttpRequestLogger.log(log, request);
+        }
+
+        CompletableFuture<SuccessfulHttpResponse> response = delegateHttpClient.executeAsync(request);
+
+        if (logResponses) {
+            // the original future is returned, so that cancelling it cancels the request
+            response.thenAccept(successfulResponse -> HttpResponseLogger.log(log, successfulResponse));
+        }
+
+        return response;
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventListener delegateListener) {
 
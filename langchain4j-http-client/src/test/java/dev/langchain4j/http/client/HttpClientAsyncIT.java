@@ -0,0 +1,186 @@
+package dev.langchain4j.http.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import dev.langchain4j.exception.HttpException;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public abstract class HttpClientAsyncIT {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String REQUEST_BODY = "{\"input\":\"Grüße\"}";
+
+    protected abstract List<HttpClient> clients();
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void beforeEach() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        wireMockServer.stubFor(post("/echo")
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json; charset=utf-8")
+                        .withBody("{\"output\":\"Grüße\"}")));
+        wireMockServer.stubFor(post("/error").willReturn(aResponse().withStatus(400).withBody("Bad request")));
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void should_return_successful_http_response_async() throws Exception {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url(wireMockServer.baseUrl(), "/echo")
+                    .addHeader("Content-Type", "application/json")
+                    .body(REQUEST_BODY)
+                    .build();
+
+            // when
+            SuccessfulHttpResponse response = client.executeAsync(request).get(10, SECONDS);
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isEqualTo("{\"output\":\"Grüße\"}");
+            JsonNode json = OBJECT_MAPPER.readTree(response.bodyAsInputStream());
+            assertThat(json.get("output").asText()).isEqualTo("Grüße");
+        }
+    }
+
+    @Test
+    void should_complete_exceptionally_with_http_exception_async() {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url(wireMockServer.baseUrl(), "/error")
+                    .body(REQUEST_BODY)
+                    .build();
+
+            // when
+            CompletableFuture<SuccessfulHttpResponse> future = client.executeAsync(request);
+
+            // then
+            assertThatThrownBy(() -> future.get(10, SECONDS))
+                    .isExactlyInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isExactlyInstanceOf(HttpException.class)
+                    .satisfies(e -> assertThat(((HttpException) e).statusCode()).isEqualTo(400))
+                    .hasMessage("Bad request");
+        }
+    }
+
+    @Test
+    void should_send_byte_array_body() {
+
+        List<HttpClient> clients = clients();
+        for (HttpClient client : clients) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url(wireMockServer.baseUrl(), "/echo")
+                    .addHeader("Content-Type", "application/json")
+                    .bodyBytes(REQUEST_BODY.getBytes(UTF_8))
+                    .build();
+
+            // when
+            SuccessfulHttpResponse response = client.execute(request);
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+
+        wireMockServer.verify(
+                clients.size(), postRequestedFor(urlEqualTo("/echo")).withRequestBody(equalTo(REQUEST_BODY)));
+    }
+
+    @Test
+    void should_send_streamed_body_async() throws Exception {
+
+        List<HttpClient> clients = clients();
+        for (HttpClient client : clients) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url(wireMockServer.baseUrl(), "/echo")
+                    .addHeader("Content-Type", "application/json")
+                    .bodyStream(() -> new ByteArrayInputStream(REQUEST_BODY.getBytes(UTF_8)))
+                    .build();
+
+            // when
+            SuccessfulHttpResponse response = client.executeAsync(request).get(10, SECONDS);
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+
+        wireMockServer.verify(
+                clients.size(), postRequestedFor(urlEqualTo("/echo")).withRequestBody(equalTo(REQUEST_BODY)));
+    }
+
+    @Test
+    void should_keep_content_type_of_non_json_bodies() {
+
+        String csv = "id,name\n1,Grüße\n";
+        List<HttpClient> clients = clients();
+        for (HttpClient client : clients) {
+
+            // given
+            HttpRequest streamed = HttpRequest.builder()
+                    .method(POST)
+                    .url(wireMockServer.baseUrl(), "/echo")
+                    .addHeader("Content-Type", "text/csv; charset=utf-8")
+                    .bodyStream(() -> new ByteArrayInputStream(csv.getBytes(UTF_8)))
+                    .build();
+            HttpRequest bytes = HttpRequest.builder()
+                    .method(POST)
+                    .url(wireMockServer.baseUrl(), "/echo")
+                    .addHeader("Content-Type", "text/csv; charset=utf-8")
+                    .bodyBytes(csv.getBytes(UTF_8))
+                    .build();
+
+            // when
+            client.execute(streamed);
+            client.execute(bytes);
+        }
+
+        // then
+        wireMockServer.verify(
+                2 * clients.size(),
+                postRequestedFor(urlEqualTo("/echo"))
+                        .withHeader("Content-Type", equalTo("text/csv; charset=utf-8"))
+                        .withRequestBody(equalTo(csv)));
+    }
+}
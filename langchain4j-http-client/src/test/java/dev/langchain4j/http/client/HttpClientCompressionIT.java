@@ -0,0 +1,183 @@
+package dev.langchain4j.http.client;
+
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies {@link HttpClientBuilder#compressRequests(Boolean)} and {@link HttpClientBuilder#decompressResponses(Boolean)}
+ * against a local stub server that echoes the (decompressed) request body and counts the bytes on the wire.
+ */
+public abstract class HttpClientCompressionIT {
+
+    private static final String LARGE_BODY = largeJsonBody(64 * 1024);
+    private static final String SMALL_BODY = "{\"input\":\"hello\"}";
+
+    protected abstract HttpClientBuilder clientBuilder();
+
+    private HttpServer stubServer;
+    private final AtomicLong requestBytesOnWire = new AtomicLong();
+    private final AtomicLong responseBytesOnWire = new AtomicLong();
+    private final AtomicReference<String> lastRequestContentEncoding = new AtomicReference<>();
+    private final AtomicReference<String> lastResponseContentEncoding = new AtomicReference<>();
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/echo", this::echo);
+        stubServer.setExecutor(Executors.newFixedThreadPool(4));
+        stubServer.start();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        if (stubServer != null) {
+            stubServer.stop(0);
+        }
+    }
+
+    @Test
+    void should_compress_large_request_body() throws Exception {
+
+        // given
+        HttpClient client = clientBuilder().compressRequests(true).build();
+
+        // when
+        SuccessfulHttpResponse response = client.execute(echoRequest(LARGE_BODY));
+        SuccessfulHttpResponse asyncResponse =
+                client.executeAsync(echoRequest(LARGE_BODY)).get(10, SECONDS);
+
+        // then
+        assertThat(response.body()).isEqualTo(LARGE_BODY);
+        assertThat(asyncResponse.body()).isEqualTo(LARGE_BODY);
+        assertThat(lastRequestContentEncoding.get()).isEqualTo("gzip");
+        assertThat(requestBytesOnWire.get()).isLessThan(LARGE_BODY.length() / 4);
+    }
+
+    @Test
+    void should_not_compress_small_request_body() {
+
+        // given
+        HttpClient client = clientBuilder().compressRequests(true).build();
+
+        // when
+        SuccessfulHttpResponse response = client.execute(echoRequest(SMALL_BODY));
+
+        // then
+        assertThat(response.body()).isEqualTo(SMALL_BODY);
+        assertThat(lastRequestContentEncoding.get()).isNull();
+        assertThat(requestBytesOnWire.get()).isEqualTo(SMALL_BODY.length());
+    }
+
+    @Test
+    void should_not_compress_request_body_by_default() {
+
+        // given
+        HttpClient client = clientBuilder().build();
+
+        // when
+        SuccessfulHttpResponse response = client.execute(echoRequest(LARGE_BODY));
+
+        // then
+        assertThat(response.body()).isEqualTo(LARGE_BODY);
+        assertThat(lastRequestContentEncoding.get()).isNull();
+        assertThat(requestBytesOnWire.get()).isEqualTo(LARGE_BODY.length());
+    }
+
+    @Test
+    void should_decompress_response() throws Exception {
+
+        // given
+        HttpClient client = clientBuilder().decompressResponses(true).build();
+
+        // when
+        SuccessfulHttpResponse response = client.execute(echoRequest(LARGE_BODY));
+        SuccessfulHttpResponse asyncResponse =
+                client.executeAsync(echoRequest(LARGE_BODY)).get(10, SECONDS);
+
+        // then
+        assertThat(response.body()).isEqualTo(LARGE_BODY);
+        assertThat(asyncResponse.body()).isEqualTo(LARGE_BODY);
+        assertThat(asyncResponse.headers().keySet()).noneMatch("Content-Encoding"::equalsIgnoreCase);
+        assertThat(lastResponseContentEncoding.get()).isEqualTo("gzip");
+    }
+
+    @Test
+    void should_not_request_compressed_response_when_disabled() {
+
+        // given
+        HttpClient client = clientBuilder().decompressResponses(false).build();
+
+        // when
+        SuccessfulHttpResponse response = client.execute(echoRequest(LARGE_BODY));
+
+        // then
+        assertThat(response.body()).isEqualTo(LARGE_BODY);
+        assertThat(lastResponseContentEncoding.get()).isNull();
+        assertThat(responseBytesOnWire.get()).isEqualTo(LARGE_BODY.length());
+    }
+
+    private HttpRequest echoRequest(String body) {
+        return HttpRequest.builder()
+                .method(POST)
+                .url("http://localhost:" + stubServer.getAddress().getPort(), "/echo")
+                .addHeader("Content-Type", "application/json")
+                .body(body)
+                .build();
+    }
+
+    private void echo(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] raw;
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                raw = inputStream.readAllBytes();
+            }
+            requestBytesOnWire.addAndGet(raw.length);
+
+            String requestContentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            lastRequestContentEncoding.set(requestContentEncoding);
+            byte[] body = "gzip".equals(requestContentEncoding) ? HttpCompression.gunzip(raw) : raw;
+
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = HttpCompression.gzip(body);
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                lastResponseContentEncoding.set("gzip");
+            } else {
+                lastResponseContentEncoding.set(null);
+            }
+            responseBytesOnWire.addAndGet(body.length);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+    }
+
+    private static String largeJsonBody(int size) {
+        StringBuilder sb = new StringBuilder("{\"messages\":[");
+        int i = 0;
+        while (sb.length() < size) {
+            sb.append(i == 0 ? "" : ",")
+                    .append("{\"role\":\"user\",\"content\":\"Tell me about message number ")
+                    .append(i++)
+                    .append(" in this conversation, please.\"}");
+        }
+        return sb.append("]}").toString();
+    }
+}
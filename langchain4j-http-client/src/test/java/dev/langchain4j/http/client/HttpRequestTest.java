@@ -5,6 +5,8 @@ import static dev.langchain4j.http.client.HttpMethod.POST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -493,4 +495,62 @@ class HttpRequestTest {
         assertThat(builder.build().url()).isEqualTo("http://example.com/api");
         assertThat(builder.build().formDataFields()).isEmpty();
     }
+
+    @Test
+    void should_expose_byte_array_body_without_copy_and_as_string() {
+        // given
+        byte[] bytes = "{\"key\":\"välue\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://example.com/api")
+                .bodyBytes(bytes)
+                .build();
+
+        // then
+        assertThat(request.bodyBytes()).isSameAs(bytes);
+        assertThat(request.body()).isEqualTo("{\"key\":\"välue\"}");
+        assertThat(request.bodyStream()).isNull();
+    }
+
+    @Test
+    void should_expose_string_body_as_bytes() {
+        // when
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://example.com/api")
+                .body("välue")
+                .build();
+
+        // then
+        assertThat(request.bodyBytes()).isEqualTo("välue".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void should_expose_streamed_body() {
+        // when
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://example.com/api")
+                .bodyStream(() -> new ByteArrayInputStream("välue".getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        // then
+        assertThat(request.bodyBytes()).isNull();
+        assertThat(request.body()).isEqualTo("välue");
+        assertThat(request.body()).isEqualTo("välue");
+    }
+
+    @Test
+    void should_fail_when_multiple_bodies_are_specified() {
+        assertThatThrownBy(() -> HttpRequest.builder()
+                        .method(POST)
+                        .url("http://example.com/api")
+                        .body("body")
+                        .bodyBytes(new byte[] {1})
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Only one of body, bodyBytes and bodyStream can be specified");
+    }
 }
@@ -8,6 +8,7 @@ import dev.langchain4j.http.client.sse.ServerSentEventParser;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Internal
 public class SpyingHttpClient implements HttpClient {
@@ -36,6 +37,12 @@ public class SpyingHttpClient implements HttpClient {
         return delegate.execute(request);
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        requests.add(request);
+        return delegate.executeAsync(request);
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         requests.add(request);
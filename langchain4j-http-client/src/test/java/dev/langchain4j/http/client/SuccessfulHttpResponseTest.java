@@ -0,0 +1,65 @@
+package dev.langchain4j.http.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SuccessfulHttpResponseTest {
+
+    @Test
+    void should_decode_body_bytes_as_utf8_by_default() {
+        // given
+        byte[] bytes = "välue".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        SuccessfulHttpResponse response =
+                SuccessfulHttpResponse.builder().statusCode(200).bodyBytes(bytes).build();
+
+        // then
+        assertThat(response.body()).isEqualTo("välue");
+        assertThat(response.bodyBytes()).isSameAs(bytes);
+        assertThat(response.bodyAsInputStream()).hasBinaryContent(bytes);
+    }
+
+    @Test
+    void should_decode_body_bytes_with_charset_of_content_type() {
+        // given
+        byte[] bytes = "välue".getBytes(StandardCharsets.ISO_8859_1);
+
+        // when
+        SuccessfulHttpResponse response = SuccessfulHttpResponse.builder()
+                .statusCode(200)
+                .headers(Map.of("content-type", List.of("text/plain; charset=ISO-8859-1")))
+                .bodyBytes(bytes)
+                .build();
+
+        // then
+        assertThat(response.body()).isEqualTo("välue");
+    }
+
+    @Test
+    void should_expose_string_body_as_bytes() {
+        // when
+        SuccessfulHttpResponse response =
+                SuccessfulHttpResponse.builder().statusCode(200).body("välue").build();
+
+        // then
+        assertThat(response.bodyBytes()).isEqualTo("välue".getBytes(StandardCharsets.UTF_8));
+        assertThat(response.bodyAsInputStream()).isNotNull();
+    }
+
+    @Test
+    void should_return_null_when_there_is_no_body() {
+        // when
+        SuccessfulHttpResponse response =
+                SuccessfulHttpResponse.builder().statusCode(204).build();
+
+        // then
+        assertThat(response.body()).isNull();
+        assertThat(response.bodyBytes()).isNull();
+        assertThat(response.bodyAsInputStream()).isNull();
+    }
+}
@@ -46,6 +46,7 @@ public class JlamaChatModel implements ChatModel {
     private final AbstractModel model;
     private final Float temperature;
     private final Integer maxTokens;
+    private final JlamaSessionCache sessionCache;
 
     public JlamaChatModel(Path modelCachePath,
                           String modelName,
@@ -56,6 +57,20 @@ public class JlamaChatModel implements ChatModel {
                           DType workingQuantizedType,
                           Float temperature,
                           Integer maxTokens) {
+        this(modelCachePath, modelName, authToken, threadCount, quantizeModelAtRuntime, workingDirectory,
+                workingQuantizedType, temperature, maxTokens, null);
+    }
+
+    public JlamaChatModel(Path modelCachePath,
+                          String modelName,
+                          String authToken,
+                          Integer threadCount,
+                          Boolean quantizeModelAtRuntime,
+                          Path workingDirectory,
+                          DType workingQuantizedType,
+                          Float temperature,
+                          Integer maxTokens,
+                          Integer sessionCacheSize) {
         JlamaModelRegistry registry = JlamaModelRegistry.getOrCreate(modelCachePath);
         JlamaModel jlamaModel = RetryUtils.withRetryMappingExceptions(() -> registry.downloadModel(modelName, Optional.ofNullable(authToken)), 3, JlamaExceptionMapper.INSTANCE);
 
@@ -75,6 +90,7 @@ public class JlamaChatModel implements ChatModel {
         this.model = loader.load();
         this.temperature = temperature == null ? 0.3f : temperature;
         this.maxTokens = maxTokens == null ? model.getConfig().contextLength : maxTokens;
+        this.sessionCache = sessionCacheSize == null || sessionCacheSize == 0 ? null : new JlamaSessionCache(sessionCacheSize);
     }
 
     public static JlamaChatModelBuilder builder() {
@@ -161,8 +177,10 @@ public class JlamaChatModel implements ChatModel {
         List<Tool> tools = toolSpecifications.stream().map(JlamaModel::toTool).toList();
 
         PromptContext promptContext = tools.isEmpty() ? promptBuilder.build() : promptBuilder.build(tools);
-        Generator.Response r = JlamaExceptionMapper.INSTANCE.withExceptionMapper(
-                () -> model.generate(UUID.randomUUID(), promptContext, temperature, maxTokens, (token, time) -> {
+        Generator.Response r = JlamaExceptionMapper.INSTANCE.withExceptionMapper(() -> sessionCache == null
+                ? model.generate(UUID.randomUUID(), promptContext, temperature, maxTokens, (token, time) -> {
+                })
+                : sessionCache.generate(model, promptContext, temperature, maxTokens, (token, time) -> {
                 }));
 
         if (r.finishReason == Generator.FinishReason.TOOL_CALL) {
@@ -188,6 +206,7 @@ public class JlamaChatModel implements ChatModel {
         private DType workingQuantizedType;
         private Float temperature;
         private Integer maxTokens;
+        private Integer sessionCacheSize;
 
         public JlamaChatModelBuilder() {
             // This is public, so it can be extended
@@ -238,12 +257,26 @@ public class JlamaChatModel implements ChatModel {
             return this;
         }
 
+        /**
+         * Enables the reuse of Jlama sessions (and their KV-cache) across chat turns, keeping at most
+         * {@code sessionCacheSize} sessions in least-recently-used order.
+         * When a request continues a previous conversation (its prompt starts with the previous prompt and response),
+         * only the new messages are prefilled instead of the whole conversation.
+         * <p>
+         * Disabled by default.
+         * Note that Jlama prepends the BOS token to every prefilled chunk, which some models may be sensitive to.
+         */
+        public JlamaChatModelBuilder sessionCacheSize(Integer sessionCacheSize) {
+            this.sessionCacheSize = sessionCacheSize;
+            return this;
+        }
+
         public JlamaChatModel build() {
-            return new JlamaChatModel(this.modelCachePath, this.modelName, this.authToken, this.threadCount, this.quantizeModelAtRuntime, this.workingDirectory, this.workingQuantizedType, this.temperature, this.maxTokens);
+            return new JlamaChatModel(this.modelCachePath, this.modelName, this.authToken, this.threadCount, this.quantizeModelAtRuntime, this.workingDirectory, this.workingQuantizedType, this.temperature, this.maxTokens, this.sessionCacheSize);
         }
 
         public String toString() {
-            return "JlamaChatModel.JlamaChatModelBuilder(modelCachePath=" + this.modelCachePath + ", modelName=" + this.modelName + ", authToken=" + this.authToken + ", threadCount=" + this.threadCount + ", quantizeModelAtRuntime=" + this.quantizeModelAtRuntime + ", workingDirectory=" + this.workingDirectory + ", workingQuantizedType=" + this.workingQuantizedType + ", temperature=" + this.temperature + ", maxTokens=" + this.maxTokens + ")";
+            return "JlamaChatModel.JlamaChatModelBuilder(modelCachePath=" + this.modelCachePath + ", modelName=" + this.modelName + ", authToken=" + this.authToken + ", threadCount=" + this.threadCount + ", quantizeModelAtRuntime=" + this.quantizeModelAtRuntime + ", workingDirectory=" + this.workingDirectory + ", workingQuantizedType=" + this.workingQuantizedType + ", temperature=" + this.temperature + ", maxTokens=" + this.maxTokens + ", sessionCacheSize=" + this.sessionCacheSize + ")";
         }
     }
 }
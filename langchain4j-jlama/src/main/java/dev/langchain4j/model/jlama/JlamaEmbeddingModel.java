@@ -1,5 +1,9 @@
 package dev.langchain4j.model.jlama;
 
+import static dev.langchain4j.internal.BatchUtils.mapConcurrently;
+import static dev.langchain4j.internal.BatchUtils.partition;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 
 import com.github.tjake.jlama.model.AbstractModel;
@@ -8,6 +12,7 @@ import com.github.tjake.jlama.model.bert.BertModel;
 import com.github.tjake.jlama.model.functions.Generator;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.jlama.spi.JlamaEmbeddingModelBuilderFactory;
@@ -16,11 +21,15 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final BertModel model;
     private final Generator.PoolingType poolingType;
     private final String modelName;
+    private final int maxSegmentsPerBatch;
+    private final int parallelism;
+    private final Executor executor;
 
     public JlamaEmbeddingModel(
             Path modelCachePath,
@@ -30,6 +39,30 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
             Boolean quantizeModelAtRuntime,
             Generator.PoolingType poolingType,
             Path workingDirectory) {
+        this(
+                modelCachePath,
+                modelName,
+                authToken,
+                threadCount,
+                quantizeModelAtRuntime,
+                poolingType,
+                workingDirectory,
+                null,
+                null,
+                null);
+    }
+
+    public JlamaEmbeddingModel(
+            Path modelCachePath,
+            String modelName,
+            String authToken,
+            Integer threadCount,
+            Boolean quantizeModelAtRuntime,
+            Generator.PoolingType poolingType,
+            Path workingDirectory,
+            Integer maxSegmentsPerBatch,
+            Integer parallelism,
+            Executor executor) {
 
         JlamaModelRegistry registry = JlamaModelRegistry.getOrCreate(modelCachePath);
         JlamaModel jlamaModel = RetryUtils.withRetryMappingExceptions(
@@ -56,6 +89,9 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.poolingType = poolingType == null ? Generator.PoolingType.MODEL : poolingType;
 
         this.modelName = modelName;
+        this.maxSegmentsPerBatch = ensureGreaterThanZero(getOrDefault(maxSegmentsPerBatch, 16), "maxSegmentsPerBatch");
+        this.parallelism = ensureGreaterThanZero(getOrDefault(parallelism, 1), "parallelism");
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
     }
 
     public static JlamaEmbeddingModelBuilder builder() {
@@ -67,15 +103,26 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
+        if (parallelism == 1 || textSegments.size() <= maxSegmentsPerBatch) {
+            return Response.from(embed(textSegments));
+        }
 
-        textSegments.forEach(textSegment -> {
-            embeddings.add(Embedding.from(model.embed(textSegment.text(), poolingType)));
-        });
+        List<List<Embedding>> batchEmbeddings =
+                mapConcurrently(partition(textSegments, maxSegmentsPerBatch), this::embed, parallelism, executor);
 
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        batchEmbeddings.forEach(embeddings::addAll);
         return Response.from(embeddings);
     }
 
+    private List<Embedding> embed(List<TextSegment> textSegments) {
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        for (TextSegment textSegment : textSegments) {
+            embeddings.add(Embedding.from(model.embed(textSegment.text(), poolingType)));
+        }
+        return embeddings;
+    }
+
     @Override
     public String modelName() {
         return this.modelName;
@@ -89,6 +136,9 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Boolean quantizeModelAtRuntime;
         private Generator.PoolingType poolingType;
         private Path workingDirectory;
+        private Integer maxSegmentsPerBatch;
+        private Integer parallelism;
+        private Executor executor;
 
         public JlamaEmbeddingModelBuilder() {
             // This is public, so it can be extended
@@ -129,6 +179,40 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * Sets the number of segments embedded by a worker as a single unit of work
+         * when {@link #parallelism(Integer)} is greater than 1.
+         * <p>
+         * Default value: 16.
+         */
+        public JlamaEmbeddingModelBuilder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches (see {@link #maxSegmentsPerBatch(Integer)}) embedded concurrently.
+         * Note that Jlama already spreads each single embedding over {@link #threadCount(Integer)} threads,
+         * so a parallelism greater than 1 mostly helps with many short segments.
+         * <p>
+         * Default value: 1 (segments are embedded one after another, on the calling thread).
+         */
+        public JlamaEmbeddingModelBuilder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} used to embed batches concurrently
+         * when {@link #parallelism(Integer)} is greater than 1.
+         * <p>
+         * By default, the default executor of LangChain4j is used.
+         */
+        public JlamaEmbeddingModelBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public JlamaEmbeddingModel build() {
             return new JlamaEmbeddingModel(
                     this.modelCachePath,
@@ -137,14 +221,18 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
                     this.threadCount,
                     this.quantizeModelAtRuntime,
                     this.poolingType,
-                    this.workingDirectory);
+                    this.workingDirectory,
+                    this.maxSegmentsPerBatch,
+                    this.parallelism,
+                    this.executor);
         }
 
         public String toString() {
             return "JlamaEmbeddingModel.JlamaEmbeddingModelBuilder(modelCachePath=" + this.modelCachePath
                     + ", modelName=" + this.modelName + ", authToken=" + this.authToken + ", threadCount="
                     + this.threadCount + ", quantizeModelAtRuntime=" + this.quantizeModelAtRuntime + ", poolingType="
-                    + this.poolingType + ", workingDirectory=" + this.workingDirectory + ")";
+                    + this.poolingType + ", workingDirectory=" + this.workingDirectory + ", maxSegmentsPerBatch="
+                    + this.maxSegmentsPerBatch + ", parallelism=" + this.parallelism + ")";
         }
     }
 }
@@ -0,0 +1,100 @@
+package dev.langchain4j.model.jlama;
+
+import com.github.tjake.jlama.model.AbstractModel;
+import com.github.tjake.jlama.model.functions.Generator;
+import com.github.tjake.jlama.safetensors.prompt.PromptContext;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+/**
+ * Keeps Jlama sessions (and therefore their KV-cache) alive across chat turns.
+ * <p>
+ * Each cached session is keyed by the text it has already consumed: the rendered prompt plus the generated response.
+ * When a new prompt starts with that text (i.e. it is the same conversation, with new messages appended),
+ * the session is reused and only the new suffix is prefilled, instead of the whole conversation.
+ * Otherwise, a new session is started. Sessions are evicted in least-recently-used order.
+ * <p>
+ * A session is removed from the cache while it is generating, so it is never used by two calls at the same time.
+ * If a generation on a reused session fails (e.g. because the context window is exhausted),
+ * it is retried once on a new session with the full prompt, provided that no token was emitted yet.
+ */
+class JlamaSessionCache {
+
+    private final int maxSessions;
+    private final Map<String, UUID> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+    JlamaSessionCache(int maxSessions) {
+        this.maxSessions = ensureGreaterThanZero(maxSessions, "maxSessions");
+    }
+
+    Generator.Response generate(AbstractModel model,
+                                PromptContext promptContext,
+                                float temperature,
+                                int maxTokens,
+                                BiConsumer<String, Float> onTokenWithTimings) {
+        String prompt = promptContext.getPrompt();
+        Session session = acquire(prompt);
+        AtomicBoolean emitted = new AtomicBoolean();
+        BiConsumer<String, Float> onToken = (token, time) -> {
+            emitted.set(true);
+            onTokenWithTimings.accept(token, time);
+        };
+
+        Generator.Response response;
+        if (session.isReused()) {
+            try {
+                response = model.generate(session.id(), PromptContext.of(session.suffix()), temperature, maxTokens, onToken);
+            } catch (RuntimeException e) {
+                if (emitted.get()) {
+                    throw e;
+                }
+                session = new Session(UUID.randomUUID(), prompt, false);
+                response = model.generate(session.id(), promptContext, temperature, maxTokens, onToken);
+            }
+        } else {
+            response = model.generate(session.id(), promptContext, temperature, maxTokens, onToken);
+        }
+
+        release(session, prompt + (response.responseText == null ? "" : response.responseText));
+        return response;
+    }
+
+    synchronized Session acquire(String prompt) {
+        String longestPrefix = null;
+        for (String consumed : sessions.keySet()) {
+            if (prompt.length() > consumed.length()
+                    && prompt.startsWith(consumed)
+                    && (longestPrefix == null || consumed.length() > longestPrefix.length())) {
+                longestPrefix = consumed;
+            }
+        }
+        if (longestPrefix == null) {
+            return new Session(UUID.randomUUID(), prompt, false);
+        }
+        UUID id = sessions.remove(longestPrefix);
+        return new Session(id, prompt.substring(longestPrefix.length()), true);
+    }
+
+    synchronized void release(Session session, String consumed) {
+        sessions.put(consumed, session.id());
+        Iterator<Map.Entry<String, UUID>> iterator = sessions.entrySet().iterator();
+        while (sessions.size() > maxSessions && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    synchronized int size() {
+        return sessions.size();
+    }
+
+    record Session(UUID id, String suffix, boolean isReused) {
+    }
+}
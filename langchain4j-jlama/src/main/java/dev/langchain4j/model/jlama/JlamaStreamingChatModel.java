@@ -42,11 +42,13 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
 public class JlamaStreamingChatModel implements StreamingChatModel {
     private final AbstractModel model;
     private final Float temperature;
     private final Integer maxTokens;
+    private final JlamaSessionCache sessionCache;
     private final UUID id = UUID.randomUUID();
 
     public JlamaStreamingChatModel(
@@ -59,6 +61,30 @@ public class JlamaStreamingChatModel implements StreamingChatModel {
             DType workingQuantizedType,
             Float temperature,
             Integer maxTokens) {
+        this(
+                modelCachePath,
+                modelName,
+                authToken,
+                threadCount,
+                quantizeModelAtRuntime,
+                workingDirectory,
+                workingQuantizedType,
+                temperature,
+                maxTokens,
+                null);
+    }
+
+    public JlamaStreamingChatModel(
+            Path modelCachePath,
+            String modelName,
+            String authToken,
+            Integer threadCount,
+            Boolean quantizeModelAtRuntime,
+            Path workingDirectory,
+            DType workingQuantizedType,
+            Float temperature,
+            Integer maxTokens,
+            Integer sessionCacheSize) {
         JlamaModelRegistry registry = JlamaModelRegistry.getOrCreate(modelCachePath);
         JlamaModel jlamaModel = RetryUtils.withRetryMappingExceptions(
                 () -> registry.downloadModel(modelName, Optional.ofNullable(authToken)),
@@ -77,6 +103,7 @@ public class JlamaStreamingChatModel implements StreamingChatModel {
         this.model = loader.load();
         this.temperature = temperature == null ? 0.3f : temperature;
         this.maxTokens = maxTokens == null ? model.getConfig().contextLength : maxTokens;
+        this.sessionCache = sessionCacheSize == null || sessionCacheSize == 0 ? null : new JlamaSessionCache(sessionCacheSize);
     }
 
     public static JlamaStreamingChatModelBuilder builder() {
@@ -186,9 +213,10 @@ public class JlamaStreamingChatModel implements StreamingChatModel {
         PromptContext promptContext = tools.isEmpty() ? promptBuilder.build() : promptBuilder.build(tools);
 
         try {
-            Generator.Response r = model.generate(id, promptContext, temperature, maxTokens, (token, time) -> {
-                handler.onNext(token);
-            });
+            BiConsumer<String, Float> onToken = (token, time) -> handler.onNext(token);
+            Generator.Response r = sessionCache == null
+                    ? model.generate(id, promptContext, temperature, maxTokens, onToken)
+                    : sessionCache.generate(model, promptContext, temperature, maxTokens, onToken);
 
             if (r.finishReason == Generator.FinishReason.TOOL_CALL) {
                 List<ToolExecutionRequest> toolCalls = r.toolCalls.stream()
@@ -224,6 +252,7 @@ public class JlamaStreamingChatModel implements StreamingChatModel {
         private DType workingQuantizedType;
         private Float temperature;
         private Integer maxTokens;
+        private Integer sessionCacheSize;
 
         public JlamaStreamingChatModelBuilder() {
             // This is public, so it can be extended
@@ -274,6 +303,20 @@ public class JlamaStreamingChatModel implements StreamingChatModel {
             return this;
         }
 
+        /**
+         * Enables the reuse of Jlama sessions (and their KV-cache) across chat turns, keeping at most
+         * {@code sessionCacheSize} sessions in least-recently-used order.
+         * When a request continues a previous conversation (its prompt starts with the previous prompt and response),
+         * only the new messages are prefilled instead of the whole conversation.
+         * <p>
+         * Disabled by default.
+         * Note that Jlama prepends the BOS token to every prefilled chunk, which some models may be sensitive to.
+         */
+        public JlamaStreamingChatModelBuilder sessionCacheSize(Integer sessionCacheSize) {
+            this.sessionCacheSize = sessionCacheSize;
+            return this;
+        }
+
         public JlamaStreamingChatModel build() {
             return new JlamaStreamingChatModel(
                     this.modelCachePath,
@@ -284,7 +327,8 @@ public class JlamaStreamingChatModel implements StreamingChatModel {
                     this.workingDirectory,
                     this.workingQuantizedType,
                     this.temperature,
-                    this.maxTokens);
+                    this.maxTokens,
+                    this.sessionCacheSize);
         }
 
         public String toString() {
@@ -293,7 +337,7 @@ public class JlamaStreamingChatModel implements StreamingChatModel {
                     + this.threadCount + ", quantizeModelAtRuntime=" + this.quantizeModelAtRuntime
                     + ", workingDirectory=" + this.workingDirectory + ", workingQuantizedType="
                     + this.workingQuantizedType + ", temperature=" + this.temperature + ", maxTokens=" + this.maxTokens
-                    + ")";
+                    + ", sessionCacheSize=" + this.sessionCacheSize + ")";
         }
     }
 }
@@ -1,12 +1,18 @@
 package dev.langchain4j.model.jlama;
 
 import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.CosineSimilarity;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.io.File;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -55,4 +61,30 @@ class JlamaEmbeddingModelIT {
         // then
         assertThat(model.dimension()).isEqualTo(response.content().dimension());
     }
+
+    @ParameterizedTest
+    @CsvSource({"16, 1", "4, 1", "4, 4"})
+    void should_embed_all_segments_in_order_when_batched_and_parallel(int maxSegmentsPerBatch, int parallelism) {
+
+        // given
+        EmbeddingModel batchingModel = JlamaEmbeddingModel.builder()
+                .modelName("intfloat/e5-small-v2")
+                .modelCachePath(tmpDir.toPath())
+                .maxSegmentsPerBatch(maxSegmentsPerBatch)
+                .parallelism(parallelism)
+                .build();
+        List<TextSegment> segments = IntStream.range(0, 10)
+                .mapToObj(i -> TextSegment.from("sentence number " + i + " is about topic " + (i % 3)))
+                .toList();
+
+        // when
+        List<Embedding> embeddings = batchingModel.embedAll(segments).content();
+
+        // then
+        assertThat(embeddings).hasSize(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            Embedding single = model.embed(segments.get(i)).content();
+            assertThat(CosineSimilarity.between(embeddings.get(i), single)).isGreaterThan(0.99);
+        }
+    }
 }
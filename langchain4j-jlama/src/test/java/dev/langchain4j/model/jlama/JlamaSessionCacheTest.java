@@ -0,0 +1,68 @@
+package dev.langchain4j.model.jlama;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class JlamaSessionCacheTest {
+
+    @Test
+    void should_reuse_session_whose_consumed_text_is_longest_prefix_of_prompt() {
+
+        // given
+        JlamaSessionCache cache = new JlamaSessionCache(10);
+        JlamaSessionCache.Session first = cache.acquire("A");
+        cache.release(first, "A1");
+        JlamaSessionCache.Session second = cache.acquire("A1B");
+        cache.release(second, "A1B2");
+        JlamaSessionCache.Session other = cache.acquire("X");
+        cache.release(other, "X1");
+
+        // when
+        JlamaSessionCache.Session session = cache.acquire("A1B2C");
+
+        // then
+        assertThat(first.isReused()).isFalse();
+        assertThat(second.isReused()).isTrue();
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(session.isReused()).isTrue();
+        assertThat(session.id()).isEqualTo(first.id());
+        assertThat(session.suffix()).isEqualTo("C");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void should_start_new_session_when_no_prefix_matches() {
+
+        // given
+        JlamaSessionCache cache = new JlamaSessionCache(10);
+        JlamaSessionCache.Session first = cache.acquire("A");
+        cache.release(first, "A1");
+
+        // when
+        JlamaSessionCache.Session session = cache.acquire("A1");
+
+        // then
+        assertThat(session.isReused()).isFalse();
+        assertThat(session.id()).isNotEqualTo(first.id());
+        assertThat(session.suffix()).isEqualTo("A1");
+    }
+
+    @Test
+    void should_evict_least_recently_used_session() {
+
+        // given
+        JlamaSessionCache cache = new JlamaSessionCache(2);
+        cache.release(cache.acquire("A"), "A1");
+        cache.release(cache.acquire("B"), "B1");
+
+        // when
+        cache.release(cache.acquire("C"), "C1");
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.acquire("A1A").isReused()).isFalse();
+        assertThat(cache.acquire("B1B").isReused()).isTrue();
+        assertThat(cache.acquire("C1C").isReused()).isTrue();
+    }
+}
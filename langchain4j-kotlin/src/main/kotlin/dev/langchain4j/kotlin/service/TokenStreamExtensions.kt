@@ -1,7 +1,9 @@
 package dev.langchain4j.kotlin.service
 
+import dev.langchain4j.Experimental
 import dev.langchain4j.kotlin.model.chat.StreamingChatModelReply
 import dev.langchain4j.service.TokenStream
+import dev.langchain4j.service.output.CompletedJsonValue
 import kotlinx.coroutines.channels.BufferOverflow
 import kotlinx.coroutines.channels.awaitClose
 import kotlinx.coroutines.flow.Flow
@@ -85,3 +87,31 @@ public fun TokenStream.asReplyFlow(
         start()
         awaitClose()
     }.buffer(capacity = bufferCapacity, onBufferOverflow = onBufferOverflow)
+
+/**
+ * Converts a [TokenStream] into a [Flow] of [CompletedJsonValue]s, which emits each value of the JSON object
+ * or array generated by the AI language model (a field, an array element or the whole document)
+ * as soon as it has been completely streamed, and closes when the stream is complete or encounters an error.
+ *
+ * This makes it possible to process a long structured output while the model is still generating it.
+ * See [TokenStream.onCompletedJsonValue] for how the partial responses are parsed.
+ *
+ * @param bufferCapacity The capacity of the flow buffer, which determines how many items can
+ *                       be collected before backpressure occurs. Defaults to [DEFAULT_BUFFER_CAPACITY].
+ * @return A `Flow` emitting the completed JSON values, with their path in the document,
+ *         in the order they are completed.
+ * @since 1.17.0
+ */
+@Experimental
+@JvmOverloads
+public fun TokenStream.asCompletedJsonValueFlow(
+    bufferCapacity: Int = DEFAULT_BUFFER_CAPACITY,
+    onBufferOverflow: BufferOverflow = BufferOverflow.SUSPEND
+): Flow<CompletedJsonValue> =
+    callbackFlow {
+        onCompletedJsonValue { value -> trySend(value) }
+        onCompleteResponse { close() }
+        onError { throwable -> close(throwable) }
+        start()
+        awaitClose()
+    }.buffer(capacity = bufferCapacity, onBufferOverflow = onBufferOverflow)
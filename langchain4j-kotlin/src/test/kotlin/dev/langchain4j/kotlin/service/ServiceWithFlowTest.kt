@@ -15,9 +15,11 @@ import dev.langchain4j.model.chat.request.ChatRequest
 import dev.langchain4j.model.chat.response.ChatResponse
 import dev.langchain4j.model.chat.response.StreamingChatResponseHandler
 import dev.langchain4j.service.AiServices
+import dev.langchain4j.service.TokenStream
 import dev.langchain4j.service.UserMessage
 import dev.langchain4j.service.UserName
 import dev.langchain4j.service.V
+import dev.langchain4j.service.output.CompletedJsonValue
 import io.kotest.matchers.collections.shouldStartWith
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.catch
@@ -128,6 +130,28 @@ internal class ServiceWithFlowTest {
         assertThat(response).index(2).isInstanceOf(StreamingChatModelReply.Error::class)
     }
 
+    @Test
+    fun `Should emit completed JSON values with asCompletedJsonValueFlow`() = runTest {
+        val completeResponse = ChatResponse.builder().aiMessage(AiMessage("{\"name\": \"Klaus\"}")).build()
+
+        doAnswer {
+            val handler = it.arguments[1] as StreamingChatResponseHandler
+            handler.onPartialResponse("{\"name\": \"Kla")
+            handler.onPartialResponse("us\"}")
+            handler.onCompleteResponse(completeResponse)
+        }.whenever(model).chat(any<ChatRequest>(), any<StreamingChatResponseHandler>())
+
+        val assistant = AiServices.create(Assistant::class.java, model)
+        val result = assistant.askQuestion3(userName = "My friend", question = "How are you?")
+            .asCompletedJsonValueFlow()
+            .toList()
+
+        assertThat(result).containsExactly(
+            CompletedJsonValue("$.name", 1, "Klaus"),
+            CompletedJsonValue("$", 0, mapOf("name" to "Klaus"))
+        )
+    }
+
     @Suppress("unused")
     interface Assistant {
         @UserMessage(
@@ -145,5 +169,13 @@ internal class ServiceWithFlowTest {
             @UserName userName: String,
             @V("message") question: String,
         ): Flow<StreamingChatModelReply>
+
+        @UserMessage(
+            "Hello, I am {{ userName }}. {{ message }}."
+        )
+        fun askQuestion3(
+            @UserName userName: String,
+            @V("message") question: String,
+        ): TokenStream
     }
 }
@@ -1,22 +1,33 @@
 package dev.langchain4j.mcp;
 
 import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.internal.Utils;
 import dev.langchain4j.mcp.client.McpClient;
 import dev.langchain4j.mcp.resourcesastools.McpResourcesAsToolsPresenter;
 import dev.langchain4j.service.IllegalConfigurationException;
+import dev.langchain4j.service.tool.AiServiceTool;
 import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.service.tool.ToolProvider;
 import dev.langchain4j.service.tool.ToolProviderRequest;
 import dev.langchain4j.service.tool.ToolProviderResult;
 import dev.langchain4j.service.tool.search.ToolSearchStrategy;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -28,6 +39,7 @@ import org.slf4j.LoggerFactory;
 
 import static dev.langchain4j.agent.tool.SearchBehavior.ALWAYS_VISIBLE;
 import static dev.langchain4j.internal.Utils.copy;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.merge;
 import static java.util.Arrays.asList;
 
@@ -48,6 +60,9 @@ public class McpToolProvider implements ToolProvider {
     private final AtomicReference<BiFunction<McpClient, ToolSpecification, String>> toolNameMapper;
     private final AtomicReference<BiFunction<McpClient, ToolSpecification, ToolSpecification>> toolSpecificationMapper;
     private final Set<String> alwaysVisibleToolNames;
+    private final Executor executor;
+    private final Duration listToolsTimeout;
+    private final Map<McpClient, MappedTools> mappedTools = new ConcurrentHashMap<>();
 
     private McpToolProvider(Builder builder) {
         this.mcpClients = new CopyOnWriteArrayList<>(builder.mcpClients);
@@ -58,6 +73,8 @@ public class McpToolProvider implements ToolProvider {
         this.toolNameMapper = new AtomicReference<>(builder.toolNameMapper);
         this.toolSpecificationMapper = new AtomicReference<>(builder.toolSpecificationMapper);
         this.alwaysVisibleToolNames = copy(builder.alwaysVisibleToolNames);
+        this.executor = getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
+        this.listToolsTimeout = builder.listToolsTimeout;
     }
 
     protected McpToolProvider(
@@ -76,6 +93,8 @@ public class McpToolProvider implements ToolProvider {
         this.toolNameMapper = new AtomicReference<>(toolNameMapper);
         this.toolSpecificationMapper = new AtomicReference<>(toolSpecificationMapper);
         this.alwaysVisibleToolNames = Set.of();
+        this.executor = DefaultExecutorProvider.getDefaultExecutorService();
+        this.listToolsTimeout = null;
     }
 
     /**
@@ -95,6 +114,16 @@ public class McpToolProvider implements ToolProvider {
      */
     public void removeMcpClient(McpClient client) {
         mcpClients.remove(client);
+        mappedTools.remove(client);
+    }
+
+    /**
+     * Evicts the memoised filtered and mapped tools of all the MCP clients,
+     * forcing the next call to {@link #provideTools(ToolProviderRequest)} to recompute them.
+     * Note that this does not evict the tool list cache of the MCP clients themselves.
+     */
+    public void evictToolCache() {
+        mappedTools.clear();
     }
 
     /**
@@ -155,41 +184,41 @@ public class McpToolProvider implements ToolProvider {
     protected ToolProviderResult provideTools(
             ToolProviderRequest request, BiPredicate<McpClient, ToolSpecification> mcpToolsFilter) {
         ToolProviderResult.Builder builder = ToolProviderResult.builder();
-        for (McpClient mcpClient : mcpClients) {
+        List<McpClient> clients = List.copyOf(mcpClients);
+        if (clients.size() == 1 && listToolsTimeout == null) {
+            // nothing to wait for concurrently, so list the tools on the calling thread
             try {
-                for (ToolSpecification originalSpec : mcpClient.listTools()) {
-                    if (mcpToolsFilter.test(mcpClient, originalSpec)) {
-                        BiFunction<McpClient, ToolSpecification, String> nameMapper = toolNameMapper.get();
-                        BiFunction<McpClient, ToolSpecification, ToolSpecification> specificationMapper =
-                                toolSpecificationMapper.get();
-                        ToolSpecification newSpec;
-                        // if a tool name mapper or specification mapper is defined, apply it to get the new tool
-                        // specification
-                        if (nameMapper != null) {
-                            newSpec = originalSpec.toBuilder()
-                                    .name(nameMapper.apply(mcpClient, originalSpec))
-                                    .build();
-                        } else if (specificationMapper != null) {
-                            newSpec = specificationMapper.apply(mcpClient, originalSpec);
-                        } else {
-                            newSpec = originalSpec;
-                        }
-                        if (alwaysVisibleToolNames.contains(newSpec.name())) {
-                            newSpec = addSearchBehaviorMetadata(newSpec);
-                        }
-                        // lock down the created McpToolExecutor to the original 'real' tool name, not the mapped one
-                        ToolExecutor defaultToolExecutor = new McpToolExecutor(mcpClient, originalSpec.name());
-                        builder.add(newSpec, toolWrapper.apply(defaultToolExecutor));
-                    }
-                }
+                builder.addAll(toolsOf(clients.get(0), mcpToolsFilter));
             } catch (IllegalConfigurationException e) {
                 throw e;
             } catch (Exception e) {
-                if (failIfOneServerFails) {
-                    throw new RuntimeException("Failed to retrieve tools from MCP server", e);
-                } else {
-                    log.warn("Failed to retrieve tools from MCP server", e);
+                handleListingFailure(e);
+            }
+        } else if (!clients.isEmpty()) {
+            // list tools from all the servers concurrently, so that one slow server doesn't add up to the others
+            // FutureTask (unlike CompletableFuture) interrupts the listing thread when cancelled
+            List<FutureTask<List<AiServiceTool>>> futures = new ArrayList<>(clients.size());
+            for (McpClient mcpClient : clients) {
+                FutureTask<List<AiServiceTool>> future = new FutureTask<>(() -> toolsOf(mcpClient, mcpToolsFilter));
+                futures.add(future);
+                executor.execute(future);
+            }
+            long deadline = listToolsTimeout == null ? 0 : System.nanoTime() + listToolsTimeout.toNanos();
+            try {
+                for (int i = 0; i < clients.size(); i++) {
+                    // results are collected in the order of the clients, regardless of which server answered first
+                    try {
+                        builder.addAll(await(futures.get(i), deadline));
+                    } catch (IllegalConfigurationException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        handleListingFailure(e);
+                    }
                 }
+            } catch (RuntimeException e) {
+                // don't leave the remaining servers being listed in the background when giving up
+                futures.forEach(future -> future.cancel(true));
+                throw e;
             }
         }
         if (resourcesAsToolsPresenter != null) {
@@ -212,6 +241,84 @@ public class McpToolProvider implements ToolProvider {
         return builder.build();
     }
 
+    private List<AiServiceTool> await(Future<List<AiServiceTool>> future, long deadline)
+            throws Exception {
+        try {
+            if (listToolsTimeout == null) {
+                return future.get();
+            }
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TimeoutException("Timed out after " + listToolsTimeout + " while retrieving tools");
+        }
+    }
+
+    private void handleListingFailure(Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        if (failIfOneServerFails) {
+            throw new RuntimeException("Failed to retrieve tools from MCP server", e);
+        } else {
+            log.warn("Failed to retrieve tools from MCP server", e);
+        }
+    }
+
+    /**
+     * Returns the filtered and mapped tools of the given client.
+     * The result is memoised per client and reused as long as the client returns the same tool list instance
+     * (i.e. until its tool list cache is invalidated by a {@code notifications/tools/list_changed} notification
+     * or evicted) and the filter and mappers are unchanged.
+     */
+    private List<AiServiceTool> toolsOf(McpClient mcpClient, BiPredicate<McpClient, ToolSpecification> mcpToolsFilter) {
+        List<ToolSpecification> toolSpecifications = mcpClient.listTools();
+        BiFunction<McpClient, ToolSpecification, String> nameMapper = toolNameMapper.get();
+        BiFunction<McpClient, ToolSpecification, ToolSpecification> specificationMapper =
+                toolSpecificationMapper.get();
+
+        MappedTools cached = mappedTools.get(mcpClient);
+        if (cached != null && cached.isFor(toolSpecifications, mcpToolsFilter, nameMapper, specificationMapper)) {
+            return cached.tools;
+        }
+
+        List<AiServiceTool> tools = new ArrayList<>();
+        for (ToolSpecification originalSpec : toolSpecifications) {
+            if (mcpToolsFilter.test(mcpClient, originalSpec)) {
+                ToolSpecification newSpec;
+                // if a tool name mapper or specification mapper is defined, apply it to get the new tool
+                // specification
+                if (nameMapper != null) {
+                    newSpec = originalSpec.toBuilder()
+                            .name(nameMapper.apply(mcpClient, originalSpec))
+                            .build();
+                } else if (specificationMapper != null) {
+                    newSpec = specificationMapper.apply(mcpClient, originalSpec);
+                } else {
+                    newSpec = originalSpec;
+                }
+                if (alwaysVisibleToolNames.contains(newSpec.name())) {
+                    newSpec = addSearchBehaviorMetadata(newSpec);
+                }
+                // lock down the created McpToolExecutor to the original 'real' tool name, not the mapped one
+                ToolExecutor defaultToolExecutor = new McpToolExecutor(mcpClient, originalSpec.name());
+                tools.add(AiServiceTool.builder()
+                        .toolSpecification(newSpec)
+                        .toolExecutor(toolWrapper.apply(defaultToolExecutor))
+                        .build());
+            }
+        }
+        List<AiServiceTool> result = List.copyOf(tools);
+        if (mcpClients.contains(mcpClient)) {
+            mappedTools.put(
+                    mcpClient,
+                    new MappedTools(toolSpecifications, mcpToolsFilter, nameMapper, specificationMapper, result));
+        }
+        return result;
+    }
+
     private static ToolSpecification addSearchBehaviorMetadata(ToolSpecification toolSpecification) {
         return toolSpecification.toBuilder()
                 .metadata(merge(toolSpecification.metadata(), SEARCH_BEHAVIOR_ALWAYS_VISIBLE))
@@ -232,6 +339,8 @@ public class McpToolProvider implements ToolProvider {
         private BiFunction<McpClient, ToolSpecification, String> toolNameMapper;
         private BiFunction<McpClient, ToolSpecification, ToolSpecification> toolSpecificationMapper;
         private Set<String> alwaysVisibleToolNames;
+        private Executor executor;
+        private Duration listToolsTimeout;
 
         /**
          * The list of MCP clients to use for retrieving tools.
@@ -370,11 +479,51 @@ public class McpToolProvider implements ToolProvider {
             return alwaysVisibleToolNames(new HashSet<>(asList(alwaysVisibleToolNames)));
         }
 
+        /**
+         * The executor used to retrieve tools from multiple MCP servers concurrently.
+         * If not set, a default executor (using virtual threads when available) is used.
+         */
+        public McpToolProvider.Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * The maximum time to wait for the tools of the MCP servers, which are retrieved concurrently.
+         * It applies to a single server as well. A server that does not answer in time is treated as failed
+         * (see {@link #failIfOneServerFails(boolean)}). By default, there is no timeout other than the one
+         * configured on the MCP client itself.
+         */
+        public McpToolProvider.Builder listToolsTimeout(Duration listToolsTimeout) {
+            this.listToolsTimeout = listToolsTimeout;
+            return this;
+        }
+
         public McpToolProvider build() {
             return new McpToolProvider(this);
         }
     }
 
+    private record MappedTools(
+            List<ToolSpecification> toolSpecifications,
+            BiPredicate<McpClient, ToolSpecification> filter,
+            BiFunction<McpClient, ToolSpecification, String> nameMapper,
+            BiFunction<McpClient, ToolSpecification, ToolSpecification> specificationMapper,
+            List<AiServiceTool> tools) {
+
+        private boolean isFor(
+                List<ToolSpecification> toolSpecifications,
+                BiPredicate<McpClient, ToolSpecification> filter,
+                BiFunction<McpClient, ToolSpecification, String> nameMapper,
+                BiFunction<McpClient, ToolSpecification, ToolSpecification> specificationMapper) {
+            // identity checks on purpose: a new tool list instance means the client's cache was invalidated
+            return this.toolSpecifications == toolSpecifications
+                    && this.filter == filter
+                    && this.nameMapper == nameMapper
+                    && this.specificationMapper == specificationMapper;
+        }
+    }
+
     private static class ToolsNameFilter implements BiPredicate<McpClient, ToolSpecification> {
         private final List<String> toolNames;
 
@@ -0,0 +1,281 @@
+package dev.langchain4j.mcp.client;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.invocation.InvocationContext;
+import dev.langchain4j.service.tool.ToolExecutionResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link McpClient} that keeps a pool of connections (MCP clients, each with its own transport)
+ * to the same MCP server and spreads the load of tool executions and resource reads across them.
+ * <p>
+ * Each pooled client already pipelines its own requests by JSON-RPC id, so a single connection can have
+ * several requests in flight. The pool helps when one connection is the bottleneck,
+ * for example a single-threaded stdio server process or a single HTTP/SSE/WebSocket channel.
+ * <p>
+ * Tool executions and resource reads are dispatched to the connection with the fewest in-flight requests.
+ * Listing operations, resource subscriptions and the server instructions are served by the first (primary)
+ * connection, so that caches and {@code list_changed} notifications stay consistent.
+ * Roots are propagated to all connections.
+ */
+public class PooledMcpClient implements McpClient {
+
+    private final String key;
+    private final List<McpClient> clients;
+    private final AtomicInteger[] inFlight;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    private PooledMcpClient(Builder builder) {
+        this.key = getOrDefault(builder.key, () -> UUID.randomUUID().toString());
+        if (builder.clients != null) {
+            this.clients = List.copyOf(ensureNotEmpty(builder.clients, "clients"));
+        } else {
+            Supplier<McpClient> clientFactory = ensureNotNull(builder.clientFactory, "clientFactory");
+            int poolSize = ensureGreaterThanZero(builder.poolSize, "poolSize");
+            List<McpClient> created = new ArrayList<>(poolSize);
+            try {
+                for (int i = 0; i < poolSize; i++) {
+                    created.add(ensureNotNull(clientFactory.get(), "client"));
+                }
+            } catch (RuntimeException e) {
+                closeAll(created, e);
+                throw e;
+            }
+            this.clients = List.copyOf(created);
+        }
+        this.inFlight = new AtomicInteger[clients.size()];
+        for (int i = 0; i < inFlight.length; i++) {
+            inFlight[i] = new AtomicInteger();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the pooled clients, the first one being the primary client
+     */
+    public List<McpClient> clients() {
+        return clients;
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public @Nullable String instructions() {
+        return primary().instructions();
+    }
+
+    @Override
+    public List<ToolSpecification> listTools() {
+        return primary().listTools();
+    }
+
+    @Override
+    public List<ToolSpecification> listTools(InvocationContext invocationContext) {
+        return primary().listTools(invocationContext);
+    }
+
+    @Override
+    public ToolExecutionResult executeTool(ToolExecutionRequest executionRequest) {
+        int index = acquire();
+        try {
+            return clients.get(index).executeTool(executionRequest);
+        } finally {
+            inFlight[index].decrementAndGet();
+        }
+    }
+
+    @Override
+    public ToolExecutionResult executeTool(ToolExecutionRequest executionRequest, InvocationContext invocationContext) {
+        int index = acquire();
+        try {
+            return clients.get(index).executeTool(executionRequest, invocationContext);
+        } finally {
+            inFlight[index].decrementAndGet();
+        }
+    }
+
+    @Override
+    public List<McpResource> listResources() {
+        return primary().listResources();
+    }
+
+    @Override
+    public List<McpResource> listResources(InvocationContext invocationContext) {
+        return primary().listResources(invocationContext);
+    }
+
+    @Override
+    public List<McpResourceTemplate> listResourceTemplates() {
+        return primary().listResourceTemplates();
+    }
+
+    @Override
+    public List<McpResourceTemplate> listResourceTemplates(InvocationContext invocationContext) {
+        return primary().listResourceTemplates(invocationContext);
+    }
+
+    @Override
+    public McpReadResourceResult readResource(String uri) {
+        int index = acquire();
+        try {
+            return clients.get(index).readResource(uri);
+        } finally {
+            inFlight[index].decrementAndGet();
+        }
+    }
+
+    @Override
+    public McpReadResourceResult readResource(String uri, InvocationContext invocationContext) {
+        int index = acquire();
+        try {
+            return clients.get(index).readResource(uri, invocationContext);
+        } finally {
+            inFlight[index].decrementAndGet();
+        }
+    }
+
+    @Override
+    public void subscribeToResource(String uri) {
+        primary().subscribeToResource(uri);
+    }
+
+    @Override
+    public void unsubscribeFromResource(String uri) {
+        primary().unsubscribeFromResource(uri);
+    }
+
+    @Override
+    public List<McpPrompt> listPrompts() {
+        return primary().listPrompts();
+    }
+
+    @Override
+    public McpGetPromptResult getPrompt(String name, Map<String, Object> arguments) {
+        return primary().getPrompt(name, arguments);
+    }
+
+    @Override
+    public void checkHealth() {
+        clients.forEach(McpClient::checkHealth);
+    }
+
+    @Override
+    public void setRoots(List<McpRoot> roots) {
+        clients.forEach(client -> client.setRoots(roots));
+    }
+
+    @Override
+    public void close() throws Exception {
+        Exception failure = closeAll(clients, null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Picks the client with the fewest in-flight requests, scanning from a rotating offset
+     * so that idle clients are used in a round-robin fashion.
+     */
+    private int acquire() {
+        int size = clients.size();
+        int start = Math.floorMod(nextIndex.getAndIncrement(), size);
+        int best = start;
+        int bestLoad = inFlight[start].get();
+        for (int i = 1; i < size && bestLoad > 0; i++) {
+            int candidate = (start + i) % size;
+            int load = inFlight[candidate].get();
+            if (load < bestLoad) {
+                best = candidate;
+                bestLoad = load;
+            }
+        }
+        inFlight[best].incrementAndGet();
+        return best;
+    }
+
+    private McpClient primary() {
+        return clients.get(0);
+    }
+
+    private static @Nullable Exception closeAll(List<McpClient> clients, @Nullable Exception failure) {
+        for (McpClient client : clients) {
+            try {
+                client.close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        return failure;
+    }
+
+    public static class Builder {
+
+        private String key;
+        private List<McpClient> clients;
+        private Supplier<McpClient> clientFactory;
+        private Integer poolSize;
+
+        /**
+         * Sets a unique identifier for the pooled client. If none is provided, a UUID will be automatically generated.
+         */
+        public Builder key(String key) {
+            this.key = key;
+            return this;
+        }
+
+        /**
+         * The clients to pool. All of them must be connected to the same MCP server.
+         * The first client is the primary one. Cannot be combined with {@link #clientFactory(Supplier)}.
+         */
+        public Builder clients(List<McpClient> clients) {
+            this.clients = clients;
+            return this;
+        }
+
+        /**
+         * A factory creating a new client (with its own transport) to the MCP server.
+         * It is called {@link #poolSize(Integer)} times when the pooled client is built.
+         */
+        public Builder clientFactory(Supplier<McpClient> clientFactory) {
+            this.clientFactory = clientFactory;
+            return this;
+        }
+
+        /**
+         * The number of clients to create with the {@link #clientFactory(Supplier)}.
+         */
+        public Builder poolSize(Integer poolSize) {
+            this.poolSize = poolSize;
+            return this;
+        }
+
+        public PooledMcpClient build() {
+            if (clients != null && clientFactory != null) {
+                throw new IllegalArgumentException("It is forbidden to set both clients and a clientFactory");
+            }
+            return new PooledMcpClient(this);
+        }
+    }
+}
@@ -78,9 +78,9 @@ public class StdioMcpTransport implements McpTransport {
     @Override
     public CompletableFuture<JsonNode> initialize(McpInitializeRequest operation) {
         try {
-            String requestString = OBJECT_MAPPER.writeValueAsString(operation);
-            String initializationNotification = OBJECT_MAPPER.writeValueAsString(new McpInitializationNotification());
-            return execute(requestString, operation.getId())
+            byte[] request = OBJECT_MAPPER.writeValueAsBytes(operation);
+            byte[] initializationNotification = OBJECT_MAPPER.writeValueAsBytes(new McpInitializationNotification());
+            return execute(request, operation.getId())
                     .thenCompose(originalResponse -> execute(initializationNotification, null)
                             .thenCompose(nullNode -> CompletableFuture.completedFuture(originalResponse)));
         } catch (JsonProcessingException e) {
@@ -96,8 +96,8 @@ public class StdioMcpTransport implements McpTransport {
     @Override
     public CompletableFuture<JsonNode> executeOperationWithResponse(McpCallContext context) {
         try {
-            String requestString = OBJECT_MAPPER.writeValueAsString(context.message());
-            return execute(requestString, context.message().getId());
+            byte[] request = OBJECT_MAPPER.writeValueAsBytes(context.message());
+            return execute(request, context.message().getId());
         } catch (JsonProcessingException e) {
             return CompletableFuture.failedFuture(e);
         }
@@ -111,8 +111,8 @@ public class StdioMcpTransport implements McpTransport {
     @Override
     public void executeOperationWithoutResponse(McpCallContext context) {
         try {
-            String requestString = OBJECT_MAPPER.writeValueAsString(context.message());
-            execute(requestString, null);
+            byte[] request = OBJECT_MAPPER.writeValueAsBytes(context.message());
+            execute(request, null);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -158,7 +158,11 @@ public class StdioMcpTransport implements McpTransport {
         return new Builder();
     }
 
-    private CompletableFuture<JsonNode> execute(String request, Long id) {
+    /**
+     * Sends a message serialized to UTF-8 bytes; skipping the intermediate String avoids copying
+     * large payloads (e.g. tool arguments) through UTF-16.
+     */
+    private CompletableFuture<JsonNode> execute(byte[] request, Long id) {
         CompletableFuture<JsonNode> future = new CompletableFuture<>();
         if (id != null) {
             messageHandler.startOperation(id, future);
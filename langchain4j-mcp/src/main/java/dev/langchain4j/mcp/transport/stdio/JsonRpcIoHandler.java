@@ -1,18 +1,18 @@
 package dev.langchain4j.mcp.transport.stdio;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.mcp.client.logging.McpLoggers;
-import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +21,8 @@ public class JsonRpcIoHandler implements Runnable, Closeable {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Logger log = LoggerFactory.getLogger(JsonRpcIoHandler.class);
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(UTF_8);
 
     private final InputStream input;
     private final PrintStream out;
@@ -43,24 +45,38 @@ public class JsonRpcIoHandler implements Runnable, Closeable {
         this.input = input;
         this.logEvents = logEvents;
         this.messageHandler = messageHandler;
-        this.out = new PrintStream(output, true);
+        this.out = new PrintStream(new BufferedOutputStream(output), true, UTF_8);
         this.trafficLog = getOrDefault(logger, McpLoggers.traffic());
     }
 
     @Override
     public void run() {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (logEvents) {
-                    trafficLog.debug("< {}", line);
-                }
-                try {
-                    messageHandler.accept(OBJECT_MAPPER.readTree(line));
-                } catch (JsonProcessingException e) {
-                    log.warn("Ignoring message received because it is not valid JSON: {}", line);
+        // Messages are newline-delimited. Lines are framed on the raw bytes and parsed by Jackson
+        // straight from the buffer, without decoding each of them into an intermediate String.
+        try (InputStream in = input) {
+            byte[] chunk = new byte[BUFFER_SIZE];
+            byte[] line = new byte[BUFFER_SIZE];
+            int length = 0;
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                int start = 0;
+                for (int i = 0; i < read; i++) {
+                    if (chunk[i] == '\n') {
+                        line = append(line, length, chunk, start, i - start);
+                        length += i - start;
+                        handleLine(line, length);
+                        length = 0;
+                        start = i + 1;
+                        if (line.length > BUFFER_SIZE) {
+                            // do not hold on to the memory of an oversized message for the lifetime of the transport
+                            line = new byte[BUFFER_SIZE];
+                        }
+                    }
                 }
+                line = append(line, length, chunk, start, read - start);
+                length += read - start;
             }
+            handleLine(line, length);
         } catch (IOException e) {
             // If this handler was closed, it means the transport is shutting down,
             // so an IOException is expected, let's not spook the user.
@@ -71,6 +87,33 @@ public class JsonRpcIoHandler implements Runnable, Closeable {
         log.debug("JsonRpcIoHandler has finished reading input stream");
     }
 
+    private static byte[] append(byte[] line, int length, byte[] chunk, int offset, int count) {
+        if (length + count > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+        }
+        System.arraycopy(chunk, offset, line, length, count);
+        return line;
+    }
+
+    private void handleLine(byte[] line, int length) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length == 0) {
+            return;
+        }
+        if (logEvents) {
+            trafficLog.debug("< {}", new String(line, 0, length, UTF_8));
+        }
+        try {
+            messageHandler.accept(OBJECT_MAPPER.readTree(line, 0, length));
+        } catch (IOException e) {
+            log.warn(
+                    "Ignoring message received because it is not valid JSON: {}",
+                    new String(line, 0, length, UTF_8));
+        }
+    }
+
     public void submit(String message) throws IOException {
         if (logEvents) {
             trafficLog.debug("> {}", message);
@@ -78,6 +121,21 @@ public class JsonRpcIoHandler implements Runnable, Closeable {
         out.println(message);
     }
 
+    /**
+     * Writes an already serialized (UTF-8) message followed by a line separator.
+     * The message must not contain any line breaks.
+     */
+    public void submit(byte[] message) throws IOException {
+        if (logEvents) {
+            trafficLog.debug("> {}", new String(message, UTF_8));
+        }
+        synchronized (out) {
+            out.write(message);
+            out.write(LINE_SEPARATOR);
+            out.flush();
+        }
+    }
+
     @Override
     public void close() throws IOException {
         closed = true;
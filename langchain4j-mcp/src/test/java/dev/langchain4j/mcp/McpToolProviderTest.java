@@ -4,16 +4,23 @@ import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.invocation.InvocationContext;
 import dev.langchain4j.mcp.client.McpClient;
+import dev.langchain4j.service.tool.AiServiceTool;
 import dev.langchain4j.service.tool.ToolProviderRequest;
 import dev.langchain4j.service.tool.ToolProviderResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static dev.langchain4j.agent.tool.SearchBehavior.ALWAYS_VISIBLE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -90,6 +97,165 @@ class McpToolProviderTest {
                 );
     }
 
+    @Test
+    void should_reuse_mapped_tools_until_tool_list_changes() {
+
+        // given
+        AtomicInteger mapperCalls = new AtomicInteger();
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(mcpClient)
+                .toolNameMapper((client, spec) -> {
+                    mapperCalls.incrementAndGet();
+                    return "my_" + spec.name();
+                })
+                .build();
+
+        // when
+        ToolProviderResult first = toolProvider.provideTools(toolProviderRequest());
+        ToolProviderResult second = toolProvider.provideTools(toolProviderRequest());
+
+        // then
+        assertThat(mapperCalls).hasValue(2);
+        assertThat(second.toolExecutorByName("my_tool_1")).isSameAs(first.toolExecutorByName("my_tool_1"));
+
+        // when the client returns a new tool list (e.g. after notifications/tools/list_changed)
+        when(mcpClient.listTools()).thenReturn(List.of(ToolSpecification.builder().name("tool_3").build()));
+        ToolProviderResult third = toolProvider.provideTools(toolProviderRequest());
+
+        // then
+        assertThat(mapperCalls).hasValue(3);
+        assertThat(third.tools()).hasSize(1);
+        assertThat(third.toolSpecificationByName("my_tool_3")).isNotNull();
+    }
+
+    @Test
+    void should_recompute_mapped_tools_when_filter_changes() {
+
+        // given
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(mcpClient)
+                .build();
+        assertThat(toolProvider.provideTools(toolProviderRequest()).tools()).hasSize(2);
+
+        // when
+        toolProvider.setFilter((client, spec) -> spec.name().equals("tool_2"));
+
+        // then
+        assertThat(toolProvider.provideTools(toolProviderRequest()).tools())
+                .containsOnlyKeys(ToolSpecification.builder()
+                        .name("tool_2")
+                        .metadata(Map.of("two", 2))
+                        .build());
+    }
+
+    @Test
+    void should_list_tools_from_multiple_servers_concurrently_with_timeout() {
+
+        // given
+        McpClient slowMcpClient = mock(McpClient.class);
+        when(slowMcpClient.listTools()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of(ToolSpecification.builder().name("slow_tool").build());
+        });
+        McpClient otherMcpClient = mock(McpClient.class);
+        when(otherMcpClient.listTools())
+                .thenReturn(List.of(ToolSpecification.builder().name("tool_3").build()));
+
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(mcpClient, slowMcpClient, otherMcpClient)
+                .listToolsTimeout(Duration.ofMillis(200))
+                .build();
+
+        // when
+        long start = System.nanoTime();
+        ToolProviderResult toolProviderResult = toolProvider.provideTools(toolProviderRequest());
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        assertThat(toolProviderResult.aiServiceTools())
+                .extracting(AiServiceTool::name)
+                .containsExactly("tool_1", "tool_2", "tool_3");
+    }
+
+    @Test
+    void should_fail_on_timeout_if_configured() {
+
+        // given
+        McpClient slowMcpClient = mock(McpClient.class);
+        when(slowMcpClient.listTools()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(mcpClient, slowMcpClient)
+                .listToolsTimeout(Duration.ofMillis(200))
+                .failIfOneServerFails(true)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> toolProvider.provideTools(toolProviderRequest()))
+                .hasMessage("Failed to retrieve tools from MCP server")
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void should_apply_timeout_to_single_server() {
+
+        // given
+        McpClient slowMcpClient = mock(McpClient.class);
+        when(slowMcpClient.listTools()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of(ToolSpecification.builder().name("slow_tool").build());
+        });
+
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(slowMcpClient)
+                .listToolsTimeout(Duration.ofMillis(200))
+                .failIfOneServerFails(true)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> toolProvider.provideTools(toolProviderRequest()))
+                .hasMessage("Failed to retrieve tools from MCP server")
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void should_cancel_outstanding_listings_when_one_server_fails() throws Exception {
+
+        // given
+        CountDownLatch slowListingStarted = new CountDownLatch(1);
+        CountDownLatch slowListingInterrupted = new CountDownLatch(1);
+        McpClient failingMcpClient = mock(McpClient.class);
+        when(failingMcpClient.listTools()).thenAnswer(invocation -> {
+            slowListingStarted.await(2, TimeUnit.SECONDS);
+            throw new IllegalStateException("server down");
+        });
+        McpClient slowMcpClient = mock(McpClient.class);
+        when(slowMcpClient.listTools()).thenAnswer(invocation -> {
+            slowListingStarted.countDown();
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                slowListingInterrupted.countDown();
+                throw e;
+            }
+            return List.of();
+        });
+
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(failingMcpClient, slowMcpClient)
+                .failIfOneServerFails(true)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> toolProvider.provideTools(toolProviderRequest()))
+                .hasMessage("Failed to retrieve tools from MCP server")
+                .hasRootCauseMessage("server down");
+        assertThat(slowListingInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
     private static ToolProviderRequest toolProviderRequest() {
         return ToolProviderRequest.builder()
                 .invocationContext(InvocationContext.builder().build())
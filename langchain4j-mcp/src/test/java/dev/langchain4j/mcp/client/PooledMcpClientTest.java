@@ -0,0 +1,139 @@
+package dev.langchain4j.mcp.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.service.tool.ToolExecutionResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class PooledMcpClientTest {
+
+    private static final ToolExecutionRequest REQUEST =
+            ToolExecutionRequest.builder().name("tool").arguments("{}").build();
+
+    @Test
+    void should_spread_tool_executions_across_clients() {
+
+        // given
+        List<McpClient> clients = List.of(mockClient("a"), mockClient("b"), mockClient("c"));
+        PooledMcpClient pooledClient = PooledMcpClient.builder().clients(clients).build();
+
+        // when
+        List<Object> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            results.add(pooledClient.executeTool(REQUEST).result());
+        }
+
+        // then
+        assertThat(results).containsExactly("a", "b", "c", "a", "b", "c");
+    }
+
+    @Test
+    void should_prefer_idle_clients_over_busy_ones() throws Exception {
+
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        McpClient slow = mock(McpClient.class);
+        when(slow.executeTool(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ToolExecutionResult.builder().result("slow").resultText("slow").build();
+        });
+        PooledMcpClient pooledClient = PooledMcpClient.builder()
+                .clients(List.of(slow, mockClient("fast")))
+                .build();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ToolExecutionResult> slowResult = executor.submit(() -> pooledClient.executeTool(REQUEST));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when the slow client is busy, all the other calls go to the fast one
+            List<Object> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(pooledClient.executeTool(REQUEST).result());
+            }
+
+            // then
+            assertThat(results).containsOnly("fast");
+
+            release.countDown();
+            assertThat(slowResult.get(5, TimeUnit.SECONDS).result()).isEqualTo("slow");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_use_primary_client_for_listing_and_all_clients_for_roots() {
+
+        // given
+        McpClient primary = mockClient("a");
+        McpClient secondary = mockClient("b");
+        List<ToolSpecification> tools =
+                List.of(ToolSpecification.builder().name("tool").build());
+        when(primary.listTools()).thenReturn(tools);
+        PooledMcpClient pooledClient =
+                PooledMcpClient.builder().clients(List.of(primary, secondary)).build();
+
+        // when
+        List<ToolSpecification> listed = pooledClient.listTools();
+        pooledClient.setRoots(List.of());
+
+        // then
+        assertThat(listed).isSameAs(tools);
+        verify(secondary, never()).listTools();
+        verify(primary).setRoots(List.of());
+        verify(secondary).setRoots(List.of());
+    }
+
+    @Test
+    void should_create_clients_with_factory_and_close_all_of_them() throws Exception {
+
+        // given
+        List<McpClient> created = new ArrayList<>();
+        PooledMcpClient pooledClient = PooledMcpClient.builder()
+                .clientFactory(() -> {
+                    McpClient client = mockClient(String.valueOf(created.size()));
+                    created.add(client);
+                    return client;
+                })
+                .poolSize(3)
+                .build();
+        doThrow(new IllegalStateException("boom")).when(created.get(1)).close();
+
+        // when-then
+        assertThat(pooledClient.clients()).containsExactlyElementsOf(created);
+        assertThatThrownBy(pooledClient::close).hasMessage("boom");
+        for (McpClient client : created) {
+            verify(client, times(1)).close();
+        }
+    }
+
+    private static McpClient mockClient(String result) {
+        McpClient client = mock(McpClient.class);
+        when(client.executeTool(any()))
+                .thenReturn(ToolExecutionResult.builder()
+                        .result(result)
+                        .resultText(result)
+                        .build());
+        return client;
+    }
+}
@@ -67,6 +67,62 @@ class JsonRpcIoHandlerTest {
         assertThat(out.toString(UTF_8)).isEqualTo("{\"x\":1}" + System.lineSeparator());
     }
 
+    @Test
+    void should_read_lines_longer_than_buffer_and_crlf_terminated_lines() {
+        // given
+        String longValue = "x".repeat(20_000);
+        String input = "{\"id\":1,\"value\":\"" + longValue + "\"}\r\n\n{\"id\":2}";
+        ByteArrayInputStream in = new ByteArrayInputStream(input.getBytes(UTF_8));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<JsonNode> received = new ArrayList<>();
+
+        JsonRpcIoHandler handler = new JsonRpcIoHandler(in, out, received::add, false);
+
+        // when
+        handler.run();
+
+        // then
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).get("value").asText()).isEqualTo(longValue);
+        assertThat(received.get(1).get("id").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void should_read_lines_after_oversized_lines() {
+        // given
+        String longValue = "y".repeat(50_000);
+        String input = "{\"id\":1,\"value\":\"" + longValue + "\"}\n{\"id\":2}\n"
+                + "{\"id\":3,\"value\":\"" + longValue + "\"}\n{\"id\":4}\n";
+        ByteArrayInputStream in = new ByteArrayInputStream(input.getBytes(UTF_8));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<JsonNode> received = new ArrayList<>();
+
+        JsonRpcIoHandler handler = new JsonRpcIoHandler(in, out, received::add, false);
+
+        // when
+        handler.run();
+
+        // then
+        assertThat(received).extracting(node -> node.get("id").asInt()).containsExactly(1, 2, 3, 4);
+        assertThat(received.get(2).get("value").asText()).isEqualTo(longValue);
+    }
+
+    @Test
+    void should_write_serialized_messages_with_line_separator_on_submit() throws Exception {
+        // given
+        ByteArrayInputStream in = new ByteArrayInputStream(new byte[0]);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonRpcIoHandler handler = new JsonRpcIoHandler(in, out, ignored -> {}, false);
+
+        // when
+        handler.submit("{\"x\":\"é\"}".getBytes(UTF_8));
+        handler.submit("{\"y\":2}".getBytes(UTF_8));
+
+        // then
+        assertThat(out.toString(UTF_8))
+                .isEqualTo("{\"x\":\"é\"}" + System.lineSeparator() + "{\"y\":2}" + System.lineSeparator());
+    }
+
     @Test
     void should_stop_reading_after_close() throws Exception {
         // given
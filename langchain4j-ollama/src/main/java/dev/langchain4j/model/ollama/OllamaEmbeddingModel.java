@@ -1,7 +1,10 @@
 package dev.langchain4j.model.ollama;
 
+import static dev.langchain4j.internal.BatchUtils.mapConcurrently;
+import static dev.langchain4j.internal.BatchUtils.partition;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZeroIfNotNull;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
@@ -10,12 +13,15 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.ollama.spi.OllamaEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -28,6 +34,9 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final String modelName;
     private final Integer maxRetries;
     private final Integer dimensions;
+    private final Integer maxSegmentsPerBatch;
+    private final int maxConcurrentRequests;
+    private final Executor executor;
 
     public OllamaEmbeddingModel(OllamaEmbeddingModelBuilder builder) {
         this.client = OllamaClient.builder()
@@ -41,6 +50,10 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.modelName = ensureNotBlank(builder.modelName, "modelName");
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
         this.dimensions = ensureGreaterThanZeroIfNotNull(builder.dimensions, "dimensions");
+        this.maxSegmentsPerBatch = ensureGreaterThanZeroIfNotNull(builder.maxSegmentsPerBatch, "maxSegmentsPerBatch");
+        this.maxConcurrentRequests =
+                ensureGreaterThanZero(getOrDefault(builder.maxConcurrentRequests, 1), "maxConcurrentRequests");
+        this.executor = getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
     }
 
     public static OllamaEmbeddingModelBuilder builder() {
@@ -54,16 +67,28 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
         List<String> input = textSegments.stream().map(TextSegment::text).collect(Collectors.toList());
 
+        if (maxSegmentsPerBatch == null || input.size() <= maxSegmentsPerBatch) {
+            return Response.from(embedTexts(input));
+        }
+
+        List<List<String>> batches = partition(input, maxSegmentsPerBatch);
+        List<List<Embedding>> batchEmbeddings = maxConcurrentRequests == 1
+                ? batches.stream().map(this::embedTexts).toList()
+                : mapConcurrently(batches, this::embedTexts, maxConcurrentRequests, executor);
+
+        List<Embedding> embeddings = new ArrayList<>(input.size());
+        batchEmbeddings.forEach(embeddings::addAll);
+        return Response.from(embeddings);
+    }
+
+    private List<Embedding> embedTexts(List<String> input) {
         EmbeddingRequest request = EmbeddingRequest.builder()
                 .model(modelName)
                 .input(input)
                 .dimensions(dimensions)
                 .build();
         EmbeddingResponse response = withRetryMappingExceptions(() -> client.embed(request), maxRetries);
-        List<Embedding> embeddings =
-                response.getEmbeddings().stream().map(Embedding::from).collect(Collectors.toList());
-
-        return Response.from(embeddings);
+        return response.getEmbeddings().stream().map(Embedding::from).collect(Collectors.toList());
     }
 
     @Override
@@ -87,6 +112,9 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Boolean logResponses;
         private Supplier<Map<String, String>> customHeadersSupplier;
         private Integer dimensions;
+        private Integer maxSegmentsPerBatch;
+        private Integer maxConcurrentRequests;
+        private Executor executor;
 
         public OllamaEmbeddingModelBuilder() {
             // This is public so it can be extended
@@ -165,6 +193,40 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * Sets the maximum number of segments sent to Ollama in a single {@code /api/embed} request.
+         * Larger inputs are split into several batches.
+         * <p>
+         * By default, all segments are sent in a single request.
+         */
+        public OllamaEmbeddingModelBuilder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches (see {@link #maxSegmentsPerBatch(Integer)}) sent to Ollama concurrently.
+         * To benefit from it, Ollama should be configured to process requests in parallel
+         * (see {@code OLLAMA_NUM_PARALLEL}).
+         * <p>
+         * Default value: 1 (batches are sent one after another, on the calling thread).
+         */
+        public OllamaEmbeddingModelBuilder maxConcurrentRequests(Integer maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} used to send batches concurrently
+         * when {@link #maxConcurrentRequests(Integer)} is greater than 1.
+         * <p>
+         * By default, the default executor of LangChain4j is used.
+         */
+        public OllamaEmbeddingModelBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public OllamaEmbeddingModel build() {
             return new OllamaEmbeddingModel(this);
         }
@@ -0,0 +1,138 @@
+package dev.langchain4j.model.ollama;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OllamaEmbeddingModelBatchingTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private MockWebServer mockWebServer;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new EmbeddingDispatcher());
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void should_send_all_segments_in_single_request_by_default() {
+
+        // given
+        OllamaEmbeddingModel model = OllamaEmbeddingModel.builder()
+                .baseUrl(mockWebServer.url("/").toString())
+                .modelName("all-minilm")
+                .build();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments(10));
+
+        // then
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0])
+                .containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(i -> (float) i).toList());
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_split_segments_into_batches_and_preserve_order() {
+
+        // given
+        OllamaEmbeddingModel model = OllamaEmbeddingModel.builder()
+                .baseUrl(mockWebServer.url("/").toString())
+                .modelName("all-minilm")
+                .maxSegmentsPerBatch(3)
+                .maxConcurrentRequests(4)
+                .build();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments(20));
+
+        // then
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0])
+                .containsExactlyElementsOf(IntStream.range(0, 20).mapToObj(i -> (float) i).toList());
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(7);
+        assertThat(maxInFlight.get()).isBetween(2, 4);
+    }
+
+    @Test
+    void should_propagate_failure_of_any_batch() {
+
+        // given
+        OllamaEmbeddingModel model = OllamaEmbeddingModel.builder()
+                .baseUrl(mockWebServer.url("/").toString())
+                .modelName("all-minilm")
+                .maxSegmentsPerBatch(2)
+                .maxConcurrentRequests(2)
+                .maxRetries(0)
+                .build();
+        List<TextSegment> segments = new ArrayList<>(segments(6));
+        segments.set(3, TextSegment.from("fail"));
+
+        // when-then
+        assertThatThrownBy(() -> model.embedAll(segments)).isInstanceOf(RuntimeException.class);
+    }
+
+    private static List<TextSegment> segments(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> TextSegment.from(String.valueOf(i)))
+                .toList();
+    }
+
+    /**
+     * Returns, for each input, a one-dimensional embedding holding the input parsed as a number.
+     */
+    private class EmbeddingDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                JsonNode body = OBJECT_MAPPER.readTree(request.getBody().readUtf8());
+                ObjectNode response = OBJECT_MAPPER.createObjectNode().put("model", "all-minilm");
+                ArrayNode embeddings = response.putArray("embeddings");
+                for (JsonNode input : body.get("input")) {
+                    if (input.asText().equals("fail")) {
+                        return new MockResponse().setResponseCode(500).setBody("{\"error\":\"failure\"}");
+                    }
+                    embeddings.addArray().add(Float.parseFloat(input.asText()));
+                }
+                Thread.sleep(20);
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody(response.toString());
+            } catch (Exception e) {
+                return new MockResponse().setResponseCode(400);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package dev.langchain4j.model.openai;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.aiMessageFrom;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.finishReasonFrom;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.logProbsFrom;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.toOpenAiChatRequest;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.tokenUsageFrom;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.validate;
+import static java.time.Duration.ofSeconds;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.exception.InternalServerException;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.model.batch.BatchItemResult;
+import dev.langchain4j.model.batch.BatchPage;
+import dev.langchain4j.model.batch.BatchPagination;
+import dev.langchain4j.model.batch.BatchRequest;
+import dev.langchain4j.model.batch.BatchResponse;
+import dev.langchain4j.model.batch.BatchState;
+import dev.langchain4j.model.chat.BatchChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.request.DefaultChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.openai.internal.OpenAiClient;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Batch chat model for OpenAI, processing the chat requests asynchronously through the
+ * <a href="https://platform.openai.com/docs/guides/batch">Batch API</a>
+ * at a reduced cost and within the {@code completionWindow} (24 hours by default).
+ * <p>
+ * The requests are serialized into the JSONL input file of the batch while it is being uploaded,
+ * and the output file is downloaded before its results are parsed one line at a time.
+ * Use {@link #retrieveResults(String, BiConsumer)} to also avoid collecting all the results of a large batch.
+ * <p>
+ * The input, output and error files of a batch are kept, so that its results can be retrieved again,
+ * and must be deleted with {@link #deleteFiles(String)} once they are no longer needed.
+ *
+ * @since 1.17.0
+ */
+@Experimental
+public class OpenAiBatchChatModel implements BatchChatModel {
+
+    static final String ENDPOINT = "/v1/chat/completions";
+
+    private final OpenAiChatRequestParameters defaultRequestParameters;
+    private final boolean strictJsonSchema;
+    private final boolean strictTools;
+    private final OpenAiBatchProcessor<ChatRequest, ChatResponse, ChatCompletionResponse> batchProcessor;
+
+    public OpenAiBatchChatModel(OpenAiBatchChatModelBuilder builder) {
+
+        OpenAiClient client = OpenAiClient.builder()
+                .httpClientBuilder(builder.httpClientBuilder)
+                .baseUrl(getOrDefault(builder.baseUrl, DEFAULT_OPENAI_URL))
+                .apiKey(builder.apiKey)
+                .organizationId(builder.organizationId)
+                .projectId(builder.projectId)
+                .connectTimeout(getOrDefault(builder.timeout, ofSeconds(15)))
+                .readTimeout(getOrDefault(builder.timeout, ofSeconds(60)))
+                .logRequests(getOrDefault(builder.logRequests, false))
+                .logResponses(getOrDefault(builder.logResponses, false))
+                .logger(builder.logger)
+                .userAgent(DEFAULT_USER_AGENT)
+                .customHeaders(builder.customHeadersSupplier)
+                .customQueryParams(builder.customQueryParams)
+                .build();
+
+        ChatRequestParameters commonParameters;
+        if (builder.defaultRequestParameters != null) {
+            validate(builder.defaultRequestParameters);
+            commonParameters = builder.defaultRequestParameters;
+        } else {
+            commonParameters = DefaultChatRequestParameters.EMPTY;
+        }
+        this.defaultRequestParameters = OpenAiChatRequestParameters.builder()
+                .overrideWith(commonParameters)
+                .modelName(getOrDefault(builder.modelName, commonParameters.modelName()))
+                .build();
+        this.strictJsonSchema = getOrDefault(builder.strictJsonSchema, false);
+        this.strictTools = getOrDefault(builder.strictTools, false);
+        this.batchProcessor = new OpenAiBatchProcessor<>(
+                client,
+                ENDPOINT,
+                getOrDefault(builder.completionWindow, "24h"),
+                getOrDefault(builder.maxRetries, 2),
+                this::toOpenAiRequest,
+                ChatCompletionResponse.class,
+                OpenAiBatchChatModel::toChatResponse);
+    }
+
+    public OpenAiChatRequestParameters defaultRequestParameters() {
+        return defaultRequestParameters;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The parameters of each request override the {@link #defaultRequestParameters()}.</p>
+     */
+    @Override
+    public BatchResponse<ChatResponse> submit(BatchRequest<ChatRequest> request) {
+        // fails fast, since the requests are only converted while the input file is being uploaded
+        request.requests().forEach(chatRequest -> validate(chatRequest.parameters()));
+        return batchProcessor.submit(request.requests());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Once the batch is terminal, the results of the requests are downloaded from its output and error files.
+     * A request without any result (e.g. because the batch expired before processing it) is reported as a failure.
+     * </p>
+     */
+    @Override
+    public BatchResponse<ChatResponse> retrieve(String batchId) {
+        return batchProcessor.retrieve(batchId);
+    }
+
+    /**
+     * Passes each result of a terminal batch to {@code resultHandler} as soon as it has been parsed,
+     * without collecting them, together with the index of the request it belongs to
+     * (or -1 for a result that does not belong to a request submitted by this model).
+     * The results are not passed in the order of the requests.
+     * Nothing is passed if the batch is still in progress.
+     *
+     * @param batchId       the batch identifier obtained from {@link #submit(BatchRequest)}
+     * @param resultHandler the handler of the results
+     * @return the current state of the batch
+     */
+    public BatchState retrieveResults(
+            String batchId, BiConsumer<Integer, BatchItemResult<ChatResponse>> resultHandler) {
+        return batchProcessor.retrieveResults(batchId, resultHandler);
+    }
+
+    /**
+     * Deletes the input, output and error files of a batch, once it is terminal.
+     * Its results cannot be retrieved anymore afterwards.
+     *
+     * @param batchId the batch identifier obtained from {@link #submit(BatchRequest)}
+     * @throws IllegalStateException if the batch is still in progress
+     */
+    public void deleteFiles(String batchId) {
+        batchProcessor.deleteFiles(batchId);
+    }
+
+    @Override
+    public void cancel(String batchId) {
+        batchProcessor.cancel(batchId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only the chat completion batches are listed, without their results:
+     * use {@link #retrieve(String)} to get the results of a batch.</p>
+     */
+    @Override
+    public BatchPage<ChatResponse> list(@Nullable BatchPagination pagination) {
+        return batchProcessor.list(pagination);
+    }
+
+    private ChatCompletionRequest toOpenAiRequest(ChatRequest chatRequest) {
+        OpenAiChatRequestParameters parameters = defaultRequestParameters.overrideWith(chatRequest.parameters());
+        return toOpenAiChatRequest(chatRequest, parameters, strictTools, strictJsonSchema)
+                .build();
+    }
+
+    private static ChatResponse toChatResponse(ChatCompletionResponse openAiResponse) {
+        if (isNullOrEmpty(openAiResponse.choices())) {
+            throw new InternalServerException("Chat completion failed: no choices returned in response");
+        }
+
+        OpenAiChatResponseMetadata responseMetadata = OpenAiChatResponseMetadata.builder()
+                .id(openAiResponse.id())
+                .modelName(openAiResponse.model())
+                .tokenUsage(tokenUsageFrom(openAiResponse.usage()))
+                .finishReason(finishReasonFrom(openAiResponse.choices().get(0).finishReason()))
+                .created(openAiResponse.created())
+                .serviceTier(openAiResponse.serviceTier())
+                .systemFingerprint(openAiResponse.systemFingerprint())
+                .logProbs(logProbsFrom(openAiResponse.choices().get(0).logprobs()))
+                .build();
+
+        return ChatResponse.builder()
+                .aiMessage(aiMessageFrom(openAiResponse))
+                .metadata(responseMetadata)
+                .build();
+    }
+
+    public static OpenAiBatchChatModelBuilder builder() {
+        return new OpenAiBatchChatModelBuilder();
+    }
+
+    public static class OpenAiBatchChatModelBuilder {
+
+        private HttpClientBuilder httpClientBuilder;
+        private String baseUrl;
+        private String apiKey;
+        private String organizationId;
+        private String projectId;
+
+        private ChatRequestParameters defaultRequestParameters;
+        private String modelName;
+        private Boolean strictJsonSchema;
+        private Boolean strictTools;
+        private String completionWindow;
+        private Duration timeout;
+        private Integer maxRetries;
+        private Boolean logRequests;
+        private Boolean logResponses;
+        private Logger logger;
+        private Supplier<Map<String, String>> customHeadersSupplier;
+        private Map<String, String> customQueryParams;
+
+        public OpenAiBatchChatModelBuilder() {
+            // This is public so it can be extended
+        }
+
+        public OpenAiBatchChatModelBuilder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
+        /**
+         * Sets default common {@link ChatRequestParameters} or OpenAI-specific {@link OpenAiChatRequestParameters}.
+         * <br>
+         * When a parameter is set via an individual builder method (e.g., {@link #modelName(String)}),
+         * its value takes precedence over the same parameter set via {@link ChatRequestParameters}.
+         */
+        public OpenAiBatchChatModelBuilder defaultRequestParameters(ChatRequestParameters parameters) {
+            this.defaultRequestParameters = parameters;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder modelName(OpenAiChatModelName modelName) {
+            this.modelName = modelName.toString();
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder organizationId(String organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder projectId(String projectId) {
+            this.projectId = projectId;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder strictJsonSchema(Boolean strictJsonSchema) {
+            this.strictJsonSchema = strictJsonSchema;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder strictTools(Boolean strictTools) {
+            this.strictTools = strictTools;
+            return this;
+        }
+
+        /**
+         * @param completionWindow the time frame within which the batch should be processed. Default: "24h"
+         */
+        public OpenAiBatchChatModelBuilder completionWindow(String completionWindow) {
+            this.completionWindow = completionWindow;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder logRequests(Boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder logResponses(Boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        /**
+         * @param logger an alternate {@link Logger} to be used instead of the default one provided by Langchain4J for logging requests and responses.
+         * @return {@code this}.
+         */
+        public OpenAiBatchChatModelBuilder logger(Logger logger) {
+            this.logger = logger;
+            return this;
+        }
+
+        /**
+         * Sets custom HTTP headers.
+         */
+        public OpenAiBatchChatModelBuilder customHeaders(Map<String, String> customHeaders) {
+            this.customHeadersSupplier = () -> customHeaders;
+            return this;
+        }
+
+        /**
+         * Sets a supplier for custom HTTP headers.
+         * The supplier is called before each request, allowing dynamic header values.
+         */
+        public OpenAiBatchChatModelBuilder customHeaders(Supplier<Map<String, String>> customHeadersSupplier) {
+            this.customHeadersSupplier = customHeadersSupplier;
+            return this;
+        }
+
+        /**
+         * Sets custom URL query parameters.
+         */
+        public OpenAiBatchChatModelBuilder customQueryParams(Map<String, String> customQueryParams) {
+            this.customQueryParams = customQueryParams;
+            return this;
+        }
+
+        public OpenAiBatchChatModel build() {
+            return new OpenAiBatchChatModel(this);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package dev.langchain4j.model.openai;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.tokenUsageFrom;
+import static java.time.Duration.ofSeconds;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.InternalServerException;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.model.batch.BatchItemResult;
+import dev.langchain4j.model.batch.BatchPage;
+import dev.langchain4j.model.batch.BatchPagination;
+import dev.langchain4j.model.batch.BatchRequest;
+import dev.langchain4j.model.batch.BatchResponse;
+import dev.langchain4j.model.batch.BatchState;
+import dev.langchain4j.model.embedding.BatchEmbeddingModel;
+import dev.langchain4j.model.openai.internal.OpenAiClient;
+import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
+import dev.langchain4j.model.openai.internal.embedding.EmbeddingResponse;
+import dev.langchain4j.model.output.Response;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Batch embedding model for OpenAI, embedding the text segments asynchronously through the
+ * <a href="https://platform.openai.com/docs/guides/batch">Batch API</a>
+ * at a reduced cost and within the {@code completionWindow} (24 hours by default).
+ * <p>
+ * Each text segment is sent as a separate request of the batch, so that each result carries its own token usage.
+ * The requests are serialized into the JSONL input file of the batch while it is being uploaded,
+ * and the output file is downloaded before its results are parsed one line at a time.
+ * Use {@link #retrieveResults(String, BiConsumer)} to also avoid collecting all the embeddings of a large batch.
+ * <p>
+ * The input, output and error files of a batch are kept, so that its results can be retrieved again,
+ * and must be deleted with {@link #deleteFiles(String)} once they are no longer needed.
+ *
+ * @since 1.17.0
+ */
+@Experimental
+public class OpenAiBatchEmbeddingModel implements BatchEmbeddingModel {
+
+    static final String ENDPOINT = "/v1/embeddings";
+
+    private final String modelName;
+    private final Integer dimensions;
+    private final String user;
+    private final String encodingFormat;
+    private final OpenAiBatchProcessor<TextSegment, Response<Embedding>, EmbeddingResponse> batchProcessor;
+
+    public OpenAiBatchEmbeddingModel(OpenAiBatchEmbeddingModelBuilder builder) {
+
+        OpenAiClient client = OpenAiClient.builder()
+                .httpClientBuilder(builder.httpClientBuilder)
+                .baseUrl(getOrDefault(builder.baseUrl, DEFAULT_OPENAI_URL))
+                .apiKey(builder.apiKey)
+                .organizationId(builder.organizationId)
+                .projectId(builder.projectId)
+                .connectTimeout(getOrDefault(builder.timeout, ofSeconds(15)))
+                .readTimeout(getOrDefault(builder.timeout, ofSeconds(60)))
+                .logRequests(getOrDefault(builder.logRequests, false))
+                .logResponses(getOrDefault(builder.logResponses, false))
+                .logger(builder.logger)
+                .userAgent(DEFAULT_USER_AGENT)
+                .customHeaders(builder.customHeadersSupplier)
+                .customQueryParams(builder.customQueryParams)
+                .build();
+        this.modelName = builder.modelName;
+        this.dimensions = builder.dimensions;
+        this.user = builder.user;
+        this.encodingFormat = builder.encodingFormat;
+        this.batchProcessor = new OpenAiBatchProcessor<>(
+                client,
+                ENDPOINT,
+                getOrDefault(builder.completionWindow, "24h"),
+                getOrDefault(builder.maxRetries, 2),
+                this::toOpenAiRequest,
+                EmbeddingResponse.class,
+                OpenAiBatchEmbeddingModel::toResponse);
+    }
+
+    public String modelName() {
+        return modelName;
+    }
+
+    @Override
+    public BatchResponse<Response<Embedding>> submit(BatchRequest<TextSegment> request) {
+        return batchProcessor.submit(request.requests());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Once the batch is terminal, the results of the requests are downloaded from its output and error files.
+     * A request without any result (e.g. because the batch expired before processing it) is reported as a failure.
+     * </p>
+     */
+    @Override
+    public BatchResponse<Response<Embedding>> retrieve(String batchId) {
+        return batchProcessor.retrieve(batchId);
+    }
+
+    /**
+     * Passes each result of a terminal batch to {@code resultHandler} as soon as it has been parsed,
+     * without collecting them, together with the index of the text segment it belongs to
+     * (or -1 for a result that does not belong to a request submitted by this model).
+     * The results are not passed in the order of the text segments.
+     * Nothing is passed if the batch is still in progress.
+     *
+     * @param batchId       the batch identifier obtained from {@link #submit(BatchRequest)}
+     * @param resultHandler the handler of the results
+     * @return the current state of the batch
+     */
+    public BatchState retrieveResults(
+            String batchId, BiConsumer<Integer, BatchItemResult<Response<Embedding>>> resultHandler) {
+        return batchProcessor.retrieveResults(batchId, resultHandler);
+    }
+
+    /**
+     * Deletes the input, output and error files of a batch, once it is terminal.
+     * Its results cannot be retrieved anymore afterwards.
+     *
+     * @param batchId the batch identifier obtained from {@link #submit(BatchRequest)}
+     * @throws IllegalStateException if the batch is still in progress
+     */
+    public void deleteFiles(String batchId) {
+        batchProcessor.deleteFiles(batchId);
+    }
+
+    @Override
+    public void cancel(String batchId) {
+        batchProcessor.cancel(batchId);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only the embedding batches are listed, without their results:
+     * use {@link #retrieve(String)} to get the results of a batch.</p>
+     */
+    @Override
+    public BatchPage<Response<Embedding>> list(@Nullable BatchPagination pagination) {
+        return batchProcessor.list(pagination);
+    }
+
+    private EmbeddingRequest toOpenAiRequest(TextSegment textSegment) {
+        return EmbeddingRequest.builder()
+                .input(List.of(textSegment.text()))
+                .model(modelName)
+                .dimensions(dimensions)
+                .user(user)
+                .encodingFormat(encodingFormat)
+                .build();
+    }
+
+    private static Response<Embedding> toResponse(EmbeddingResponse response) {
+        if (isNullOrEmpty(response.data())) {
+            throw new InternalServerException("Embedding failed: no embedding returned in response");
+        }
+        return Response.from(Embedding.from(response.data().get(0).embedding()), tokenUsageFrom(response.usage()));
+    }
+
+    public static OpenAiBatchEmbeddingModelBuilder builder() {
+        return new OpenAiBatchEmbeddingModelBuilder();
+    }
+
+    public static class OpenAiBatchEmbeddingModelBuilder {
+
+        private HttpClientBuilder httpClientBuilder;
+        private String baseUrl;
+        private String apiKey;
+        private String organizationId;
+        private String projectId;
+
+        private String modelName;
+        private Integer dimensions;
+        private String user;
+        private String encodingFormat;
+        private String completionWindow;
+        private Duration timeout;
+        private Integer maxRetries;
+        private Boolean logRequests;
+        private Boolean logResponses;
+        private Logger logger;
+        private Supplier<Map<String, String>> customHeadersSupplier;
+        private Map<String, String> customQueryParams;
+
+        public OpenAiBatchEmbeddingModelBuilder() {
+            // This is public so it can be extended
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder modelName(OpenAiEmbeddingModelName modelName) {
+            this.modelName = modelName.toString();
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder organizationId(String organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder projectId(String projectId) {
+            this.projectId = projectId;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder dimensions(Integer dimensions) {
+            this.dimensions = dimensions;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder user(String user) {
+            this.user = user;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder encodingFormat(String encodingFormat) {
+            this.encodingFormat = encodingFormat;
+            return this;
+        }
+
+        /**
+         * @param completionWindow the time frame within which the batch should be processed. Default: "24h"
+         */
+        public OpenAiBatchEmbeddingModelBuilder completionWindow(String completionWindow) {
+            this.completionWindow = completionWindow;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder logRequests(Boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder logResponses(Boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        /**
+         * @param logger an alternate {@link Logger} to be used instead of the default one provided by Langchain4J for logging requests and responses.
+         * @return {@code this}.
+         */
+        public OpenAiBatchEmbeddingModelBuilder logger(Logger logger) {
+            this.logger = logger;
+            return this;
+        }
+
+        /**
+         * Sets custom HTTP headers.
+         */
+        public OpenAiBatchEmbeddingModelBuilder customHeaders(Map<String, String> customHeaders) {
+            this.customHeadersSupplier = () -> customHeaders;
+            return this;
+        }
+
+        /**
+         * Sets a supplier for custom HTTP headers.
+         * The supplier is called before each request, allowing dynamic header values.
+         */
+        public OpenAiBatchEmbeddingModelBuilder customHeaders(Supplier<Map<String, String>> customHeadersSupplier) {
+            this.customHeadersSupplier = customHeadersSupplier;
+            return this;
+        }
+
+        /**
+         * Sets custom URL query parameters.
+         */
+        public OpenAiBatchEmbeddingModelBuilder customQueryParams(Map<String, String> customQueryParams) {
+            this.customQueryParams = customQueryParams;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModel build() {
+            return new OpenAiBatchEmbeddingModel(this);
+        }
+    }
+}
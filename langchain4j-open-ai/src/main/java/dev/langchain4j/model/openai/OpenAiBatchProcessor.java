@@ -0,0 +1,280 @@
+package dev.langchain4j.model.openai;
+
+import static dev.langchain4j.internal.ExceptionMapper.mappingException;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.exception.ModelNotFoundException;
+import dev.langchain4j.model.batch.BatchError;
+import dev.langchain4j.model.batch.BatchItemResult;
+import dev.langchain4j.model.batch.BatchPage;
+import dev.langchain4j.model.batch.BatchPagination;
+import dev.langchain4j.model.batch.BatchResponse;
+import dev.langchain4j.model.batch.BatchState;
+import dev.langchain4j.model.openai.internal.OpenAiClient;
+import dev.langchain4j.model.openai.internal.batch.BatchRequestLine;
+import dev.langchain4j.model.openai.internal.batch.BatchResultLine;
+import dev.langchain4j.model.openai.internal.batch.CreateBatchRequest;
+import dev.langchain4j.model.openai.internal.batch.OpenAiBatch;
+import dev.langchain4j.model.openai.internal.batch.OpenAiBatchList;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implements the OpenAI Batch API flow shared by the batch models: the requests are streamed into a JSONL file
+ * uploaded with the {@code batch} purpose, a batch is created on that file and, once the batch is done,
+ * its output and error files are streamed back line by line.
+ * <p>
+ * Each line is identified by the {@code request-<index>} custom id, which is used to put the results back
+ * in the order of the submitted requests.
+ * <p>
+ * The files of a batch are kept, so that its results can be retrieved again,
+ * until they are deleted with {@link #deleteFiles(String)}.
+ *
+ * @param <REQUEST>      The high-level request type (e.g., ChatRequest, TextSegment)
+ * @param <RESPONSE>     The high-level response type (e.g., ChatResponse, Response&lt;Embedding&gt;)
+ * @param <API_RESPONSE> The low-level API response type (e.g., ChatCompletionResponse, EmbeddingResponse)
+ */
+@Experimental
+final class OpenAiBatchProcessor<REQUEST, RESPONSE, API_RESPONSE> {
+
+    static final String CUSTOM_ID_PREFIX = "request-";
+
+    private final OpenAiClient client;
+    private final String endpoint;
+    private final String completionWindow;
+    private final int maxRetries;
+    private final Function<REQUEST, ?> requestMapper;
+    private final Class<API_RESPONSE> apiResponseType;
+    private final Function<API_RESPONSE, RESPONSE> responseMapper;
+
+    OpenAiBatchProcessor(
+            OpenAiClient client,
+            String endpoint,
+            String completionWindow,
+            int maxRetries,
+            Function<REQUEST, ?> requestMapper,
+            Class<API_RESPONSE> apiResponseType,
+            Function<API_RESPONSE, RESPONSE> responseMapper) {
+        this.client = client;
+        this.endpoint = endpoint;
+        this.completionWindow = completionWindow;
+        this.maxRetries = maxRetries;
+        this.requestMapper = requestMapper;
+        this.apiResponseType = apiResponseType;
+        this.responseMapper = responseMapper;
+    }
+
+    /**
+     * Uploads the requests and creates a batch processing them.
+     * The requests are converted into their API representation only while the input file is being uploaded.
+     */
+    BatchResponse<RESPONSE> submit(List<REQUEST> requests) {
+        ensureNotEmpty(requests, "requests");
+
+        Iterable<BatchRequestLine<?>> lines = () -> IntStream.range(0, requests.size())
+                .<BatchRequestLine<?>>mapToObj(i -> new BatchRequestLine<>(
+                        CUSTOM_ID_PREFIX + i, "POST", endpoint, requestMapper.apply(requests.get(i))))
+                .iterator();
+        String fileName = "batch-" + UUID.randomUUID() + ".jsonl";
+        OpenAiFile file = withRetryMappingExceptions(
+                () -> client.uploadJsonLinesFile("batch", fileName, lines).execute(), maxRetries);
+
+        CreateBatchRequest request = new CreateBatchRequest(file.id(), endpoint, completionWindow, null);
+        OpenAiBatch batch = withRetryMappingExceptions(() -> client.createBatch(request).execute(), maxRetries);
+        return withoutResults(batch);
+    }
+
+    /**
+     * Retrieves the state of a batch and, once it is terminal, all its results in the order of the submitted requests.
+     */
+    BatchResponse<RESPONSE> retrieve(String batchId) {
+        OpenAiBatch batch = retrieveBatch(batchId);
+        BatchState state = stateOf(batch);
+        if (!state.isTerminal()) {
+            return withoutResults(batch);
+        }
+        if (batch.outputFileId() == null && batch.errorFileId() == null) {
+            return BatchResponse.<RESPONSE>builder()
+                    .batchId(batch.id())
+                    .state(state)
+                    .results(state == BatchState.FAILED ? List.of(BatchItemResult.failure(batchError(batch))) : null)
+                    .build();
+        }
+
+        int total = totalRequests(batch);
+        List<BatchItemResult<RESPONSE>> results = new ArrayList<>(Collections.nCopies(total, null));
+        List<BatchItemResult<RESPONSE>> unmatched = new ArrayList<>();
+        readResults(batch, (index, result) -> {
+            if (index >= 0 && index < total) {
+                results.set(index, result);
+            } else {
+                unmatched.add(result);
+            }
+        });
+        for (int i = 0; i < total; i++) {
+            if (results.get(i) == null) {
+                results.set(i, BatchItemResult.failure(new BatchError(0, "No result returned for this request", null)));
+            }
+        }
+        results.addAll(unmatched);
+
+        return BatchResponse.<RESPONSE>builder()
+                .batchId(batch.id())
+                .state(state)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Passes each result of a terminal batch to {@code resultHandler} as soon as it has been parsed,
+     * together with the index of the request it belongs to, or -1 if it does not come from a submitted request.
+     * The results are passed in the order they appear in the output file first, and in the error file then.
+     * Nothing is passed if the batch is not terminal yet.
+     */
+    BatchState retrieveResults(String batchId, BiConsumer<Integer, BatchItemResult<RESPONSE>> resultHandler) {
+        OpenAiBatch batch = retrieveBatch(batchId);
+        BatchState state = stateOf(batch);
+        if (state.isTerminal()) {
+            readResults(batch, resultHandler);
+        }
+        return state;
+    }
+
+    /**
+     * Deletes the input, output and error files of a terminal batch. The files that were already deleted are ignored.
+     */
+    void deleteFiles(String batchId) {
+        OpenAiBatch batch = retrieveBatch(batchId);
+        if (!stateOf(batch).isTerminal()) {
+            throw new IllegalStateException("Batch " + batchId + " is still in progress, its files cannot be deleted");
+        }
+        for (String fileId : new String[] {batch.inputFileId(), batch.outputFileId(), batch.errorFileId()}) {
+            if (fileId != null) {
+                try {
+                    withRetryMappingExceptions(() -> client.deleteFile(fileId).execute(), maxRetries);
+                } catch (ModelNotFoundException e) {
+                    // already deleted
+                }
+            }
+        }
+    }
+
+    void cancel(String batchId) {
+        ensureNotBlank(batchId, "batchId");
+        withRetryMappingExceptions(() -> client.cancelBatch(batchId).execute(), maxRetries);
+    }
+
+    /**
+     * Lists the batches sent to the endpoint of this processor, without their results.
+     */
+    BatchPage<RESPONSE> list(@Nullable BatchPagination pagination) {
+        Integer pageSize = pagination != null ? pagination.pageSize() : null;
+        String pageToken = pagination != null ? pagination.pageToken() : null;
+        OpenAiBatchList batchList =
+                withRetryMappingExceptions(() -> client.listBatches(pageSize, pageToken).execute(), maxRetries);
+
+        List<BatchResponse<RESPONSE>> batches = batchList.data() == null
+                ? List.of()
+                : batchList.data().stream()
+                        .filter(batch -> endpoint.equals(batch.endpoint()))
+                        .map(this::withoutResults)
+                        .toList();
+        return new BatchPage<>(batches, Boolean.TRUE.equals(batchList.hasMore()) ? batchList.lastId() : null);
+    }
+
+    private OpenAiBatch retrieveBatch(String batchId) {
+        ensureNotBlank(batchId, "batchId");
+        return withRetryMappingExceptions(() -> client.retrieveBatch(batchId).execute(), maxRetries);
+    }
+
+    private void readResults(OpenAiBatch batch, BiConsumer<Integer, BatchItemResult<RESPONSE>> resultHandler) {
+        for (String fileId : new String[] {batch.outputFileId(), batch.errorFileId()}) {
+            if (fileId != null) {
+                // not retried, since the lines already passed to the handler would be passed again
+                mappingException(() -> {
+                    client.readBatchResults(
+                            fileId, apiResponseType, line -> resultHandler.accept(indexOf(line), toResult(line)));
+                    return null;
+                });
+            }
+        }
+    }
+
+    private BatchItemResult<RESPONSE> toResult(BatchResultLine<API_RESPONSE> line) {
+        int code = line.statusCode() != null ? line.statusCode() : 0;
+        if (!line.isSuccess()) {
+            List<Map<String, Object>> details =
+                    line.errorCode() != null ? List.of(Map.of("code", line.errorCode())) : null;
+            return BatchItemResult.failure(new BatchError(code, line.errorMessage(), details));
+        }
+        try {
+            return BatchItemResult.success(responseMapper.apply(line.body()));
+        } catch (RuntimeException e) {
+            return BatchItemResult.failure(new BatchError(code, e.getMessage(), null));
+        }
+    }
+
+    private static int indexOf(BatchResultLine<?> line) {
+        String customId = line.customId();
+        if (customId == null || !customId.startsWith(CUSTOM_ID_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(customId.substring(CUSTOM_ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int totalRequests(OpenAiBatch batch) {
+        return batch.requestCounts() != null && batch.requestCounts().total() != null
+                ? batch.requestCounts().total()
+                : 0;
+    }
+
+    private BatchResponse<RESPONSE> withoutResults(OpenAiBatch batch) {
+        return BatchResponse.<RESPONSE>builder()
+                .batchId(batch.id())
+                .state(stateOf(batch))
+                .build();
+    }
+
+    private static BatchError batchError(OpenAiBatch batch) {
+        if (batch.errors() == null || batch.errors().data() == null || batch.errors().data().isEmpty()) {
+            return new BatchError(0, "Batch " + batch.id() + " failed", null);
+        }
+        OpenAiBatch.Error error = batch.errors().data().get(0);
+        List<Map<String, Object>> details = batch.errors().data().stream()
+                .map(e -> Map.<String, Object>of(
+                        "code", String.valueOf(e.code()),
+                        "line", e.line() != null ? e.line() : -1))
+                .toList();
+        return new BatchError(0, error.message(), details);
+    }
+
+    static BatchState stateOf(OpenAiBatch batch) {
+        if (batch.status() == null) {
+            return BatchState.UNSPECIFIED;
+        }
+        return switch (batch.status()) {
+            case "validating" -> BatchState.PENDING;
+            case "in_progress", "finalizing", "cancelling" -> BatchState.RUNNING;
+            case "completed" -> BatchState.SUCCEEDED;
+            case "failed" -> BatchState.FAILED;
+            case "expired" -> BatchState.EXPIRED;
+            case "cancelled" -> BatchState.CANCELLED;
+            default -> BatchState.UNSPECIFIED;
+        };
+    }
+}
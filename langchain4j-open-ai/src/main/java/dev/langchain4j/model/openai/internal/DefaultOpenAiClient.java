@@ -1,12 +1,17 @@
 package dev.langchain4j.model.openai.internal;
 
+import static dev.langchain4j.http.client.HttpMethod.DELETE;
 import static dev.langchain4j.http.client.HttpMethod.GET;
 import static dev.langchain4j.http.client.HttpMethod.POST;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.model.openai.internal.Json.OBJECT_MAPPER;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.Duration.ofSeconds;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.http.client.HttpClientBuilderLoader;
@@ -15,6 +20,12 @@ import dev.langchain4j.http.client.log.LoggingHttpClient;
 import dev.langchain4j.model.openai.internal.audio.transcription.AudioFile;
 import dev.langchain4j.model.openai.internal.audio.transcription.OpenAiAudioTranscriptionRequest;
 import dev.langchain4j.model.openai.internal.audio.transcription.OpenAiAudioTranscriptionResponse;
+import dev.langchain4j.model.openai.internal.batch.BatchResultLine;
+import dev.langchain4j.model.openai.internal.batch.CreateBatchRequest;
+import dev.langchain4j.model.openai.internal.batch.OpenAiBatch;
+import dev.langchain4j.model.openai.internal.batch.OpenAiBatchList;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFile;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFileDeletion;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
 import dev.langchain4j.model.openai.internal.completion.CompletionRequest;
@@ -28,12 +39,19 @@ import dev.langchain4j.model.openai.internal.image.ImageFile;
 import dev.langchain4j.model.openai.internal.models.ModelsListResponse;
 import dev.langchain4j.model.openai.internal.moderation.ModerationRequest;
 import dev.langchain4j.model.openai.internal.moderation.ModerationResponse;
+import java.io.ByteArrayInputStream;
+import java.io.SequenceInputStream;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public class DefaultOpenAiClient extends OpenAiClient {
 
+    private static final String MULTIPART_BOUNDARY = "----LangChain4j";
+
     private final HttpClient httpClient;
     private final String baseUrl;
     private final Map<String, String> defaultHeaders;
@@ -288,4 +306,144 @@ public class DefaultOpenAiClient extends OpenAiClient {
 
         return new RequestExecutor<>(httpClient, httpRequest, ModelsListResponse.class);
     }
+
+    @Override
+    public SyncOrAsync<OpenAiFile> uploadJsonLinesFile(String purpose, String fileName, Iterable<?> lines) {
+        byte[] head = ("--" + MULTIPART_BOUNDARY + "\r\n"
+                        + "Content-Disposition: form-data; name=\"purpose\"\r\n\r\n"
+                        + purpose + "\r\n"
+                        + "--" + MULTIPART_BOUNDARY + "\r\n"
+                        + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                        + "Content-Type: application/jsonl\r\n\r\n")
+                .getBytes(UTF_8);
+        byte[] tail = ("\r\n--" + MULTIPART_BOUNDARY + "--\r\n").getBytes(UTF_8);
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, "files")
+                .addQueryParams(customQueryParams)
+                .addHeader("Content-Type", "multipart/form-data; boundary=" + MULTIPART_BOUNDARY)
+                .addHeaders(buildRequestHeaders())
+                .bodyStream(() -> new SequenceInputStream(Collections.enumeration(List.of(
+                        new ByteArrayInputStream(head),
+                        new JsonLinesInputStream(lines.iterator()),
+                        new ByteArrayInputStream(tail)))))
+                .build();
+
+        return new RequestExecutor<>(httpClient, httpRequest, OpenAiFile.class);
+    }
+
+    @Override
+    public SyncOrAsync<OpenAiFileDeletion> deleteFile(String fileId) {
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(DELETE)
+                .url(baseUrl, "files/" + fileId)
+                .addQueryParams(customQueryParams)
+                .addHeaders(buildRequestHeaders())
+                .build();
+
+        return new RequestExecutor<>(httpClient, httpRequest, OpenAiFileDeletion.class);
+    }
+
+    @Override
+    public SyncOrAsync<OpenAiBatch> createBatch(CreateBatchRequest request) {
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, "batches")
+                .addQueryParams(customQueryParams)
+                .addHeader("Content-Type", "application/json")
+                .addHeaders(buildRequestHeaders())
+                .body(Json.toJson(request))
+                .build();
+
+        return new RequestExecutor<>(httpClient, httpRequest, OpenAiBatch.class);
+    }
+
+    @Override
+    public SyncOrAsync<OpenAiBatch> retrieveBatch(String batchId) {
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(GET)
+                .url(baseUrl, "batches/" + batchId)
+                .addQueryParams(customQueryParams)
+                .addHeaders(buildRequestHeaders())
+                .build();
+
+        return new RequestExecutor<>(httpClient, httpRequest, OpenAiBatch.class);
+    }
+
+    @Override
+    public SyncOrAsync<OpenAiBatch> cancelBatch(String batchId) {
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, "batches/" + batchId + "/cancel")
+                .addQueryParams(customQueryParams)
+                .addHeaders(buildRequestHeaders())
+                .build();
+
+        return new RequestExecutor<>(httpClient, httpRequest, OpenAiBatch.class);
+    }
+
+    @Override
+    public SyncOrAsync<OpenAiBatchList> listBatches(Integer limit, String after) {
+        HttpRequest.Builder httpRequestBuilder = HttpRequest.builder()
+                .method(GET)
+                .url(baseUrl, "batches")
+                .addQueryParams(customQueryParams)
+                .addHeaders(buildRequestHeaders());
+
+        if (limit != null) {
+            httpRequestBuilder.addQueryParam("limit", Integer.toString(limit));
+        }
+
+        if (after != null) {
+            httpRequestBuilder.addQueryParam("after", after);
+        }
+
+        return new RequestExecutor<>(httpClient, httpRequestBuilder.build(), OpenAiBatchList.class);
+    }
+
+    @Override
+    public <T> void readBatchResults(String fileId, Class<T> bodyType, Consumer<BatchResultLine<T>> resultHandler) {
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(GET)
+                .url(baseUrl, "files/" + fileId + "/content")
+                .addQueryParams(customQueryParams)
+                .addHeaders(buildRequestHeaders())
+                .build();
+
+        // downloaded as a whole, so that waiting for the file is bounded by the timeouts of the HTTP client
+        String content = httpClient.execute(httpRequest).body();
+        content.lines()
+                .filter(line -> !line.isBlank())
+                .forEach(line -> resultHandler.accept(batchResultLine(line, bodyType)));
+    }
+
+    static <T> BatchResultLine<T> batchResultLine(String json, Class<T> bodyType) {
+        try {
+            JsonNode line = OBJECT_MAPPER.readTree(json);
+            String customId = line.path("custom_id").asText(null);
+            JsonNode response = line.path("response");
+            Integer statusCode = response.hasNonNull("status_code")
+                    ? response.get("status_code").asInt()
+                    : null;
+
+            JsonNode error = line.path("error");
+            if (!error.isObject() && statusCode != null && statusCode / 100 == 2) {
+                T body = OBJECT_MAPPER.treeToValue(response.get("body"), bodyType);
+                return new BatchResultLine<>(customId, statusCode, body, null, null);
+            }
+
+            if (!error.isObject()) {
+                error = response.path("body").path("error");
+            }
+            return new BatchResultLine<>(
+                    customId,
+                    statusCode,
+                    null,
+                    error.path("code").asText(null),
+                    error.path("message").asText("Request failed with status code " + statusCode));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
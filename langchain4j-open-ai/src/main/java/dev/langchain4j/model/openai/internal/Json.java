@@ -2,6 +2,7 @@ package dev.langchain4j.model.openai.internal;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
@@ -12,6 +13,11 @@ class Json {
             .enable(INDENT_OUTPUT)
             .disable(FAIL_ON_IGNORED_PROPERTIES);
 
+    /**
+     * Writes each value on a single line, as required by the JSONL files of the Batch API.
+     */
+    static final ObjectWriter SINGLE_LINE_WRITER = OBJECT_MAPPER.writer().without(INDENT_OUTPUT);
+
     static String toJson(Object o) {
         try {
             return OBJECT_MAPPER.writeValueAsString(o);
@@ -0,0 +1,60 @@
+package dev.langchain4j.model.openai.internal;
+
+import static dev.langchain4j.model.openai.internal.Json.SINGLE_LINE_WRITER;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * An {@link InputStream} of JSON lines, serializing the next value only once the previous line has been read,
+ * so that no more than a single line is held in memory at any time.
+ */
+class JsonLinesInputStream extends InputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Iterator<?> values;
+    private byte[] line = EMPTY;
+    private int position;
+
+    JsonLinesInputStream(Iterator<?> values) {
+        this.values = values;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        return line[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        int count = Math.min(length, line.length - position);
+        System.arraycopy(line, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        while (position == line.length) {
+            if (!values.hasNext()) {
+                return false;
+            }
+            byte[] json = SINGLE_LINE_WRITER.writeValueAsBytes(values.next());
+            line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            position = 0;
+        }
+        return true;
+    }
+}
@@ -3,6 +3,12 @@ package dev.langchain4j.model.openai.internal;
 import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.openai.internal.audio.transcription.OpenAiAudioTranscriptionRequest;
 import dev.langchain4j.model.openai.internal.audio.transcription.OpenAiAudioTranscriptionResponse;
+import dev.langchain4j.model.openai.internal.batch.BatchResultLine;
+import dev.langchain4j.model.openai.internal.batch.CreateBatchRequest;
+import dev.langchain4j.model.openai.internal.batch.OpenAiBatch;
+import dev.langchain4j.model.openai.internal.batch.OpenAiBatchList;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFile;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFileDeletion;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
 import dev.langchain4j.model.openai.internal.completion.CompletionRequest;
@@ -19,6 +25,7 @@ import dev.langchain4j.model.openai.internal.spi.OpenAiClientBuilderFactory;
 import dev.langchain4j.model.openai.internal.spi.ServiceHelper;
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 
@@ -46,6 +53,65 @@ public abstract class OpenAiClient {
         throw new UnsupportedOperationException("Model listing is not supported by this client implementation");
     }
 
+    /**
+     * Uploads a JSONL file made of the given values, one per line.
+     * The values are serialized while the file is being uploaded, so the whole file is never held in memory.
+     * Since the upload may be retried, {@code lines} must be iterable more than once.
+     *
+     * @since 1.17.0
+     */
+    public SyncOrAsync<OpenAiFile> uploadJsonLinesFile(String purpose, String fileName, Iterable<?> lines) {
+        throw new UnsupportedOperationException("File upload is not supported by this client implementation");
+    }
+
+    /**
+     * @since 1.17.0
+     */
+    public SyncOrAsync<OpenAiFileDeletion> deleteFile(String fileId) {
+        throw new UnsupportedOperationException("File deletion is not supported by this client implementation");
+    }
+
+    /**
+     * @since 1.17.0
+     */
+    public SyncOrAsync<OpenAiBatch> createBatch(CreateBatchRequest request) {
+        throw new UnsupportedOperationException("Batches are not supported by this client implementation");
+    }
+
+    /**
+     * @since 1.17.0
+     */
+    public SyncOrAsync<OpenAiBatch> retrieveBatch(String batchId) {
+        throw new UnsupportedOperationException("Batches are not supported by this client implementation");
+    }
+
+    /**
+     * @since 1.17.0
+     */
+    public SyncOrAsync<OpenAiBatch> cancelBatch(String batchId) {
+        throw new UnsupportedOperationException("Batches are not supported by this client implementation");
+    }
+
+    /**
+     * @param limit the maximum number of batches to return, or {@code null} for the server default
+     * @param after the id of the batch after which to start listing, or {@code null} to start from the most recent
+     * @since 1.17.0
+     */
+    public SyncOrAsync<OpenAiBatchList> listBatches(Integer limit, String after) {
+        throw new UnsupportedOperationException("Batches are not supported by this client implementation");
+    }
+
+    /**
+     * Downloads the output or error file of a batch, then passes each of its lines to {@code resultHandler}
+     * once it has been parsed. The bodies of the successful responses are parsed into {@code bodyType}.
+     * Blocks until the whole file has been downloaded, within the timeouts of the HTTP client, and read.
+     *
+     * @since 1.17.0
+     */
+    public <T> void readBatchResults(String fileId, Class<T> bodyType, Consumer<BatchResultLine<T>> resultHandler) {
+        throw new UnsupportedOperationException("Batches are not supported by this client implementation");
+    }
+
     @SuppressWarnings("rawtypes")
     public static Builder builder() {
         for (OpenAiClientBuilderFactory factory : ServiceHelper.loadFactories(OpenAiClientBuilderFactory.class)) {
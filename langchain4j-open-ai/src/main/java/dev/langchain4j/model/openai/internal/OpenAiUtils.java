@@ -18,6 +18,7 @@ import static dev.langchain4j.model.output.FinishReason.LENGTH;
 import static dev.langchain4j.model.output.FinishReason.STOP;
 import static dev.langchain4j.model.output.FinishReason.TOOL_EXECUTION;
 import static java.lang.String.format;
+import static java.util.Collections.synchronizedMap;
 import static java.util.stream.Collectors.toList;
 
 import dev.langchain4j.Internal;
@@ -81,6 +82,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 @Internal
 public class OpenAiUtils {
@@ -88,6 +90,9 @@ public class OpenAiUtils {
     public static final String DEFAULT_OPENAI_URL = "https://api.openai.com/v1";
     public static final String DEFAULT_USER_AGENT = "langchain4j-openai";
 
+    private static final Map<ToolSpecification, Tool> TOOLS = synchronizedMap(new WeakHashMap<>());
+    private static final Map<ToolSpecification, Tool> STRICT_TOOLS = synchronizedMap(new WeakHashMap<>());
+
     public static List<Message> toOpenAiMessages(List<ChatMessage> messages) {
         return toOpenAiMessages(messages, false, null);
     }
@@ -289,9 +294,22 @@ public class OpenAiUtils {
         };
     }
 
+    /**
+     * Converts the tool specifications into tools, reusing the tools already converted for equal specifications,
+     * since the same tools are usually sent with every request.
+     * The JSON of a reused tool is serialized only once (see {@link Tool}).
+     */
     public static List<Tool> toTools(Collection<ToolSpecification> toolSpecifications, boolean strict) {
+        Map<ToolSpecification, Tool> cache = strict ? STRICT_TOOLS : TOOLS;
         return toolSpecifications.stream()
-                .map((ToolSpecification toolSpecification) -> toTool(toolSpecification, strict))
+                .map((ToolSpecification toolSpecification) -> {
+                    Tool tool = cache.get(toolSpecification);
+                    if (tool == null) {
+                        tool = toTool(toolSpecification, strict);
+                        cache.put(toolSpecification, tool);
+                    }
+                    return tool;
+                })
                 .collect(toList());
     }
 
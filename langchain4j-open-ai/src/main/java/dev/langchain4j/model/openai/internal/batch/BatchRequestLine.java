@@ -0,0 +1,74 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.langchain4j.internal.JacocoIgnoreCoverageGenerated;
+import java.util.Objects;
+
+/**
+ * A line of the JSONL input file of a batch: a request to {@code url} identified by {@code customId}.
+ */
+@JsonInclude(NON_NULL)
+public class BatchRequestLine<T> {
+
+    @JsonProperty("custom_id")
+    private final String customId;
+
+    @JsonProperty("method")
+    private final String method;
+
+    @JsonProperty("url")
+    private final String url;
+
+    @JsonProperty("body")
+    private final T body;
+
+    public BatchRequestLine(String customId, String method, String url, T body) {
+        this.customId = customId;
+        this.method = method;
+        this.url = url;
+        this.body = body;
+    }
+
+    public String customId() {
+        return customId;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public T body() {
+        return body;
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BatchRequestLine<?> that)) return false;
+        return Objects.equals(customId, that.customId)
+                && Objects.equals(method, that.method)
+                && Objects.equals(url, that.url)
+                && Objects.equals(body, that.body);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public int hashCode() {
+        return Objects.hash(customId, method, url, body);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public String toString() {
+        return "BatchRequestLine{" + "customId='" + customId + '\'' + ", method='" + method + '\'' + ", url='" + url
+                + '\'' + ", body=" + body + '}';
+    }
+}
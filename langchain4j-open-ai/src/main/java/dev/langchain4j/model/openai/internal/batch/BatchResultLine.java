@@ -0,0 +1,76 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import dev.langchain4j.internal.JacocoIgnoreCoverageGenerated;
+import java.util.Objects;
+
+/**
+ * A line of the JSONL output or error file of a batch: the result of the request identified by {@code customId}.
+ * <p>
+ * Exactly one of {@code body} (the response of a successful request) and {@code errorMessage} is set.
+ * {@code statusCode} is the HTTP status code of the response, or {@code null} if the request was never executed.
+ */
+public class BatchResultLine<T> {
+
+    private final String customId;
+    private final Integer statusCode;
+    private final T body;
+    private final String errorCode;
+    private final String errorMessage;
+
+    public BatchResultLine(String customId, Integer statusCode, T body, String errorCode, String errorMessage) {
+        this.customId = customId;
+        this.statusCode = statusCode;
+        this.body = body;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public String customId() {
+        return customId;
+    }
+
+    public Integer statusCode() {
+        return statusCode;
+    }
+
+    public T body() {
+        return body;
+    }
+
+    public String errorCode() {
+        return errorCode;
+    }
+
+    public String errorMessage() {
+        return errorMessage;
+    }
+
+    public boolean isSuccess() {
+        return body != null;
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BatchResultLine<?> that)) return false;
+        return Objects.equals(customId, that.customId)
+                && Objects.equals(statusCode, that.statusCode)
+                && Objects.equals(body, that.body)
+                && Objects.equals(errorCode, that.errorCode)
+                && Objects.equals(errorMessage, that.errorMessage);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public int hashCode() {
+        return Objects.hash(customId, statusCode, body, errorCode, errorMessage);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public String toString() {
+        return "BatchResultLine{" + "customId='" + customId + '\'' + ", statusCode=" + statusCode + ", body=" + body
+                + ", errorCode='" + errorCode + '\'' + ", errorMessage='" + errorMessage + '\'' + '}';
+    }
+}
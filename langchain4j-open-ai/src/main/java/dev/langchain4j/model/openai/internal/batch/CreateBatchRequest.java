@@ -0,0 +1,78 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.langchain4j.internal.JacocoIgnoreCoverageGenerated;
+import java.util.Map;
+import java.util.Objects;
+
+@JsonInclude(NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CreateBatchRequest {
+
+    @JsonProperty("input_file_id")
+    private String inputFileId;
+
+    @JsonProperty("endpoint")
+    private String endpoint;
+
+    @JsonProperty("completion_window")
+    private String completionWindow;
+
+    @JsonProperty("metadata")
+    private Map<String, String> metadata;
+
+    public CreateBatchRequest() {}
+
+    public CreateBatchRequest(
+            String inputFileId, String endpoint, String completionWindow, Map<String, String> metadata) {
+        this.inputFileId = inputFileId;
+        this.endpoint = endpoint;
+        this.completionWindow = completionWindow;
+        this.metadata = metadata;
+    }
+
+    public String inputFileId() {
+        return inputFileId;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public String completionWindow() {
+        return completionWindow;
+    }
+
+    public Map<String, String> metadata() {
+        return metadata;
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CreateBatchRequest)) return false;
+        CreateBatchRequest that = (CreateBatchRequest) o;
+        return Objects.equals(inputFileId, that.inputFileId)
+                && Objects.equals(endpoint, that.endpoint)
+                && Objects.equals(completionWindow, that.completionWindow)
+                && Objects.equals(metadata, that.metadata);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public int hashCode() {
+        return Objects.hash(inputFileId, endpoint, completionWindow, metadata);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public String toString() {
+        return "CreateBatchRequest{" + "inputFileId='" + inputFileId + '\'' + ", endpoint='" + endpoint + '\''
+                + ", completionWindow='" + completionWindow + '\'' + ", metadata=" + metadata + '}';
+    }
+}
@@ -0,0 +1,320 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.langchain4j.internal.JacocoIgnoreCoverageGenerated;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@JsonInclude(NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenAiBatch {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("endpoint")
+    private String endpoint;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("input_file_id")
+    private String inputFileId;
+
+    @JsonProperty("output_file_id")
+    private String outputFileId;
+
+    @JsonProperty("error_file_id")
+    private String errorFileId;
+
+    @JsonProperty("errors")
+    private Errors errors;
+
+    @JsonProperty("request_counts")
+    private RequestCounts requestCounts;
+
+    @JsonProperty("created_at")
+    private Long createdAt;
+
+    @JsonProperty("metadata")
+    private Map<String, String> metadata;
+
+    public OpenAiBatch() {}
+
+    public OpenAiBatch(
+            String id,
+            String endpoint,
+            String status,
+            String inputFileId,
+            String outputFileId,
+            String errorFileId,
+            Errors errors,
+            RequestCounts requestCounts,
+            Long createdAt,
+            Map<String, String> metadata) {
+        this.id = id;
+        this.endpoint = endpoint;
+        this.status = status;
+        this.inputFileId = inputFileId;
+        this.outputFileId = outputFileId;
+        this.errorFileId = errorFileId;
+        this.errors = errors;
+        this.requestCounts = requestCounts;
+        this.createdAt = createdAt;
+        this.metadata = metadata;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * One of {@code validating}, {@code failed}, {@code in_progress}, {@code finalizing}, {@code completed},
+     * {@code expired}, {@code cancelling} and {@code cancelled}.
+     */
+    public String status() {
+        return status;
+    }
+
+    public String inputFileId() {
+        return inputFileId;
+    }
+
+    public String outputFileId() {
+        return outputFileId;
+    }
+
+    public String errorFileId() {
+        return errorFileId;
+    }
+
+    public Errors errors() {
+        return errors;
+    }
+
+    public RequestCounts requestCounts() {
+        return requestCounts;
+    }
+
+    public Long createdAt() {
+        return createdAt;
+    }
+
+    public Map<String, String> metadata() {
+        return metadata;
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OpenAiBatch)) return false;
+        OpenAiBatch that = (OpenAiBatch) o;
+        return Objects.equals(id, that.id)
+                && Objects.equals(endpoint, that.endpoint)
+                && Objects.equals(status, that.status)
+                && Objects.equals(inputFileId, that.inputFileId)
+                && Objects.equals(outputFileId, that.outputFileId)
+                && Objects.equals(errorFileId, that.errorFileId)
+                && Objects.equals(errors, that.errors)
+                && Objects.equals(requestCounts, that.requestCounts)
+                && Objects.equals(createdAt, that.createdAt)
+                && Objects.equals(metadata, that.metadata);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public int hashCode() {
+        return Objects.hash(
+                id,
+                endpoint,
+                status,
+                inputFileId,
+                outputFileId,
+                errorFileId,
+                errors,
+                requestCounts,
+                createdAt,
+                metadata);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public String toString() {
+        return "OpenAiBatch{" + "id='" + id + '\'' + ", endpoint='" + endpoint + '\'' + ", status='" + status + '\''
+                + ", inputFileId='" + inputFileId + '\'' + ", outputFileId='" + outputFileId + '\''
+                + ", errorFileId='" + errorFileId + '\'' + ", errors=" + errors + ", requestCounts=" + requestCounts
+                + ", createdAt=" + createdAt + ", metadata=" + metadata + '}';
+    }
+
+    @JsonInclude(NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RequestCounts {
+
+        @JsonProperty("total")
+        private Integer total;
+
+        @JsonProperty("completed")
+        private Integer completed;
+
+        @JsonProperty("failed")
+        private Integer failed;
+
+        public RequestCounts() {}
+
+        public RequestCounts(Integer total, Integer completed, Integer failed) {
+            this.total = total;
+            this.completed = completed;
+            this.failed = failed;
+        }
+
+        public Integer total() {
+            return total;
+        }
+
+        public Integer completed() {
+            return completed;
+        }
+
+        public Integer failed() {
+            return failed;
+        }
+
+        @Override
+        @JacocoIgnoreCoverageGenerated
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RequestCounts)) return false;
+            RequestCounts that = (RequestCounts) o;
+            return Objects.equals(total, that.total)
+                    && Objects.equals(completed, that.completed)
+                    && Objects.equals(failed, that.failed);
+        }
+
+        @Override
+        @JacocoIgnoreCoverageGenerated
+        public int hashCode() {
+            return Objects.hash(total, completed, failed);
+        }
+
+        @Override
+        @JacocoIgnoreCoverageGenerated
+        public String toString() {
+            return "RequestCounts{" + "total=" + total + ", completed=" + completed + ", failed=" + failed + '}';
+        }
+    }
+
+    @JsonInclude(NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Errors {
+
+        @JsonProperty("data")
+        private List<Error> data;
+
+        public Errors() {}
+
+        public Errors(List<Error> data) {
+            this.data = data;
+        }
+
+        public List<Error> data() {
+            return data;
+        }
+
+        @Override
+        @JacocoIgnoreCoverageGenerated
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Errors)) return false;
+            return Objects.equals(data, ((Errors) o).data);
+        }
+
+        @Override
+        @JacocoIgnoreCoverageGenerated
+        public int hashCode() {
+            return Objects.hashCode(data);
+        }
+
+        @Override
+        @JacocoIgnoreCoverageGenerated
+        public String toString() {
+            return "Errors{" + "data=" + data + '}';
+        }
+    }
+
+    @JsonInclude(NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Error {
+
+        @JsonProperty("code")
+        private String code;
+
+        @JsonProperty("message")
+        private String message;
+
+        @JsonProperty("param")
+        private String param;
+
+        @JsonProperty("line")
+        private Integer line;
+
+        public Error() {}
+
+        public Error(String code, String message, String param, Integer line) {
+            this.code = code;
+            this.message = message;
+            this.param = param;
+            this.line = line;
+        }
+
+        public String code() {
+            return code;
+        }
+
+        public String message() {
+            return message;
+        }
+
+        public String param() {
+            return param;
+        }
+
+        public Integer line() {
+            return line;
+        }
+
+        @Override
+        @JacocoIgnoreCoverageGenerated
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Error)) return false;
+            Error that = (Error) o;
+            return Objects.equals(code, that.code)
+                    && Objects.equals(message, that.message)
+                    && Objects.equals(param, that.param)
+                    && Objects.equals(line, that.line);
+        }
+
+        @Override
+        @JacocoIgnoreCoverageGenerated
+        public int hashCode() {
+            return Objects.hash(code, message, param, line);
+        }
+
+        @Override
+        @JacocoIgnoreCoverageGenerated
+        public String toString() {
+            return "Error{" + "code='" + code + '\'' + ", message='" + message + '\'' + ", param='" + param + '\''
+                    + ", line=" + line + '}';
+        }
+    }
+}
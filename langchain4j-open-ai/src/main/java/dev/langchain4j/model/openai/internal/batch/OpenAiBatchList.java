@@ -0,0 +1,67 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.langchain4j.internal.JacocoIgnoreCoverageGenerated;
+import java.util.List;
+import java.util.Objects;
+
+@JsonInclude(NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenAiBatchList {
+
+    @JsonProperty("data")
+    private List<OpenAiBatch> data;
+
+    @JsonProperty("last_id")
+    private String lastId;
+
+    @JsonProperty("has_more")
+    private Boolean hasMore;
+
+    public OpenAiBatchList() {}
+
+    public OpenAiBatchList(List<OpenAiBatch> data, String lastId, Boolean hasMore) {
+        this.data = data;
+        this.lastId = lastId;
+        this.hasMore = hasMore;
+    }
+
+    public List<OpenAiBatch> data() {
+        return data;
+    }
+
+    public String lastId() {
+        return lastId;
+    }
+
+    public Boolean hasMore() {
+        return hasMore;
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OpenAiBatchList)) return false;
+        OpenAiBatchList that = (OpenAiBatchList) o;
+        return Objects.equals(data, that.data)
+                && Objects.equals(lastId, that.lastId)
+                && Objects.equals(hasMore, that.hasMore);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public int hashCode() {
+        return Objects.hash(data, lastId, hasMore);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public String toString() {
+        return "OpenAiBatchList{" + "data=" + data + ", lastId='" + lastId + '\'' + ", hasMore=" + hasMore + '}';
+    }
+}
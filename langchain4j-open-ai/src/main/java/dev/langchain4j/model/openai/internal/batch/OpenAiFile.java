@@ -0,0 +1,76 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.langchain4j.internal.JacocoIgnoreCoverageGenerated;
+import java.util.Objects;
+
+@JsonInclude(NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenAiFile {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("bytes")
+    private Long bytes;
+
+    @JsonProperty("filename")
+    private String filename;
+
+    @JsonProperty("purpose")
+    private String purpose;
+
+    public OpenAiFile() {}
+
+    public OpenAiFile(String id, Long bytes, String filename, String purpose) {
+        this.id = id;
+        this.bytes = bytes;
+        this.filename = filename;
+        this.purpose = purpose;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public Long bytes() {
+        return bytes;
+    }
+
+    public String filename() {
+        return filename;
+    }
+
+    public String purpose() {
+        return purpose;
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OpenAiFile)) return false;
+        OpenAiFile that = (OpenAiFile) o;
+        return Objects.equals(id, that.id)
+                && Objects.equals(bytes, that.bytes)
+                && Objects.equals(filename, that.filename)
+                && Objects.equals(purpose, that.purpose);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public int hashCode() {
+        return Objects.hash(id, bytes, filename, purpose);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public String toString() {
+        return "OpenAiFile{" + "id='" + id + '\'' + ", bytes=" + bytes + ", filename='" + filename + '\''
+                + ", purpose='" + purpose + '\'' + '}';
+    }
+}
@@ -0,0 +1,56 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.langchain4j.internal.JacocoIgnoreCoverageGenerated;
+import java.util.Objects;
+
+@JsonInclude(NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenAiFileDeletion {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("deleted")
+    private Boolean deleted;
+
+    public OpenAiFileDeletion() {}
+
+    public OpenAiFileDeletion(String id, Boolean deleted) {
+        this.id = id;
+        this.deleted = deleted;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public Boolean deleted() {
+        return deleted;
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OpenAiFileDeletion)) return false;
+        OpenAiFileDeletion that = (OpenAiFileDeletion) o;
+        return Objects.equals(id, that.id) && Objects.equals(deleted, that.deleted);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public int hashCode() {
+        return Objects.hash(id, deleted);
+    }
+
+    @Override
+    @JacocoIgnoreCoverageGenerated
+    public String toString() {
+        return "OpenAiFileDeletion{" + "id='" + id + '\'' + ", deleted=" + deleted + '}';
+    }
+}
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import dev.langchain4j.internal.JacocoIgnoreCoverageGenerated;
 import dev.langchain4j.model.openai.internal.shared.StreamOptions;
 import java.util.ArrayList;
@@ -74,6 +75,7 @@ public final class ChatCompletionRequest {
     private final Integer seed;
 
     @JsonProperty
+    @JsonSerialize(contentUsing = ToolSerializer.class)
     private final List<Tool> tools;
 
     @JsonProperty
@@ -1,5 +1,6 @@
 package dev.langchain4j.model.openai.internal.chat;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -22,6 +23,8 @@ public class Tool {
     private final ToolType type = FUNCTION;
     @JsonProperty
     private final Function function;
+    @JsonIgnore
+    private volatile String json;
 
     public Tool(Builder builder) {
         this.function = builder.function;
@@ -35,6 +38,20 @@ public class Tool {
         return this.function;
     }
 
+    /**
+     * Returns the JSON of this tool, serialized on the first call only:
+     * the tools sent with every request are cached by {@code OpenAiUtils.toTools()},
+     * so that {@link ToolSerializer} can write their JSON as is.
+     */
+    String json(ToolSerializer serializer) {
+        String json = this.json;
+        if (json == null) {
+            json = serializer.toJson(this);
+            this.json = json;
+        }
+        return json;
+    }
+
     @Override
     @JacocoIgnoreCoverageGenerated
     public boolean equals(Object another) {
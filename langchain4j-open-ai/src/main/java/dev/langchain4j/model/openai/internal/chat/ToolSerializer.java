@@ -0,0 +1,41 @@
+package dev.langchain4j.model.openai.internal.chat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes the JSON of a {@link Tool} as is, so that the (possibly hundreds of) tools sent with every request
+ * are not serialized again and again.
+ * Falls back to the regular serialization when the output is not JSON text (e.g. when converting to a tree).
+ */
+class ToolSerializer extends StdSerializer<Tool> {
+
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+
+    ToolSerializer() {
+        super(Tool.class);
+    }
+
+    @Override
+    public void serialize(Tool tool, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (generator instanceof JsonGeneratorImpl) {
+            generator.writeRawValue(tool.json(this));
+        } else {
+            provider.findValueSerializer(Tool.class).serialize(tool, generator, provider);
+        }
+    }
+
+    String toJson(Tool tool) {
+        try {
+            return WRITER.writeValueAsString(tool);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
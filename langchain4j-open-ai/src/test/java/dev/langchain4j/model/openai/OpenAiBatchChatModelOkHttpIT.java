@@ -0,0 +1,85 @@
+package dev.langchain4j.model.openai;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aMultipart;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.http.client.okhttp.OkHttpClient;
+import dev.langchain4j.model.batch.BatchRequest;
+import dev.langchain4j.model.batch.BatchResponse;
+import dev.langchain4j.model.batch.BatchState;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The OpenAI batch input file is uploaded as a streamed {@code multipart/form-data} body,
+ * whose boundary is only known from the Content-Type header of the request, which the OkHttp client must keep.
+ */
+class OpenAiBatchChatModelOkHttpIT {
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void beforeEach() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        wireMockServer.stubFor(post("/v1/files")
+                .withHeader("Content-Type", matching("multipart/form-data; boundary=.+"))
+                .withMultipartRequestBody(aMultipart().withName("purpose").withBody(equalTo("batch")))
+                .withMultipartRequestBody(aMultipart().withName("file").withBody(containing("\"request-1\"")))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":\"file-1\",\"purpose\":\"batch\"}")));
+        wireMockServer.stubFor(post("/v1/batches")
+                .withRequestBody(matchingJsonPath("$.input_file_id", equalTo("file-1")))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"id\":\"batch_1\",\"status\":\"validating\",\"input_file_id\":\"file-1\"}")));
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void should_upload_batch_input_file() {
+
+        // given
+        OpenAiBatchChatModel model = OpenAiBatchChatModel.builder()
+                .httpClientBuilder(OkHttpClient.builder())
+                .baseUrl(wireMockServer.baseUrl() + "/v1")
+                .apiKey("test")
+                .modelName("gpt-4o-mini")
+                .maxRetries(0)
+                .build();
+        List<ChatRequest> requests = List.of(
+                ChatRequest.builder().messages(UserMessage.from("one")).build(),
+                ChatRequest.builder().messages(UserMessage.from("two")).build());
+
+        // when
+        BatchResponse<ChatResponse> submitted = model.submit(new BatchRequest<>(requests));
+
+        // then
+        assertThat(submitted.batchId()).isEqualTo("batch_1");
+        assertThat(submitted.state()).isEqualTo(BatchState.PENDING);
+        wireMockServer.verify(
+                1, postRequestedFor(urlEqualTo("/v1/files")).withHeader("Transfer-Encoding", equalTo("chunked")));
+    }
+}
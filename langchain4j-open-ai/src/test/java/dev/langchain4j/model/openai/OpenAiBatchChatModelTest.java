@@ -0,0 +1,185 @@
+package dev.langchain4j.model.openai;
+
+import static dev.langchain4j.model.openai.OpenAiBatchStubServer.OBJECT_MAPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.batch.BatchItemResult;
+import dev.langchain4j.model.batch.BatchPage;
+import dev.langchain4j.model.batch.BatchPagination;
+import dev.langchain4j.model.batch.BatchRequest;
+import dev.langchain4j.model.batch.BatchResponse;
+import dev.langchain4j.model.batch.BatchState;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.FinishReason;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OpenAiBatchChatModelTest {
+
+    OpenAiBatchStubServer server;
+    OpenAiBatchChatModel model;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new OpenAiBatchStubServer(OpenAiBatchChatModelTest::echo);
+        model = OpenAiBatchChatModel.builder()
+                .baseUrl(server.baseUrl())
+                .apiKey("test")
+                .modelName("gpt-4o-mini")
+                .maxRetries(0)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Answers with the text of the last message, or fails if it asks to.
+     */
+    static JsonNode echo(JsonNode request) {
+        JsonNode messages = request.get("messages");
+        String text = messages.get(messages.size() - 1).get("content").asText();
+        if (text.startsWith("fail")) {
+            throw new IllegalArgumentException("Invalid message: " + text);
+        }
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.put("id", "chatcmpl-" + text).put("model", request.get("model").asText());
+        ObjectNode choice = response.putArray("choices").addObject();
+        choice.put("index", 0).put("finish_reason", "stop");
+        choice.putObject("message").put("role", "assistant").put("content", "echo: " + text);
+        response.putObject("usage")
+                .put("prompt_tokens", 3)
+                .put("completion_tokens", 4)
+                .put("total_tokens", 7);
+        return response;
+    }
+
+    private static ChatRequest chatRequest(String text) {
+        return ChatRequest.builder().messages(UserMessage.from(text)).build();
+    }
+
+    @Test
+    void should_submit_and_retrieve_results_in_request_order() {
+        BatchResponse<ChatResponse> submitted = model.submit(
+                new BatchRequest<>(List.of(chatRequest("one"), chatRequest("fail two"), chatRequest("three"))));
+
+        assertThat(submitted.state()).isEqualTo(BatchState.RUNNING);
+        assertThat(submitted.results()).isEmpty();
+        assertThat(model.retrieve(submitted.batchId()).state()).isEqualTo(BatchState.RUNNING);
+
+        List<JsonNode> lines = server.uploadedLines(submitted.batchId());
+        assertThat(lines).extracting(line -> line.get("custom_id").asText())
+                .containsExactly("request-0", "request-1", "request-2");
+        assertThat(lines).allSatisfy(line -> {
+            assertThat(line.get("method").asText()).isEqualTo("POST");
+            assertThat(line.get("url").asText()).isEqualTo("/v1/chat/completions");
+            assertThat(line.get("body").get("model").asText()).isEqualTo("gpt-4o-mini");
+        });
+        // the input file is streamed, instead of being fully serialized before being sent
+        assertThat(server.uploadTransferEncodings).containsExactly("chunked");
+
+        server.complete(submitted.batchId());
+        BatchResponse<ChatResponse> retrieved = model.retrieve(submitted.batchId());
+
+        assertThat(retrieved.state()).isEqualTo(BatchState.SUCCEEDED);
+        List<BatchItemResult<ChatResponse>> results = retrieved.results();
+        assertThat(results).hasSize(3);
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        ChatResponse first = results.get(0).response();
+        assertThat(first.aiMessage().text()).isEqualTo("echo: one");
+        assertThat(first.metadata().id()).isEqualTo("chatcmpl-one");
+        assertThat(first.metadata().finishReason()).isEqualTo(FinishReason.STOP);
+        assertThat(first.metadata().tokenUsage().totalTokenCount()).isEqualTo(7);
+
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).error().code()).isEqualTo(400);
+        assertThat(results.get(1).error().message()).isEqualTo("Invalid message: fail two");
+        assertThat(results.get(1).error().details()).containsExactly(Map.of("code", "invalid_value"));
+
+        assertThat(results.get(2).response().aiMessage().text()).isEqualTo("echo: three");
+    }
+
+    @Test
+    void should_delete_the_files_only_when_asked_once_the_batch_is_done() {
+        BatchResponse<ChatResponse> submitted = model.submit(new BatchRequest<>(List.of(chatRequest("one"))));
+
+        assertThatThrownBy(() -> model.deleteFiles(submitted.batchId())).isInstanceOf(IllegalStateException.class);
+
+        server.complete(submitted.batchId());
+        model.retrieve(submitted.batchId());
+        model.retrieveResults(submitted.batchId(), (index, result) -> {});
+        assertThat(server.deletedFileIds).isEmpty();
+
+        model.deleteFiles(submitted.batchId());
+        model.deleteFiles(submitted.batchId());
+
+        assertThat(server.deletedFileIds)
+                .hasSize(2)
+                .contains(server.inputFileId(submitted.batchId()));
+    }
+
+    @Test
+    void should_stream_results_with_the_index_of_their_request() {
+        List<ChatRequest> requests =
+                IntStream.range(0, 100).mapToObj(i -> chatRequest("message " + i)).toList();
+        BatchResponse<ChatResponse> submitted = model.submit(new BatchRequest<>(requests));
+
+        Map<Integer, BatchItemResult<ChatResponse>> results = new ConcurrentHashMap<>();
+        assertThat(model.retrieveResults(submitted.batchId(), results::put)).isEqualTo(BatchState.RUNNING);
+        assertThat(results).isEmpty();
+
+        server.complete(submitted.batchId());
+        assertThat(model.retrieveResults(submitted.batchId(), results::put)).isEqualTo(BatchState.SUCCEEDED);
+
+        assertThat(results).hasSize(100);
+        results.forEach((index, result) ->
+                assertThat(result.response().aiMessage().text()).isEqualTo("echo: message " + index));
+    }
+
+    @Test
+    void should_report_a_failed_batch_as_a_single_failure() {
+        BatchResponse<ChatResponse> submitted = model.submit(new BatchRequest<>(List.of(chatRequest("one"))));
+        server.fail(submitted.batchId(), "Invalid line");
+
+        BatchResponse<ChatResponse> retrieved = model.retrieve(submitted.batchId());
+
+        assertThat(retrieved.state()).isEqualTo(BatchState.FAILED);
+        assertThat(retrieved.errors()).singleElement().satisfies(error -> {
+            assertThat(error.message()).isEqualTo("Invalid line");
+            assertThat(error.details()).containsExactly(Map.of("code", "invalid_json_line", "line", 1));
+        });
+    }
+
+    @Test
+    void should_cancel_and_list_only_chat_batches() {
+        BatchResponse<ChatResponse> first = model.submit(new BatchRequest<>(List.of(chatRequest("one"))));
+        server.addBatch("/v1/embeddings");
+        BatchResponse<ChatResponse> second = model.submit(new BatchRequest<>(List.of(chatRequest("two"))));
+
+        model.cancel(second.batchId());
+
+        BatchPage<ChatResponse> firstPage = model.list(new BatchPagination(2, null));
+        assertThat(firstPage.batches()).extracting(BatchResponse::batchId).containsExactly(first.batchId());
+        assertThat(firstPage.nextPageToken()).isNotNull();
+
+        BatchPage<ChatResponse> secondPage = model.list(new BatchPagination(2, firstPage.nextPageToken()));
+        assertThat(secondPage.batches()).singleElement().satisfies(batch -> {
+            assertThat(batch.batchId()).isEqualTo(second.batchId());
+            assertThat(batch.state()).isEqualTo(BatchState.RUNNING);
+        });
+        assertThat(secondPage.nextPageToken()).isNull();
+    }
+}
@@ -0,0 +1,68 @@
+package dev.langchain4j.model.openai;
+
+import static dev.langchain4j.model.openai.OpenAiBatchStubServer.OBJECT_MAPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.batch.BatchRequest;
+import dev.langchain4j.model.batch.BatchResponse;
+import dev.langchain4j.model.batch.BatchState;
+import dev.langchain4j.model.output.Response;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OpenAiBatchEmbeddingModelTest {
+
+    /**
+     * Embeds a text into a vector made of its length and of the requested dimensions.
+     */
+    static JsonNode embed(JsonNode request) {
+        String text = request.get("input").get(0).asText();
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.put("model", request.get("model").asText());
+        response.putArray("data")
+                .addObject()
+                .put("index", 0)
+                .putArray("embedding")
+                .add(text.length())
+                .add(request.get("dimensions").asInt());
+        response.putObject("usage").put("prompt_tokens", text.length()).put("total_tokens", text.length());
+        return response;
+    }
+
+    @Test
+    void should_embed_each_text_segment_as_a_separate_request() throws Exception {
+        try (OpenAiBatchStubServer server = new OpenAiBatchStubServer(OpenAiBatchEmbeddingModelTest::embed)) {
+            OpenAiBatchEmbeddingModel model = OpenAiBatchEmbeddingModel.builder()
+                    .baseUrl(server.baseUrl())
+                    .apiKey("test")
+                    .modelName(OpenAiEmbeddingModelName.TEXT_EMBEDDING_3_SMALL)
+                    .dimensions(2)
+                    .completionWindow("24h")
+                    .maxRetries(0)
+                    .build();
+
+            BatchResponse<Response<Embedding>> submitted =
+                    model.submit(new BatchRequest<>(List.of(TextSegment.from("a"), TextSegment.from("abc"))));
+
+            assertThat(server.uploadedLines(submitted.batchId())).allSatisfy(line -> {
+                assertThat(line.get("url").asText()).isEqualTo("/v1/embeddings");
+                assertThat(line.get("body").get("model").asText()).isEqualTo("text-embedding-3-small");
+            });
+
+            server.complete(submitted.batchId());
+            BatchResponse<Response<Embedding>> retrieved = model.retrieve(submitted.batchId());
+
+            assertThat(retrieved.state()).isEqualTo(BatchState.SUCCEEDED);
+            List<Response<Embedding>> responses = retrieved.responses();
+            assertThat(responses).extracting(response -> response.content().vectorAsList())
+                    .containsExactly(List.of(1f, 2f), List.of(3f, 2f));
+            assertThat(responses)
+                    .extracting(response -> response.tokenUsage().inputTokenCount())
+                    .containsExactly(1, 3);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package dev.langchain4j.model.openai;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A local stub of the files and batches endpoints of the OpenAI API.
+ * <p>
+ * The requests of a batch are answered by the {@code responder} as soon as the batch is created,
+ * but the batch stays {@code in_progress} until {@link #complete(String)} is called.
+ * A responder throwing an {@link IllegalArgumentException} makes the request fail with a 400 status code.
+ * The output and error files list the results in the reverse order of the requests.
+ * Uploaded files are parsed with the boundary of their {@code Content-Type} header, and rejected if it does not match.
+ */
+class OpenAiBatchStubServer implements AutoCloseable {
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final Function<JsonNode, JsonNode> responder;
+    private final AtomicInteger ids = new AtomicInteger();
+
+    private final Map<String, List<String>> files = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, ObjectNode> batches = Collections.synchronizedMap(new LinkedHashMap<>());
+    final List<String> uploadTransferEncodings = Collections.synchronizedList(new ArrayList<>());
+    final List<String> deletedFileIds = Collections.synchronizedList(new ArrayList<>());
+
+    OpenAiBatchStubServer(Function<JsonNode, JsonNode> responder) throws IOException {
+        this.responder = responder;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/v1/", this::handle);
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1";
+    }
+
+    String inputFileId(String batchId) {
+        return batches.get(batchId).get("input_file_id").asText();
+    }
+
+    List<JsonNode> uploadedLines(String batchId) {
+        return files.get(inputFileId(batchId)).stream().map(OpenAiBatchStubServer::parse).toList();
+    }
+
+    void complete(String batchId) {
+        batches.get(batchId).put("status", "completed");
+    }
+
+    void fail(String batchId, String message) {
+        ObjectNode batch = batches.get(batchId);
+        batch.put("status", "failed");
+        batch.remove("output_file_id");
+        batch.remove("error_file_id");
+        batch.putObject("errors")
+                .putArray("data")
+                .addObject()
+                .put("code", "invalid_json_line")
+                .put("message", message)
+                .put("line", 1);
+    }
+
+    /**
+     * Adds a batch sent to another endpoint, that must not be listed by the models of a different endpoint.
+     */
+    void addBatch(String endpoint) {
+        ObjectNode batch = OBJECT_MAPPER.createObjectNode();
+        String id = "batch_" + ids.incrementAndGet();
+        batch.put("id", id).put("endpoint", endpoint).put("status", "completed");
+        batches.put(id, batch);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath().substring("/v1/".length());
+            String[] segments = path.split("/");
+
+            if (method.equals("POST") && path.equals("files")) {
+                uploadTransferEncodings.add(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                String body = new String(exchange.getRequestBody().readAllBytes(), UTF_8);
+                JsonNode file = upload(contentType, body);
+                respond(exchange, file == null ? 400 : 200, file == null ? error("Invalid multipart body") : file);
+            } else if (method.equals("GET") && segments.length == 3 && segments[0].equals("files")) {
+                streamFile(exchange, files.get(segments[1]));
+            } else if (method.equals("DELETE") && segments.length == 2 && segments[0].equals("files")) {
+                boolean deleted = files.containsKey(segments[1]) && !deletedFileIds.contains(segments[1]);
+                if (deleted) {
+                    deletedFileIds.add(segments[1]);
+                }
+                respond(
+                        exchange,
+                        deleted ? 200 : 404,
+                        deleted
+                                ? OBJECT_MAPPER.createObjectNode().put("id", segments[1]).put("deleted", true)
+                                : error("No such file"));
+            } else if (method.equals("POST") && path.equals("batches")) {
+                String body = new String(exchange.getRequestBody().readAllBytes(), UTF_8);
+                respond(exchange, 200, createBatch(parse(body)));
+            } else if (method.equals("GET") && path.equals("batches")) {
+                respond(exchange, 200, listBatches(exchange.getRequestURI().getQuery()));
+            } else if (method.equals("GET") && segments.length == 2 && segments[0].equals("batches")) {
+                ObjectNode batch = batches.get(segments[1]);
+                respond(exchange, batch == null ? 404 : 200, batch == null ? error("No such batch") : batch);
+            } else if (method.equals("POST") && segments.length == 3 && segments[2].equals("cancel")) {
+                ObjectNode batch = batches.get(segments[1]);
+                batch.put("status", "cancelling");
+                respond(exchange, 200, batch);
+            } else {
+                respond(exchange, 404, error("Unexpected request: " + method + " " + path));
+            }
+        }
+    }
+
+    private JsonNode upload(String contentType, String multipartBody) {
+        if (contentType == null || !contentType.startsWith("multipart/form-data; boundary=")) {
+            return null;
+        }
+        String boundary = contentType.substring("multipart/form-data; boundary=".length());
+        int start = multipartBody.indexOf("\r\n\r\n", multipartBody.indexOf("name=\"file\"")) + 4;
+        int end = multipartBody.lastIndexOf("\r\n--" + boundary + "--");
+        if (!multipartBody.startsWith("--" + boundary + "\r\n") || end < start) {
+            return null;
+        }
+        List<String> lines = multipartBody
+                .substring(start, end)
+                .lines()
+                .filter(line -> !line.isBlank())
+                .toList();
+        String id = "file-" + ids.incrementAndGet();
+        files.put(id, lines);
+        return OBJECT_MAPPER.createObjectNode().put("id", id).put("purpose", "batch");
+    }
+
+    private JsonNode createBatch(JsonNode request) {
+        List<String> inputLines = files.get(request.get("input_file_id").asText());
+        List<String> outputLines = new ArrayList<>();
+        List<String> errorLines = new ArrayList<>();
+        for (String inputLine : inputLines) {
+            JsonNode line = parse(inputLine);
+            ObjectNode result = OBJECT_MAPPER.createObjectNode();
+            result.put("id", "batch_req_" + ids.incrementAndGet());
+            result.set("custom_id", line.get("custom_id"));
+            result.putNull("error");
+            ObjectNode response = result.putObject("response");
+            try {
+                response.put("status_code", 200);
+                response.set("body", responder.apply(line.get("body")));
+                outputLines.add(0, result.toString());
+            } catch (IllegalArgumentException e) {
+                response.put("status_code", 400);
+                response.set("body", error(e.getMessage()));
+                errorLines.add(0, result.toString());
+            }
+        }
+
+        String id = "batch_" + ids.incrementAndGet();
+        ObjectNode batch = OBJECT_MAPPER.createObjectNode();
+        batch.put("id", id)
+                .put("endpoint", request.get("endpoint").asText())
+                .put("status", "in_progress")
+                .put("input_file_id", request.get("input_file_id").asText())
+                .put("completion_window", request.get("completion_window").asText());
+        batch.putObject("request_counts")
+                .put("total", inputLines.size())
+                .put("completed", outputLines.size())
+                .put("failed", errorLines.size());
+        if (!outputLines.isEmpty()) {
+            String outputFileId = "file-" + ids.incrementAndGet();
+            files.put(outputFileId, outputLines);
+            batch.put("output_file_id", outputFileId);
+        }
+        if (!errorLines.isEmpty()) {
+            String errorFileId = "file-" + ids.incrementAndGet();
+            files.put(errorFileId, errorLines);
+            batch.put("error_file_id", errorFileId);
+        }
+        batches.put(id, batch);
+        return batch;
+    }
+
+    private JsonNode listBatches(String query) {
+        int limit = Integer.MAX_VALUE;
+        String after = null;
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                String[] keyValue = parameter.split("=");
+                if (keyValue[0].equals("limit")) {
+                    limit = Integer.parseInt(keyValue[1]);
+                } else if (keyValue[0].equals("after")) {
+                    after = keyValue[1];
+                }
+            }
+        }
+
+        List<String> ids;
+        synchronized (batches) {
+            ids = new ArrayList<>(batches.keySet());
+        }
+        int from = after == null ? 0 : ids.indexOf(after) + 1;
+        int to = Math.min(ids.size(), from + limit);
+
+        ObjectNode list = OBJECT_MAPPER.createObjectNode();
+        ArrayNode data = list.putArray("data");
+        ids.subList(from, to).forEach(id -> data.add(batches.get(id)));
+        if (to > from) {
+            list.put("last_id", ids.get(to - 1));
+        }
+        list.put("has_more", to < ids.size());
+        return list;
+    }
+
+    private static void streamFile(HttpExchange exchange, List<String> lines) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream body = exchange.getResponseBody()) {
+            for (String line : lines) {
+                body.write((line + "\n").getBytes(UTF_8));
+                body.flush();
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, JsonNode json) throws IOException {
+        byte[] body = json.toString().getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static ObjectNode error(String message) {
+        ObjectNode error = OBJECT_MAPPER.createObjectNode();
+        error.putObject("error")
+                .put("message", message)
+                .put("type", "invalid_request_error")
+                .put("code", "invalid_value");
+        return error;
+    }
+
+    static JsonNode parse(String json) {
+        try {
+            return OBJECT_MAPPER.readTree(json);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
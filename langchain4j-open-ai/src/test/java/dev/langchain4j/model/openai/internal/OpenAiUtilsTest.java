@@ -371,4 +371,25 @@ class OpenAiUtilsTest {
         assertThat(tools).hasSize(1);
         assertThat(tools.get(0).function().strict()).isTrue();
     }
+
+    @Test
+    void should_reuse_tools_converted_for_equal_tool_specifications() {
+        // given
+        ToolSpecification toolSpec = ToolSpecification.builder()
+                .name("reused_tool")
+                .parameters(JsonObjectSchema.builder()
+                        .addStringProperty("param")
+                        .build())
+                .build();
+        ToolSpecification equalToolSpec = toolSpec.toBuilder().build();
+
+        // when
+        Tool tool = toTools(List.of(toolSpec), false).get(0);
+
+        // then
+        assertThat(toTools(List.of(equalToolSpec), false).get(0)).isSameAs(tool);
+        assertThat(toTools(List.of(toolSpec), true).get(0))
+                .isNotSameAs(tool)
+                .isSameAs(toTools(List.of(toolSpec), true).get(0));
+    }
 }
@@ -0,0 +1,55 @@
+package dev.langchain4j.model.openai.internal.chat;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ToolSerializerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(INDENT_OUTPUT);
+
+    private static Tool tool(String name) {
+        return Tool.from(Function.builder()
+                .name(name)
+                .description("description of " + name)
+                .parameters(Map.of("type", "object", "properties", Map.of("city", Map.of("type", "string"))))
+                .build());
+    }
+
+    @Test
+    void should_serialize_tools_as_regular_json() throws Exception {
+        // given
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model("gpt-4o-mini")
+                .addUserMessage("What is the weather in Munich?")
+                .tools(tool("get_weather"), tool("get_time"))
+                .build();
+
+        // when
+        String json = OBJECT_MAPPER.writeValueAsString(request);
+
+        // then
+        JsonNode regularJson = OBJECT_MAPPER.valueToTree(request); // does not use the serialized JSON
+        assertThat(OBJECT_MAPPER.readTree(json)).isEqualTo(regularJson);
+        assertThat(regularJson.get("tools").get(1).get("function").get("name").asText())
+                .isEqualTo("get_time");
+    }
+
+    @Test
+    void should_serialize_tool_only_once() throws Exception {
+        // given
+        Tool tool = tool("get_weather");
+        ToolSerializer serializer = new ToolSerializer();
+
+        // when
+        String json = tool.json(serializer);
+
+        // then
+        assertThat(tool.json(serializer)).isSameAs(json);
+        assertThat(OBJECT_MAPPER.readTree(json)).isEqualTo(OBJECT_MAPPER.valueToTree(tool));
+    }
+}
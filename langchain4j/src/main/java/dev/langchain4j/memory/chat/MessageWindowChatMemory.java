@@ -4,6 +4,7 @@ import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
@@ -64,6 +65,15 @@ public class MessageWindowChatMemory implements ChatMemory {
         return id;
     }
 
+    /**
+     * @return the store holding the messages of this chat memory
+     * @since 1.17.0
+     */
+    @Experimental
+    public ChatMemoryStore chatMemoryStore() {
+        return store;
+    }
+
     @Override
     public void add(ChatMessage message) {
         List<ChatMessage> messages = messages();
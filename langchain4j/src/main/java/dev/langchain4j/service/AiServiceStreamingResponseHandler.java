@@ -14,7 +14,9 @@ import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.guardrail.ChatExecutor;
 import dev.langchain4j.guardrail.GuardrailRequestParams;
+import dev.langchain4j.guardrail.OutputGuardrailException;
 import dev.langchain4j.guardrail.OutputGuardrailRequest;
+import dev.langchain4j.guardrail.StreamingOutputGuardrail;
 import dev.langchain4j.invocation.InvocationContext;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.chat.request.ChatRequest;
@@ -98,6 +100,9 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
 
     private final List<String> responseBuffer = new ArrayList<>();
     private final boolean hasOutputGuardrails;
+    private final StreamingOutputGuardrailValidator streamingOutputGuardrailValidator;
+    private final boolean validatesIncrementally;
+    private volatile boolean aborted;
 
     private int toolCallingRoundTripsLeft;
 
@@ -157,33 +162,82 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
         this.toolExecutor = toolExecutor;
 
         this.hasOutputGuardrails = context.guardrailService().hasOutputGuardrails(methodKey);
+        List<StreamingOutputGuardrail> streamingOutputGuardrails =
+                hasOutputGuardrails ? context.guardrailService().streamingOutputGuardrails(methodKey) : List.of();
+        this.streamingOutputGuardrailValidator = streamingOutputGuardrails.isEmpty()
+                ? null
+                : new StreamingOutputGuardrailValidator(streamingOutputGuardrails);
+        // If all output guardrails validate incrementally, validated chunks are released without waiting for the
+        // complete response
+        this.validatesIncrementally = streamingOutputGuardrailValidator != null
+                && context.guardrailService().hasOnlyStreamingOutputGuardrails(methodKey);
 
         this.toolCallingRoundTripsLeft = toolCallingRoundTripsLeft;
     }
 
     @Override
     public void onPartialResponse(String partialResponse) {
+        onPartialResponse(partialResponse, null);
+    }
+
+    @Override
+    public void onPartialResponse(PartialResponse partialResponse, PartialResponseContext context) {
+        onPartialResponse(partialResponse.text(), context);
+    }
+
+    private void onPartialResponse(String partialResponse, PartialResponseContext partialResponseContext) {
+        if (aborted) {
+            return;
+        }
+
+        if (streamingOutputGuardrailValidator != null) {
+            List<String> validatedChunks;
+            try {
+                validatedChunks = streamingOutputGuardrailValidator.append(partialResponse);
+            } catch (OutputGuardrailException e) {
+                abort(e, partialResponseContext);
+                return;
+            }
+            if (validatesIncrementally) {
+                validatedChunks.forEach(chunk -> releasePartialResponse(chunk, partialResponseContext));
+                return;
+            }
+        }
+
         // If we're using output guardrails, then buffer the partial response until the guardrails have completed
         if (hasOutputGuardrails) {
             responseBuffer.add(partialResponse);
-        } else if (partialResponseHandler != null) {
+        } else {
+            releasePartialResponse(partialResponse, partialResponseContext);
+        }
+    }
+
+    private void releasePartialResponse(String partialResponse, PartialResponseContext partialResponseContext) {
+        if (partialResponseHandler != null) {
             partialResponseHandler.accept(partialResponse);
         } else if (partialResponseWithContextHandler != null) {
-            PartialResponseContext context = new PartialResponseContext(new CancellationUnsupportedStreamingHandle());
+            PartialResponseContext context = partialResponseContext != null
+                    ? partialResponseContext
+                    : new PartialResponseContext(new CancellationUnsupportedStreamingHandle());
             partialResponseWithContextHandler.accept(new PartialResponse(partialResponse), context);
         }
     }
 
-    @Override
-    public void onPartialResponse(PartialResponse partialResponse, PartialResponseContext context) {
-        // If we're using output guardrails, then buffer the partial response until the guardrails have completed
-        if (hasOutputGuardrails) {
-            responseBuffer.add(partialResponse.text());
-        } else if (partialResponseHandler != null) {
-            partialResponseHandler.accept(partialResponse.text());
-        } else if (partialResponseWithContextHandler != null) {
-            partialResponseWithContextHandler.accept(partialResponse, context);
+    /**
+     * Stops streaming after a chunk was rejected by a {@link StreamingOutputGuardrail}:
+     * cancels the stream if the model supports it, ignores whatever it still sends, and reports the violation.
+     */
+    private void abort(OutputGuardrailException violation, PartialResponseContext partialResponseContext) {
+        aborted = true;
+        responseBuffer.clear();
+        if (partialResponseContext != null) {
+            try {
+                partialResponseContext.streamingHandle().cancel();
+            } catch (Exception e) {
+                LOG.debug("Cannot cancel streaming after an output guardrail violation", e);
+            }
         }
+        onError(violation);
     }
 
     @Override
@@ -277,6 +331,22 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
 
     @Override
     public void onCompleteResponse(ChatResponse chatResponse) {
+        if (aborted) {
+            return;
+        }
+        if (streamingOutputGuardrailValidator != null) {
+            String lastChunk;
+            try {
+                lastChunk = streamingOutputGuardrailValidator.flush();
+            } catch (OutputGuardrailException e) {
+                abort(e, null);
+                return;
+            }
+            if (lastChunk != null && validatesIncrementally) {
+                releasePartialResponse(lastChunk, null);
+            }
+        }
+
         fireResponseReceivedEvent(chatResponse);
         AiMessage aiMessage = chatResponse.aiMessage();
         addToMemory(aiMessage);
@@ -392,8 +462,9 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
             ChatResponse finalChatResponse = finalResponse(chatResponse, aiMessage);
 
             if (completeResponseHandler != null) {
-                // Invoke output guardrails
-                if (hasOutputGuardrails) {
+                // Invoke output guardrails, unless the response was already validated and released chunk by chunk:
+                // it can neither be rewritten nor reprompted anymore
+                if (hasOutputGuardrails && !validatesIncrementally) {
                     if (commonGuardrailParams != null) {
                         var newCommonParams = commonGuardrailParams.toBuilder()
                                 .chatMemory(getMemory())
@@ -501,7 +572,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
 
     private ChatMemory getMemory(Object memId) {
         return context.hasChatMemory()
-                ? context.chatMemoryService.getOrCreateChatMemory(invocationContext.chatMemoryId())
+                ? context.chatMemoryService.getOrCreateSerializedChatMemory(invocationContext.chatMemoryId())
                 : temporaryMemory;
     }
 
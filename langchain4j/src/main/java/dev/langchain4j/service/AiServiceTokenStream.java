@@ -24,6 +24,9 @@ import dev.langchain4j.model.chat.response.PartialToolCallContext;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.observability.api.event.AiServiceRequestIssuedEvent;
 import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.service.output.CompletedJsonValue;
+import dev.langchain4j.service.output.IncrementalJsonParser;
+import dev.langchain4j.service.output.OutputParsingException;
 import dev.langchain4j.service.tool.BeforeToolExecution;
 import dev.langchain4j.service.tool.ToolArgumentsErrorHandler;
 import dev.langchain4j.service.tool.ToolExecution;
@@ -31,12 +34,17 @@ import dev.langchain4j.service.tool.ToolExecutionErrorHandler;
 import dev.langchain4j.service.tool.ToolServiceContext;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 @Internal
 public class AiServiceTokenStream implements TokenStream {
 
+    private static final Logger LOG = LoggerFactory.getLogger(AiServiceTokenStream.class);
+
     private final List<ChatMessage> messages;
 
     private final ToolServiceContext toolServiceContext;
@@ -56,6 +64,7 @@ public class AiServiceTokenStream implements TokenStream {
     private BiConsumer<PartialThinking, PartialThinkingContext> partialThinkingWithContextHandler;
     private Consumer<PartialToolCall> partialToolCallHandler;
     private BiConsumer<PartialToolCall, PartialToolCallContext> partialToolCallWithContextHandler;
+    private Consumer<CompletedJsonValue> completedJsonValueHandler;
     private Consumer<List<Content>> contentsHandler;
     private Consumer<ChatResponse> intermediateResponseHandler;
     private Consumer<BeforeToolExecution> beforeToolExecutionHandler;
@@ -69,6 +78,7 @@ public class AiServiceTokenStream implements TokenStream {
     private int onPartialThinkingWithContextInvoked;
     private int onPartialToolCallInvoked;
     private int onPartialToolCallWithContextInvoked;
+    private int onCompletedJsonValueInvoked;
     private int onIntermediateResponseInvoked;
     private int onCompleteResponseInvoked;
     private int onRetrievedInvoked;
@@ -139,6 +149,13 @@ public class AiServiceTokenStream implements TokenStream {
         return this;
     }
 
+    @Override
+    public TokenStream onCompletedJsonValue(Consumer<CompletedJsonValue> completedJsonValueHandler) {
+        this.completedJsonValueHandler = completedJsonValueHandler;
+        this.onCompletedJsonValueInvoked++;
+        return this;
+    }
+
     @Override
     public TokenStream onRetrieved(Consumer<List<Content>> contentsHandler) {
         this.contentsHandler = contentsHandler;
@@ -209,13 +226,30 @@ public class AiServiceTokenStream implements TokenStream {
                 .eventListenerRegistrar(context.eventListenerRegistrar)
                 .build();
 
+        Consumer<String> effectivePartialResponseHandler = partialResponseHandler;
+        BiConsumer<PartialResponse, PartialResponseContext> effectivePartialResponseWithContextHandler =
+                partialResponseWithContextHandler;
+        if (completedJsonValueHandler != null) {
+            Consumer<String> jsonParser = incrementalJsonParser(completedJsonValueHandler);
+            if (partialResponseWithContextHandler != null) {
+                effectivePartialResponseWithContextHandler = (partialResponse, partialResponseContext) -> {
+                    partialResponseWithContextHandler.accept(partialResponse, partialResponseContext);
+                    jsonParser.accept(partialResponse.text());
+                };
+            } else if (partialResponseHandler != null) {
+                effectivePartialResponseHandler = partialResponseHandler.andThen(jsonParser);
+            } else {
+                effectivePartialResponseHandler = jsonParser;
+            }
+        }
+
         var handler = new AiServiceStreamingResponseHandler(
                 chatRequest,
                 chatExecutor,
                 context,
                 invocationContext,
-                partialResponseHandler,
-                partialResponseWithContextHandler,
+                effectivePartialResponseHandler,
+                effectivePartialResponseWithContextHandler,
                 partialThinkingHandler,
                 partialThinkingWithContextHandler,
                 partialToolCallHandler,
@@ -260,6 +294,10 @@ public class AiServiceTokenStream implements TokenStream {
             throw new IllegalConfigurationException("One of [onPartialToolCall, onPartialToolCallWithContext] can be "
                     + "invoked on TokenStream at most 1 time");
         }
+        if (onCompletedJsonValueInvoked > 1) {
+            throw new IllegalConfigurationException(
+                    "onCompletedJsonValue can be invoked on TokenStream at most 1 time");
+        }
         if (onIntermediateResponseInvoked > 1) {
             throw new IllegalConfigurationException(
                     "onIntermediateResponse can be invoked on TokenStream at most 1 time");
@@ -282,6 +320,26 @@ public class AiServiceTokenStream implements TokenStream {
         }
     }
 
+    /**
+     * Feeds the partial responses to an {@link IncrementalJsonParser}.
+     * If they turn out not to be valid JSON, the parsing stops, without failing the stream.
+     */
+    private static Consumer<String> incrementalJsonParser(Consumer<CompletedJsonValue> completedJsonValueHandler) {
+        IncrementalJsonParser parser = new IncrementalJsonParser(completedJsonValueHandler);
+        AtomicBoolean failed = new AtomicBoolean();
+        return partialResponse -> {
+            if (failed.get()) {
+                return;
+            }
+            try {
+                parser.append(partialResponse);
+            } catch (OutputParsingException e) {
+                failed.set(true);
+                LOG.warn("Stopped reporting completed JSON values: {}", e.getMessage());
+            }
+        };
+    }
+
     private ChatMemory initTemporaryMemory(AiServiceContext context, List<ChatMessage> messagesToSend) {
         var chatMemory = MessageWindowChatMemory.withMaxMessages(Integer.MAX_VALUE);
 
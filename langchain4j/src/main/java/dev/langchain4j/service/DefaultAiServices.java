@@ -189,7 +189,7 @@ class DefaultAiServices<T> extends AiServices<T> {
 
                         Object memoryId = invocationContext.chatMemoryId();
                         ChatMemory chatMemory = context.hasChatMemory()
-                                ? context.chatMemoryService.getOrCreateChatMemory(memoryId)
+                                ? context.chatMemoryService.getOrCreateSerializedChatMemory(memoryId)
                                 : null;
 
                         Optional<SystemMessage> systemMessage = prepareSystemMessage(invocationContext, method, args);
@@ -0,0 +1,153 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+
+import dev.langchain4j.Internal;
+import dev.langchain4j.guardrail.OutputGuardrailChunk;
+import dev.langchain4j.guardrail.OutputGuardrailException;
+import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.StreamingOutputGuardrail;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Groups the partial responses of a streamed response into sentence-level chunks
+ * and validates each of them with {@link StreamingOutputGuardrail}s as soon as it is complete.
+ * <p>
+ * A chunk ends after a sentence terminator ({@code .}, {@code !} or {@code ?}) followed by a whitespace,
+ * or after a line break. Chunks longer than {@link #MAX_CHUNK_LENGTH} characters are cut at the last whitespace,
+ * so that text without punctuation (e.g. code) is not held back indefinitely.
+ */
+@Internal
+class StreamingOutputGuardrailValidator {
+
+    static final int MAX_CHUNK_LENGTH = 256;
+
+    private final List<StreamingOutputGuardrail> guardrails;
+    private final StringBuilder pending = new StringBuilder();
+    private final StringBuilder validated = new StringBuilder();
+    private int chunkIndex;
+
+    StreamingOutputGuardrailValidator(List<StreamingOutputGuardrail> guardrails) {
+        this.guardrails = ensureNotEmpty(guardrails, "guardrails");
+    }
+
+    /**
+     * Appends a partial response and validates the chunks it completes.
+     *
+     * @return the validated chunks, which can be released downstream, possibly none
+     * @throws OutputGuardrailException if a chunk is rejected by a guardrail
+     */
+    List<String> append(String partialResponse) {
+        pending.append(partialResponse);
+        List<String> chunks = new ArrayList<>();
+        int end;
+        while ((end = chunkEnd()) > 0) {
+            String chunk = pending.substring(0, end);
+            pending.delete(0, end);
+            validate(chunk);
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Validates the remaining text, once the response is complete.
+     *
+     * @return the last validated chunk, or {@code null} if there is no remaining text
+     * @throws OutputGuardrailException if the chunk is rejected by a guardrail
+     */
+    String flush() {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        String chunk = pending.toString();
+        pending.setLength(0);
+        validate(chunk);
+        return chunk;
+    }
+
+    private void validate(String chunk) {
+        OutputGuardrailChunk outputGuardrailChunk =
+                new OutputGuardrailChunk(chunk, new ValidatedText(validated, validated.length()), chunkIndex++);
+        for (StreamingOutputGuardrail guardrail : guardrails) {
+            OutputGuardrailResult result;
+            try {
+                result = guardrail.validateChunk(outputGuardrailChunk).validatedBy(guardrail.getClass());
+            } catch (Exception e) {
+                throw new OutputGuardrailException(e.getMessage(), e);
+            }
+            if (!result.isSuccess()) {
+                throw new OutputGuardrailException(result.toString(), result.getFirstFailureException(), result);
+            }
+        }
+        validated.append(chunk);
+    }
+
+    /**
+     * A view of the first {@code length} characters of the validated text, which is only ever appended to.
+     * It avoids copying the whole response for every chunk.
+     */
+    private static final class ValidatedText implements CharSequence {
+
+        private final StringBuilder validated;
+        private final int length;
+
+        private ValidatedText(StringBuilder validated, int length) {
+            this.validated = validated;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, length);
+            return validated.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return validated.substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return validated.substring(0, length);
+        }
+    }
+
+    private int chunkEnd() {
+        int length = pending.length();
+        for (int i = 0; i < length; i++) {
+            char c = pending.charAt(i);
+            if (c == '\n') {
+                return i + 1;
+            }
+            if ((c == '.' || c == '!' || c == '?')
+                    && i + 1 < length
+                    && Character.isWhitespace(pending.charAt(i + 1))) {
+                return i + 2;
+            }
+        }
+        if (length > MAX_CHUNK_LENGTH) {
+            int lastWhitespace = lastWhitespace(MAX_CHUNK_LENGTH);
+            return lastWhitespace > 0 ? lastWhitespace + 1 : MAX_CHUNK_LENGTH;
+        }
+        return -1;
+    }
+
+    private int lastWhitespace(int before) {
+        for (int i = before - 1; i > 0; i--) {
+            if (Character.isWhitespace(pending.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -11,6 +11,8 @@ import dev.langchain4j.model.chat.response.PartialToolCall;
 import dev.langchain4j.model.chat.response.PartialToolCallContext;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.service.output.CompletedJsonValue;
+import dev.langchain4j.service.output.IncrementalJsonParser;
 import dev.langchain4j.service.tool.BeforeToolExecution;
 import dev.langchain4j.service.tool.ToolExecution;
 import java.util.List;
@@ -123,6 +125,27 @@ public interface TokenStream {
         throw new UnsupportedOperationException("not implemented");
     }
 
+    /**
+     * The provided consumer will be invoked every time a value of the JSON object or array generated by
+     * a language model is complete: each field and array element (including nested objects and arrays)
+     * as soon as it closes, then the whole object or array.
+     * This makes it possible to process a long structured output (e.g. a list of extracted entities)
+     * while the model is still generating it, instead of waiting for {@link #onCompleteResponse(Consumer)}.
+     * <p>
+     * The partial textual responses are parsed with an {@link IncrementalJsonParser}:
+     * any text before the first <code>&#123;</code> or <code>[</code> and after the end of the JSON is ignored.
+     * If the text turns out not to be valid JSON, a warning is logged and no further value is reported.
+     * This callback can be used together with {@link #onPartialResponse(Consumer)}.
+     *
+     * @param completedJsonValueHandler lambda that will be invoked when a JSON value is complete
+     * @return token stream instance used to configure or start stream processing
+     * @since 1.17.0
+     */
+    @Experimental
+    default TokenStream onCompletedJsonValue(Consumer<CompletedJsonValue> completedJsonValueHandler) {
+        throw new UnsupportedOperationException("not implemented");
+    }
+
     /**
      * The provided consumer will be invoked if any {@link Content}s are retrieved using {@link RetrievalAugmentor}.
      * <p>
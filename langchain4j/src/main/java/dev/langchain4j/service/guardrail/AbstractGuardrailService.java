@@ -11,6 +11,7 @@ import dev.langchain4j.guardrail.OutputGuardrail;
 import dev.langchain4j.guardrail.OutputGuardrailExecutor;
 import dev.langchain4j.guardrail.OutputGuardrailRequest;
 import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.StreamingOutputGuardrail;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +38,8 @@ public abstract class AbstractGuardrailService implements GuardrailService {
     // Caches for whether or not a method has input or output guardrails
     private final Map<Object, Boolean> inputGuardrailMethods = new ConcurrentHashMap<>();
     private final Map<Object, Boolean> outputGuardrailMethods = new ConcurrentHashMap<>();
+    private final Map<Object, List<StreamingOutputGuardrail>> streamingOutputGuardrailMethods =
+            new ConcurrentHashMap<>();
 
     protected AbstractGuardrailService(
             Class<?> aiServiceClass,
@@ -80,6 +83,23 @@ public abstract class AbstractGuardrailService implements GuardrailService {
                 checkMethodKey(method), m -> !getOutputGuardrails(m).isEmpty());
     }
 
+    @Override
+    public <MethodKey> List<StreamingOutputGuardrail> streamingOutputGuardrails(MethodKey method) {
+        return this.streamingOutputGuardrailMethods.computeIfAbsent(
+                checkMethodKey(method),
+                m -> getOutputGuardrails(m).stream()
+                        .filter(StreamingOutputGuardrail.class::isInstance)
+                        .map(StreamingOutputGuardrail.class::cast)
+                        .toList());
+    }
+
+    @Override
+    public <MethodKey> boolean hasOnlyStreamingOutputGuardrails(MethodKey method) {
+        return hasOutputGuardrails(method)
+                && streamingOutputGuardrails(method).size()
+                        == getOutputGuardrails(checkMethodKey(method)).size();
+    }
+
     private static <MethodKey> MethodKey checkMethodKey(MethodKey method) {
         return (method != null) ? method : (MethodKey) NULL_KEY;
     }
@@ -1,5 +1,6 @@
 package dev.langchain4j.service.guardrail;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.guardrail.InputGuardrail;
 import dev.langchain4j.guardrail.InputGuardrailRequest;
@@ -7,6 +8,7 @@ import dev.langchain4j.guardrail.InputGuardrailResult;
 import dev.langchain4j.guardrail.OutputGuardrail;
 import dev.langchain4j.guardrail.OutputGuardrailRequest;
 import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.StreamingOutputGuardrail;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.service.guardrail.spi.GuardrailServiceBuilderFactory;
 import java.lang.reflect.Method;
@@ -80,6 +82,34 @@ public interface GuardrailService {
      */
     <MethodKey> boolean hasOutputGuardrails(MethodKey method);
 
+    /**
+     * Returns the output guardrails associated with a method that can validate a streamed response incrementally.
+     *
+     * @param method The method
+     * @return The {@link StreamingOutputGuardrail}s of {@code method}, or an empty list if there are none
+     * @param <MethodKey>> The type of the method key, representing a unique identifier for methods.
+     * @since 1.17.0
+     */
+    @Experimental
+    default <MethodKey> List<StreamingOutputGuardrail> streamingOutputGuardrails(MethodKey method) {
+        return List.of();
+    }
+
+    /**
+     * Whether all the output guardrails associated with a method are {@link StreamingOutputGuardrail}s,
+     * in which case a streamed response does not need to be buffered until it is complete.
+     *
+     * @param method The method
+     * @return {@code true} If {@code method} has output guardrails and all of them are streaming ones.
+     * {@code false} otherwise
+     * @param <MethodKey>> The type of the method key, representing a unique identifier for methods.
+     * @since 1.17.0
+     */
+    @Experimental
+    default <MethodKey> boolean hasOnlyStreamingOutputGuardrails(MethodKey method) {
+        return false;
+    }
+
     /**
      * Executes the guardrails associated with a given method and parameters, returning the appropriate response.
      *
@@ -13,6 +13,7 @@ import dev.langchain4j.guardrail.OutputGuardrail;
 import dev.langchain4j.guardrail.OutputGuardrailExecutor;
 import dev.langchain4j.service.guardrail.GuardrailService.Builder;
 import dev.langchain4j.spi.classloading.ClassMetadataProviderFactory;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -230,7 +231,11 @@ final class GuardrailServiceBuilder implements Builder {
     }
 
     private static dev.langchain4j.guardrail.config.InputGuardrailsConfig computeConfig(InputGuardrails annotation) {
-        return dev.langchain4j.guardrail.config.InputGuardrailsConfig.builder().build();
+
+        return dev.langchain4j.guardrail.config.InputGuardrailsConfig.builder()
+                .parallel(annotation.parallel())
+                .timeout(annotation.timeoutMillis() > 0 ? Duration.ofMillis(annotation.timeoutMillis()) : null)
+                .build();
     }
 
     private static dev.langchain4j.guardrail.config.OutputGuardrailsConfig computeConfig(OutputGuardrails annotation) {
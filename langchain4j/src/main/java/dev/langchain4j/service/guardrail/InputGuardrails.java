@@ -23,7 +23,7 @@ import java.lang.annotation.Target;
  * </p>
  * <p>
  *     When several guardrails are applied, the order of the guardrails is important, as the guardrails are applied in the order
- *     they are listed.
+ *     they are listed, unless they are declared independent with {@link #parallel()}.
  * </p>
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -38,4 +38,26 @@ public @interface InputGuardrails {
      * </p>
      */
     Class<? extends InputGuardrail>[] value();
+
+    /**
+     * Whether the guardrails are independent of each other and can be executed concurrently.
+     * <p>
+     *     When {@code true}, each guardrail validates the original user message, the results are still reported
+     *     in the order the guardrails are listed, and the first fatal failure cancels the guardrails still running.
+     * </p>
+     * @see dev.langchain4j.guardrail.config.InputGuardrailsConfig#parallel()
+     * @since 1.17.0
+     */
+    boolean parallel() default false;
+
+    /**
+     * The maximum duration, in milliseconds, of the concurrent execution of the guardrails.
+     * Only applies when {@link #parallel()} is {@code true}.
+     * <p>
+     *     Set to {@code 0} (the default) to disable the timeout
+     * </p>
+     * @see dev.langchain4j.guardrail.config.InputGuardrailsConfig#timeout()
+     * @since 1.17.0
+     */
+    long timeoutMillis() default 0;
 }
@@ -3,11 +3,22 @@ package dev.langchain4j.service.memory;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import dev.langchain4j.Internal;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.memory.chat.TokenWindowChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import java.lang.ref.WeakReference;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Internal
 public class ChatMemoryService {
@@ -17,6 +28,8 @@ public class ChatMemoryService {
     private ChatMemory defaultChatMemory;
     private Map<Object, ChatMemory> chatMemories;
     private ChatMemoryProvider chatMemoryProvider;
+    private final Map<Object, MemoryIdLock> locks = new ConcurrentHashMap<>();
+    private final Set<InMemoryChatMemoryStore> storesNotifyingEvictions = ConcurrentHashMap.newKeySet();
 
     public ChatMemoryService(ChatMemoryProvider chatMemoryProvider) {
         this.chatMemories = new ConcurrentHashMap<>();
@@ -29,11 +42,29 @@ public class ChatMemoryService {
 
     public ChatMemory getOrCreateChatMemory(Object memoryId) {
         if (chatMemoryProvider != null) {
-            return chatMemories.computeIfAbsent(memoryId, chatMemoryProvider::get);
+            return chatMemories.computeIfAbsent(memoryId, id -> {
+                ChatMemory chatMemory = chatMemoryProvider.get(id);
+                evictWithStore(chatMemory);
+                return chatMemory;
+            });
         }
         return defaultChatMemory;
     }
 
+    /**
+     * Returns the same chat memory as {@link #getOrCreateChatMemory(Object)}, through a view that performs each read
+     * or update while holding the lock of the memory ID (see {@link #executeSerially(Object, Supplier)}).
+     * Each update is applied atomically, so concurrent invocations of the same conversation cannot overwrite
+     * each other's messages, while the lock is never held during model or tool calls.
+     *
+     * @param memoryId the memory ID
+     * @return the serialized view of the chat memory
+     * @since 1.17.0
+     */
+    public ChatMemory getOrCreateSerializedChatMemory(Object memoryId) {
+        return new SerializedChatMemory(memoryId, getOrCreateChatMemory(memoryId));
+    }
+
     public ChatMemory getChatMemory(Object memoryId) {
         return chatMemoryProvider != null ? chatMemories.get(memoryId) : memoryId == DEFAULT ? defaultChatMemory : null;
     }
@@ -54,4 +85,124 @@ public class ChatMemoryService {
     public Collection<ChatMemory> getChatMemories() {
         return chatMemories.values();
     }
+
+    /**
+     * Executes the given action while holding a lock dedicated to the given memory ID.
+     * Actions for the same memory ID are serialized, while actions for different memory IDs run in parallel.
+     * The action should only read or update the chat memory: holding the lock while calling a model or a tool
+     * would serialize whole invocations, and deadlock a tool calling back into the same conversation
+     * from another thread.
+     * <p>
+     * The lock is reentrant and is discarded as soon as no thread holds or waits for it.
+     *
+     * @param memoryId the memory ID to serialize on
+     * @param action   the action to execute
+     * @return the result of the action
+     * @since 1.17.0
+     */
+    public <T> T executeSerially(Object memoryId, Supplier<T> action) {
+        MemoryIdLock lock = locks.compute(memoryId, (id, existing) -> {
+            MemoryIdLock memoryIdLock = existing != null ? existing : new MemoryIdLock();
+            memoryIdLock.users++;
+            return memoryIdLock;
+        });
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+            locks.computeIfPresent(memoryId, (id, memoryIdLock) -> --memoryIdLock.users == 0 ? null : memoryIdLock);
+        }
+    }
+
+    int lockCount() {
+        return locks.size();
+    }
+
+    /**
+     * Registers an eviction listener, once per store, dropping the chat memories evicted from their
+     * {@link InMemoryChatMemoryStore}. The listener does not keep this service reachable,
+     * and unregisters itself once this service has been garbage collected.
+     */
+    private void evictWithStore(ChatMemory chatMemory) {
+        ChatMemoryStore store = chatMemory instanceof MessageWindowChatMemory messageWindowChatMemory
+                ? messageWindowChatMemory.chatMemoryStore()
+                : chatMemory instanceof TokenWindowChatMemory tokenWindowChatMemory
+                        ? tokenWindowChatMemory.chatMemoryStore()
+                        : null;
+        if (store instanceof InMemoryChatMemoryStore inMemoryStore && storesNotifyingEvictions.add(inMemoryStore)) {
+            WeakReference<ChatMemoryService> service = new WeakReference<>(this);
+            inMemoryStore.addEvictionListener(new Consumer<>() {
+
+                @Override
+                public void accept(Object memoryId) {
+                    ChatMemoryService chatMemoryService = service.get();
+                    if (chatMemoryService != null) {
+                        chatMemoryService.evictChatMemory(memoryId);
+                    } else {
+                        inMemoryStore.removeEvictionListener(this);
+                    }
+                }
+            });
+        }
+    }
+
+    private class SerializedChatMemory implements ChatMemory {
+
+        private final Object memoryId;
+        private final ChatMemory delegate;
+
+        private SerializedChatMemory(Object memoryId, ChatMemory delegate) {
+            this.memoryId = memoryId;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object id() {
+            return delegate.id();
+        }
+
+        @Override
+        public void add(ChatMessage message) {
+            executeSerially(memoryId, () -> {
+                delegate.add(message);
+                return null;
+            });
+        }
+
+        @Override
+        public void add(Iterable<ChatMessage> messages) {
+            executeSerially(memoryId, () -> {
+                delegate.add(messages);
+                return null;
+            });
+        }
+
+        @Override
+        public void set(Iterable<ChatMessage> messages) {
+            executeSerially(memoryId, () -> {
+                delegate.set(messages);
+                return null;
+            });
+        }
+
+        @Override
+        public List<ChatMessage> messages() {
+            return executeSerially(memoryId, delegate::messages);
+        }
+
+        @Override
+        public void clear() {
+            executeSerially(memoryId, () -> {
+                delegate.clear();
+                return null;
+            });
+        }
+    }
+
+    private static class MemoryIdLock extends ReentrantLock {
+
+        // guarded by the ConcurrentHashMap bin lock, as it is only accessed inside compute()
+        private int users;
+    }
 }
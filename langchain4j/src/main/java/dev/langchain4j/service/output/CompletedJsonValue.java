@@ -0,0 +1,38 @@
+package dev.langchain4j.service.output;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.internal.Json;
+import java.lang.reflect.Type;
+
+/**
+ * A value of a JSON document that has been completely streamed, as reported by {@link IncrementalJsonParser}:
+ * a field of an object, an element of an array, or the whole document.
+ *
+ * @param path  the location of the value in the document, in the JSONPath notation:
+ *              {@code $} for the whole document, {@code $.people} for a field,
+ *              {@code $.people[2]} for an array element and {@code $['first name']} for a field
+ *              whose name is not an identifier
+ * @param depth the depth of the value in the document: 0 for the whole document,
+ *              1 for a field or an element of the whole document, and so on
+ * @param value the value: a {@link String}, a {@link Number}, a {@link Boolean}, {@code null},
+ *              an unmodifiable {@link java.util.Map} for an object, or an unmodifiable {@link java.util.List}
+ *              for an array
+ * @since 1.17.0
+ */
+@Experimental
+public record CompletedJsonValue(String path, int depth, Object value) {
+
+    /**
+     * Converts the value into the given type, e.g. an array element into the POJO it represents.
+     */
+    public <T> T as(Class<T> type) {
+        return Json.fromJson(Json.toJson(value), type);
+    }
+
+    /**
+     * Converts the value into the given (generic) type.
+     */
+    public <T> T as(Type type) {
+        return Json.fromJson(Json.toJson(value), type);
+    }
+}
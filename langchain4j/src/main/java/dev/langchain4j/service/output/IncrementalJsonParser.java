@@ -0,0 +1,323 @@
+package dev.langchain4j.service.output;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+import dev.langchain4j.Experimental;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Parses a JSON object or array while it is being streamed, one partial text at a time,
+ * and reports each of its values to a handler as soon as it is complete:
+ * each field and array element (including nested objects and arrays) when it closes,
+ * then the whole object or array.
+ * This makes it possible to process a long structured output (e.g. a list of extracted entities)
+ * while the model is still generating it.
+ * <p>
+ * Any text before the first <code>&#123;</code> or <code>[</code> (such as a markdown code fence) is skipped,
+ * and any text after the end of the object or array is ignored.
+ * <pre>{@code
+ * IncrementalJsonParser parser = new IncrementalJsonParser(value -> {
+ *     if (value.depth() == 2 && value.path().startsWith("$.people[")) {
+ *         Person person = value.as(Person.class);
+ *         ...
+ *     }
+ * });
+ * parser.append("{\"people\": [{\"name\": \"Klaus\"}, {\"na"); // reports the first person
+ * parser.append("me\": \"Francine\"}]}"); // reports the second person, the list, then the whole object
+ * }</pre>
+ * This class is not thread-safe.
+ *
+ * @since 1.17.0
+ */
+@Experimental
+public class IncrementalJsonParser {
+
+    private static final Pattern NUMBER = Pattern.compile("-?(0|[1-9]\\d*)(\\.\\d+)?([eE][+-]?\\d+)?");
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private enum State {
+        BEFORE_DOCUMENT,
+        STRUCTURE,
+        STRING,
+        STRING_ESCAPE,
+        STRING_UNICODE_ESCAPE,
+        LITERAL,
+        AFTER_DOCUMENT
+    }
+
+    private enum Expected {
+        KEY_OR_END,
+        KEY,
+        COLON,
+        VALUE_OR_END,
+        VALUE,
+        COMMA_OR_END
+    }
+
+    private static final class Container {
+
+        final String path;
+        final Map<String, Object> object;
+        final List<Object> array;
+        Expected expected;
+        String key;
+
+        Container(String path, boolean isObject) {
+            this.path = path;
+            this.object = isObject ? new LinkedHashMap<>() : null;
+            this.array = isObject ? null : new ArrayList<>();
+            this.expected = isObject ? Expected.KEY_OR_END : Expected.VALUE_OR_END;
+        }
+
+        String childPath() {
+            if (object == null) {
+                return path + "[" + array.size() + "]";
+            } else if (IDENTIFIER.matcher(key).matches()) {
+                return path + "." + key;
+            } else {
+                return path + "['" + key.replace("\\", "\\\\").replace("'", "\\'") + "']";
+            }
+        }
+
+        Object value() {
+            return object != null ? unmodifiableMap(object) : unmodifiableList(array);
+        }
+    }
+
+    private final Consumer<CompletedJsonValue> handler;
+    private final Deque<Container> containers = new ArrayDeque<>();
+    private final StringBuilder token = new StringBuilder();
+    private State state = State.BEFORE_DOCUMENT;
+    private boolean stringIsKey;
+    private int unicodeDigits;
+    private long position;
+
+    /**
+     * @param handler the handler of the completed values, called by {@link #append(String)}
+     */
+    public IncrementalJsonParser(Consumer<CompletedJsonValue> handler) {
+        this.handler = ensureNotNull(handler, "handler");
+    }
+
+    /**
+     * Parses the next partial text of the streamed JSON,
+     * reporting the values it completes to the handler before returning.
+     *
+     * @param partialText the partial text
+     * @throws OutputParsingException if the streamed text is not valid JSON
+     */
+    public void append(String partialText) {
+        int i = 0;
+        while (i < partialText.length() && state != State.AFTER_DOCUMENT) {
+            if (process(partialText.charAt(i))) {
+                i++;
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} once the whole JSON object or array has been streamed.
+     */
+    public boolean isComplete() {
+        return state == State.AFTER_DOCUMENT;
+    }
+
+    /**
+     * Processes the character, and returns {@code false} if it must be processed again,
+     * once the literal it terminates has been completed.
+     */
+    private boolean process(char c) {
+        switch (state) {
+            case BEFORE_DOCUMENT -> {
+                if (c == '{' || c == '[') {
+                    containers.push(new Container("$", c == '{'));
+                    state = State.STRUCTURE;
+                }
+            }
+            case STRUCTURE -> processStructure(c);
+            case STRING -> {
+                if (c == '\\') {
+                    state = State.STRING_ESCAPE;
+                } else if (c == '"') {
+                    completeString();
+                } else {
+                    token.append(c);
+                }
+            }
+            case STRING_ESCAPE -> processEscape(c);
+            case STRING_UNICODE_ESCAPE -> {
+                token.append(c);
+                if (--unicodeDigits == 0) {
+                    String hex = token.substring(token.length() - 4);
+                    token.setLength(token.length() - 4);
+                    try {
+                        token.append((char) Integer.parseInt(hex, 16));
+                    } catch (NumberFormatException e) {
+                        throw invalidJson("invalid unicode escape \\u" + hex);
+                    }
+                    state = State.STRING;
+                }
+            }
+            case LITERAL -> {
+                if (Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '.') {
+                    token.append(c);
+                } else {
+                    String literal = token.toString();
+                    token.setLength(0);
+                    state = State.STRUCTURE;
+                    completeValue(literal(literal));
+                    return false;
+                }
+            }
+            case AFTER_DOCUMENT -> {}
+        }
+        return true;
+    }
+
+    private void processStructure(char c) {
+        Container container = containers.peek();
+        switch (c) {
+            case ' ', '\t', '\r', '\n' -> {}
+            case '{', '[' -> {
+                expectValue(container, c);
+                containers.push(new Container(container.childPath(), c == '{'));
+            }
+            case '}', ']' -> {
+                boolean isObject = container.object != null;
+                if (isObject != (c == '}')
+                        || (container.expected != Expected.COMMA_OR_END
+                                && container.expected != Expected.KEY_OR_END
+                                && container.expected != Expected.VALUE_OR_END)) {
+                    throw unexpected(c);
+                }
+                containers.pop();
+                completeValue(container.value());
+            }
+            case ':' -> {
+                if (container.expected != Expected.COLON) {
+                    throw unexpected(c);
+                }
+                container.expected = Expected.VALUE;
+            }
+            case ',' -> {
+                if (container.expected != Expected.COMMA_OR_END) {
+                    throw unexpected(c);
+                }
+                container.expected = container.object != null ? Expected.KEY : Expected.VALUE;
+            }
+            case '"' -> {
+                stringIsKey = container.expected == Expected.KEY || container.expected == Expected.KEY_OR_END;
+                if (!stringIsKey) {
+                    expectValue(container, c);
+                }
+                state = State.STRING;
+            }
+            default -> {
+                expectValue(container, c);
+                token.append(c);
+                state = State.LITERAL;
+            }
+        }
+    }
+
+    private void processEscape(char c) {
+        switch (c) {
+            case '"', '\\', '/' -> token.append(c);
+            case 'b' -> token.append('\b');
+            case 'f' -> token.append('\f');
+            case 'n' -> token.append('\n');
+            case 'r' -> token.append('\r');
+            case 't' -> token.append('\t');
+            case 'u' -> {
+                unicodeDigits = 4;
+                state = State.STRING_UNICODE_ESCAPE;
+                return;
+            }
+            default -> throw invalidJson("invalid escape \\" + c);
+        }
+        state = State.STRING;
+    }
+
+    private void expectValue(Container container, char c) {
+        if (container.expected != Expected.VALUE && container.expected != Expected.VALUE_OR_END) {
+            throw unexpected(c);
+        }
+    }
+
+    private void completeString() {
+        String string = token.toString();
+        token.setLength(0);
+        state = State.STRUCTURE;
+        if (stringIsKey) {
+            Container container = containers.peek();
+            container.key = string;
+            container.expected = Expected.COLON;
+        } else {
+            completeValue(string);
+        }
+    }
+
+    private void completeValue(Object value) {
+        Container container = containers.peek();
+        if (container == null) {
+            state = State.AFTER_DOCUMENT;
+            handler.accept(new CompletedJsonValue("$", 0, value));
+            return;
+        }
+
+        String path = container.childPath();
+        if (container.object != null) {
+            container.object.put(container.key, value);
+            container.key = null;
+        } else {
+            container.array.add(value);
+        }
+        container.expected = Expected.COMMA_OR_END;
+        handler.accept(new CompletedJsonValue(path, containers.size(), value));
+    }
+
+    private Object literal(String literal) {
+        return switch (literal) {
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            case "null" -> null;
+            default -> number(literal);
+        };
+    }
+
+    private Number number(String literal) {
+        if (!NUMBER.matcher(literal).matches()) {
+            throw invalidJson("invalid literal " + literal);
+        }
+        if (literal.contains(".") || literal.contains("e") || literal.contains("E")) {
+            return Double.valueOf(literal);
+        }
+        BigInteger integer = new BigInteger(literal);
+        if (integer.bitLength() < Integer.SIZE) {
+            return integer.intValue();
+        } else if (integer.bitLength() < Long.SIZE) {
+            return integer.longValue();
+        }
+        return integer;
+    }
+
+    private OutputParsingException unexpected(char c) {
+        return invalidJson("unexpected character '" + c + "'");
+    }
+
+    private OutputParsingException invalidJson(String reason) {
+        return new OutputParsingException(
+                "Failed to parse the streamed JSON: " + reason + " at position " + position, null);
+    }
+}
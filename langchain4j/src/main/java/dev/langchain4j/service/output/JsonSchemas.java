@@ -1,6 +1,7 @@
 package dev.langchain4j.service.output;
 
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.internal.TypeCache;
 import dev.langchain4j.model.chat.request.json.JsonSchema;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.service.TokenStream;
@@ -15,7 +16,17 @@ import static dev.langchain4j.service.TypeUtils.resolveFirstGenericParameterClas
 
 public class JsonSchemas {
 
+    private static final TypeCache<Optional<JsonSchema>> JSON_SCHEMAS =
+            new TypeCache<>(JsonSchemas::computeJsonSchemaFrom);
+
+    /**
+     * Returns the JSON schema of the POJO return type, computed once per type, then cached.
+     */
     public static Optional<JsonSchema> jsonSchemaFrom(Type returnType) {
+        return JSON_SCHEMAS.get(returnType);
+    }
+
+    private static Optional<JsonSchema> computeJsonSchemaFrom(Type returnType) {
 
         if (!isPojo(returnType) || returnType == void.class) {
             return Optional.empty();
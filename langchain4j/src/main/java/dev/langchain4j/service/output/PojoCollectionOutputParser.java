@@ -3,6 +3,7 @@ package dev.langchain4j.service.output;
 import dev.langchain4j.Internal;
 import dev.langchain4j.internal.JsonSchemaElementUtils.VisitedClassMetadata;
 import dev.langchain4j.internal.PolymorphicTypes;
+import dev.langchain4j.internal.TypeCache;
 import dev.langchain4j.model.chat.request.json.JsonArraySchema;
 import dev.langchain4j.model.chat.request.json.JsonObjectSchema;
 import dev.langchain4j.model.chat.request.json.JsonSchema;
@@ -12,6 +13,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import static dev.langchain4j.internal.JsonSchemaElementUtils.jsonObjectOrReferenceSchemaFrom;
@@ -24,6 +26,9 @@ import static dev.langchain4j.service.output.ParsingUtils.parseAsStringOrJson;
 @Internal
 abstract class PojoCollectionOutputParser<T, CT extends Collection<T>> implements OutputParser<CT> {
 
+    // computed by reflection once per collection type and element type
+    private static final Map<Class<?>, TypeCache<Optional<JsonSchema>>> JSON_SCHEMAS = new ConcurrentHashMap<>();
+
     private final Class<T> type;
     private final PojoOutputParser<T> parser;
 
@@ -47,6 +52,13 @@ abstract class PojoCollectionOutputParser<T, CT extends Collection<T>> implement
 
     @Override
     public Optional<JsonSchema> jsonSchema() {
+        TypeCache<Optional<JsonSchema>> jsonSchemas = JSON_SCHEMAS.computeIfAbsent(
+                collectionType(),
+                collectionType -> new TypeCache<>(elementType -> jsonSchemaOf(collectionType, (Class<?>) elementType)));
+        return jsonSchemas.get(type);
+    }
+
+    static Optional<JsonSchema> jsonSchemaOf(Class<?> collectionType, Class<?> type) {
         boolean polymorphic = PolymorphicTypes.isPolymorphic(type);
         Map<Class<?>, VisitedClassMetadata> visited = new LinkedHashMap<>();
         JsonSchemaElement itemSchema = polymorphic
@@ -60,7 +72,7 @@ abstract class PojoCollectionOutputParser<T, CT extends Collection<T>> implement
                         .required("values")
                         .build();
         return Optional.of(JsonSchema.builder()
-                .name(collectionType().getSimpleName() + "_of_" + type.getSimpleName())
+                .name(collectionType.getSimpleName() + "_of_" + type.getSimpleName())
                 .rootElement(rootElement)
                 .build());
     }
@@ -16,6 +16,7 @@ import dev.langchain4j.Internal;
 import dev.langchain4j.exception.UnsupportedFeatureException;
 import dev.langchain4j.internal.Json;
 import dev.langchain4j.internal.JsonSchemaElementUtils.VisitedClassMetadata;
+import dev.langchain4j.internal.TypeCache;
 import dev.langchain4j.model.chat.request.json.JsonObjectSchema;
 import dev.langchain4j.model.chat.request.json.JsonSchema;
 import dev.langchain4j.model.chat.request.json.JsonSchemaElement;
@@ -34,6 +35,12 @@ import java.util.Set;
 @Internal
 class PojoOutputParser<T> implements OutputParser<T> {
 
+    // computed by reflection once per type, as they are needed by every call of an AI service
+    private static final TypeCache<Optional<JsonSchema>> JSON_SCHEMAS =
+            new TypeCache<>(type -> jsonSchemaOf((Class<?>) type));
+    private static final TypeCache<String> FORMAT_INSTRUCTIONS =
+            new TypeCache<>(type -> formatInstructionsOf((Class<?>) type));
+
     private final Class<T> type;
 
     PojoOutputParser(Class<T> type) {
@@ -67,6 +74,10 @@ class PojoOutputParser<T> implements OutputParser<T> {
 
     @Override
     public Optional<JsonSchema> jsonSchema() {
+        return JSON_SCHEMAS.get(type);
+    }
+
+    static Optional<JsonSchema> jsonSchemaOf(Class<?> type) {
         JsonSchemaElement root;
         if (isPolymorphic(type)) {
             Map<Class<?>, VisitedClassMetadata> visited = new LinkedHashMap<>();
@@ -92,6 +103,10 @@ class PojoOutputParser<T> implements OutputParser<T> {
 
     @Override
     public String formatInstructions() {
+        return FORMAT_INSTRUCTIONS.get(type);
+    }
+
+    static String formatInstructionsOf(Class<?> type) {
         String jsonStructure = jsonStructure(type, new HashSet<>());
         validateJsonStructure(jsonStructure, type);
         return "\nYou must answer strictly in the following JSON format: " + jsonStructure;
@@ -180,7 +195,7 @@ class PojoOutputParser<T> implements OutputParser<T> {
         };
     }
 
-    private void validateJsonStructure(String jsonStructure, Type returnType) {
+    private static void validateJsonStructure(String jsonStructure, Type returnType) {
         if (jsonStructure.replaceAll("\\s", "").equals("{}")) {
             if (returnType.toString().contains("reactor.core.publisher.Flux")) {
                 throw illegalConfiguration("Please import langchain4j-reactor module "
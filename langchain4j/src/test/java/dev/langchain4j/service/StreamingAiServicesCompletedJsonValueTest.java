@@ -0,0 +1,85 @@
+package dev.langchain4j.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.mock.StreamingChatModelMock;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.service.output.CompletedJsonValue;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StreamingAiServicesCompletedJsonValueTest {
+
+    interface Extractor {
+
+        TokenStream extract(String text);
+    }
+
+    record Person(String name) {}
+
+    private static List<String> persons(List<CompletedJsonValue> values) {
+        return values.stream()
+                .filter(value -> value.path().matches("\\$\\.people\\[\\d+]"))
+                .map(value -> value.as(Person.class).name())
+                .toList();
+    }
+
+    @Test
+    void should_report_completed_json_values_while_streaming() throws Exception {
+        StreamingChatModel model = StreamingChatModelMock.thatAlwaysStreams(
+                "```json\n{\"people\": [{\"na", "me\": \"Klaus\"}, {\"name\": \"Fran", "cine\"}]}\n```");
+        Extractor extractor =
+                AiServices.builder(Extractor.class).streamingChatModel(model).build();
+
+        StringBuffer streamedText = new StringBuffer();
+        List<CompletedJsonValue> values = new CopyOnWriteArrayList<>();
+        Map<String, String> streamedTextAtCompletion = new ConcurrentHashMap<>();
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+
+        extractor
+                .extract("Klaus met Francine")
+                .onPartialResponse(streamedText::append)
+                .onCompletedJsonValue(value -> {
+                    values.add(value);
+                    streamedTextAtCompletion.put(value.path(), streamedText.toString());
+                })
+                .onCompleteResponse(future::complete)
+                .onError(future::completeExceptionally)
+                .start();
+
+        future.get(5, TimeUnit.SECONDS);
+
+        assertThat(persons(values)).containsExactly("Klaus", "Francine");
+        assertThat(values.get(values.size() - 1).path()).isEqualTo("$");
+        // the first person is reported before the second one is streamed
+        assertThat(streamedTextAtCompletion.get("$.people[0]")).contains("Klaus").doesNotContain("Francine");
+    }
+
+    @Test
+    void should_stop_reporting_values_without_failing_the_stream_when_the_text_is_not_json() throws Exception {
+        StreamingChatModel model = StreamingChatModelMock.thatAlwaysStreams("See [1", ", oops]", " {\"a\": 1}");
+        Extractor extractor =
+                AiServices.builder(Extractor.class).streamingChatModel(model).build();
+
+        List<CompletedJsonValue> values = new CopyOnWriteArrayList<>();
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+
+        extractor
+                .extract("text")
+                .onCompletedJsonValue(values::add)
+                .onCompleteResponse(future::complete)
+                .onError(future::completeExceptionally)
+                .start();
+
+        ChatResponse response = future.get(5, TimeUnit.SECONDS);
+
+        assertThat(response.aiMessage().text()).isEqualTo("See [1, oops] {\"a\": 1}");
+        assertThat(values).extracting(CompletedJsonValue::path).containsExactly("$[0]");
+    }
+}
@@ -0,0 +1,96 @@
+package dev.langchain4j.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import dev.langchain4j.guardrail.OutputGuardrailChunk;
+import dev.langchain4j.guardrail.OutputGuardrailException;
+import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.StreamingOutputGuardrail;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StreamingOutputGuardrailValidatorTest {
+
+    private final List<OutputGuardrailChunk> validatedChunks = new ArrayList<>();
+
+    private final StreamingOutputGuardrail recordingGuardrail = chunk -> {
+        validatedChunks.add(chunk);
+        return OutputGuardrailResult.success();
+    };
+
+    @Test
+    void should_release_sentences_as_soon_as_they_are_complete() {
+
+        // given
+        StreamingOutputGuardrailValidator validator = new StreamingOutputGuardrailValidator(List.of(recordingGuardrail));
+
+        // when-then
+        assertThat(validator.append("Hello")).isEmpty();
+        assertThat(validator.append(" world.")).isEmpty();
+        assertThat(validator.append(" How are")).containsExactly("Hello world. ");
+        assertThat(validator.append(" you? Fine!\nBye")).containsExactly("How are you? ", "Fine!\n");
+        assertThat(validator.flush()).isEqualTo("Bye");
+        assertThat(validator.flush()).isNull();
+
+        assertThat(validatedChunks)
+                .extracting(
+                        OutputGuardrailChunk::text,
+                        chunk -> chunk.precedingText().toString(),
+                        OutputGuardrailChunk::index)
+                .containsExactly(
+                        tuple("Hello world. ", "", 0),
+                        tuple("How are you? ", "Hello world. ", 1),
+                        tuple("Fine!\n", "Hello world. How are you? ", 2),
+                        tuple("Bye", "Hello world. How are you? Fine!\n", 3));
+    }
+
+    @Test
+    void should_cut_long_text_without_sentence_terminator_at_whitespace() {
+
+        // given
+        StreamingOutputGuardrailValidator validator = new StreamingOutputGuardrailValidator(List.of(recordingGuardrail));
+        String words = "word ".repeat(StreamingOutputGuardrailValidator.MAX_CHUNK_LENGTH / 5 + 10);
+
+        // when
+        List<String> chunks = validator.append(words);
+
+        // then
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0)).hasSizeLessThanOrEqualTo(StreamingOutputGuardrailValidator.MAX_CHUNK_LENGTH).endsWith(" ");
+        assertThat(chunks.get(0) + validator.flush()).isEqualTo(words);
+    }
+
+    @Test
+    void should_throw_when_chunk_is_rejected() {
+
+        // given
+        StreamingOutputGuardrail guardrail = new StreamingOutputGuardrail() {
+            @Override
+            public OutputGuardrailResult validateChunk(OutputGuardrailChunk chunk) {
+                return chunk.window(8).contains("secret") ? failure("Secret leaked") : success();
+            }
+        };
+        StreamingOutputGuardrailValidator validator = new StreamingOutputGuardrailValidator(List.of(guardrail));
+
+        // when-then
+        assertThat(validator.append("The code is sec")).isEmpty();
+        assertThatThrownBy(() -> validator.append("ret. Do not tell."))
+                .isExactlyInstanceOf(OutputGuardrailException.class)
+                .hasMessageContaining("Secret leaked")
+                .satisfies(e -> assertThat(((OutputGuardrailException) e).result().isSuccess())
+                        .isFalse());
+    }
+
+    @Test
+    void should_provide_sliding_window() {
+
+        OutputGuardrailChunk chunk = new OutputGuardrailChunk("third. ", "first. second. ", 2);
+
+        assertThat(chunk.window(0)).isEqualTo("third. ");
+        assertThat(chunk.window(8)).isEqualTo("second. third. ");
+        assertThat(chunk.window(100)).isEqualTo("first. second. third. ");
+    }
+}
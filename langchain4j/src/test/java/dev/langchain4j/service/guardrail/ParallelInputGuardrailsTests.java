@@ -0,0 +1,97 @@
+package dev.langchain4j.service.guardrail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.guardrail.InputGuardrail;
+import dev.langchain4j.guardrail.InputGuardrailException;
+import dev.langchain4j.guardrail.InputGuardrailResult;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.service.AiServices;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ParallelInputGuardrailsTests {
+
+    @Test
+    void independentGuardrailsRunConcurrently() {
+        MyAiService aiService = AiServices.create(MyAiService.class, new MyChatModel());
+
+        // each guardrail waits for the other one to start, which only succeeds if they run concurrently
+        RendezvousGuardrail.reset();
+
+        assertThat(aiService.independent("foo")).isEqualTo("Hi!");
+    }
+
+    @Test
+    void slowGuardrailsTimeOut() {
+        MyAiService aiService = AiServices.create(MyAiService.class, new MyChatModel());
+
+        assertThatThrownBy(() -> aiService.slow("foo"))
+                .isInstanceOf(InputGuardrailException.class)
+                .hasMessage("The guardrails did not complete within PT0.1S");
+    }
+
+    public interface MyAiService {
+
+        @InputGuardrails(
+                value = {RendezvousGuardrail.class, OtherRendezvousGuardrail.class},
+                parallel = true)
+        String independent(String message);
+
+        @InputGuardrails(
+                value = {SlowGuardrail.class, OtherSlowGuardrail.class},
+                parallel = true,
+                timeoutMillis = 100)
+        String slow(String message);
+    }
+
+    public static class RendezvousGuardrail implements InputGuardrail {
+
+        private static volatile CountDownLatch started = new CountDownLatch(2);
+
+        static void reset() {
+            started = new CountDownLatch(2);
+        }
+
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            CountDownLatch latch = started;
+            latch.countDown();
+            try {
+                return latch.await(5, TimeUnit.SECONDS) ? success() : failure("Guardrails did not run concurrently");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return fatal("Interrupted");
+            }
+        }
+    }
+
+    public static class OtherRendezvousGuardrail extends RendezvousGuardrail {}
+
+    public static class SlowGuardrail implements InputGuardrail {
+        @Override
+        public InputGuardrailResult validate(UserMessage userMessage) {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return success();
+        }
+    }
+
+    public static class OtherSlowGuardrail extends SlowGuardrail {}
+
+    public static class MyChatModel implements ChatModel {
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            return ChatResponse.builder().aiMessage(AiMessage.from("Hi!")).build();
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package dev.langchain4j.service.guardrail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.guardrail.OutputGuardrail;
+import dev.langchain4j.guardrail.OutputGuardrailChunk;
+import dev.langchain4j.guardrail.OutputGuardrailException;
+import dev.langchain4j.guardrail.OutputGuardrailRequest;
+import dev.langchain4j.guardrail.OutputGuardrailResult;
+import dev.langchain4j.guardrail.StreamingOutputGuardrail;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.mock.StreamingChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.PartialResponse;
+import dev.langchain4j.model.chat.response.PartialResponseContext;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.chat.response.StreamingHandle;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.TokenStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StreamingOutputGuardrailIncrementalTest {
+
+    interface IncrementalAssistant {
+        @OutputGuardrails(NoForbiddenWordGuardrail.class)
+        TokenStream chat(String message);
+    }
+
+    interface BufferingAssistant {
+        @OutputGuardrails({NoForbiddenWordGuardrail.class, PassThroughOutputGuardrail.class})
+        TokenStream chat(String message);
+    }
+
+    public static class NoForbiddenWordGuardrail implements StreamingOutputGuardrail {
+
+        @Override
+        public OutputGuardrailResult validateChunk(OutputGuardrailChunk chunk) {
+            return chunk.text().contains("forbidden") ? failure("Forbidden word") : success();
+        }
+    }
+
+    interface RewritingAssistant {
+        @OutputGuardrails(RewritingStreamingGuardrail.class)
+        TokenStream chat(String message);
+    }
+
+    public static class RewritingStreamingGuardrail implements StreamingOutputGuardrail {
+
+        @Override
+        public OutputGuardrailResult validateChunk(OutputGuardrailChunk chunk) {
+            return success();
+        }
+
+        @Override
+        public OutputGuardrailResult validate(AiMessage responseFromLLM) {
+            return successWith("Rewritten.");
+        }
+    }
+
+    public static class PassThroughOutputGuardrail implements OutputGuardrail {
+
+        @Override
+        public OutputGuardrailResult validate(OutputGuardrailRequest request) {
+            return success();
+        }
+    }
+
+    @Test
+    void should_release_validated_sentences_before_response_is_complete() throws Exception {
+
+        // given
+        CountDownLatch secondSentence = new CountDownLatch(1);
+        StreamingChatModel model = new TwoSentencesModel("First sentence. ", "Second sentence.", secondSentence);
+
+        IncrementalAssistant assistant = AiServices.builder(IncrementalAssistant.class)
+                .streamingChatModel(model)
+                .build();
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+
+        // when
+        assistant
+                .chat("hi")
+                .onPartialResponse(received::add)
+                .onCompleteResponse(future::complete)
+                .onError(future::completeExceptionally)
+                .start();
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> received.contains("First sentence. "));
+        assertThat(future).isNotDone();
+
+        secondSentence.countDown();
+        ChatResponse response = future.get(5, TimeUnit.SECONDS);
+        assertThat(received).containsExactly("First sentence. ", "Second sentence.");
+        assertThat(response.aiMessage().text()).isEqualTo("First sentence. Second sentence.");
+    }
+
+    @Test
+    void should_abort_stream_on_violation() throws Exception {
+
+        // given
+        StreamingChatModel model =
+                StreamingChatModelMock.thatAlwaysStreams(AiMessage.from("Hello. This is forbidden. Never seen."));
+
+        IncrementalAssistant assistant = AiServices.builder(IncrementalAssistant.class)
+                .streamingChatModel(model)
+                .build();
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CompletableFuture<ChatResponse> completed = new CompletableFuture<>();
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+        // when
+        assistant
+                .chat("hi")
+                .onPartialResponse(received::add)
+                .onCompleteResponse(completed::complete)
+                .onError(error::complete)
+                .start();
+
+        // then
+        assertThat(error.get(5, TimeUnit.SECONDS))
+                .isExactlyInstanceOf(OutputGuardrailException.class)
+                .hasMessageContaining("Forbidden word");
+        assertThat(received).containsExactly("Hello. ");
+        assertThat(completed).isNotDone();
+    }
+
+    @Test
+    void should_cancel_stream_on_violation() throws Exception {
+
+        // given
+        CountDownLatch secondSentence = new CountDownLatch(1);
+        TwoSentencesModel model = new TwoSentencesModel("A forbidden sentence. ", "Never seen.", secondSentence);
+
+        IncrementalAssistant assistant = AiServices.builder(IncrementalAssistant.class)
+                .streamingChatModel(model)
+                .build();
+
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+        // when
+        assistant
+                .chat("hi")
+                .onPartialResponseWithContext((partialResponse, context) -> {})
+                .onCompleteResponse(response -> {})
+                .onError(error::complete)
+                .start();
+
+        // then
+        assertThat(error.get(5, TimeUnit.SECONDS)).isExactlyInstanceOf(OutputGuardrailException.class);
+        assertThat(model.cancelled).isTrue();
+        secondSentence.countDown();
+    }
+
+    @Test
+    void should_validate_last_chunk_when_response_is_complete() throws Exception {
+
+        // given
+        StreamingChatModel model = StreamingChatModelMock.thatAlwaysStreams(AiMessage.from("Hello. Not forbidden"));
+
+        IncrementalAssistant assistant = AiServices.builder(IncrementalAssistant.class)
+                .streamingChatModel(model)
+                .build();
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CompletableFuture<ChatResponse> completed = new CompletableFuture<>();
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+        // when
+        assistant
+                .chat("hi")
+                .onPartialResponse(received::add)
+                .onCompleteResponse(completed::complete)
+                .onError(error::complete)
+                .start();
+
+        // then
+        assertThat(error.get(5, TimeUnit.SECONDS)).isExactlyInstanceOf(OutputGuardrailException.class);
+        assertThat(received).containsExactly("Hello. ");
+        assertThat(completed).isNotDone();
+    }
+
+    @Test
+    void should_not_validate_complete_response_once_chunks_were_released() throws Exception {
+
+        // given
+        StreamingChatModel model = StreamingChatModelMock.thatAlwaysStreams(AiMessage.from("Hello. World."));
+
+        RewritingAssistant assistant = AiServices.builder(RewritingAssistant.class)
+                .streamingChatModel(model)
+                .build();
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+
+        // when
+        assistant
+                .chat("hi")
+                .onPartialResponse(received::add)
+                .onCompleteResponse(future::complete)
+                .onError(future::completeExceptionally)
+                .start();
+
+        // then
+        ChatResponse response = future.get(5, TimeUnit.SECONDS);
+        assertThat(received).containsExactly("Hello. ", "World.");
+        assertThat(response.aiMessage().text()).isEqualTo("Hello. World.");
+    }
+
+    @Test
+    void should_buffer_but_abort_early_when_not_all_guardrails_are_streaming() throws Exception {
+
+        // given
+        StreamingChatModel model =
+                StreamingChatModelMock.thatAlwaysStreams(AiMessage.from("Hello. This is forbidden. Never seen."));
+
+        BufferingAssistant assistant = AiServices.builder(BufferingAssistant.class)
+                .streamingChatModel(model)
+                .build();
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+
+        // when
+        assistant
+                .chat("hi")
+                .onPartialResponse(received::add)
+                .onCompleteResponse(response -> {})
+                .onError(error::complete)
+                .start();
+
+        // then
+        assertThat(error.get(5, TimeUnit.SECONDS)).isExactlyInstanceOf(OutputGuardrailException.class);
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    void should_buffer_until_complete_when_not_all_guardrails_are_streaming() throws Exception {
+
+        // given
+        StreamingChatModel model = StreamingChatModelMock.thatAlwaysStreams(AiMessage.from("Hello. World."));
+
+        BufferingAssistant assistant = AiServices.builder(BufferingAssistant.class)
+                .streamingChatModel(model)
+                .build();
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+
+        // when
+        assistant
+                .chat("hi")
+                .onPartialResponse(received::add)
+                .onCompleteResponse(future::complete)
+                .onError(future::completeExceptionally)
+                .start();
+
+        // then
+        future.get(5, TimeUnit.SECONDS);
+        assertThat(String.join("", received)).isEqualTo("Hello. World.");
+        assertThat(received).hasSize("Hello. World.".length());
+    }
+
+    /**
+     * Streams a first sentence, then waits for a latch before streaming a second one.
+     */
+    static class TwoSentencesModel implements StreamingChatModel {
+
+        private final String first;
+        private final String second;
+        private final CountDownLatch secondSentence;
+        volatile boolean cancelled;
+
+        TwoSentencesModel(String first, String second, CountDownLatch secondSentence) {
+            this.first = first;
+            this.second = second;
+            this.secondSentence = secondSentence;
+        }
+
+        @Override
+        public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+            StreamingHandle streamingHandle = new StreamingHandle() {
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return cancelled;
+                }
+            };
+            new Thread(() -> {
+                for (String token : first.split("(?<= )")) {
+                    handler.onPartialResponse(new PartialResponse(token), new PartialResponseContext(streamingHandle));
+                }
+                try {
+                    secondSentence.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (cancelled) {
+                    return;
+                }
+                for (String token : second.split("(?<= )")) {
+                    handler.onPartialResponse(new PartialResponse(token), new PartialResponseContext(streamingHandle));
+                }
+                handler.onCompleteResponse(ChatResponse.builder()
+                        .aiMessage(AiMessage.from(first + second))
+                        .build());
+            })
+                    .start();
+        }
+    }
+}
@@ -3,9 +3,21 @@ package dev.langchain4j.service.memory;
 import static dev.langchain4j.service.memory.ChatMemoryService.DEFAULT;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.UserMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -14,6 +26,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class ChatMemoryServiceConcurrencyTest {
@@ -65,9 +78,269 @@ class ChatMemoryServiceConcurrencyTest {
         results.forEach(result -> assertThat(result).isSameAs(createdMemory));
     }
 
+    @Test
+    void should_serialize_actions_for_the_same_memory_id() throws Exception {
+        ChatMemoryService service = new ChatMemoryService(memoryId -> null);
+        AtomicInteger concurrentActions = new AtomicInteger();
+        AtomicInteger maxConcurrentActions = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            futures.add(executor.submit(() -> service.executeSerially("same", () -> {
+                maxConcurrentActions.accumulateAndGet(concurrentActions.incrementAndGet(), Math::max);
+                sleep(2);
+                return concurrentActions.decrementAndGet();
+            })));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(maxConcurrentActions).hasValue(1);
+        assertThat(service.lockCount()).isZero();
+    }
+
+    @Test
+    void should_run_actions_for_different_memory_ids_in_parallel() throws Exception {
+        ChatMemoryService service = new ChatMemoryService(memoryId -> null);
+        CountDownLatch allInside = new CountDownLatch(4);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int memoryId = i;
+            futures.add(executor.submit(() -> service.executeSerially(memoryId, () -> {
+                allInside.countDown();
+                try {
+                    return allInside.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            })));
+        }
+        for (Future<Boolean> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+
+        assertThat(service.lockCount()).isZero();
+    }
+
+    @Test
+    void should_allow_reentrant_actions_for_the_same_memory_id() {
+        ChatMemoryService service = new ChatMemoryService(memoryId -> null);
+
+        String result = service.executeSerially(
+                "same", () -> service.executeSerially("same", () -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+        assertThat(service.lockCount()).isZero();
+    }
+
+    interface Assistant {
+
+        String chat(@MemoryId int memoryId, @UserMessage String message);
+    }
+
+    @Test
+    void should_not_lose_messages_when_turns_of_the_same_conversation_run_concurrently() throws Exception {
+
+        // given
+        ChatMemoryStore store = new SlowChatMemoryStore();
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(new SlowChatModel())
+                .chatMemoryProvider(memoryId -> MessageWindowChatMemory.builder()
+                        .id(memoryId)
+                        .maxMessages(1_000)
+                        .chatMemoryStore(store)
+                        .build())
+                .build();
+
+        int conversations = 16;
+        int turnsPerConversation = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int conversation = 0; conversation < conversations; conversation++) {
+            for (int turn = 0; turn < turnsPerConversation; turn++) {
+                int memoryId = conversation;
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    return assistant.chat(memoryId, "Hello");
+                }));
+            }
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        for (int conversation = 0; conversation < conversations; conversation++) {
+            List<ChatMessage> messages = store.getMessages(conversation);
+            assertThat(messages).hasSize(2 * turnsPerConversation);
+            assertThat(messages)
+                    .filteredOn(dev.langchain4j.data.message.UserMessage.class::isInstance)
+                    .hasSize(turnsPerConversation);
+        }
+    }
+
+    interface SharedAssistant {
+
+        String chat(String message);
+    }
+
+    @Test
+    void should_not_hold_the_memory_lock_while_calling_the_model() throws Exception {
+
+        // given
+        CountDownLatch firstInModel = new CountDownLatch(1);
+        CountDownLatch secondAnswered = new CountDownLatch(1);
+        ChatModel chatModel = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                String text = ((dev.langchain4j.data.message.UserMessage) chatRequest.messages()
+                                .get(chatRequest.messages().size() - 1))
+                        .singleText();
+                if (text.equals("first")) {
+                    firstInModel.countDown();
+                    await(secondAnswered);
+                }
+                return ChatResponse.builder().aiMessage(AiMessage.from("answer to " + text)).build();
+            }
+        };
+        ChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+        SharedAssistant assistant = AiServices.builder(SharedAssistant.class)
+                .chatModel(chatModel)
+                .chatMemory(chatMemory)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> first = executor.submit(() -> assistant.chat("first"));
+        await(firstInModel);
+        Future<String> second = executor.submit(() -> assistant.chat("second"));
+
+        // then
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("answer to second");
+        secondAnswered.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("answer to first");
+        executor.shutdown();
+        assertThat(chatMemory.messages())
+                .containsExactly(
+                        dev.langchain4j.data.message.UserMessage.from("first"),
+                        dev.langchain4j.data.message.UserMessage.from("second"),
+                        AiMessage.from("answer to second"),
+                        AiMessage.from("answer to first"));
+    }
+
+    @Test
+    void should_not_deadlock_when_a_tool_calls_back_into_the_same_conversation_on_another_thread()
+            throws Exception {
+
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicInteger modelCalls = new AtomicInteger();
+        ChatModel chatModel = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                ChatMessage last = chatRequest.messages().get(chatRequest.messages().size() - 1);
+                if (modelCalls.incrementAndGet() == 1) {
+                    return ChatResponse.builder()
+                            .aiMessage(AiMessage.from(ToolExecutionRequest.builder()
+                                    .id("1")
+                                    .name("askAgain")
+                                    .arguments("{}")
+                                    .build()))
+                            .build();
+                }
+                return ChatResponse.builder()
+                        .aiMessage(AiMessage.from("after " + last.type()))
+                        .build();
+            }
+        };
+        List<Assistant> assistant = new ArrayList<>();
+        Object tools = new Object() {
+
+            @Tool
+            String askAgain() throws Exception {
+                return executor.submit(() -> assistant.get(0).chat(1, "nested"))
+                        .get(10, TimeUnit.SECONDS);
+            }
+        };
+        assistant.add(AiServices.builder(Assistant.class)
+                .chatModel(chatModel)
+                .chatMemoryProvider(memoryId -> MessageWindowChatMemory.withMaxMessages(20))
+                .tools(tools)
+                .build());
+
+        // when
+        String answer = assistant.get(0).chat(1, "Hello");
+
+        // then
+        assertThat(answer).isEqualTo("after TOOL_EXECUTION_RESULT");
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Widens the read-modify-write window of {@link MessageWindowChatMemory#add(ChatMessage)},
+     * so that unserialized concurrent turns reliably lose updates.
+     */
+    static class SlowChatMemoryStore implements ChatMemoryStore {
+
+        private final ChatMemoryStore delegate = new InMemoryChatMemoryStore();
+
+        @Override
+        public List<ChatMessage> getMessages(Object memoryId) {
+            List<ChatMessage> messages = delegate.getMessages(memoryId);
+            sleep(1);
+            return messages;
+        }
+
+        @Override
+        public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+            delegate.updateMessages(memoryId, messages);
+        }
+
+        @Override
+        public void deleteMessages(Object memoryId) {
+            delegate.deleteMessages(memoryId);
+        }
+    }
+
+    static class SlowChatModel implements ChatModel {
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            sleep(1);
+            return ChatResponse.builder().aiMessage(AiMessage.from("Hi!")).build();
+        }
+    }
+
     private static void slowDownProvider() {
+        sleep(10);
+    }
+
+    private static void sleep(long millis) {
         try {
-            Thread.sleep(10);
+            Thread.sleep(millis);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException(e);
@@ -0,0 +1,49 @@
+package dev.langchain4j.service.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.UserMessage;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import org.junit.jupiter.api.Test;
+
+class ChatMemoryServiceEvictionTest {
+
+    interface Assistant extends ChatMemoryAccess {
+
+        String chat(@MemoryId String memoryId, @UserMessage String message);
+    }
+
+    @Test
+    void should_drop_chat_memories_evicted_from_in_memory_store_automatically() {
+
+        // given
+        InMemoryChatMemoryStore store =
+                InMemoryChatMemoryStore.builder().maxMemories(2).build();
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(ChatModelMock.thatAlwaysResponds("Hi!"))
+                .chatMemoryProvider(memoryId -> MessageWindowChatMemory.builder()
+                        .id(memoryId)
+                        .maxMessages(10)
+                        .chatMemoryStore(store)
+                        .build())
+                .build();
+
+        // when
+        assistant.chat("one", "Hello");
+        assistant.chat("two", "Hello");
+        assistant.chat("three", "Hello");
+
+        // then
+        assertThat(store.memoryCount()).isEqualTo(2);
+        assertThat(assistant.getChatMemory("one")).isNull();
+        assertThat(assistant.getChatMemory("two")).isNotNull();
+        assertThat(assistant.getChatMemory("three").messages())
+                .containsExactly(dev.langchain4j.data.message.UserMessage.from("Hello"), AiMessage.from("Hi!"));
+    }
+}
@@ -0,0 +1,110 @@
+package dev.langchain4j.service.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IncrementalJsonParserTest {
+
+    record Person(String name, int age) {}
+
+    List<CompletedJsonValue> values = new ArrayList<>();
+    IncrementalJsonParser parser = new IncrementalJsonParser(values::add);
+
+    private List<String> paths() {
+        return values.stream().map(CompletedJsonValue::path).toList();
+    }
+
+    @Test
+    void should_report_values_as_soon_as_they_are_complete() {
+        parser.append("{\"people\": [{\"name\": \"Kla");
+        assertThat(values).isEmpty();
+
+        parser.append("us\", \"age\": 4");
+        assertThat(paths()).containsExactly("$.people[0].name");
+
+        parser.append("2}, {\"name\"");
+        assertThat(paths()).containsExactly("$.people[0].name", "$.people[0].age", "$.people[0]");
+        assertThat(values.get(2).depth()).isEqualTo(2);
+        assertThat(values.get(2).as(Person.class)).isEqualTo(new Person("Klaus", 42));
+
+        parser.append(": \"Francine\", \"age\": 35}]}");
+        assertThat(paths())
+                .containsExactly(
+                        "$.people[0].name",
+                        "$.people[0].age",
+                        "$.people[0]",
+                        "$.people[1].name",
+                        "$.people[1].age",
+                        "$.people[1]",
+                        "$.people",
+                        "$");
+        assertThat(parser.isComplete()).isTrue();
+
+        CompletedJsonValue document = values.get(values.size() - 1);
+        assertThat(document.depth()).isZero();
+        assertThat(document.value())
+                .isEqualTo(Map.of(
+                        "people",
+                        List.of(Map.of("name", "Klaus", "age", 42), Map.of("name", "Francine", "age", 35))));
+    }
+
+    @Test
+    void should_parse_every_json_type_split_at_every_character() {
+        String json = "[\"a\\\"b\\u00e9\\n\", -1.5e2, 0, 12345678901, 123456789012345678901, true, false, null, "
+                + "{}, [], {\"odd key\": {\"it's\": []}}]";
+        for (char c : json.toCharArray()) {
+            parser.append(String.valueOf(c));
+        }
+
+        assertThat(values)
+                .extracting(CompletedJsonValue::value)
+                .startsWith(
+                        "a\"bé\n",
+                        -150.0,
+                        0,
+                        12345678901L,
+                        new BigInteger("123456789012345678901"),
+                        true,
+                        false,
+                        null,
+                        Map.of(),
+                        List.of());
+        assertThat(paths())
+                .endsWith("$[10]['odd key']['it\\'s']", "$[10]['odd key']", "$[10]", "$");
+    }
+
+    @Test
+    void should_ignore_text_around_the_json() {
+        parser.append("Here you are:\n```json\n");
+        parser.append("{\"name\": \"Klaus\", \"age\": 42}");
+        parser.append("\n```\nAnything else? {\"not\": \"parsed\"}");
+
+        assertThat(paths()).containsExactly("$.name", "$.age", "$");
+        assertThat(values.get(2).as(Person.class)).isEqualTo(new Person("Klaus", 42));
+    }
+
+    @Test
+    void should_report_unmodifiable_objects_and_arrays() {
+        parser.append("{\"names\": [\"Klaus\"]}");
+
+        assertThat(values.get(values.size() - 1).value()).isInstanceOf(Map.class);
+        assertThatThrownBy(() -> ((List<Object>) values.get(1).value()).add("Francine"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\" 1}", "{\"a\": 1,}", "[1 2]", "[1,]", "{1: 2}", "[tru]", "[01]", "[\"\\x\"]", "[}"})
+    void should_fail_on_invalid_json(String json) {
+        assertThatThrownBy(() -> parser.append(json))
+                .isExactlyInstanceOf(OutputParsingException.class)
+                .hasMessageStartingWith("Failed to parse the streamed JSON: ");
+    }
+}
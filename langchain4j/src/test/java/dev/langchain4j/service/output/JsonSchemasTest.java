@@ -32,6 +32,17 @@ class JsonSchemasTest {
         }.getType())).isPresent();
     }
 
+    @Test
+    void should_cache_json_schemas() {
+        assertThat(jsonSchemaFrom(Pojo.class)).isSameAs(jsonSchemaFrom(Pojo.class));
+        assertThat(new PojoOutputParser<>(Pojo.class).jsonSchema())
+                .isSameAs(new PojoOutputParser<>(Pojo.class).jsonSchema());
+        assertThat(new PojoOutputParser<>(Pojo.class).formatInstructions())
+                .isSameAs(new PojoOutputParser<>(Pojo.class).formatInstructions());
+        assertThat(new PojoOutputParser<>(Pojo.class).jsonSchema())
+                .isEqualTo(PojoOutputParser.jsonSchemaOf(Pojo.class));
+    }
+
     @Test
     void should_return_empty_for_not_pojos() {
         assertThat(jsonSchemaFrom(void.class)).isEmpty();
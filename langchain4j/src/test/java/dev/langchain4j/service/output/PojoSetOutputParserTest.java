@@ -136,4 +136,14 @@ class PojoSetOutputParserTest {
 
         assertThat(set1).isEqualTo(set2);
     }
+
+    @Test
+    void should_cache_json_schema_per_collection_type() {
+        PojoSetOutputParser<Person> setParser = new PojoSetOutputParser<>(Person.class);
+        PojoListOutputParser<Person> listParser = new PojoListOutputParser<>(Person.class);
+
+        assertThat(setParser.jsonSchema().get().name()).isEqualTo("Set_of_Person");
+        assertThat(listParser.jsonSchema().get().name()).isEqualTo("List_of_Person");
+        assertThat(new PojoSetOutputParser<>(Person.class).jsonSchema()).isSameAs(setParser.jsonSchema());
+    }
 }